@@ -0,0 +1,144 @@
+package com.axios.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import com.axios.core.body.MultipartBody;
+import com.axios.core.resource.BytesResource;
+import com.axios.core.resource.FileResource;
+import com.axios.response.HttpResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * [请求体与响应体基准测试](Request and response body benchmark)
+ * @description zh - 请求体与响应体基准测试：写出表单文件请求体，读取已知长度、未知长度和gzip压缩的响应体
+ * @description en - Request and response body benchmark: writing a multipart request body, reading response bodies of known length, of unknown length and compressed with gzip
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:22:30
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BodyBenchmark {
+
+	@Param({"1024", "65536", "1048576"})
+	public int size;
+
+	private byte[] payload;
+	private Map<String, Object> form;
+	private Map<String, Object> fileForm;
+	private File file;
+	private MemoryConnection fixed;
+	private MemoryConnection unknown;
+	private MemoryConnection gzip;
+
+	@Setup
+	public void setup() throws IOException {
+		this.payload = new byte[this.size];
+		new Random(7).nextBytes(this.payload);
+		this.form = new LinkedHashMap<>();
+		this.form.put("name", "benchmark");
+		this.form.put("description", "请求体基准测试");
+		this.form.put("file", new BytesResource(this.payload, "payload.bin"));
+		this.file = File.createTempFile("axios-benchmark", ".bin");
+		Files.write(this.file.toPath(), this.payload);
+		this.fileForm = new LinkedHashMap<>(this.form);
+		this.fileForm.put("file", new FileResource(this.file));
+		this.fixed = new MemoryConnection(this.payload, true);
+		this.unknown = new MemoryConnection(this.payload, false);
+		// text compresses like a real response, random bytes would not
+		final byte[] text = new byte[this.size];
+		for (int i = 0; i < text.length; i++) {
+			text[i] = (byte) ('a' + (i * 31 + i / 7) % 26);
+		}
+		final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+			out.write(text);
+		}
+		this.gzip = new MemoryConnection(compressed.toByteArray(), true, "gzip");
+	}
+
+	@Benchmark
+	public void multipartWrite() {
+		MultipartBody.create(this.form, StandardCharsets.UTF_8).write(NullOutputStream.INSTANCE);
+	}
+
+	@Benchmark
+	public long multipartLengthAndWrite() {
+		final MultipartBody body = MultipartBody.create(this.form, StandardCharsets.UTF_8);
+		final long length = body.length();
+		body.write(NullOutputStream.INSTANCE);
+		return length;
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.file.delete();
+	}
+
+	@Benchmark
+	public void multipartWriteFile() {
+		MultipartBody.create(this.fileForm, StandardCharsets.UTF_8).write(NullOutputStream.INSTANCE);
+	}
+
+	@Benchmark
+	public byte[] readBodyKnownLength() {
+		return new HttpResponse(this.fixed, StandardCharsets.UTF_8, false, false).bodyBytes();
+	}
+
+	@Benchmark
+	public byte[] readBodyUnknownLength() {
+		return new HttpResponse(this.unknown, StandardCharsets.UTF_8, false, false).bodyBytes();
+	}
+
+	@Benchmark
+	public byte[] readBodyGzip() {
+		return new HttpResponse(this.gzip, StandardCharsets.UTF_8, false, false).bodyBytes();
+	}
+
+	/**
+	 * [丢弃所有数据的输出流](Output stream that discards all data)
+	 * @description zh - 丢弃所有数据的输出流
+	 * @description en - Output stream that discards all data
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:23:00
+	 */
+	private static final class NullOutputStream extends OutputStream {
+
+		private static final NullOutputStream INSTANCE = new NullOutputStream();
+
+		@Override
+		public void write(int b) {
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+		}
+	}
+}
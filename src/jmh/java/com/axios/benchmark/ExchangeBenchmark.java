@@ -0,0 +1,97 @@
+package com.axios.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.axios.core.http.HttpRequest;
+import com.axios.core.transport.JdkTransport;
+import com.axios.core.transport.Transport;
+import com.axios.core.transport.nio.NioTransport;
+import com.sun.net.httpserver.HttpServer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * [端到端请求基准测试](End-to-end request benchmark)
+ * @description zh - 端到端请求基准测试：对进程内的HTTP服务端发起GET和POST请求，比较不同的传输引擎
+ * @description en - End-to-end request benchmark: GET and POST requests against an in-process HTTP server, comparing different transports
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:23:30
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+// without TCP_NODELAY the in-process server stalls on delayed acks and the numbers measure that instead
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class ExchangeBenchmark {
+
+	private static final byte[] RESPONSE = "{\"id\":42,\"name\":\"axios\",\"tags\":[\"http\",\"client\",\"benchmark\"]}".getBytes(StandardCharsets.UTF_8);
+	private static final String FORM = "{\"name\":\"axios\",\"description\":\"end to end request benchmark\"}";
+
+	@Param({"jdk", "nio"})
+	public String transport;
+
+	private HttpServer server;
+	private ExecutorService serverExecutor;
+	private Transport engine;
+	private String url;
+
+	@Setup
+	public void setup() throws IOException {
+		this.serverExecutor = Executors.newFixedThreadPool(4);
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		this.server.setExecutor(this.serverExecutor);
+		this.server.createContext("/", exchange -> {
+			try (InputStream in = exchange.getRequestBody()) {
+				while (in.read() != -1) {
+					// drain the request body so the connection can be reused
+				}
+			}
+			exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+			exchange.sendResponseHeaders(200, RESPONSE.length);
+			exchange.getResponseBody().write(RESPONSE);
+			exchange.close();
+		});
+		this.server.start();
+		this.url = "http://127.0.0.1:" + this.server.getAddress().getPort() + "/items";
+		this.engine = "nio".equals(this.transport) ? NioTransport.create() : JdkTransport.INSTANCE;
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (this.engine instanceof NioTransport) {
+			((NioTransport) this.engine).close();
+		}
+		this.server.stop(0);
+		this.serverExecutor.shutdownNow();
+	}
+
+	@Benchmark
+	public byte[] get() {
+		return HttpRequest.get(this.url).setTransport(this.engine).execute().bodyBytes();
+	}
+
+	@Benchmark
+	public byte[] post() {
+		return HttpRequest.post(this.url).setTransport(this.engine).body(FORM, "application/json").execute().bodyBytes();
+	}
+}
@@ -0,0 +1,68 @@
+package com.axios.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.axios.core.http.HttpRequest;
+import com.axios.header.RequestHeader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * [请求头基准测试](Request header benchmark)
+ * @description zh - 请求头基准测试：按名称查找与设置请求头
+ * @description en - Request header benchmark: looking up and setting request headers by name
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:21:30
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeaderBenchmark {
+
+	private HttpRequest request;
+
+	@Setup
+	public void setup() {
+		this.request = new HttpRequest("http://localhost/");
+		for (int i = 0; i < 16; i++) {
+			this.request.header("X-Custom-" + i, "value-" + i);
+		}
+		this.request.header(RequestHeader.CONTENT_TYPE, "application/json", true);
+		this.request.header(RequestHeader.ACCEPT, "application/json", true);
+	}
+
+	@Benchmark
+	public void lookupPresent(Blackhole blackhole) {
+		blackhole.consume(this.request.header("Content-Type"));
+		blackhole.consume(this.request.header("x-custom-7"));
+		blackhole.consume(this.request.header(RequestHeader.ACCEPT));
+	}
+
+	@Benchmark
+	public String lookupAbsent() {
+		return this.request.header("X-Missing");
+	}
+
+	@Benchmark
+	public HttpRequest setHeaders() {
+		final HttpRequest request = new HttpRequest("http://localhost/");
+		for (int i = 0; i < 8; i++) {
+			request.header("X-Custom-" + i, "value-" + i);
+		}
+		return request;
+	}
+}
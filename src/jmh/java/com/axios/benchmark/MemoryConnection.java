@@ -0,0 +1,180 @@
+package com.axios.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.Proxy;
+import java.net.URL;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLSocketFactory;
+
+import com.axios.core.connection.HttpConnection;
+import com.axios.core.requestMethod.RequestMethod;
+import com.axios.exception.ConnException;
+
+/**
+ * [内存中的连接](In-memory connection)
+ * @description zh - 内存中的连接，返回固定的响应，用于在不访问网络的情况下测量响应解析
+ * @description en - In-memory connection that returns a fixed response, used to measure response parsing without accessing the network
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:22:00
+ */
+final class MemoryConnection implements HttpConnection {
+
+	/** 连接URL */
+	private static final URL URL;
+
+	static {
+		try {
+			URL = new URL("http://localhost/");
+		} catch (MalformedURLException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	/** 响应体 */
+	private final byte[] body;
+	/** 响应头 */
+	private final Map<String, List<String>> headers;
+
+	MemoryConnection(byte[] body, boolean knownLength) {
+		this(body, knownLength, null);
+	}
+
+	MemoryConnection(byte[] body, boolean knownLength, String contentEncoding) {
+		this.body = body;
+		final Map<String, List<String>> headers = new LinkedHashMap<>();
+		headers.put(null, Collections.singletonList("HTTP/1.1 200"));
+		headers.put("Content-Type", Collections.singletonList("application/octet-stream"));
+		if (knownLength) {
+			headers.put("Content-Length", Collections.singletonList(String.valueOf(body.length)));
+		}
+		if (null != contentEncoding) {
+			headers.put("Content-Encoding", Collections.singletonList(contentEncoding));
+		}
+		this.headers = Collections.unmodifiableMap(headers);
+	}
+
+	@Override
+	public URL getUrl() {
+		return URL;
+	}
+
+	@Override
+	public Proxy getProxy() {
+		return null;
+	}
+
+	@Override
+	public RequestMethod getMethod() {
+		return RequestMethod.GET;
+	}
+
+	@Override
+	public MemoryConnection setMethod(RequestMethod method) {
+		return this;
+	}
+
+	@Override
+	public MemoryConnection header(String header, String value, boolean isOverride) {
+		return this;
+	}
+
+	@Override
+	public String header(String name) {
+		for (Map.Entry<String, List<String>> entry : this.headers.entrySet()) {
+			if (null != entry.getKey() && entry.getKey().equalsIgnoreCase(name)) {
+				return entry.getValue().get(0);
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public Map<String, List<String>> headers() {
+		return this.headers;
+	}
+
+	@Override
+	public MemoryConnection setHttpsInfo(HostnameVerifier hostnameVerifier, SSLSocketFactory ssf) throws ConnException {
+		return this;
+	}
+
+	@Override
+	public MemoryConnection disableCache() {
+		return this;
+	}
+
+	@Override
+	public MemoryConnection setConnectTimeout(int timeout) {
+		return this;
+	}
+
+	@Override
+	public MemoryConnection setReadTimeout(int timeout) {
+		return this;
+	}
+
+	@Override
+	public MemoryConnection setChunkedStreamingMode(int blockSize) {
+		return this;
+	}
+
+	@Override
+	public MemoryConnection setFixedLengthStreamingMode(long contentLength) {
+		return this;
+	}
+
+	@Override
+	public MemoryConnection setInstanceFollowRedirects(boolean isInstanceFollowRedirects) {
+		return this;
+	}
+
+	@Override
+	public boolean isInstanceFollowRedirects() {
+		return false;
+	}
+
+	@Override
+	public MemoryConnection connect() {
+		return this;
+	}
+
+	@Override
+	public MemoryConnection disconnect() {
+		return this;
+	}
+
+	@Override
+	public InputStream getInputStream() {
+		return new ByteArrayInputStream(this.body);
+	}
+
+	@Override
+	public InputStream getErrorStream() {
+		return null;
+	}
+
+	@Override
+	public OutputStream getOutputStream() throws IOException {
+		throw new IOException("Memory connection does not accept a request body.");
+	}
+
+	@Override
+	public int responseCode() {
+		return 200;
+	}
+
+	@Override
+	public String getCharsetName() {
+		return null;
+	}
+}
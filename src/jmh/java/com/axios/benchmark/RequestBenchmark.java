@@ -0,0 +1,58 @@
+package com.axios.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.axios.core.http.HttpRequest;
+import com.axios.core.http.RequestTemplate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * [请求创建基准测试](Request creation benchmark)
+ * @description zh - 请求创建基准测试：直接创建请求与由请求模板生成请求，均包含生成最终地址
+ * @description en - Request creation benchmark: creating a request directly versus stamping it out of a request template, both including building the final URL
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:36:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestBenchmark {
+
+	private static final String BASE = "https://api.example.com:8443/v1";
+
+	private final RequestTemplate template = RequestTemplate.builder(BASE)
+			.path("/users/{id}/orders")
+			.header("Accept", "application/json")
+			.header("X-Api-Key", "0123456789abcdef")
+			.timeout(3000)
+			.build();
+
+	private int id;
+
+	@Benchmark
+	public String direct() {
+		return new HttpRequest(BASE + "/users/" + (this.id++) + "/orders")
+				.header("Accept", "application/json")
+				.header("X-Api-Key", "0123456789abcdef")
+				.timeout(3000)
+				.getUrl();
+	}
+
+	@Benchmark
+	public String template() {
+		return this.template.request(this.id++).getUrl();
+	}
+}
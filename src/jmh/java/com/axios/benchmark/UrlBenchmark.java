@@ -0,0 +1,90 @@
+package com.axios.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.axios.core.http.url.UriTemplate;
+import com.axios.core.http.url.UrlBuilder;
+import com.axios.core.http.url.UrlQuery;
+import com.axios.core.rfc.RFC3986;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * [URL处理基准测试](URL handling benchmark)
+ * @description zh - URL处理基准测试：解析与构建URL、百分号编码、查询参数解析与构建
+ * @description en - URL handling benchmark: parsing and building URLs, percent encoding, parsing and building query parameters
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:21:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UrlBenchmark {
+
+	private static final String URL = "https://api.example.com:8443/v1/users/42/orders?page=3&size=50&sort=created,desc&q=%E4%BD%A0%E5%A5%BD+world#top";
+	private static final String QUERY = "page=3&size=50&sort=created%2Cdesc&q=%E4%BD%A0%E5%A5%BD+world&filter=status%3Dopen&empty=&flag";
+	private static final String SEGMENT = "订单 2026/10/18 ?&=#%";
+	private static final String TEMPLATE = "https://api.example.com:8443/v1/users/{id}/orders{?page,size,sort*,q}#top";
+
+	private final UrlQuery query = UrlQuery.of(QUERY, StandardCharsets.UTF_8);
+	private final Map<String, Object> variables = new HashMap<>();
+
+	{
+		this.variables.put("id", 42);
+		this.variables.put("page", 3);
+		this.variables.put("size", 50);
+		this.variables.put("sort", Arrays.asList("created", "desc"));
+		this.variables.put("q", "你好 world");
+	}
+
+	@Benchmark
+	public UrlBuilder ofHttp() {
+		return UrlBuilder.ofHttp(URL);
+	}
+
+	@Benchmark
+	public String ofHttpAndBuild() {
+		return UrlBuilder.ofHttp(URL).build();
+	}
+
+	@Benchmark
+	public String percentEncode() {
+		return RFC3986.SEGMENT.encode(SEGMENT, StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public UrlQuery queryParse() {
+		return UrlQuery.of(QUERY, StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public String queryBuild() {
+		return this.query.build(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public String templateExpand() {
+		return UriTemplate.compile(TEMPLATE).expand(this.variables);
+	}
+
+	@Benchmark
+	public String templateBuild() {
+		return UriTemplate.compile(TEMPLATE).toUrlBuilder(this.variables).build();
+	}
+}
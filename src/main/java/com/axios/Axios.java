@@ -1,14 +1,19 @@
 package com.axios;
 
 import com.axios.ajax.Ajax;
+import com.axios.core.config.global.HttpGlobalConfig;
 import com.axios.core.http.HttpRequest;
 import com.axios.core.requestMethod.RequestMethod;
 import com.axios.header.Header;
+import com.axios.method.Method;
 import com.axios.request.Body;
 import com.axios.request.Request;
 import com.axios.response.HttpResponse;
 import com.axios.response.Response;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * [发送具体的HTTP请求](Send a specific HTTP request)
  * @description zh - 发送具体的HTTP请求
@@ -29,6 +34,9 @@ public class Axios implements Ajax {
 
 	private Body body;
 
+	/** 构造时发送得到的响应，第一次then()、thenAsync()或body()取走后清空 */
+	private final AtomicReference<Response> fetched = new AtomicReference<>();
+
 	public Axios(){ }
 
 	public Axios(String url) throws Exception{
@@ -59,35 +67,54 @@ public class Axios implements Ajax {
 		this(url, method, null, body, header);
 	}
 
+	/**
+	 * [创建并发送请求](Create and send a request)
+	 * @description zh - 创建请求并立即发送一次，与1.0.0相同。得到的响应由之后第一次调用的then()、thenAsync()或body()使用，不会再次发送；ajax()和ajaxAsync()总是重新发送
+	 * @description en - Create the request and send it once right away, as in 1.0.0. The response is used by the first then(), thenAsync() or body() called afterwards instead of sending again; ajax() and ajaxAsync() always send again
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:20:30
+	 * @param url 请求地址
+	 * @param method 请求方法
+	 * @param param 请求参数
+	 * @param body 请求体
+	 * @param header 请求头
+	 * @throws java.lang.Exception
+	 */
 	public Axios (String url, RequestMethod method, Request param, Body body, Header header) throws Exception{
 		this.url = url;
 		this.method = method;
 		this.param = param;
 		this.body = body;
 		this.header = header;
-		ajax();
+		this.fetched.set(ajax());
 	}
 
 	/** ------------------- getter and setter ------------------- */
 
 	public void setUrl(String url) {
 		this.url = url;
+		this.fetched.set(null);
 	}
 
 	public void setMethod(RequestMethod method) {
 		this.method = method;
+		this.fetched.set(null);
 	}
 
 	public void setHeader(Header header) {
 		this.header = header;
+		this.fetched.set(null);
 	}
 
 	public void setParam(Request param) {
 		this.param = param;
+		this.fetched.set(null);
 	}
 
 	public void setBody(Body body) {
 		this.body = body;
+		this.fetched.set(null);
 	}
 
 	public String getUrl() {
@@ -114,6 +141,35 @@ public class Axios implements Ajax {
 
 	@Override
 	public Response ajax() throws Exception {
+		return toResponse(createRequest().execute());
+	}
+
+	@Override
+	public CompletableFuture<Response> ajaxAsync() {
+		return createRequest().executeAsyncFuture().thenApply(Axios::toResponse);
+	}
+
+	@Override
+	public void then(Method accept) throws Exception {
+		accept.accept(response());
+	}
+
+	@Override
+	public CompletableFuture<Void> thenAsync(Method accept) {
+		final Response response = this.fetched.getAndSet(null);
+		if (null == response) {
+			return Ajax.super.thenAsync(accept);
+		}
+		return CompletableFuture.runAsync(() -> accept.accept(response), HttpGlobalConfig.getExecutor());
+	}
+
+	/** 构造时得到的响应，已被取走时重新发送 */
+	private Response response() throws Exception {
+		final Response response = this.fetched.getAndSet(null);
+		return null == response ? ajax() : response;
+	}
+
+	private HttpRequest createRequest() {
 		HttpRequest request = Conn.createRequest(method, url);
 
 		if( null != this.param ){
@@ -127,8 +183,10 @@ public class Axios implements Ajax {
 		if (null != this.body){
 			request.body(this.body.toBody());
 		}
+		return request;
+	}
 
-		HttpResponse response = request.execute();
+	private static Response toResponse(HttpResponse response) {
 		return new Response(
 				response.getStatus(),
 				response.headers(),
@@ -407,6 +465,6 @@ public class Axios implements Ajax {
 	 * @return java.lang.String
 	 **/
 	public Response body() throws Exception {
-		return ajax();
+		return response();
 	}
 }
@@ -1,5 +1,9 @@
 package com.axios.ajax;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.axios.core.config.global.HttpGlobalConfig;
 import com.axios.method.Method;
 import com.axios.response.Response;
 
@@ -25,10 +29,31 @@ public interface Ajax {
      */
     Response ajax() throws Exception;
 
+    /**
+     * [异步发送请求](Send the request asynchronously)
+     * @description zh - 异步发送请求，默认在全局执行器中调用ajax()
+     * @description en - Send the request asynchronously, ajax() is called on the global executor by default
+     * @version V1.0
+     * @author XiaoXunYao
+     * @since 2026-10-18 17:58:10
+     * @return java.util.concurrent.CompletableFuture
+     */
+    default CompletableFuture<Response> ajaxAsync() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return ajax();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, HttpGlobalConfig.getExecutor());
+    }
+
     /**
      * [定义完成请求之后的操作](Define the action after completing the request)
-     * @description zh - 定义完成请求之后的操作
-     * @description en - Define the action after completing the request
+     * @description zh - 定义完成请求之后的操作，在调用线程中发送请求并执行，请求和操作抛出的异常直接抛给调用者
+     * @description en - Define the action after completing the request, the request is sent and the action runs on the calling thread, and exceptions thrown by either are thrown to the caller
      * @version V1.0
      * @author XiaoXunYao
      * @since 2021-11-10 21:48:59
@@ -37,4 +62,17 @@ public interface Ajax {
     default void then(Method accept) throws Exception{
         accept.accept(ajax());
     }
+
+    /**
+     * [异步定义完成请求之后的操作](Define the action after completing the request asynchronously)
+     * @description zh - 异步定义完成请求之后的操作，不阻塞调用线程。请求和操作抛出的异常使返回值异常结束，需要等待或处理异常时使用返回值
+     * @description en - Define the action after completing the request asynchronously without blocking the calling thread. Exceptions thrown by the request or the action complete the result exceptionally, use the result to wait or to handle them
+     * @version V1.0
+     * @author XiaoXunYao
+     * @since 2026-10-18 21:20:00
+     * @return java.util.concurrent.CompletableFuture
+     */
+    default CompletableFuture<Void> thenAsync(Method accept) {
+        return ajaxAsync().thenAccept(accept::accept);
+    }
 }
@@ -18,7 +18,7 @@ public class ThreadLocalCookieStore implements CookieStore {
 
 	private final static ThreadLocal<CookieStore> STORES = new ThreadLocal<CookieStore>() {
 		@Override
-		protected synchronized CookieStore initialValue() {
+		protected CookieStore initialValue() {
 			/* InMemoryCookieStore */
 			return (new CookieManager()).getCookieStore();
 		}
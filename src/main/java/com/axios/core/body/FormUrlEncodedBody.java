@@ -0,0 +1,214 @@
+package com.axios.core.body;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.axios.core.http.url.FormUrlencoded;
+import com.axios.core.tool.text.StrJoiner;
+import com.axios.exception.IORuntimeException;
+
+/**
+ * [application/x-www-form-urlencoded数据的请求体封装](Request body encapsulation of application/x-www-form-urlencoded)
+ * @description zh - 表单请求体：键值对直接编码写入输出流，不再先拼成字符串再转为字节数组。长度可以预先计算，便于以固定长度发送
+ * @description en - Form request body: key value pairs are encoded directly into the output stream instead of being joined into a string and copied into a byte array first. The length can be computed in advance so the body can be sent with a fixed length
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:48:00
+ */
+public class FormUrlEncodedBody implements RequestBody {
+
+	/** 写出缓冲区的大小 */
+	private static final int BUFFER_SIZE = 8192;
+
+	/** 表单名 */
+	private final CharSequence[] names;
+
+	/** 表单值，与表单名一一对应 */
+	private final CharSequence[] values;
+
+	/** 编码 */
+	private final Charset charset;
+
+	public FormUrlEncodedBody(Map<String, Object> form, Charset charset) {
+		final int size = null == form ? 0 : form.size();
+		this.names = new CharSequence[size];
+		this.values = new CharSequence[size];
+		if (size > 0) {
+			int i = 0;
+			for (Map.Entry<String, Object> entry : form.entrySet()) {
+				this.names[i] = entry.getKey();
+				this.values[i++] = toStr(entry.getValue());
+			}
+		}
+		this.charset = null == charset ? StandardCharsets.UTF_8 : charset;
+	}
+
+	/** ---------------- create ---------------- */
+
+	/**
+	 * [根据已有表单内容，构建FormUrlEncodedBody](Build a formurlencodedbody based on the existing form content)
+	 * @description zh - 根据已有表单内容，构建FormUrlEncodedBody，集合类型的值在此时以逗号连接
+	 * @description en - Build a formurlencodedbody based on the existing form content, values of collection types are joined with commas at this time
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:48:30
+	 * @param form 存储表单数据
+	 * @param charset 编码
+	 * @return com.axios.core.body.FormUrlEncodedBody
+	 */
+	public static FormUrlEncodedBody create(Map<String, Object> form, Charset charset) {
+		return new FormUrlEncodedBody(form, charset);
+	}
+
+	/**
+	 * [计算编码后的长度](Compute the encoded length)
+	 * @description zh - 计算编码后的字节数，只计数不生成数据
+	 * @description en - Compute the number of encoded bytes, only counting without producing data
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:49:00
+	 * @return long
+	 */
+	public long length() {
+		final Counter counter = new Counter();
+		try {
+			encodeTo(counter);
+		} catch (IOException e) {
+			// the counter does not throw
+			throw new IORuntimeException(e);
+		}
+		return counter.count;
+	}
+
+	/** ---------------- override ---------------- */
+
+	@Override
+	public void write(OutputStream out) {
+		final Writer writer = new Writer(out);
+		try {
+			encodeTo(writer);
+			writer.flush();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/** ---------------- private ---------------- */
+
+	private void encodeTo(Appendable appendable) throws IOException {
+		boolean first = true;
+		for (int i = 0; i < this.names.length; i++) {
+			if (null == this.names[i]) {
+				continue;
+			}
+			if (false == first) {
+				appendable.append('&');
+			}
+			first = false;
+			FormUrlencoded.ALL.encodeTo(this.names[i], this.charset, appendable);
+			if (null != this.values[i]) {
+				FormUrlencoded.ALL.encodeTo(this.values[i], this.charset, appendable.append('='));
+			}
+		}
+	}
+
+	private static CharSequence toStr(Object value) {
+		if (null == value || value instanceof CharSequence) {
+			return (CharSequence) value;
+		}
+		if (value instanceof Iterable || value instanceof Iterator) {
+			return StrJoiner.of(",").append(value).toString();
+		}
+		return value.toString();
+	}
+
+	/**
+	 * [计数的Appendable](Counting appendable)
+	 * @description zh - 只统计写入的字符数，编码结果全部为ASCII，字符数即字节数
+	 * @description en - Only counts the characters written, the encoded result is all ASCII so characters equal bytes
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:49:30
+	 */
+	private static final class Counter implements Appendable {
+
+		/** 字符数 */
+		private long count;
+
+		@Override
+		public Appendable append(CharSequence csq) {
+			this.count += csq.length();
+			return this;
+		}
+
+		@Override
+		public Appendable append(CharSequence csq, int start, int end) {
+			this.count += end - start;
+			return this;
+		}
+
+		@Override
+		public Appendable append(char c) {
+			this.count++;
+			return this;
+		}
+	}
+
+	/**
+	 * [写入输出流的Appendable](Appendable writing to an output stream)
+	 * @description zh - 将编码结果（全部为ASCII）攒满缓冲区后写入输出流
+	 * @description en - Collect the encoded result (all ASCII) in a buffer and write it to the output stream when full
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:50:00
+	 */
+	private static final class Writer implements Appendable {
+
+		/** 输出流 */
+		private final OutputStream out;
+		/** 缓冲区 */
+		private final byte[] buffer = new byte[BUFFER_SIZE];
+		/** 缓冲区已用长度 */
+		private int position;
+
+		private Writer(OutputStream out) {
+			this.out = out;
+		}
+
+		@Override
+		public Appendable append(CharSequence csq) throws IOException {
+			return append(csq, 0, csq.length());
+		}
+
+		@Override
+		public Appendable append(CharSequence csq, int start, int end) throws IOException {
+			for (int i = start; i < end; i++) {
+				if (this.position == this.buffer.length) {
+					flush();
+				}
+				this.buffer[this.position++] = (byte) csq.charAt(i);
+			}
+			return this;
+		}
+
+		@Override
+		public Appendable append(char c) throws IOException {
+			if (this.position == this.buffer.length) {
+				flush();
+			}
+			this.buffer[this.position++] = (byte) c;
+			return this;
+		}
+
+		private void flush() throws IOException {
+			if (this.position > 0) {
+				this.out.write(this.buffer, 0, this.position);
+				this.position = 0;
+			}
+		}
+	}
+}
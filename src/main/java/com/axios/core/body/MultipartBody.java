@@ -2,6 +2,8 @@ package com.axios.core.body;
 
 import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import com.axios.core.resource.MultiResource;
@@ -11,36 +13,57 @@ import com.axios.core.tool.http.HttpTool;
 import com.axios.core.tool.io.IoTool;
 import com.axios.core.tool.random.RandomTool;
 import com.axios.core.type.ContentType;
-import com.axios.exception.IORuntimeException;
 
 /**
  * [Multipart/form-data数据的请求体封装](Request body encapsulation of Multipart/form-data)
- * @description zh - Multipart/form-data数据的请求体封装
- * @description en - Request body encapsulation of Multipart/form-data
+ * @description zh - Multipart/form-data数据的请求体封装：每个请求体使用独立的分隔符，分隔符和各部分的头在创建时编码为字节数组，长度可由资源大小精确算出，写出时只需依次写出字节数组和资源内容
+ * @description en - Request body encapsulation of Multipart/form-data: every body uses its own boundary, the boundary and the part headers are encoded into byte arrays when created, the length is computed exactly from the resource sizes, and writing only writes the byte arrays and the resource contents in turn
  * @version V1.0
  * @author XiaoXunYao
  * @since 2021-12-04 10:56:09
  */
 public class MultipartBody implements RequestBody {
 
-	private static final String BOUNDARY = "--------------------axios_" + RandomTool.randomString(16);
-	private static final String BOUNDARY_END = "--" + BOUNDARY + "--\r\n";
+	private static final String BOUNDARY_PREFIX = "--------------------axios_";
 	private static final String CONTENT_TYPE_MULTIPART_PREFIX = ContentType.MULTIPART.getValue() + "; boundary=";
 
+	/**
+	 * 分隔符
+	 */
+	private final String boundary;
+
+	/**
+	 * 编码后的分隔行
+	 */
+	private final byte[] delimiter;
 
 	/**
-	 * 存储表单数据
+	 * 编码后的换行
 	 */
-	private final Map<String, Object> form;
+	private final byte[] crlf;
 
 	/**
-	 * 编码
+	 * 预先编码的各部分：byte[]为已编码的数据，Resource为资源内容
 	 */
-	private final Charset charset;
+	private final List<Object> parts = new ArrayList<>();
+
+	/**
+	 * 请求体长度，-1表示未知
+	 */
+	private final long length;
 
 	public MultipartBody(Map<String, Object> form, Charset charset) {
-		this.form = form;
-		this.charset = charset;
+		this.boundary = BOUNDARY_PREFIX + RandomTool.randomString(16);
+		final Charset encoding = null == charset ? Charset.defaultCharset() : charset;
+		this.delimiter = ("--" + this.boundary + "\r\n").getBytes(encoding);
+		this.crlf = "\r\n".getBytes(encoding);
+		if (null != form && false == form.isEmpty()) {
+			for (Map.Entry<String, Object> entry : form.entrySet()) {
+				appendPart(entry.getKey(), entry.getValue(), encoding);
+			}
+		}
+		this.parts.add(("--" + this.boundary + "--\r\n").getBytes(encoding));
+		this.length = computeLength();
 	}
 
 	/** ---------------- create ---------------- */
@@ -62,15 +85,41 @@ public class MultipartBody implements RequestBody {
 
 	/**
 	 * [获取Multipart的Content-Type类型](Gets the content type of the multipart)
-	 * @description zh - 获取Multipart的Content-Type类型
-	 * @description en - Gets the content type of the multipart
+	 * @description zh - 获取Multipart的Content-Type类型，包含本请求体的分隔符
+	 * @description en - Gets the content type of the multipart, including the boundary of this body
 	 * @version V1.0
 	 * @author XiaoXunYao
 	 * @since 2021-12-04 09:53:16
 	 * @return java.lang.String
 	 */
-	public static String getContentType(){
-		return CONTENT_TYPE_MULTIPART_PREFIX + BOUNDARY;
+	public String getContentType(){
+		return CONTENT_TYPE_MULTIPART_PREFIX + this.boundary;
+	}
+
+	/**
+	 * [获取分隔符](Get the boundary)
+	 * @description zh - 获取分隔符
+	 * @description en - Get the boundary
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:55:00
+	 * @return java.lang.String
+	 */
+	public String getBoundary() {
+		return this.boundary;
+	}
+
+	/**
+	 * [获取请求体长度](Get the length of the request body)
+	 * @description zh - 获取请求体的字节数，在创建时由已编码的部分和资源大小算出，有资源大小未知时为-1
+	 * @description en - Get the number of bytes of the request body, computed when created from the encoded parts and the resource sizes, -1 when the size of any resource is unknown
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:53:00
+	 * @return long
+	 */
+	public long length() {
+		return this.length;
 	}
 
 	public static String contentDisposition(String name){
@@ -89,53 +138,58 @@ public class MultipartBody implements RequestBody {
 
 	@Override
 	public void write(OutputStream out) {
-		writeForm(out);
-		formEnd(out);
-	}
-
-	/** ---------------- private ---------------- */
-
-	private void writeForm(OutputStream out) {
-		if (null != this.form && false == this.form.isEmpty()) {
-			for (Map.Entry<String, Object> entry : this.form.entrySet()) {
-				appendPart(entry.getKey(), entry.getValue(), out);
+		for (Object part : this.parts) {
+			if (part instanceof byte[]) {
+				IoTool.write(out, false, (byte[]) part);
+			} else {
+				((Resource) part).writeTo(out);
 			}
 		}
 	}
 
-	private void appendPart(String formFieldName, Object value, OutputStream out) throws IORuntimeException {
+	/** ---------------- private ---------------- */
+
+	private void appendPart(String formFieldName, Object value, Charset charset) {
 		// 多资源
 		if (value instanceof MultiResource) {
 			for (Resource subResource : (MultiResource) value) {
-				appendPart(formFieldName, subResource, out);
+				appendPart(formFieldName, subResource, charset);
 			}
 			return;
 		}
 
-		write(out, "--", BOUNDARY, "\r\n");
-
-		if(value instanceof Resource){
+		this.parts.add(this.delimiter);
+		if (value instanceof Resource) {
 			// 文件资源（二进制资源）
-			final Resource resource = (Resource)value;
-			final String fileName = resource.getName();
-			write(out, contentDispositionFile(formFieldName, UrlTool.defaultIfNull(fileName, formFieldName)));
+			final Resource resource = (Resource) value;
+			final String fileName = UrlTool.defaultIfNull(resource.getName(), formFieldName);
+			this.parts.add(contentDispositionFile(formFieldName, fileName).getBytes(charset));
 			// 根据name的扩展名指定互联网媒体类型，默认二进制流数据
-			write(out, contentTypeFile(HttpTool.getMimeType(fileName, "application/octet-stream")));
-			resource.writeTo(out);
-		} else{
+			this.parts.add(contentTypeFile(HttpTool.getMimeType(fileName, "application/octet-stream")).getBytes(charset));
+			this.parts.add(resource);
+		} else {
 			// 普通数据
-			write(out, contentDisposition(formFieldName));
-			write(out, value);
+			this.parts.add(contentDisposition(formFieldName).getBytes(charset));
+			if (null != value) {
+				this.parts.add(value.toString().getBytes(charset));
+			}
 		}
-
-		write(out, "\r\n");
+		this.parts.add(this.crlf);
 	}
 
-	private void formEnd(OutputStream out) throws IORuntimeException {
-		write(out, BOUNDARY_END);
-	}
-
-	private void write(OutputStream out, Object... objs) {
-		IoTool.write(out, this.charset, false, objs);
+	private long computeLength() {
+		long length = 0;
+		for (Object part : this.parts) {
+			if (part instanceof byte[]) {
+				length += ((byte[]) part).length;
+			} else {
+				final long size = ((Resource) part).size();
+				if (size < 0) {
+					return -1;
+				}
+				length += size;
+			}
+		}
+		return length;
 	}
 }
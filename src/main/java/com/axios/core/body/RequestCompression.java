@@ -0,0 +1,187 @@
+package com.axios.core.body;
+
+import java.io.OutputStream;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.Deflater;
+
+import com.axios.core.strem.CompressingOutputStream;
+import com.axios.core.strem.DeflatingOutputStream;
+import com.axios.core.strem.ParallelGzipOutputStream;
+import com.axios.core.tool.io.DeflaterPool;
+
+/**
+ * [请求体压缩](Request body compression)
+ * @description zh - 请求体压缩：长度达到阈值的请求体以gzip或deflate压缩后发送，并设置Content-Encoding。压缩后的长度在发送完成前未知，压缩的请求体总是分块发送。服务端必须支持解压请求体，因此默认不开启，可按请求或按模板（即按主机）设置
+ * @description en - Request body compression: request bodies whose length reaches the threshold are sent compressed with gzip or deflate and Content-Encoding is set. The compressed length is unknown until the body has been sent, so compressed bodies are always sent chunked. The server has to support decoding request bodies, so it is off by default and can be set per request or per template (that is, per host)
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 20:31:00
+ */
+public final class RequestCompression {
+
+	/** 默认阈值，更小的请求体压缩后往往不会更小 */
+	public static final long DEFAULT_THRESHOLD = 1024;
+	/** 默认多线程压缩的阈值，更小的请求体分块并行的开销大于收益 */
+	public static final long DEFAULT_PARALLEL_THRESHOLD = 8 * 1024 * 1024;
+
+	/** 是否为gzip，否则为deflate */
+	private final boolean gzip;
+	/** 阈值，请求体长度达到时才压缩 */
+	private final long threshold;
+	/** 压缩级别 */
+	private final int level;
+	/** 多线程压缩的阈值，长度未知的请求体也使用多线程压缩 */
+	private final long parallelThreshold;
+	/** 执行多线程压缩的池，null表示只在当前线程压缩 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * [使用gzip压缩](Compress with gzip)
+	 * @description zh - 使用gzip和默认压缩级别压缩长度达到默认阈值的请求体
+	 * @description en - Compress request bodies whose length reaches the default threshold with gzip and the default level
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:31:30
+	 * @return com.axios.core.body.RequestCompression
+	 */
+	public static RequestCompression gzip() {
+		return new RequestCompression(true, DEFAULT_THRESHOLD, Deflater.DEFAULT_COMPRESSION, 0, null);
+	}
+
+	/**
+	 * [使用deflate压缩](Compress with deflate)
+	 * @description zh - 使用带zlib头的deflate和默认压缩级别压缩长度达到默认阈值的请求体
+	 * @description en - Compress request bodies whose length reaches the default threshold with deflate with zlib header and the default level
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:32:00
+	 * @return com.axios.core.body.RequestCompression
+	 */
+	public static RequestCompression deflate() {
+		return new RequestCompression(false, DEFAULT_THRESHOLD, Deflater.DEFAULT_COMPRESSION, 0, null);
+	}
+
+	/**
+	 * [使用多线程gzip压缩](Compress with gzip on multiple threads)
+	 * @description zh - 使用gzip和默认压缩级别压缩长度达到默认阈值的请求体，长度达到默认多线程阈值或未知时在公共ForkJoin池中分块并行压缩
+	 * @description en - Compress request bodies whose length reaches the default threshold with gzip and the default level, and compress them in parallel blocks on the common fork-join pool when the length reaches the default parallel threshold or is unknown
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:39:30
+	 * @return com.axios.core.body.RequestCompression
+	 */
+	public static RequestCompression parallelGzip() {
+		return parallelGzip(DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * [使用多线程gzip压缩](Compress with gzip on multiple threads)
+	 * @description zh - 使用gzip和默认压缩级别压缩长度达到默认阈值的请求体，长度达到多线程阈值或未知时在指定的池中分块并行压缩
+	 * @description en - Compress request bodies whose length reaches the default threshold with gzip and the default level, and compress them in parallel blocks on the given pool when the length reaches the parallel threshold or is unknown
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:40:00
+	 * @param parallelThreshold 多线程压缩的阈值
+	 * @param pool 执行压缩的池
+	 * @return com.axios.core.body.RequestCompression
+	 */
+	public static RequestCompression parallelGzip(long parallelThreshold, ForkJoinPool pool) {
+		if (null == pool) {
+			throw new IllegalArgumentException("Pool must not be null.");
+		}
+		return new RequestCompression(true, DEFAULT_THRESHOLD, Deflater.DEFAULT_COMPRESSION, parallelThreshold, pool);
+	}
+
+	/**
+	 * [创建请求体压缩](Create request body compression)
+	 * @description zh - 创建请求体压缩
+	 * @description en - Create request body compression
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:32:30
+	 * @param encoding 编码，gzip或deflate
+	 * @param threshold 阈值，为0时长度未知的请求体也压缩
+	 * @param level 压缩级别，-1到9
+	 * @return com.axios.core.body.RequestCompression
+	 */
+	public static RequestCompression create(String encoding, long threshold, int level) {
+		final boolean gzip;
+		if ("gzip".equalsIgnoreCase(encoding)) {
+			gzip = true;
+		} else if ("deflate".equalsIgnoreCase(encoding)) {
+			gzip = false;
+		} else {
+			throw new IllegalArgumentException("Unsupported content encoding: " + encoding);
+		}
+		return new RequestCompression(gzip, threshold, level, 0, null);
+	}
+
+	private RequestCompression(boolean gzip, long threshold, int level, long parallelThreshold, ForkJoinPool pool) {
+		if (threshold < 0 || parallelThreshold < 0) {
+			throw new IllegalArgumentException("Threshold must not be negative.");
+		}
+		if ((level < 0 || level > 9) && Deflater.DEFAULT_COMPRESSION != level) {
+			throw new IllegalArgumentException("Invalid compression level: " + level);
+		}
+		this.gzip = gzip;
+		this.threshold = threshold;
+		this.level = level;
+		this.parallelThreshold = parallelThreshold;
+		this.pool = pool;
+	}
+
+	public String getEncoding() {
+		return this.gzip ? "gzip" : "deflate";
+	}
+
+	public long getThreshold() {
+		return this.threshold;
+	}
+
+	public int getLevel() {
+		return this.level;
+	}
+
+	public long getParallelThreshold() {
+		return this.parallelThreshold;
+	}
+
+	/**
+	 * [是否压缩指定长度的请求体](Whether a request body of the given length is compressed)
+	 * @description zh - 是否压缩指定长度的请求体，长度未知时只有阈值为0才压缩
+	 * @description en - Whether a request body of the given length is compressed, when the length is unknown it is only compressed with a threshold of 0
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:33:00
+	 * @param length 请求体长度，-1表示未知
+	 * @return boolean
+	 */
+	public boolean accepts(long length) {
+		return length < 0 ? 0 == this.threshold : length >= this.threshold;
+	}
+
+	/**
+	 * [包装连接的请求体流](Wrap the request body stream of the connection)
+	 * @description zh - 包装连接的请求体流，写入的内容压缩后直接写入连接，关闭时同时关闭连接的请求体流。配置了池、长度达到多线程阈值或未知且有多个处理器时使用多线程分块压缩
+	 * @description en - Wrap the request body stream of the connection, written content goes compressed straight to the connection, and the stream of the connection is closed together with it. Parallel block compression is used when a pool is configured, the length reaches the parallel threshold or is unknown and there is more than one processor
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:33:30
+	 * @param out 连接的请求体流
+	 * @param length 请求体长度，-1表示未知
+	 * @return com.axios.core.strem.CompressingOutputStream
+	 */
+	public CompressingOutputStream wrap(OutputStream out, long length) {
+		// with a single processor the blocks would only take turns, so parallel compression is pure overhead
+		if (null != this.pool && (length < 0 || length >= this.parallelThreshold) && Runtime.getRuntime().availableProcessors() > 1) {
+			return new ParallelGzipOutputStream(out, this.level, ParallelGzipOutputStream.DEFAULT_BLOCK_SIZE, this.pool, DeflaterPool.getDefault());
+		}
+		return new DeflatingOutputStream(out, this.gzip, this.level, DeflaterPool.getDefault());
+	}
+
+	@Override
+	public String toString() {
+		return "RequestCompression[" + getEncoding() + ", threshold=" + this.threshold + ", level=" + this.level
+				+ (null == this.pool ? "" : ", parallelThreshold=" + this.parallelThreshold) + "]";
+	}
+}
@@ -0,0 +1,20 @@
+package com.axios.core.body;
+
+/**
+ * [请求体的发送方式](How the request body is sent)
+ * @description zh - 请求体的发送方式，决定连接是否在内存中缓存整个请求体
+ * @description en - How the request body is sent, deciding whether the connection buffers the whole request body in memory
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:52:00
+ */
+public enum StreamingMode {
+
+	/** 长度已知时以固定长度流式发送，否则分块发送；开启自动重定向时由连接缓存以便重放 */
+	AUTO,
+	/** 总是分块发送 */
+	CHUNKED,
+	/** 由连接缓存整个请求体后再发送 */
+	BUFFERED
+
+}
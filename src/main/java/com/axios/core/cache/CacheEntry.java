@@ -0,0 +1,190 @@
+package com.axios.core.cache;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [缓存的响应](Cached response)
+ * @description zh - 缓存的响应，包含状态码、响应头、已解码的响应体、请求和响应时间以及Vary选中的请求头
+ * @description en - Cached response, including the status code, response headers, decoded response body, request and response time, and the request headers selected by Vary
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 18:40:05
+ */
+public final class CacheEntry {
+
+	/** 序列化格式版本 */
+	private static final int FORMAT_VERSION = 1;
+
+	/** 请求URL */
+	private final String url;
+	/** 响应状态码 */
+	private final int status;
+	/** 响应头 */
+	private final Map<String, List<String>> headers;
+	/** 响应体 */
+	private final byte[] body;
+	/** 发起请求的时间 */
+	private final long requestTime;
+	/** 收到响应的时间 */
+	private final long responseTime;
+	/** Vary选中的请求头及其值 */
+	private final Map<String, String> varyHeaders;
+
+	public CacheEntry(String url, int status, Map<String, List<String>> headers, byte[] body,
+			long requestTime, long responseTime, Map<String, String> varyHeaders) {
+		this.url = url;
+		this.status = status;
+		this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+		this.body = null == body ? new byte[0] : body;
+		this.requestTime = requestTime;
+		this.responseTime = responseTime;
+		this.varyHeaders = Collections.unmodifiableMap(new LinkedHashMap<>(varyHeaders));
+	}
+
+	public String getUrl() {
+		return this.url;
+	}
+
+	public int getStatus() {
+		return this.status;
+	}
+
+	public Map<String, List<String>> getHeaders() {
+		return this.headers;
+	}
+
+	public byte[] getBody() {
+		return this.body;
+	}
+
+	public long getRequestTime() {
+		return this.requestTime;
+	}
+
+	public long getResponseTime() {
+		return this.responseTime;
+	}
+
+	public Map<String, String> getVaryHeaders() {
+		return this.varyHeaders;
+	}
+
+	/**
+	 * [获取响应头，忽略大小写，多个值时取最后一个](Get the response header, ignoring case, and take the last one when there are multiple values)
+	 * @description zh - 获取响应头，忽略大小写，多个值时取最后一个
+	 * @description en - Get the response header, ignoring case, and take the last one when there are multiple values
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:40:40
+	 * @param name 响应头名称
+	 * @return java.lang.String
+	 */
+	public String header(String name) {
+		return HttpCache.value(this.headers, name);
+	}
+
+	/**
+	 * [估算占用的字节数](Estimate the number of bytes occupied)
+	 * @description zh - 估算占用的字节数，用于缓存容量限制
+	 * @description en - Estimate the number of bytes occupied, used for cache capacity limit
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:41:02
+	 * @return long
+	 */
+	public long weight() {
+		long weight = this.body.length + this.url.length();
+		for (Map.Entry<String, List<String>> entry : this.headers.entrySet()) {
+			weight += entry.getKey().length();
+			for (String value : entry.getValue()) {
+				weight += null == value ? 0 : value.length();
+			}
+		}
+		return weight;
+	}
+
+	@Override
+	public String toString() {
+		return "CacheEntry[" + this.status + " " + this.url + ", " + this.body.length + " bytes]";
+	}
+
+	/**
+	 * [写出到流](Write to stream)
+	 * @description zh - 写出到流
+	 * @description en - Write to stream
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:41:30
+	 * @param out 输出流
+	 * @throws java.io.IOException
+	 */
+	void writeTo(DataOutputStream out) throws IOException {
+		out.writeInt(FORMAT_VERSION);
+		out.writeUTF(this.url);
+		out.writeInt(this.status);
+		out.writeLong(this.requestTime);
+		out.writeLong(this.responseTime);
+		out.writeInt(this.headers.size());
+		for (Map.Entry<String, List<String>> entry : this.headers.entrySet()) {
+			out.writeUTF(entry.getKey());
+			out.writeInt(entry.getValue().size());
+			for (String value : entry.getValue()) {
+				out.writeUTF(null == value ? "" : value);
+			}
+		}
+		out.writeInt(this.varyHeaders.size());
+		for (Map.Entry<String, String> entry : this.varyHeaders.entrySet()) {
+			out.writeUTF(entry.getKey());
+			out.writeUTF(entry.getValue());
+		}
+		out.writeInt(this.body.length);
+		out.write(this.body);
+	}
+
+	/**
+	 * [从流中读取](Read from stream)
+	 * @description zh - 从流中读取
+	 * @description en - Read from stream
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:42:01
+	 * @param in 输入流
+	 * @return com.axios.core.cache.CacheEntry
+	 * @throws java.io.IOException
+	 */
+	static CacheEntry readFrom(DataInputStream in) throws IOException {
+		if (FORMAT_VERSION != in.readInt()) {
+			throw new IOException("Unsupported cache entry format.");
+		}
+		final String url = in.readUTF();
+		final int status = in.readInt();
+		final long requestTime = in.readLong();
+		final long responseTime = in.readLong();
+		final int headerCount = in.readInt();
+		final Map<String, List<String>> headers = new LinkedHashMap<>();
+		for (int i = 0; i < headerCount; i++) {
+			final String name = in.readUTF();
+			final int valueCount = in.readInt();
+			final List<String> values = new ArrayList<>(valueCount);
+			for (int j = 0; j < valueCount; j++) {
+				values.add(in.readUTF());
+			}
+			headers.put(name, values);
+		}
+		final int varyCount = in.readInt();
+		final Map<String, String> varyHeaders = new LinkedHashMap<>();
+		for (int i = 0; i < varyCount; i++) {
+			varyHeaders.put(in.readUTF(), in.readUTF());
+		}
+		final byte[] body = new byte[in.readInt()];
+		in.readFully(body);
+		return new CacheEntry(url, status, headers, body, requestTime, responseTime, varyHeaders);
+	}
+}
@@ -0,0 +1,58 @@
+package com.axios.core.cache;
+
+/**
+ * [响应缓存存储](Response cache storage)
+ * @description zh - 响应缓存存储，实现需要保证线程安全
+ * @description en - Response cache storage, implementations need to be thread safe
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 18:42:40
+ */
+public interface CacheStore {
+
+	/**
+	 * [获取缓存](Get cache)
+	 * @description zh - 获取缓存，不存在时返回null
+	 * @description en - Get cache, null is returned when it does not exist
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:43:00
+	 * @param key 缓存键
+	 * @return com.axios.core.cache.CacheEntry
+	 */
+	CacheEntry get(String key);
+
+	/**
+	 * [存入缓存](Put cache)
+	 * @description zh - 存入缓存，替换已有的缓存
+	 * @description en - Put cache, replacing the existing cache
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:43:20
+	 * @param key 缓存键
+	 * @param entry 缓存的响应
+	 */
+	void put(String key, CacheEntry entry);
+
+	/**
+	 * [移除缓存](Remove cache)
+	 * @description zh - 移除缓存
+	 * @description en - Remove cache
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:43:40
+	 * @param key 缓存键
+	 */
+	void remove(String key);
+
+	/**
+	 * [清空缓存](Clear cache)
+	 * @description zh - 清空缓存
+	 * @description en - Clear cache
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:44:00
+	 */
+	void clear();
+
+}
@@ -0,0 +1,172 @@
+package com.axios.core.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.Proxy;
+import java.net.URL;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLSocketFactory;
+
+import com.axios.core.connection.HttpConnection;
+import com.axios.core.requestMethod.RequestMethod;
+import com.axios.core.tool.UrlTool;
+import com.axios.exception.ConnException;
+import com.axios.header.RequestHeader;
+import com.axios.status.Status;
+
+/**
+ * [由缓存响应构成的连接](Connection made of a cached response)
+ * @description zh - 由缓存响应构成的连接，不访问网络
+ * @description en - Connection made of a cached response, without accessing the network
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 18:47:30
+ */
+final class CachedConnection implements HttpConnection {
+
+	/** 缓存的响应 */
+	private final CacheEntry entry;
+	/** 连接URL */
+	private final URL url;
+	/** 响应头，状态行放在null键下 */
+	private final Map<String, List<String>> headers;
+	/** 是否自动重定向 */
+	private boolean followRedirects;
+
+	CachedConnection(CacheEntry entry) {
+		this.entry = entry;
+		try {
+			this.url = new URL(entry.getUrl());
+		} catch (MalformedURLException e) {
+			throw new ConnException(e);
+		}
+		final Map<String, List<String>> headers = new LinkedHashMap<>();
+		headers.put(null, Collections.singletonList("HTTP/1.1 " + entry.getStatus()));
+		headers.putAll(entry.getHeaders());
+		this.headers = Collections.unmodifiableMap(headers);
+	}
+
+	@Override
+	public URL getUrl() {
+		return this.url;
+	}
+
+	@Override
+	public Proxy getProxy() {
+		return null;
+	}
+
+	@Override
+	public RequestMethod getMethod() {
+		return RequestMethod.GET;
+	}
+
+	@Override
+	public CachedConnection setMethod(RequestMethod method) {
+		return this;
+	}
+
+	@Override
+	public CachedConnection header(String header, String value, boolean isOverride) {
+		return this;
+	}
+
+	@Override
+	public String header(String name) {
+		return this.entry.header(name);
+	}
+
+	@Override
+	public Map<String, List<String>> headers() {
+		return this.headers;
+	}
+
+	@Override
+	public CachedConnection setHttpsInfo(HostnameVerifier hostnameVerifier, SSLSocketFactory ssf) throws ConnException {
+		return this;
+	}
+
+	@Override
+	public CachedConnection disableCache() {
+		return this;
+	}
+
+	@Override
+	public CachedConnection setConnectTimeout(int timeout) {
+		return this;
+	}
+
+	@Override
+	public CachedConnection setReadTimeout(int timeout) {
+		return this;
+	}
+
+	@Override
+	public CachedConnection setChunkedStreamingMode(int blockSize) {
+		return this;
+	}
+
+	@Override
+	public CachedConnection setFixedLengthStreamingMode(long contentLength) {
+		return this;
+	}
+
+	@Override
+	public CachedConnection setInstanceFollowRedirects(boolean isInstanceFollowRedirects) {
+		this.followRedirects = isInstanceFollowRedirects;
+		return this;
+	}
+
+	@Override
+	public boolean isInstanceFollowRedirects() {
+		return this.followRedirects;
+	}
+
+	@Override
+	public CachedConnection connect() {
+		return this;
+	}
+
+	@Override
+	public CachedConnection disconnect() {
+		return this;
+	}
+
+	@Override
+	public InputStream getInputStream() throws IOException {
+		return new ByteArrayInputStream(this.entry.getBody());
+	}
+
+	@Override
+	public InputStream getErrorStream() {
+		return this.entry.getStatus() >= Status.HTTP_BAD_REQUEST ? new ByteArrayInputStream(this.entry.getBody()) : null;
+	}
+
+	@Override
+	public OutputStream getOutputStream() throws IOException {
+		throw new IOException("Cached response does not accept a request body.");
+	}
+
+	@Override
+	public int responseCode() {
+		return this.entry.getStatus();
+	}
+
+	@Override
+	public String getCharsetName() {
+		return UrlTool.getCharset(header(RequestHeader.CONTENT_TYPE));
+	}
+
+	@Override
+	public String toString() {
+		return "CachedConnection[" + this.entry + "]";
+	}
+}
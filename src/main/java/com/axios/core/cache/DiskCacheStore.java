@@ -0,0 +1,212 @@
+package com.axios.core.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.axios.exception.IORuntimeException;
+
+/**
+ * [基于磁盘的缓存存储](Disk based cache storage)
+ * @description zh - 基于磁盘的缓存存储，每个缓存一个文件，按字节数限制容量，超出时淘汰最久未使用的文件
+ * @description en - Disk based cache storage, one file per cache, the capacity is limited by the number of bytes, and the least recently used files are evicted when exceeded
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 18:45:40
+ */
+public class DiskCacheStore implements CacheStore {
+
+	/** 缓存文件后缀 */
+	private static final String SUFFIX = ".cache";
+	/** 写入中的临时文件后缀 */
+	private static final String TEMP_SUFFIX = ".tmp";
+
+	/** 缓存目录 */
+	private final File directory;
+	/** 最大字节数 */
+	private final long maxBytes;
+	/** 锁 */
+	private final ReentrantLock lock = new ReentrantLock();
+	/** 当前字节数 */
+	private long bytes;
+
+	public DiskCacheStore(File directory, long maxBytes) {
+		if (null == directory || maxBytes <= 0) {
+			throw new IllegalArgumentException("Directory must not be null and max bytes must be greater than 0.");
+		}
+		if (false == directory.isDirectory() && false == directory.mkdirs()) {
+			throw new IORuntimeException("Can not create cache directory [" + directory + "].");
+		}
+		this.directory = directory;
+		this.maxBytes = maxBytes;
+		for (File file : files()) {
+			this.bytes += file.length();
+		}
+		// left behind by writers that did not finish
+		final File[] temps = directory.listFiles((dir, name) -> name.endsWith(TEMP_SUFFIX));
+		if (null != temps) {
+			for (File temp : temps) {
+				temp.delete();
+			}
+		}
+	}
+
+	@Override
+	public CacheEntry get(String key) {
+		final File file = file(key);
+		if (false == file.isFile()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			final CacheEntry entry = CacheEntry.readFrom(in);
+			// the modification time orders files for eviction
+			file.setLastModified(System.currentTimeMillis());
+			return entry;
+		} catch (IOException e) {
+			// unreadable entries are dropped
+			remove(key);
+			return null;
+		}
+	}
+
+	/**
+	 * [保存缓存](Save cache)
+	 * @description zh - 保存缓存。先写入缓存目录中独占的临时文件，再在锁内替换缓存文件，同一个键的并发写入互不覆盖半写的数据
+	 * @description en - Save cache. It is first written to a temporary file of its own in the cache directory and then replaces the cache file within the lock, so concurrent writes of the same key never overwrite each other's half written data
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:18:00
+	 * @param key 键
+	 * @param entry 缓存的响应
+	 */
+	@Override
+	public void put(String key, CacheEntry entry) {
+		final File file = file(key);
+		final Path temp;
+		try {
+			temp = Files.createTempFile(this.directory.toPath(), file.getName() + '.', TEMP_SUFFIX);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				entry.writeTo(out);
+			}
+			this.lock.lock();
+			try {
+				final long previous = file.length();
+				Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				this.bytes += file.length() - previous;
+				if (this.bytes > this.maxBytes) {
+					evict();
+				}
+			} finally {
+				this.lock.unlock();
+			}
+		} catch (IOException e) {
+			try {
+				Files.deleteIfExists(temp);
+			} catch (IOException suppressed) {
+				e.addSuppressed(suppressed);
+			}
+			throw new IORuntimeException(e);
+		}
+	}
+
+	@Override
+	public void remove(String key) {
+		this.lock.lock();
+		try {
+			delete(file(key));
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		this.lock.lock();
+		try {
+			for (File file : files()) {
+				delete(file);
+			}
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * @description zh - 获取当前缓存占用的字节数
+	 * @description en - Get the number of bytes occupied by the current cache
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:46:20
+	 * @return long
+	 */
+	public long size() {
+		this.lock.lock();
+		try {
+			return this.bytes;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/** --------------- private --------------- */
+
+	/**
+	 * [淘汰最久未使用的文件直到不超过容量](Evict the least recently used files until the capacity is not exceeded)
+	 * @description zh - 淘汰最久未使用的文件直到不超过容量
+	 * @description en - Evict the least recently used files until the capacity is not exceeded
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:46:50
+	 */
+	private void evict() {
+		final File[] files = files();
+		Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+		for (File file : files) {
+			if (this.bytes <= this.maxBytes) {
+				break;
+			}
+			delete(file);
+		}
+	}
+
+	private void delete(File file) {
+		final long length = file.length();
+		if (file.delete()) {
+			this.bytes -= length;
+		}
+	}
+
+	private File[] files() {
+		final File[] files = this.directory.listFiles((dir, name) -> name.endsWith(SUFFIX));
+		return null == files ? new File[0] : files;
+	}
+
+	private File file(String key) {
+		try {
+			final byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+			final StringBuilder name = new StringBuilder(digest.length * 2 + SUFFIX.length());
+			for (byte b : digest) {
+				name.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+			return new File(this.directory, name.append(SUFFIX).toString());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
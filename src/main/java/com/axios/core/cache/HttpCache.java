@@ -0,0 +1,498 @@
+package com.axios.core.cache;
+
+import java.io.File;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.axios.core.connection.HttpConnection;
+import com.axios.core.tool.UrlTool;
+import com.axios.header.RequestHeader;
+import com.axios.response.HttpResponse;
+
+/**
+ * [遵循HTTP缓存语义的客户端响应缓存](Client response cache following HTTP caching semantics)
+ * @description zh - 遵循HTTP缓存语义（RFC 9111）的客户端私有缓存，支持Cache-Control、Expires、启发式新鲜度、基于ETag和Last-Modified的条件验证以及Vary
+ * @description en - Client private cache following HTTP caching semantics (RFC 9111), supporting Cache-Control, Expires, heuristic freshness, conditional validation based on ETag and Last-Modified, and Vary
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 18:48:30
+ */
+public class HttpCache {
+
+	/** 默认可启发式缓存的状态码 */
+	private static final Set<Integer> HEURISTIC_STATUS = new HashSet<>(Arrays.asList(200, 203, 204, 300, 301, 308, 404, 405, 410, 414, 501));
+	/** 不随缓存保存的响应头，缓存的响应体已解码且长度固定，Cookie只属于原始响应，不能写入缓存后重放 */
+	private static final Set<String> UNSTORED_HEADERS = new HashSet<>(Arrays.asList("content-encoding", "content-length", "transfer-encoding", "connection", "keep-alive",
+			"set-cookie", "set-cookie2"));
+
+	/** 缓存存储 */
+	private final CacheStore store;
+	/** 直接命中次数 */
+	private final LongAdder hits = new LongAdder();
+	/** 验证后命中次数 */
+	private final LongAdder revalidations = new LongAdder();
+	/** 未命中次数 */
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * [创建使用指定存储的缓存](Create a cache using the specified storage)
+	 * @description zh - 创建使用指定存储的缓存
+	 * @description en - Create a cache using the specified storage
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:49:02
+	 * @param store 缓存存储
+	 * @return com.axios.core.cache.HttpCache
+	 */
+	public static HttpCache create(CacheStore store) {
+		return new HttpCache(store);
+	}
+
+	/**
+	 * [创建基于内存的缓存](Create a memory based cache)
+	 * @description zh - 创建基于内存的缓存
+	 * @description en - Create a memory based cache
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:49:20
+	 * @param maxBytes 最大字节数
+	 * @return com.axios.core.cache.HttpCache
+	 */
+	public static HttpCache memory(long maxBytes) {
+		return new HttpCache(new MemoryCacheStore(maxBytes));
+	}
+
+	/**
+	 * [创建基于磁盘的缓存](Create a disk based cache)
+	 * @description zh - 创建基于磁盘的缓存
+	 * @description en - Create a disk based cache
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:49:40
+	 * @param directory 缓存目录
+	 * @param maxBytes 最大字节数
+	 * @return com.axios.core.cache.HttpCache
+	 */
+	public static HttpCache disk(File directory, long maxBytes) {
+		return new HttpCache(new DiskCacheStore(directory, maxBytes));
+	}
+
+	public HttpCache(CacheStore store) {
+		if (null == store) {
+			throw new IllegalArgumentException("Cache store must not be null.");
+		}
+		this.store = store;
+	}
+
+	public CacheStore getStore() {
+		return this.store;
+	}
+
+	/**
+	 * [查找与请求匹配的缓存](Find the cache matching the request)
+	 * @description zh - 查找与请求匹配的缓存，请求禁止缓存或Vary选中的请求头不一致时返回null
+	 * @description en - Find the cache matching the request, null is returned when the request forbids caching or the request headers selected by Vary are inconsistent
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:50:10
+	 * @param url 请求URL
+	 * @param requestHeaders 请求头
+	 * @return com.axios.core.cache.CacheEntry
+	 */
+	public CacheEntry lookup(String url, Map<String, List<String>> requestHeaders) {
+		if (directives(value(requestHeaders, RequestHeader.CACHE_CONTROL.toString())).containsKey("no-store")) {
+			return null;
+		}
+		final CacheEntry entry = this.store.get(url);
+		if (null == entry) {
+			return null;
+		}
+		for (Map.Entry<String, String> vary : entry.getVaryHeaders().entrySet()) {
+			if (false == vary.getValue().equals(joined(requestHeaders, vary.getKey()))) {
+				return null;
+			}
+		}
+		return entry;
+	}
+
+	/**
+	 * [缓存对于请求是否新鲜](Whether the cache is fresh for the request)
+	 * @description zh - 缓存对于请求是否新鲜，新鲜的缓存可以不经验证直接使用
+	 * @description en - Whether the cache is fresh for the request, and the fresh cache can be used directly without validation
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:50:40
+	 * @param entry 缓存的响应
+	 * @param requestHeaders 请求头
+	 * @param now 当前时间
+	 * @return boolean
+	 */
+	public boolean isFresh(CacheEntry entry, Map<String, List<String>> requestHeaders, long now) {
+		final Map<String, String> response = directives(entry.header(RequestHeader.CACHE_CONTROL.toString()));
+		final Map<String, String> request = directives(value(requestHeaders, RequestHeader.CACHE_CONTROL.toString()));
+		if (response.containsKey("no-cache") || request.containsKey("no-cache")
+				|| "no-cache".equalsIgnoreCase(value(requestHeaders, RequestHeader.PRAGMA.toString()))) {
+			return false;
+		}
+		long lifetime = freshnessLifetime(entry, response);
+		long age = currentAge(entry, now);
+		final long maxAge = seconds(request.get("max-age"));
+		if (maxAge >= 0) {
+			lifetime = Math.min(lifetime, maxAge);
+		}
+		final long minFresh = seconds(request.get("min-fresh"));
+		if (minFresh > 0) {
+			age += minFresh;
+		}
+		if (request.containsKey("max-stale") && false == response.containsKey("must-revalidate")) {
+			final long maxStale = seconds(request.get("max-stale"));
+			lifetime = maxStale < 0 ? Long.MAX_VALUE : lifetime + maxStale;
+		}
+		return lifetime > age;
+	}
+
+	/**
+	 * [直接使用缓存](Use the cache directly)
+	 * @description zh - 直接使用缓存，返回不访问网络的连接
+	 * @description en - Use the cache directly and return a connection that does not access the network
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:51:10
+	 * @param entry 缓存的响应
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	public HttpConnection hit(CacheEntry entry) {
+		this.hits.increment();
+		return new CachedConnection(entry);
+	}
+
+	/**
+	 * [为请求添加条件验证头](Add conditional validation headers to the request)
+	 * @description zh - 为请求添加条件验证头，缓存没有ETag和Last-Modified时不添加
+	 * @description en - Add conditional validation headers to the request, not added when the cache has no ETag and Last-Modified
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:51:40
+	 * @param entry 缓存的响应
+	 * @param connection 连接
+	 * @return boolean
+	 */
+	public boolean addValidators(CacheEntry entry, HttpConnection connection) {
+		final String etag = entry.header(RequestHeader.ETAG.toString());
+		final String lastModified = entry.header(RequestHeader.LAST_MODIFIED.toString());
+		if (UrlTool.isNotBlank(etag)) {
+			connection.header(RequestHeader.IF_NONE_MATCH, etag, true);
+		}
+		if (UrlTool.isNotBlank(lastModified)) {
+			connection.header(RequestHeader.IF_MODIFIED_SINCE, lastModified, true);
+		}
+		return UrlTool.isNotBlank(etag) || UrlTool.isNotBlank(lastModified);
+	}
+
+	/**
+	 * [服务端验证缓存仍然有效](The server validates that the cache is still valid)
+	 * @description zh - 服务端返回304，使用304响应中的头更新缓存并返回由缓存构成的连接
+	 * @description en - The server returns 304, update the cache with the headers in the 304 response and return the connection made of the cache
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:52:10
+	 * @param entry 缓存的响应
+	 * @param notModified 304响应的连接
+	 * @param requestTime 发起请求的时间
+	 * @param responseTime 收到响应的时间
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	public HttpConnection revalidated(CacheEntry entry, HttpConnection notModified, long requestTime, long responseTime) {
+		final Map<String, List<String>> headers = new LinkedHashMap<>(entry.getHeaders());
+		for (Map.Entry<String, List<String>> header : notModified.headers().entrySet()) {
+			final String name = header.getKey();
+			if (null == name || UNSTORED_HEADERS.contains(name.toLowerCase())) {
+				continue;
+			}
+			headers.keySet().removeIf(name::equalsIgnoreCase);
+			headers.put(name, header.getValue());
+		}
+		final CacheEntry updated = new CacheEntry(entry.getUrl(), entry.getStatus(), headers, entry.getBody(),
+				requestTime, responseTime, entry.getVaryHeaders());
+		this.store.put(entry.getUrl(), updated);
+		this.revalidations.increment();
+		return new CachedConnection(updated);
+	}
+
+	/**
+	 * [在允许时缓存网络响应](Cache the network response when allowed)
+	 * @description zh - 在允许时缓存网络响应，响应体需已读取
+	 * @description en - Cache the network response when allowed, the response body must have been read
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:52:40
+	 * @param url 请求URL
+	 * @param requestHeaders 请求头
+	 * @param response 响应
+	 * @param requestTime 发起请求的时间
+	 * @param responseTime 收到响应的时间
+	 * @return boolean
+	 */
+	public boolean store(String url, Map<String, List<String>> requestHeaders, HttpResponse response, long requestTime, long responseTime) {
+		this.misses.increment();
+		final Map<String, List<String>> responseHeaders = response.headers();
+		final Map<String, String> responseDirectives = directives(value(responseHeaders, RequestHeader.CACHE_CONTROL.toString()));
+		final Map<String, String> requestDirectives = directives(value(requestHeaders, RequestHeader.CACHE_CONTROL.toString()));
+		if (responseDirectives.containsKey("no-store") || requestDirectives.containsKey("no-store")) {
+			this.store.remove(url);
+			return false;
+		}
+		if (false == HEURISTIC_STATUS.contains(response.getStatus()) || null == response.bodyBytes()) {
+			return false;
+		}
+		if (null != value(requestHeaders, RequestHeader.AUTHORIZATION.toString())
+				&& false == responseDirectives.containsKey("public") && false == responseDirectives.containsKey("must-revalidate") && false == responseDirectives.containsKey("s-maxage")) {
+			return false;
+		}
+		final boolean explicit = responseDirectives.containsKey("max-age") || null != value(responseHeaders, RequestHeader.EXPIRES.toString());
+		final boolean validators = null != value(responseHeaders, RequestHeader.ETAG.toString())
+				|| null != value(responseHeaders, RequestHeader.LAST_MODIFIED.toString());
+		if (false == explicit && false == validators) {
+			// would be stale at once and could not be revalidated
+			return false;
+		}
+
+		final Map<String, String> varyHeaders = new LinkedHashMap<>();
+		final String vary = value(responseHeaders, RequestHeader.VARY.toString());
+		if (null != vary) {
+			for (String name : vary.split(",")) {
+				name = name.trim();
+				if ("*".equals(name)) {
+					return false;
+				}
+				if (false == name.isEmpty()) {
+					varyHeaders.put(name, joined(requestHeaders, name));
+				}
+			}
+		}
+
+		final byte[] body = response.bodyBytes();
+		final Map<String, List<String>> headers = new LinkedHashMap<>();
+		for (Map.Entry<String, List<String>> header : responseHeaders.entrySet()) {
+			if (null != header.getKey() && false == UNSTORED_HEADERS.contains(header.getKey().toLowerCase())) {
+				headers.put(header.getKey(), header.getValue());
+			}
+		}
+		headers.put(RequestHeader.CONTENT_LENGTH.toString(), Collections.singletonList(String.valueOf(body.length)));
+		this.store.put(url, new CacheEntry(url, response.getStatus(), headers, body, requestTime, responseTime, varyHeaders));
+		return true;
+	}
+
+	/**
+	 * [使缓存失效](Invalidate the cache)
+	 * @description zh - 使缓存失效，不安全的请求方法成功后调用
+	 * @description en - Invalidate the cache, called after an unsafe request method succeeds
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:53:10
+	 * @param url 请求URL
+	 */
+	public void invalidate(String url) {
+		this.store.remove(url);
+	}
+
+	/**
+	 * @description zh - 获取不经验证直接命中的次数
+	 * @description en - Get the number of hits without validation
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:53:30
+	 * @return long
+	 */
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * @description zh - 获取服务端返回304后命中的次数
+	 * @description en - Get the number of hits after the server returns 304
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:53:50
+	 * @return long
+	 */
+	public long getRevalidatedCount() {
+		return this.revalidations.sum();
+	}
+
+	/**
+	 * @description zh - 获取从网络获取完整响应的次数
+	 * @description en - Get the number of full responses fetched from the network
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:54:10
+	 * @return long
+	 */
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "HttpCache[hits=" + getHitCount() + ", revalidated=" + getRevalidatedCount() + ", misses=" + getMissCount() + "]";
+	}
+
+	/** --------------- private --------------- */
+
+	/**
+	 * [计算新鲜期](Calculate freshness lifetime)
+	 * @description zh - 计算新鲜期，依次使用max-age、Expires和基于Last-Modified的启发式规则
+	 * @description en - Calculate freshness lifetime, using max-age, Expires and heuristic rule based on Last-Modified in turn
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:54:40
+	 * @param entry 缓存的响应
+	 * @param directives Cache-Control指令
+	 * @return long
+	 */
+	private static long freshnessLifetime(CacheEntry entry, Map<String, String> directives) {
+		final long maxAge = seconds(directives.get("max-age"));
+		if (maxAge >= 0) {
+			return maxAge;
+		}
+		final long date = dateOrDefault(entry.header(RequestHeader.DATE.toString()), entry.getResponseTime());
+		final String expires = entry.header(RequestHeader.EXPIRES.toString());
+		if (null != expires) {
+			// an invalid Expires means already expired
+			final long expiresTime = dateOrDefault(expires, date);
+			return Math.max(0, expiresTime - date);
+		}
+		final long lastModified = dateOrDefault(entry.header(RequestHeader.LAST_MODIFIED.toString()), -1);
+		if (lastModified >= 0 && HEURISTIC_STATUS.contains(entry.getStatus())) {
+			return Math.max(0, (date - lastModified) / 10);
+		}
+		return 0;
+	}
+
+	/**
+	 * [计算当前年龄](Calculate current age)
+	 * @description zh - 计算当前年龄
+	 * @description en - Calculate current age
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:55:10
+	 * @param entry 缓存的响应
+	 * @param now 当前时间
+	 * @return long
+	 */
+	private static long currentAge(CacheEntry entry, long now) {
+		final long date = dateOrDefault(entry.header(RequestHeader.DATE.toString()), entry.getResponseTime());
+		final long apparentAge = Math.max(0, entry.getResponseTime() - date);
+		final long ageValue = Math.max(0, seconds(entry.header(RequestHeader.AGE.toString())));
+		final long responseDelay = entry.getResponseTime() - entry.getRequestTime();
+		final long correctedInitialAge = Math.max(apparentAge, ageValue + responseDelay);
+		return correctedInitialAge + Math.max(0, now - entry.getResponseTime());
+	}
+
+	/**
+	 * [解析Cache-Control指令](Parse Cache-Control directives)
+	 * @description zh - 解析Cache-Control指令，指令名转为小写，没有值的指令值为null
+	 * @description en - Parse Cache-Control directives, the directive name is converted to lowercase, and the value of a directive without value is null
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:55:40
+	 * @param cacheControl Cache-Control
+	 * @return java.util.Map
+	 */
+	private static Map<String, String> directives(String cacheControl) {
+		if (UrlTool.isBlank(cacheControl)) {
+			return Collections.emptyMap();
+		}
+		final Map<String, String> directives = new HashMap<>();
+		for (String directive : cacheControl.split(",")) {
+			final int index = directive.indexOf('=');
+			if (index < 0) {
+				directives.put(directive.trim().toLowerCase(), null);
+			} else {
+				String value = directive.substring(index + 1).trim();
+				if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+					value = value.substring(1, value.length() - 1);
+				}
+				directives.put(directive.substring(0, index).trim().toLowerCase(), value);
+			}
+		}
+		return directives;
+	}
+
+	/**
+	 * [解析秒数为毫秒](Parse seconds to milliseconds)
+	 * @description zh - 解析秒数为毫秒，无效时返回-1
+	 * @description en - Parse seconds to milliseconds, and return -1 when invalid
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:56:10
+	 * @param seconds 秒数
+	 * @return long
+	 */
+	private static long seconds(String seconds) {
+		if (UrlTool.isBlank(seconds)) {
+			return -1;
+		}
+		try {
+			final long value = Long.parseLong(seconds.trim());
+			return value < 0 ? -1 : Math.min(value, Long.MAX_VALUE / 1000) * 1000;
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	private static long dateOrDefault(String date, long defaultValue) {
+		if (UrlTool.isBlank(date)) {
+			return defaultValue;
+		}
+		try {
+			return ZonedDateTime.parse(date.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+		} catch (DateTimeParseException e) {
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * [获取头的值，忽略大小写，多个值时取最后一个](Get the value of the header, ignoring case, and take the last one when there are multiple values)
+	 * @description zh - 获取头的值，忽略大小写，多个值时取最后一个
+	 * @description en - Get the value of the header, ignoring case, and take the last one when there are multiple values
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:56:40
+	 * @param headers 头信息
+	 * @param name 名称
+	 * @return java.lang.String
+	 */
+	static String value(Map<String, List<String>> headers, String name) {
+		if (null == headers || null == name) {
+			return null;
+		}
+		for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+			if (name.equalsIgnoreCase(entry.getKey()) && null != entry.getValue() && false == entry.getValue().isEmpty()) {
+				return entry.getValue().get(entry.getValue().size() - 1);
+			}
+		}
+		return null;
+	}
+
+	private static String joined(Map<String, List<String>> headers, String name) {
+		final List<String> values = new ArrayList<>();
+		for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+			if (name.equalsIgnoreCase(entry.getKey()) && null != entry.getValue()) {
+				values.addAll(entry.getValue());
+			}
+		}
+		return String.join(",", values);
+	}
+}
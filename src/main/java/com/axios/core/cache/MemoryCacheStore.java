@@ -0,0 +1,108 @@
+package com.axios.core.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [基于内存的LRU缓存存储](Memory based LRU cache storage)
+ * @description zh - 基于内存的LRU缓存存储，按字节数限制容量，超出时淘汰最久未使用的缓存
+ * @description en - Memory based LRU cache storage, the capacity is limited by the number of bytes, and the least recently used cache is evicted when exceeded
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 18:44:30
+ */
+public class MemoryCacheStore implements CacheStore {
+
+	/** 最大字节数 */
+	private final long maxBytes;
+	/** 缓存，按访问顺序排列 */
+	private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	/** 锁 */
+	private final ReentrantLock lock = new ReentrantLock();
+	/** 当前字节数 */
+	private long bytes;
+
+	public MemoryCacheStore(long maxBytes) {
+		if (maxBytes <= 0) {
+			throw new IllegalArgumentException("Max bytes must be greater than 0.");
+		}
+		this.maxBytes = maxBytes;
+	}
+
+	@Override
+	public CacheEntry get(String key) {
+		this.lock.lock();
+		try {
+			return this.entries.get(key);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void put(String key, CacheEntry entry) {
+		final long weight = entry.weight();
+		this.lock.lock();
+		try {
+			final CacheEntry old = this.entries.remove(key);
+			if (null != old) {
+				this.bytes -= old.weight();
+			}
+			if (weight > this.maxBytes) {
+				return;
+			}
+			this.entries.put(key, entry);
+			this.bytes += weight;
+			final Iterator<Map.Entry<String, CacheEntry>> iterator = this.entries.entrySet().iterator();
+			while (this.bytes > this.maxBytes && iterator.hasNext()) {
+				this.bytes -= iterator.next().getValue().weight();
+				iterator.remove();
+			}
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void remove(String key) {
+		this.lock.lock();
+		try {
+			final CacheEntry old = this.entries.remove(key);
+			if (null != old) {
+				this.bytes -= old.weight();
+			}
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		this.lock.lock();
+		try {
+			this.entries.clear();
+			this.bytes = 0;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * @description zh - 获取当前缓存占用的字节数
+	 * @description en - Get the number of bytes occupied by the current cache
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:45:10
+	 * @return long
+	 */
+	public long size() {
+		this.lock.lock();
+		try {
+			return this.bytes;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+}
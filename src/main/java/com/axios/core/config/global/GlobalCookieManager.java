@@ -10,7 +10,7 @@ import java.util.List;
 import java.util.Map;
 
 import com.axios.cookie.ThreadLocalCookieStore;
-import com.axios.core.connection.Connection;
+import com.axios.core.connection.HttpConnection;
 import com.axios.core.tool.UrlTool;
 import com.axios.exception.IORuntimeException;
 
@@ -67,7 +67,7 @@ public class GlobalCookieManager {
 	 * @param conn Connection
 	 * @return java.util.List<java.net.HttpCookie>
 	 */
-	public static List<HttpCookie> getCookies(Connection conn){
+	public static List<HttpCookie> getCookies(HttpConnection conn){
 		return cookieManager.getCookieStore().get(getURI(conn));
 	}
 
@@ -80,7 +80,7 @@ public class GlobalCookieManager {
 	 * @since 2021-11-18 14:09:40
 	 * @param conn Connection
 	 */
-	public static void add(Connection conn) {
+	public static void add(HttpConnection conn) {
 		if(null == cookieManager) {
 			// Global cookie manager shutdown
 			return;
@@ -104,7 +104,7 @@ public class GlobalCookieManager {
 	 * @since 2021-11-18 14:10:28
 	 * @param conn Connection
 	 */
-	public static void store(Connection conn) {
+	public static void store(HttpConnection conn) {
 		if(null == cookieManager) {
 			// Global cookie manager shutdown
 			return;
@@ -116,7 +116,7 @@ public class GlobalCookieManager {
 		}
 	}
 
-	private static URI getURI(Connection conn){
+	private static URI getURI(HttpConnection conn){
 		return UrlTool.toURI(conn.getUrl());
 	}
 }
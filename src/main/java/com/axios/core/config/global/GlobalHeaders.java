@@ -2,11 +2,11 @@ package com.axios.core.config.global;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import com.axios.core.map.HeaderMap;
 import com.axios.core.tool.UrlTool;
 import com.axios.core.tool.http.HttpTool;
 import com.axios.header.RequestHeader;
@@ -24,7 +24,7 @@ public enum GlobalHeaders {
 	INSTANCE;
 
 	/** Storage header information */
-	public Map<String, List<String>> headers = new HashMap<>();
+	public HeaderMap headers = new HeaderMap();
 
 	GlobalHeaders() {
 		putDefault(false);
@@ -63,17 +63,16 @@ public enum GlobalHeaders {
 	 * @return java.lang.String
 	 */
 	public String header(String name) {
-		final List<String> values = headerList(name);
-		if (HttpTool.isEmpty(values)) {
+		if (UrlTool.isBlank(name)) {
 			return null;
 		}
-		return values.get(0);
+		return headers.getFirst(name.trim());
 	}
 
 	/**
 	 * [根据name获取头信息列表](Get header information list according to name)
-	 * @description zh - 根据name获取头信息列表
-	 * @description en - Get header information list according to name
+	 * @description zh - 根据name获取头信息列表，返回可修改的副本，修改它不影响全局头信息
+	 * @description en - Get header information list according to name, a modifiable copy is returned and changing it does not affect the global headers
 	 * @version V1.0
 	 * @author XiaoXunYao
 	 * @since 2021-11-25 19:27:31
@@ -85,7 +84,8 @@ public enum GlobalHeaders {
 			return null;
 		}
 
-		return headers.get(name.trim());
+		final List<String> values = headers.get(name.trim());
+		return null == values ? null : new ArrayList<>(values);
 	}
 
 	/**
@@ -189,14 +189,10 @@ public enum GlobalHeaders {
 	 */
 	public GlobalHeaders header(String name, String value, boolean isOverride) {
 		if (null != name && null != value) {
-			final List<String> values = headers.get(name.trim());
-			if (isOverride || HttpTool.isEmpty(values)) {
-				final ArrayList<String> valueList = new ArrayList<>();
-				valueList.add(value);
-				headers.put(name.trim(), valueList);
-			} else {
-				values.add(value.trim());
-			}
+			final String key = name.trim();
+			// 只有追加到已有值时才去除空白
+			final boolean append = false == isOverride && false == HttpTool.isEmpty(headers.get(key));
+			headers.add(key, append ? value.trim() : value, isOverride);
 		}
 		return this;
 	}
@@ -2,6 +2,17 @@ package com.axios.core.config.global;
 
 import java.io.Serializable;
 import java.net.CookieManager;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.axios.core.cache.HttpCache;
+import com.axios.core.connection.ReleasePolicy;
+import com.axios.core.dns.HostResolver;
+import com.axios.core.limit.RequestLimiter;
+import com.axios.core.transport.JdkTransport;
+import com.axios.core.transport.Transport;
 
 /**
  * [HTTP 全局参数配置](HTTP global parameter configuration)
@@ -14,7 +25,28 @@ import java.net.CookieManager;
 public class HttpGlobalConfig implements Serializable {
 	private static final long serialVersionUID = 1L;
 
-	public static int timeout = -1;
+	public static volatile int timeout = -1;
+
+	/** 是否在虚拟线程中执行请求 */
+	private static volatile boolean virtualThreads;
+
+	/** 全局响应缓存，null表示不使用缓存 */
+	private static volatile HttpCache cache;
+
+	/** 全局请求限流器，null表示不限流 */
+	private static volatile RequestLimiter limiter;
+
+	/** 全局默认的传输引擎 */
+	private static volatile Transport transport = JdkTransport.INSTANCE;
+
+	/** 异步请求使用的执行器，null表示使用默认执行器 */
+	private static volatile Executor executor;
+
+	/** 关闭响应时的释放策略 */
+	private static volatile ReleasePolicy releasePolicy = ReleasePolicy.DEFAULT;
+
+	/** 全局主机名解析器 */
+	private static volatile HostResolver hostResolver = HostResolver.SYSTEM;
 
 	/**
 	 * [获取全局默认的超时时长](Gets the global default timeout length)
@@ -38,10 +70,222 @@ public class HttpGlobalConfig implements Serializable {
 	 * @since 2021-11-18 14:02:21
 	 * @param customTimeout 超时时长
 	 */
-	synchronized public static void setTimeout(int customTimeout) {
+	public static void setTimeout(int customTimeout) {
 		timeout = customTimeout;
 	}
 
+	/**
+	 * [获取全局默认的传输引擎](Get the global default transport)
+	 * @description zh - 获取全局默认的传输引擎
+	 * @description en - Get the global default transport
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:03:10
+	 * @return com.axios.core.transport.Transport
+	 */
+	public static Transport getTransport() {
+		return transport;
+	}
+
+	/**
+	 * [设置全局默认的传输引擎，null表示恢复为基于HttpURLConnection的引擎](Set the global default transport, null means to restore the engine based on HttpURLConnection)
+	 * @description zh - 设置全局默认的传输引擎，null表示恢复为基于HttpURLConnection的引擎
+	 * @description en - Set the global default transport, null means to restore the engine based on HttpURLConnection
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:03:42
+	 * @param customTransport 传输引擎
+	 */
+	public static void setTransport(Transport customTransport) {
+		transport = null == customTransport ? JdkTransport.INSTANCE : customTransport;
+	}
+
+	/**
+	 * [获取异步请求使用的执行器](Get the executor used by asynchronous requests)
+	 * @description zh - 获取异步请求使用的执行器，未设置时使用默认的守护线程池
+	 * @description en - Get the executor used by asynchronous requests, the default daemon thread pool is used when not set
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:52:10
+	 * @return java.util.concurrent.Executor
+	 */
+	public static Executor getExecutor() {
+		final Executor custom = executor;
+		if (null != custom) {
+			return custom;
+		}
+		return virtualThreads ? getVirtualThreadExecutor() : DefaultExecutor.INSTANCE;
+	}
+
+	/**
+	 * [设置异步请求使用的执行器，null表示恢复为默认的守护线程池](Set the executor used by asynchronous requests, null means to restore the default daemon thread pool)
+	 * @description zh - 设置异步请求使用的执行器，null表示恢复为默认的守护线程池
+	 * @description en - Set the executor used by asynchronous requests, null means to restore the default daemon thread pool
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:52:40
+	 * @param customExecutor 执行器
+	 */
+	public static void setExecutor(Executor customExecutor) {
+		executor = customExecutor;
+	}
+
+	/**
+	 * [是否在虚拟线程中执行请求](Whether to execute requests on virtual threads)
+	 * @description zh - 是否在虚拟线程中执行请求
+	 * @description en - Whether to execute requests on virtual threads
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:01:10
+	 * @return boolean
+	 */
+	public static boolean isVirtualThreads() {
+		return virtualThreads;
+	}
+
+	/**
+	 * [设置是否在虚拟线程中执行请求](Set whether to execute requests on virtual threads)
+	 * @description zh - 设置是否在虚拟线程中执行请求，开启后异步请求以阻塞方式在每任务一个虚拟线程的执行器中运行，JDK 21 以下退化为默认线程池
+	 * @description en - Set whether to execute requests on virtual threads. When enabled, asynchronous requests run in blocking style on a virtual-thread-per-task executor, falling back to the default thread pool below JDK 21
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:01:40
+	 * @param customVirtualThreads 是否使用虚拟线程
+	 */
+	public static void setVirtualThreads(boolean customVirtualThreads) {
+		virtualThreads = customVirtualThreads;
+	}
+
+	/**
+	 * [获取每任务一个虚拟线程的执行器](Get the virtual-thread-per-task executor)
+	 * @description zh - 获取每任务一个虚拟线程的执行器，当前JDK不支持虚拟线程时返回默认线程池
+	 * @description en - Get the virtual-thread-per-task executor, the default thread pool is returned when the current JDK does not support virtual threads
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:02:15
+	 * @return java.util.concurrent.Executor
+	 */
+	public static Executor getVirtualThreadExecutor() {
+		return VirtualThreadExecutor.INSTANCE;
+	}
+
+	/**
+	 * [当前JDK是否支持虚拟线程](Whether the current JDK supports virtual threads)
+	 * @description zh - 当前JDK是否支持虚拟线程
+	 * @description en - Whether the current JDK supports virtual threads
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:02:40
+	 * @return boolean
+	 */
+	public static boolean isVirtualThreadSupported() {
+		return VirtualThreadExecutor.INSTANCE != DefaultExecutor.INSTANCE;
+	}
+
+	/**
+	 * [获取全局响应缓存](Get global response cache)
+	 * @description zh - 获取全局响应缓存，null表示不使用缓存
+	 * @description en - Get global response cache, null means no cache is used
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:00:10
+	 * @return com.axios.core.cache.HttpCache
+	 */
+	public static HttpCache getCache() {
+		return cache;
+	}
+
+	/**
+	 * [设置全局响应缓存](Set global response cache)
+	 * @description zh - 设置全局响应缓存，null表示不使用缓存
+	 * @description en - Set global response cache, null means no cache is used
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:00:40
+	 * @param customCache 响应缓存
+	 */
+	public static void setCache(HttpCache customCache) {
+		cache = customCache;
+	}
+
+	/**
+	 * [获取全局请求限流器](Get global request limiter)
+	 * @description zh - 获取全局请求限流器，null表示不限流
+	 * @description en - Get global request limiter, null means no limiting
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:17:10
+	 * @return com.axios.core.limit.RequestLimiter
+	 */
+	public static RequestLimiter getLimiter() {
+		return limiter;
+	}
+
+	/**
+	 * [设置全局请求限流器](Set global request limiter)
+	 * @description zh - 设置全局请求限流器，null表示不限流
+	 * @description en - Set global request limiter, null means no limiting
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:17:30
+	 * @param customLimiter 请求限流器
+	 */
+	public static void setLimiter(RequestLimiter customLimiter) {
+		limiter = customLimiter;
+	}
+
+	/**
+	 * [获取响应释放策略](Get response release policy)
+	 * @description zh - 获取关闭响应时的释放策略，决定未读完的响应体是读完后复用连接还是直接断开
+	 * @description en - Get the release policy used when a response is closed, which decides whether an unread body is drained so the connection can be reused or the connection is disconnected
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:12:30
+	 * @return com.axios.core.connection.ReleasePolicy
+	 */
+	public static ReleasePolicy getReleasePolicy() {
+		return releasePolicy;
+	}
+
+	/**
+	 * [设置响应释放策略](Set response release policy)
+	 * @description zh - 设置关闭响应时的释放策略，null表示使用默认策略
+	 * @description en - Set the release policy used when a response is closed, null means the default policy is used
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:13:00
+	 * @param customReleasePolicy 释放策略
+	 */
+	public static void setReleasePolicy(ReleasePolicy customReleasePolicy) {
+		releasePolicy = null == customReleasePolicy ? ReleasePolicy.DEFAULT : customReleasePolicy;
+	}
+
+	/**
+	 * [获取全局主机名解析器](Get global host name resolver)
+	 * @description zh - 获取全局主机名解析器，由自行解析地址的传输引擎（NIO）使用，JDK和HTTP/2引擎由JDK内部解析
+	 * @description en - Get global host name resolver, used by transports that resolve addresses themselves (NIO), the JDK and HTTP/2 transports resolve inside the JDK
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:57:00
+	 * @return com.axios.core.dns.HostResolver
+	 */
+	public static HostResolver getHostResolver() {
+		return hostResolver;
+	}
+
+	/**
+	 * [设置全局主机名解析器](Set global host name resolver)
+	 * @description zh - 设置全局主机名解析器，null表示使用JDK解析
+	 * @description en - Set global host name resolver, null means resolving with the JDK
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:57:30
+	 * @param customHostResolver 主机名解析器
+	 */
+	public static void setHostResolver(HostResolver customHostResolver) {
+		hostResolver = null == customHostResolver ? HostResolver.SYSTEM : customHostResolver;
+	}
+
 	/**
 	 * [获取Cookie管理器](Get cookie Manager)
 	 * @description zh - 获取Cookie管理器
@@ -79,4 +323,41 @@ public class HttpGlobalConfig implements Serializable {
 		GlobalCookieManager.setCookieManager(null);
 	}
 
+	/**
+	 * [默认的异步执行器，首次使用时创建](Default asynchronous executor, created on first use)
+	 * @description zh - 默认的异步执行器，首次使用时创建
+	 * @description en - Default asynchronous executor, created on first use
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:53:15
+	 */
+	private static class DefaultExecutor {
+		private static final AtomicInteger SEQUENCE = new AtomicInteger();
+		private static final ExecutorService INSTANCE = Executors.newCachedThreadPool(runnable -> {
+			final Thread thread = new Thread(runnable, "axios-async-" + SEQUENCE.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * [虚拟线程执行器，通过反射创建](Virtual thread executor, created by reflection)
+	 * @description zh - 虚拟线程执行器，虚拟线程需要 JDK 21 而默认构建的目标版本为 15，因此通过反射创建，运行在 JDK 21 以下时退化为默认线程池
+	 * @description en - Virtual thread executor. Virtual threads need JDK 21 while the default build targets 15, so it is created by reflection and falls back to the default thread pool when running below JDK 21
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:03:20
+	 */
+	private static class VirtualThreadExecutor {
+		private static final ExecutorService INSTANCE = create();
+
+		private static ExecutorService create() {
+			try {
+				return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				return DefaultExecutor.INSTANCE;
+			}
+		}
+	}
+
 }
@@ -32,7 +32,7 @@ import java.util.Map.Entry;
  * @author XiaoXunYao
  * @since 2021-11-15 20:31:04
  */
-public class Connection {
+public class Connection implements HttpConnection {
 
 	/** Connection URL */
 	private final URL url;
@@ -40,6 +40,10 @@ public class Connection {
 	private final Proxy proxy;
 	/** Connection object */
 	private HttpURLConnection conn;
+	/** Whether chunked streaming mode is set */
+	private boolean chunked;
+	/** Whether the connection has been handed back for keep-alive */
+	private volatile boolean released;
 
 	/** structure ------------------- 构造 */
 
@@ -125,6 +129,7 @@ public class Connection {
 	public Connection initConn() {
 		try {
 			this.conn = openHttp();
+			this.released = false;
 		} catch (IOException e) {
 			throw new ConnException(e);
 		}
@@ -438,6 +443,24 @@ public class Connection {
 	public Connection setChunkedStreamingMode(int blockSize) {
 		if (blockSize > 0) {
 			conn.setChunkedStreamingMode(blockSize);
+			this.chunked = true;
+		}
+		return this;
+	}
+
+	/**
+	 * [以固定长度流方式上传数据](Upload data in fixed-length streaming mode)
+	 * @description zh - 以固定长度流方式上传数据，HttpURLConnection不再把整个请求体缓存在内存中计算长度
+	 * @description en - Upload data in fixed-length streaming mode, HttpURLConnection no longer buffers the whole request body in memory to compute the length
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:51:00
+	 * @param contentLength 请求体长度（bytes数）
+	 * @return com.axios.core.connection.Connection
+	 */
+	public Connection setFixedLengthStreamingMode(long contentLength) {
+		if (contentLength >= 0 && false == this.chunked) {
+			conn.setFixedLengthStreamingMode(contentLength);
 		}
 		return this;
 	}
@@ -457,6 +480,19 @@ public class Connection {
 		return this;
 	}
 
+	/**
+	 * [是否自动HTTP 30X跳转](Whether to jump automatically HTTP 30x)
+	 * @description zh - 是否自动HTTP 30X跳转
+	 * @description en - Whether to jump automatically HTTP 30x
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:52:30
+	 * @return boolean
+	 */
+	public boolean isInstanceFollowRedirects() {
+		return conn.getInstanceFollowRedirects();
+	}
+
 	/**
 	 * [连接](connect)
 	 * @description zh - 连接
@@ -503,12 +539,27 @@ public class Connection {
 	 * @return com.axios.core.connection.Connection
 	 */
 	public Connection disconnect() {
-		if (null != this.conn) {
+		// HttpURLConnection.disconnect also closes the idle connection it has just handed to the keep-alive cache
+		if (null != this.conn && false == this.released) {
 			this.conn.disconnect();
 		}
 		return this;
 	}
 
+	/**
+	 * [释放连接](Release the connection)
+	 * @description zh - 响应体已读完并关闭，底层连接已进入保活缓存，之后的断开操作不再关闭它
+	 * @description en - The response body has been read and closed and the underlying connection is in the keep-alive cache, a later disconnect no longer closes it
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:12:00
+	 * @return com.axios.core.connection.Connection
+	 */
+	public Connection release() {
+		this.released = true;
+		return this;
+	}
+
 	/**
 	 * [获得输入流对象](Get input stream object)
 	 * @description zh - 获得输入流对象
@@ -0,0 +1,454 @@
+package com.axios.core.connection;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLSocketFactory;
+
+import com.axios.core.requestMethod.RequestMethod;
+import com.axios.core.tool.UrlTool;
+import com.axios.exception.ConnException;
+import com.axios.exception.IORuntimeException;
+import com.axios.header.RequestHeader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Proxy;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * [HTTP连接接口，由具体的传输引擎实现](HTTP connection interface, implemented by the concrete transport engine)
+ * @description zh - HTTP连接接口，由具体的传输引擎实现
+ * @description en - HTTP connection interface, implemented by the concrete transport engine
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 15:40:12
+ */
+public interface HttpConnection {
+
+	/**
+	 * [获取URL](Get URL)
+	 * @description zh - 获取URL
+	 * @description en - Get URL
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:40:48
+	 * @return java.net.URL
+	 */
+	URL getUrl();
+
+	/**
+	 * [获取代理](get proxy)
+	 * @description zh - 获取代理
+	 * @description en - get proxy
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:41:05
+	 * @return java.net.Proxy
+	 */
+	Proxy getProxy();
+
+	/**
+	 * [获取请求方法](Get request method)
+	 * @description zh - 获取请求方法
+	 * @description en - Get request method
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:41:22
+	 * @return com.axios.core.requestMethod.RequestMethod
+	 */
+	RequestMethod getMethod();
+
+	/**
+	 * [设置请求方法](Set request method)
+	 * @description zh - 设置请求方法
+	 * @description en - Set request method
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:41:40
+	 * @param method 请求方法
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	HttpConnection setMethod(RequestMethod method);
+
+	/**
+	 * [设置请求头](Set request header)
+	 * @description zh - 设置请求头
+	 * @description en - Set request header
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:42:03
+	 * @param header 请求头
+	 * @param value 请求内容
+	 * @param isOverride 是否覆盖旧值
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	HttpConnection header(String header, String value, boolean isOverride);
+
+	/**
+	 * [设置请求头](Set request header)
+	 * @description zh - 设置请求头
+	 * @description en - Set request header
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:42:21
+	 * @param header 请求头
+	 * @param value 请求内容
+	 * @param isOverride 是否覆盖旧值
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	default HttpConnection header(RequestHeader header, String value, boolean isOverride) {
+		return header(header.toString(), value, isOverride);
+	}
+
+	/**
+	 * [设置请求头](Set request header)
+	 * @description zh - 设置请求头
+	 * @description en - Set request header
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:42:37
+	 * @param headerMap 请求头
+	 * @param isOverride 是否覆盖旧值
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	default HttpConnection header(Map<String, List<String>> headerMap, boolean isOverride) {
+		if (UrlTool.isNotEmpty(headerMap)) {
+			String name;
+			for (Entry<String, List<String>> entry : headerMap.entrySet()) {
+				name = entry.getKey();
+				for (String value : entry.getValue()) {
+					this.header(name, UrlTool.nullToEmpty(value), isOverride);
+				}
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * [获取响应头](Get response header)
+	 * @description zh - 获取响应头
+	 * @description en - Get response header
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:43:02
+	 * @param name 响应头的名字
+	 * @return java.lang.String
+	 */
+	String header(String name);
+
+	/**
+	 * [获取响应头](Get response header)
+	 * @description zh - 获取响应头
+	 * @description en - Get response header
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:43:19
+	 * @param name 响应头
+	 * @return java.lang.String
+	 */
+	default String header(RequestHeader name) {
+		return header(name.toString());
+	}
+
+	/**
+	 * [获取所有响应头](Get all response headers)
+	 * @description zh - 获取所有响应头
+	 * @description en - Get all response headers
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:43:36
+	 * @return java.util.Map<java.lang.String, java.util.List<java.lang.String>>
+	 */
+	Map<String, List<String>> headers();
+
+	/**
+	 * [设置https请求参数](Set HTTPS request parameters)
+	 * @description zh - 设置https请求参数
+	 * @description en - Set HTTPS request parameters
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:43:58
+	 * @param hostnameVerifier 域名验证器
+	 * @param ssf SSLSocketFactory
+	 * @throws com.axios.exception.ConnException
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	HttpConnection setHttpsInfo(HostnameVerifier hostnameVerifier, SSLSocketFactory ssf) throws ConnException;
+
+	/**
+	 * [关闭缓存](Close cache)
+	 * @description zh - 关闭缓存
+	 * @description en - Close cache
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:44:13
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	HttpConnection disableCache();
+
+	/**
+	 * [设置连接超时](Set connection timeout)
+	 * @description zh - 设置连接超时
+	 * @description en - Set connection timeout
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:44:30
+	 * @param timeout 超时时间
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	HttpConnection setConnectTimeout(int timeout);
+
+	/**
+	 * [设置读取超时](Set read timeout)
+	 * @description zh - 设置读取超时
+	 * @description en - Set read timeout
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:44:47
+	 * @param timeout 超时时间
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	HttpConnection setReadTimeout(int timeout);
+
+	/**
+	 * [设置连接和读取的超时时间](Set connection and read timeout)
+	 * @description zh - 设置连接和读取的超时时间
+	 * @description en - Set connection and read timeout
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:45:02
+	 * @param timeout 超时时间
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	default HttpConnection setConnectionAndReadTimeout(int timeout) {
+		setConnectTimeout(timeout);
+		setReadTimeout(timeout);
+		return this;
+	}
+
+	/**
+	 * [设置Cookie](Set cookies)
+	 * @description zh - 设置Cookie
+	 * @description en - Set cookies
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:45:19
+	 * @param cookie Cookie
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	default HttpConnection setCookie(String cookie) {
+		if (cookie != null) {
+			header(RequestHeader.COOKIE, cookie, true);
+		}
+		return this;
+	}
+
+	/**
+	 * [采用流方式上传数据，无需本地缓存数据。](Upload data in streaming mode without local cache data.)
+	 * @description zh - 采用流方式上传数据，无需本地缓存数据。
+	 * @description en - Upload data in streaming mode without local cache data.
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:45:36
+	 * @param blockSize 块大小（bytes数）
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	HttpConnection setChunkedStreamingMode(int blockSize);
+
+	/**
+	 * [以固定长度流方式上传数据](Upload data in fixed-length streaming mode)
+	 * @description zh - 请求体长度已知时以固定长度流方式上传数据，无需本地缓存数据，也不使用分块编码。已设置分块模式时无效
+	 * @description en - Upload data in fixed-length streaming mode when the length of the request body is known, without local cache data and without chunked encoding. It has no effect when the chunked mode has been set
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:50:30
+	 * @param contentLength 请求体长度（bytes数）
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	HttpConnection setFixedLengthStreamingMode(long contentLength);
+
+	/**
+	 * [设置自动HTTP 30X跳转](Set automatic HTTP 30x jump)
+	 * @description zh - 设置自动HTTP 30X跳转
+	 * @description en - Set automatic HTTP 30x jump
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:45:53
+	 * @param isInstanceFollowRedirects 是否自定跳转
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	HttpConnection setInstanceFollowRedirects(boolean isInstanceFollowRedirects);
+
+	/**
+	 * [是否自动HTTP 30X跳转](Whether to jump automatically HTTP 30x)
+	 * @description zh - 是否自动HTTP 30X跳转
+	 * @description en - Whether to jump automatically HTTP 30x
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:46:10
+	 * @return boolean
+	 */
+	boolean isInstanceFollowRedirects();
+
+	/**
+	 * [连接](connect)
+	 * @description zh - 连接
+	 * @description en - connect
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:46:27
+	 * @throws java.io.IOException
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	HttpConnection connect() throws IOException;
+
+	/**
+	 * [断开连接](Disconnect)
+	 * @description zh - 断开连接
+	 * @description en - Disconnect
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:46:44
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	HttpConnection disconnect();
+
+	/**
+	 * [静默断开连接。不抛出异常](Silently disconnect. Do not throw exceptions)
+	 * @description zh - 静默断开连接。不抛出异常
+	 * @description en - Silently disconnect. Do not throw exceptions
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:47:01
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	default HttpConnection disconnectQuietly() {
+		try {
+			disconnect();
+		} catch (Throwable e) {
+			// ignore
+		}
+		return this;
+	}
+
+	/**
+	 * [释放连接](Release the connection)
+	 * @description zh - 响应体已读到结尾并关闭，连接交还传输层复用。之后的断开操作不应再关闭已交还的连接，需要时由传输引擎覆盖此方法
+	 * @description en - The response body has been read to the end and closed, and the connection is handed back to the transport for reuse. A later disconnect should no longer close the handed back connection, transports that need this override this method
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:11:30
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	default HttpConnection release() {
+		return this;
+	}
+
+	/**
+	 * [获得输入流对象](Get input stream object)
+	 * @description zh - 获得输入流对象
+	 * @description en - Get input stream object
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:47:18
+	 * @throws java.io.IOException
+	 * @return java.io.InputStream
+	 */
+	InputStream getInputStream() throws IOException;
+
+	/**
+	 * [当返回错误代码时，获得错误内容流](When the error code is returned, the error content stream is obtained)
+	 * @description zh - 当返回错误代码时，获得错误内容流
+	 * @description en - When the error code is returned, the error content stream is obtained
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:47:35
+	 * @return java.io.InputStream
+	 */
+	InputStream getErrorStream();
+
+	/**
+	 * [获取输出流对象 输出流对象用于发送数据](Gets the output stream object used to send data)
+	 * @description zh - 获取输出流对象 输出流对象用于发送数据
+	 * @description en - Gets the output stream object used to send data
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:47:52
+	 * @throws java.io.IOException
+	 * @return java.io.OutputStream
+	 */
+	OutputStream getOutputStream() throws IOException;
+
+	/**
+	 * [获取响应码](Get response code)
+	 * @description zh - 获取响应码
+	 * @description en - Get response code
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:48:09
+	 * @throws java.io.IOException
+	 * @return int
+	 */
+	int responseCode() throws IOException;
+
+	/**
+	 * [异步等待响应头到达](Asynchronously wait for the response header to arrive)
+	 * @description zh - 异步等待响应头到达，默认在执行器中阻塞等待，非阻塞的传输引擎应覆盖此方法
+	 * @description en - Asynchronously wait for the response header to arrive, blocking on the executor by default, non blocking transports should override this method
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:50:12
+	 * @param executor 执行器
+	 * @return java.util.concurrent.CompletableFuture
+	 */
+	default CompletableFuture<HttpConnection> responseAsync(Executor executor) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				responseCode();
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+			return this;
+		}, executor);
+	}
+
+	/**
+	 * [获得字符集编码](Get character set encoding)
+	 * @description zh - 获得字符集编码
+	 * @description en - Get character set encoding
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:48:26
+	 * @return java.lang.String
+	 */
+	String getCharsetName();
+
+	/**
+	 * [获取字符集编码](Get character set encoding)
+	 * @description zh - 获取字符集编码
+	 * @description en - Get character set encoding
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:48:43
+	 * @return java.nio.charset.Charset
+	 */
+	default Charset getCharset() {
+		Charset charset = null;
+		final String charsetName = getCharsetName();
+		if (UrlTool.isNotBlank(charsetName)) {
+			try {
+				charset = Charset.forName(charsetName);
+			} catch (UnsupportedCharsetException e) {
+				// ignore
+			}
+		}
+		return charset;
+	}
+}
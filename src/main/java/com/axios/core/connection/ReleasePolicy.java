@@ -0,0 +1,98 @@
+package com.axios.core.connection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import com.axios.core.tool.io.BufferPool;
+
+/**
+ * [响应释放策略](Response release policy)
+ * @description zh - 响应释放策略：关闭响应时未读完的响应体剩余不多时在限定的字节数和时间内读完，连接交还传输层复用；剩余较多或长度未知时直接断开，避免为复用连接读取大量无用数据
+ * @description en - Response release policy: when a response is closed with a small unread remainder of the body it is drained within a bounded number of bytes and time and the connection is handed back to the transport for reuse; when the remainder is large or of unknown length the connection is disconnected at once, so no large amount of useless data is read just to reuse a connection
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 20:10:00
+ */
+public class ReleasePolicy {
+
+	/** 默认最多读完的字节数 */
+	public static final long DEFAULT_MAX_DRAIN_BYTES = 64 * 1024;
+	/** 默认最长读完的毫秒数 */
+	public static final long DEFAULT_MAX_DRAIN_MILLIS = 100;
+
+	/** 默认策略 */
+	public static final ReleasePolicy DEFAULT = new ReleasePolicy(DEFAULT_MAX_DRAIN_BYTES, DEFAULT_MAX_DRAIN_MILLIS);
+
+	/** 最多读完的字节数 */
+	private final long maxDrainBytes;
+	/** 最长读完的毫秒数 */
+	private final long maxDrainMillis;
+
+	/**
+	 * [创建响应释放策略](Create a response release policy)
+	 * @description zh - 创建响应释放策略，两个限制都为0时只复用已读完响应体的连接
+	 * @description en - Create a response release policy, when both limits are 0 only connections whose body has been read completely are reused
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:10:30
+	 * @param maxDrainBytes 最多读完的字节数
+	 * @param maxDrainMillis 最长读完的毫秒数
+	 * @return com.axios.core.connection.ReleasePolicy
+	 */
+	public static ReleasePolicy create(long maxDrainBytes, long maxDrainMillis) {
+		return new ReleasePolicy(maxDrainBytes, maxDrainMillis);
+	}
+
+	public ReleasePolicy(long maxDrainBytes, long maxDrainMillis) {
+		if (maxDrainBytes < 0 || maxDrainMillis < 0) {
+			throw new IllegalArgumentException("Drain limits must not be negative.");
+		}
+		this.maxDrainBytes = maxDrainBytes;
+		this.maxDrainMillis = maxDrainMillis;
+	}
+
+	public long getMaxDrainBytes() {
+		return this.maxDrainBytes;
+	}
+
+	public long getMaxDrainMillis() {
+		return this.maxDrainMillis;
+	}
+
+	/**
+	 * [读完响应体的剩余部分](Drain the rest of the response body)
+	 * @description zh - 在限定的字节数和时间内读完响应体的剩余部分，读到结尾时返回true，连接可以复用。剩余长度未知或超过限制时不读取直接返回false。时间只在两次读取之间检查，单次读取仍受读取超时限制
+	 * @description en - Drain the rest of the response body within the bounded number of bytes and time, and return true when the end is reached so the connection can be reused. When the remaining length is unknown or over the limit nothing is read and false is returned. The time is only checked between reads, a single read is still bounded by the read timeout
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:11:00
+	 * @param in 传输层的响应体流，未经解压
+	 * @param remaining 剩余的字节数，-1表示未知
+	 * @return boolean
+	 */
+	public boolean drain(InputStream in, long remaining) {
+		if (null == in || remaining < 0 || remaining > this.maxDrainBytes) {
+			return false;
+		}
+		final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.maxDrainMillis);
+		final BufferPool pool = BufferPool.getDefault();
+		final byte[] buffer = pool.acquire();
+		try {
+			long drained = 0;
+			int n;
+			// one read more than the remainder to see the end of the body
+			while ((n = in.read(buffer)) > -1) {
+				drained += n;
+				if (drained > this.maxDrainBytes || System.nanoTime() - deadline > 0) {
+					return false;
+				}
+			}
+			return true;
+		} catch (IOException e) {
+			return false;
+		} finally {
+			pool.release(buffer);
+		}
+	}
+}
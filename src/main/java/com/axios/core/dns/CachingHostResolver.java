@@ -0,0 +1,595 @@
+package com.axios.core.dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [带缓存的主机名解析器](Caching host name resolver)
+ * @description zh - 带缓存的主机名解析器：解析结果按固定有效期缓存，无法解析的主机在较短的有效期内直接失败；有效期过去四分之三后被访问时在后台刷新，过期后在允许的时间内仍返回旧地址并刷新，因此常用主机的请求不会等待解析。同一主机同时未命中时只解析一次。缓存的主机数有上限，另可为测试设置固定映射
+ * @description en - Caching host name resolver: resolved addresses are cached for a fixed time to live, and hosts that cannot be resolved fail directly within a shorter time to live; an entry accessed after three quarters of its time to live is refreshed in the background, and after expiry the old addresses are still returned for an allowed time while it is refreshed, so requests to frequently used hosts do not wait for a lookup. Concurrent misses of the same host are resolved only once. The number of cached hosts is bounded, and fixed overrides can be set for tests
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 20:48:30
+ */
+public class CachingHostResolver implements HostResolver {
+
+	/** 默认有效毫秒数 */
+	public static final long DEFAULT_TTL = 30000;
+	/** 默认否定缓存的有效毫秒数 */
+	public static final long DEFAULT_NEGATIVE_TTL = 5000;
+	/** 默认过期后仍可使用旧地址的毫秒数 */
+	public static final long DEFAULT_MAX_STALE = 30000;
+	/** 默认最大缓存的主机数 */
+	public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+	/** 下层解析器 */
+	private final HostResolver delegate;
+	/** 缓存，键为小写的主机名 */
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	/** 固定映射，键为小写的主机名 */
+	private final Map<String, InetAddress[]> overrides = new ConcurrentHashMap<>();
+	/** 正在进行的未命中解析 */
+	private final Map<String, CompletableFuture<Entry>> pending = new ConcurrentHashMap<>();
+	/** 有效纳秒数 */
+	private volatile long ttlNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_TTL);
+	/** 否定缓存的有效纳秒数 */
+	private volatile long negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_NEGATIVE_TTL);
+	/** 过期后仍可使用旧地址的纳秒数 */
+	private volatile long maxStaleNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_MAX_STALE);
+	/** 最大缓存的主机数 */
+	private volatile int maxEntries = DEFAULT_MAX_ENTRIES;
+	/** 后台刷新的执行器，null表示使用默认执行器 */
+	private volatile Executor executor;
+
+	/** 命中次数 */
+	private final LongAdder hits = new LongAdder();
+	/** 使用旧地址的次数 */
+	private final LongAdder staleHits = new LongAdder();
+	/** 命中否定缓存的次数 */
+	private final LongAdder negativeHits = new LongAdder();
+	/** 未命中次数 */
+	private final LongAdder misses = new LongAdder();
+	/** 后台刷新次数 */
+	private final LongAdder refreshes = new LongAdder();
+	/** 后台刷新失败次数 */
+	private final LongAdder refreshFailures = new LongAdder();
+	/** 实际解析次数 */
+	private final LongAdder lookups = new LongAdder();
+	/** 累计解析纳秒数 */
+	private final LongAdder totalLookupNanos = new LongAdder();
+	/** 最长解析纳秒数 */
+	private final LongAccumulator maxLookupNanos = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * [创建使用JDK解析的缓存解析器](Create a caching resolver resolving with the JDK)
+	 * @description zh - 创建使用JDK解析的缓存解析器
+	 * @description en - Create a caching resolver resolving with the JDK
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:49:00
+	 * @return com.axios.core.dns.CachingHostResolver
+	 */
+	public static CachingHostResolver create() {
+		return new CachingHostResolver(HostResolver.SYSTEM);
+	}
+
+	/**
+	 * [创建缓存指定解析器结果的解析器](Create a resolver caching the results of the given resolver)
+	 * @description zh - 创建缓存指定解析器结果的解析器
+	 * @description en - Create a resolver caching the results of the given resolver
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:49:30
+	 * @param delegate 下层解析器
+	 * @return com.axios.core.dns.CachingHostResolver
+	 */
+	public static CachingHostResolver create(HostResolver delegate) {
+		return new CachingHostResolver(delegate);
+	}
+
+	public CachingHostResolver(HostResolver delegate) {
+		if (null == delegate) {
+			throw new IllegalArgumentException("Delegate resolver must not be null.");
+		}
+		this.delegate = delegate;
+	}
+
+	/**
+	 * [设置有效期](Set the time to live)
+	 * @description zh - 设置解析结果的有效毫秒数，为0时不缓存。只对之后解析的结果生效
+	 * @description en - Set the milliseconds resolved addresses stay valid, 0 means no caching. It only takes effect for results resolved afterwards
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:50:00
+	 * @param milliseconds 毫秒数
+	 * @return com.axios.core.dns.CachingHostResolver
+	 */
+	public CachingHostResolver setTtl(long milliseconds) {
+		this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, milliseconds));
+		return this;
+	}
+
+	/**
+	 * [设置否定缓存的有效期](Set the time to live of negative entries)
+	 * @description zh - 设置无法解析的结果的有效毫秒数，为0时不缓存。只对之后解析的结果生效
+	 * @description en - Set the milliseconds a failed lookup stays valid, 0 means no caching. It only takes effect for results resolved afterwards
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:50:30
+	 * @param milliseconds 毫秒数
+	 * @return com.axios.core.dns.CachingHostResolver
+	 */
+	public CachingHostResolver setNegativeTtl(long milliseconds) {
+		this.negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, milliseconds));
+		return this;
+	}
+
+	/**
+	 * [设置过期后仍可使用旧地址的时间](Set how long old addresses may be used after expiry)
+	 * @description zh - 设置过期后在后台刷新期间仍可使用旧地址的毫秒数，为0时过期后等待解析
+	 * @description en - Set the milliseconds old addresses may still be used after expiry while being refreshed in the background, 0 means waiting for a lookup after expiry
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:51:00
+	 * @param milliseconds 毫秒数
+	 * @return com.axios.core.dns.CachingHostResolver
+	 */
+	public CachingHostResolver setMaxStale(long milliseconds) {
+		this.maxStaleNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, milliseconds));
+		return this;
+	}
+
+	/**
+	 * [设置最大缓存的主机数](Set the maximum number of cached hosts)
+	 * @description zh - 设置最大缓存的主机数，超出时先移除已无法使用的，再移除最早过期的
+	 * @description en - Set the maximum number of cached hosts, when exceeded the unusable entries are removed first and then the ones expiring earliest
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:51:30
+	 * @param maxEntries 最大主机数
+	 * @return com.axios.core.dns.CachingHostResolver
+	 */
+	public CachingHostResolver setMaxEntries(int maxEntries) {
+		if (maxEntries <= 0) {
+			throw new IllegalArgumentException("Max entries must be greater than 0.");
+		}
+		this.maxEntries = maxEntries;
+		return this;
+	}
+
+	/**
+	 * [设置后台刷新的执行器](Set the executor of background refreshes)
+	 * @description zh - 设置后台刷新的执行器，null表示使用默认的两个守护线程
+	 * @description en - Set the executor of background refreshes, null means the default two daemon threads are used
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:52:00
+	 * @param executor 执行器
+	 * @return com.axios.core.dns.CachingHostResolver
+	 */
+	public CachingHostResolver setExecutor(Executor executor) {
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * [设置固定映射](Set a fixed override)
+	 * @description zh - 设置主机名的固定映射，优先于缓存和下层解析器，主要用于测试
+	 * @description en - Set a fixed override of a host name, which takes precedence over the cache and the underlying resolver, mainly for tests
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:52:30
+	 * @param host 主机名
+	 * @param addresses 地址
+	 * @return com.axios.core.dns.CachingHostResolver
+	 */
+	public CachingHostResolver override(String host, InetAddress... addresses) {
+		if (null == addresses || 0 == addresses.length) {
+			throw new IllegalArgumentException("Override of [" + host + "] needs at least one address.");
+		}
+		this.overrides.put(key(host), addresses.clone());
+		return this;
+	}
+
+	/**
+	 * [移除固定映射](Remove a fixed override)
+	 * @description zh - 移除主机名的固定映射
+	 * @description en - Remove the fixed override of a host name
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:53:00
+	 * @param host 主机名
+	 * @return com.axios.core.dns.CachingHostResolver
+	 */
+	public CachingHostResolver removeOverride(String host) {
+		this.overrides.remove(key(host));
+		return this;
+	}
+
+	/**
+	 * [清空缓存](Clear the cache)
+	 * @description zh - 清空缓存，不影响固定映射
+	 * @description en - Clear the cache, the fixed overrides are kept
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:53:30
+	 */
+	public void clear() {
+		this.entries.clear();
+	}
+
+	/**
+	 * [获取统计信息](Get statistics)
+	 * @description zh - 获取统计信息
+	 * @description en - Get statistics
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:54:00
+	 * @return com.axios.core.dns.ResolverStats
+	 */
+	public ResolverStats getStats() {
+		return new ResolverStats(this.entries.size(), this.hits.sum(), this.staleHits.sum(), this.negativeHits.sum(),
+				this.misses.sum(), this.refreshes.sum(), this.refreshFailures.sum(), this.lookups.sum(),
+				this.totalLookupNanos.sum(), this.maxLookupNanos.get());
+	}
+
+	@Override
+	public InetAddress[] resolve(String host) throws UnknownHostException {
+		if (null == host || host.isEmpty() || isLiteral(host)) {
+			return this.delegate.resolve(host);
+		}
+		final String key = key(host);
+		final InetAddress[] cached = cached(key, host);
+		if (null != cached) {
+			return cached;
+		}
+		this.misses.increment();
+		final Entry resolved = lookup(key);
+		if (null == resolved.addresses) {
+			throw new UnknownHostException(host);
+		}
+		return resolved.addresses.clone();
+	}
+
+	/**
+	 * [异步解析主机名](Resolve a host name asynchronously)
+	 * @description zh - 异步解析主机名：固定映射、有效期内和过期后仍可使用的缓存项以及否定缓存直接返回已完成的Future，只有未命中时在执行器中解析，同一主机同时未命中时共用一次解析
+	 * @description en - Resolve a host name asynchronously: fixed overrides, entries within their time to live or still usable after expiry and negative entries return a completed future directly, only a miss is resolved on the executor, and concurrent misses of the same host share one lookup
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:08:30
+	 * @param host 主机名或IP字面量
+	 * @param executor 执行未命中解析的执行器
+	 * @return java.util.concurrent.CompletableFuture
+	 */
+	@Override
+	public CompletableFuture<InetAddress[]> resolveAsync(String host, Executor executor) {
+		if (null == host || host.isEmpty() || isLiteral(host)) {
+			return this.delegate.resolveAsync(host, executor);
+		}
+		final String key = key(host);
+		try {
+			final InetAddress[] cached = cached(key, host);
+			if (null != cached) {
+				return CompletableFuture.completedFuture(cached);
+			}
+		} catch (UnknownHostException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+		this.misses.increment();
+		return lookupAsync(key, executor).thenApply(entry -> {
+			if (null == entry.addresses) {
+				throw new CompletionException(new UnknownHostException(host));
+			}
+			return entry.addresses.clone();
+		});
+	}
+
+	@Override
+	public String toString() {
+		return "CachingHostResolver[" + this.delegate + ", " + getStats() + "]";
+	}
+
+	/** --------------- private --------------- */
+
+	/**
+	 * [从缓存中获取](Get from the cache)
+	 * @description zh - 从固定映射和缓存中获取地址，有效期内需要刷新或过期后仍可使用时在后台刷新；未命中时返回null
+	 * @description en - Get the addresses from the fixed overrides and the cache, refreshing in the background when due within the time to live or still usable after expiry; null on a miss
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:09:00
+	 * @param key 小写的主机名
+	 * @param host 主机名
+	 * @return java.net.InetAddress[]
+	 * @throws UnknownHostException 命中否定缓存时
+	 */
+	private InetAddress[] cached(String key, String host) throws UnknownHostException {
+		final InetAddress[] override = this.overrides.get(key);
+		if (null != override) {
+			this.hits.increment();
+			return override.clone();
+		}
+		final long now = System.nanoTime();
+		final Entry entry = this.entries.get(key);
+		if (null == entry) {
+			return null;
+		}
+		if (now - entry.expiresAt < 0) {
+			if (null == entry.addresses) {
+				this.negativeHits.increment();
+				throw new UnknownHostException(host);
+			}
+			this.hits.increment();
+			if (now - entry.refreshAt >= 0) {
+				refresh(key, entry);
+			}
+			return entry.addresses.clone();
+		}
+		if (null != entry.addresses && now - entry.expiresAt < this.maxStaleNanos) {
+			this.staleHits.increment();
+			// after a failed refresh refreshAt is pushed back, so stale hits do not query again on every call
+			if (now - entry.refreshAt >= 0) {
+				refresh(key, entry);
+			}
+			return entry.addresses.clone();
+		}
+		return null;
+	}
+
+	/**
+	 * [未命中时解析](Look up on a miss)
+	 * @description zh - 未命中时解析并写入缓存，同一主机同时未命中时等待已在进行的解析
+	 * @description en - Look up on a miss and write the result to the cache, concurrent misses of the same host wait for the lookup already in progress
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:54:30
+	 * @param key 小写的主机名
+	 * @return com.axios.core.dns.CachingHostResolver.Entry
+	 */
+	private Entry lookup(String key) {
+		final CompletableFuture<Entry> future = new CompletableFuture<>();
+		final CompletableFuture<Entry> running = this.pending.putIfAbsent(key, future);
+		if (null != running) {
+			try {
+				return running.join();
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+			}
+		}
+		try {
+			final Entry entry = query(key);
+			future.complete(entry);
+			return entry;
+		} catch (RuntimeException e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			this.pending.remove(key, future);
+		}
+	}
+
+	/**
+	 * [未命中时异步解析](Look up asynchronously on a miss)
+	 * @description zh - 未命中时在执行器中解析并写入缓存，同一主机同时未命中时共用已在进行的解析
+	 * @description en - Look up on the executor on a miss and write the result to the cache, concurrent misses of the same host share the lookup already in progress
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:09:30
+	 * @param key 小写的主机名
+	 * @param executor 执行器
+	 * @return java.util.concurrent.CompletableFuture
+	 */
+	private CompletableFuture<Entry> lookupAsync(String key, Executor executor) {
+		final CompletableFuture<Entry> future = new CompletableFuture<>();
+		final CompletableFuture<Entry> running = this.pending.putIfAbsent(key, future);
+		if (null != running) {
+			return running;
+		}
+		try {
+			executor.execute(() -> {
+				try {
+					future.complete(query(key));
+				} catch (RuntimeException e) {
+					future.completeExceptionally(e);
+				} finally {
+					this.pending.remove(key, future);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			this.pending.remove(key, future);
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	/**
+	 * [后台刷新](Refresh in the background)
+	 * @description zh - 在后台刷新一个仍可使用的缓存项，同一项同时只刷新一次；失败时保留旧地址，在否定缓存的有效期后再次尝试
+	 * @description en - Refresh an entry that is still usable in the background, at most once at a time per entry; on failure the old addresses are kept and it is tried again after the negative time to live
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:55:00
+	 * @param key 小写的主机名
+	 * @param entry 缓存项
+	 */
+	private void refresh(String key, Entry entry) {
+		if (false == entry.refreshing.compareAndSet(false, true)) {
+			return;
+		}
+		this.refreshes.increment();
+		try {
+			getExecutor().execute(() -> {
+				boolean refreshed;
+				try {
+					refreshed = null != query(key).addresses;
+				} catch (RuntimeException e) {
+					refreshed = false;
+				}
+				if (false == refreshed) {
+					this.refreshFailures.increment();
+					// the negative result was not stored over the usable entry, only retry later
+					entry.refreshAt = System.nanoTime() + this.negativeTtlNanos;
+					entry.refreshing.set(false);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			entry.refreshing.set(false);
+		}
+	}
+
+	/**
+	 * [调用下层解析器](Call the underlying resolver)
+	 * @description zh - 调用下层解析器并记录耗时，结果写入缓存。无法解析时若缓存中仍有可使用的地址则不覆盖
+	 * @description en - Call the underlying resolver, record the time taken and write the result to the cache. When it cannot be resolved a cached entry that is still usable is not overwritten
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:55:30
+	 * @param key 小写的主机名
+	 * @return com.axios.core.dns.CachingHostResolver.Entry
+	 */
+	private Entry query(String key) {
+		final long start = System.nanoTime();
+		InetAddress[] addresses;
+		try {
+			addresses = this.delegate.resolve(key);
+			if (null != addresses && 0 == addresses.length) {
+				addresses = null;
+			}
+		} catch (UnknownHostException e) {
+			addresses = null;
+		} finally {
+			final long elapsed = System.nanoTime() - start;
+			this.lookups.increment();
+			this.totalLookupNanos.add(elapsed);
+			this.maxLookupNanos.accumulate(elapsed);
+		}
+		final long now = System.nanoTime();
+		if (null == addresses) {
+			final Entry entry = new Entry(null, now + this.negativeTtlNanos, now + this.negativeTtlNanos);
+			final Entry cached = this.entries.get(key);
+			final boolean usable = null != cached && null != cached.addresses && now - cached.expiresAt < this.maxStaleNanos;
+			if (false == usable && this.negativeTtlNanos > 0) {
+				put(key, entry);
+			}
+			return entry;
+		}
+		final long ttl = this.ttlNanos;
+		final Entry entry = new Entry(addresses, now + ttl, now + ttl - (ttl >> 2));
+		if (ttl > 0) {
+			put(key, entry);
+		}
+		return entry;
+	}
+
+	private void put(String key, Entry entry) {
+		this.entries.put(key, entry);
+		if (this.entries.size() > this.maxEntries) {
+			evict();
+		}
+	}
+
+	private void evict() {
+		final long now = System.nanoTime();
+		final long maxStale = this.maxStaleNanos;
+		this.entries.values().removeIf(entry -> now - entry.expiresAt >= (null == entry.addresses ? 0 : maxStale));
+		while (this.entries.size() > this.maxEntries) {
+			Map.Entry<String, Entry> earliest = null;
+			for (Map.Entry<String, Entry> candidate : this.entries.entrySet()) {
+				if (null == earliest || candidate.getValue().expiresAt - earliest.getValue().expiresAt < 0) {
+					earliest = candidate;
+				}
+			}
+			if (null == earliest) {
+				break;
+			}
+			this.entries.remove(earliest.getKey(), earliest.getValue());
+		}
+	}
+
+	private Executor getExecutor() {
+		final Executor custom = this.executor;
+		return null == custom ? RefreshExecutor.INSTANCE : custom;
+	}
+
+	private static String key(String host) {
+		return host.toLowerCase(Locale.ROOT);
+	}
+
+	private static boolean isLiteral(String host) {
+		// IPv6 literals contain colons, IPv4 literals only digits and dots
+		if (host.indexOf(':') >= 0) {
+			return true;
+		}
+		for (int i = 0; i < host.length(); i++) {
+			final char c = host.charAt(i);
+			if ('.' != c && (c < '0' || c > '9')) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * [缓存项](Cache entry)
+	 * @description zh - 缓存项，地址为null表示无法解析
+	 * @description en - Cache entry, null addresses mean the host cannot be resolved
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:56:00
+	 */
+	private static final class Entry {
+
+		/** 地址 */
+		final InetAddress[] addresses;
+		/** 过期时间 */
+		final long expiresAt;
+		/** 开始后台刷新的时间 */
+		volatile long refreshAt;
+		/** 是否正在刷新 */
+		final AtomicBoolean refreshing = new AtomicBoolean();
+
+		Entry(InetAddress[] addresses, long expiresAt, long refreshAt) {
+			this.addresses = addresses;
+			this.expiresAt = expiresAt;
+			this.refreshAt = refreshAt;
+		}
+	}
+
+	/**
+	 * [默认的后台刷新执行器，首次使用时创建](Default background refresh executor, created on first use)
+	 * @description zh - 默认的后台刷新执行器，两个守护线程，空闲时退出，队列满时放弃刷新
+	 * @description en - Default background refresh executor, two daemon threads that exit when idle, and refreshes are dropped when the queue is full
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:56:30
+	 */
+	private static final class RefreshExecutor {
+
+		private static final AtomicInteger SEQUENCE = new AtomicInteger();
+		private static final ThreadPoolExecutor INSTANCE = new ThreadPoolExecutor(2, 2, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(1024), runnable -> {
+			final Thread thread = new Thread(runnable, "axios-dns-" + SEQUENCE.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		static {
+			INSTANCE.allowCoreThreadTimeOut(true);
+		}
+	}
+}
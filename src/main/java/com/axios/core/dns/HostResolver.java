@@ -0,0 +1,57 @@
+package com.axios.core.dns;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * [主机名解析器](Host name resolver)
+ * @description zh - 主机名解析器，传输引擎建立连接前通过它把主机名解析为地址，可替换为带缓存或固定映射的实现
+ * @description en - Host name resolver, the transport resolves host names into addresses through it before connecting, and it can be replaced by implementations with a cache or fixed mappings
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 20:42:00
+ */
+@FunctionalInterface
+public interface HostResolver {
+
+	/** 使用JDK解析，受JDK全局的缓存策略控制 */
+	HostResolver SYSTEM = InetAddress::getAllByName;
+
+	/**
+	 * [解析主机名](Resolve a host name)
+	 * @description zh - 解析主机名，返回的数组至少有一个地址，调用方可以修改
+	 * @description en - Resolve a host name, the returned array has at least one address and may be modified by the caller
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:42:30
+	 * @param host 主机名或IP字面量
+	 * @return java.net.InetAddress[]
+	 * @throws UnknownHostException 无法解析时
+	 */
+	InetAddress[] resolve(String host) throws UnknownHostException;
+
+	/**
+	 * [异步解析主机名](Resolve a host name asynchronously)
+	 * @description zh - 异步解析主机名，调用线程不会阻塞。默认在执行器中调用 resolve，能立即得到结果的实现（如缓存命中）应直接返回已完成的Future。无法解析时以UnknownHostException异常完成
+	 * @description en - Resolve a host name asynchronously without blocking the calling thread. By default resolve is called on the executor, implementations that can answer at once (such as a cache hit) should return a completed future directly. It completes exceptionally with an UnknownHostException when the host cannot be resolved
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:08:00
+	 * @param host 主机名或IP字面量
+	 * @param executor 执行可能阻塞的解析的执行器
+	 * @return java.util.concurrent.CompletableFuture
+	 */
+	default CompletableFuture<InetAddress[]> resolveAsync(String host, Executor executor) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return resolve(host);
+			} catch (UnknownHostException e) {
+				throw new CompletionException(e);
+			}
+		}, executor);
+	}
+
+}
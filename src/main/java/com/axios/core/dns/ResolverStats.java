@@ -0,0 +1,189 @@
+package com.axios.core.dns;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [解析器统计信息](Resolver statistics)
+ * @description zh - 带缓存的主机名解析器的统计信息
+ * @description en - Statistics of the caching host name resolver
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 20:43:00
+ */
+public final class ResolverStats implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/** 缓存的主机数 */
+	private final int size;
+	/** 命中次数 */
+	private final long hits;
+	/** 过期后仍使用旧地址的次数 */
+	private final long staleHits;
+	/** 命中否定缓存的次数 */
+	private final long negativeHits;
+	/** 未命中次数，即请求等待解析的次数 */
+	private final long misses;
+	/** 后台刷新次数 */
+	private final long refreshes;
+	/** 后台刷新失败次数 */
+	private final long refreshFailures;
+	/** 实际解析次数 */
+	private final long lookups;
+	/** 累计解析纳秒数 */
+	private final long totalLookupNanos;
+	/** 最长解析纳秒数 */
+	private final long maxLookupNanos;
+
+	public ResolverStats(int size, long hits, long staleHits, long negativeHits, long misses, long refreshes, long refreshFailures,
+			long lookups, long totalLookupNanos, long maxLookupNanos) {
+		this.size = size;
+		this.hits = hits;
+		this.staleHits = staleHits;
+		this.negativeHits = negativeHits;
+		this.misses = misses;
+		this.refreshes = refreshes;
+		this.refreshFailures = refreshFailures;
+		this.lookups = lookups;
+		this.totalLookupNanos = totalLookupNanos;
+		this.maxLookupNanos = maxLookupNanos;
+	}
+
+	/**
+	 * [获取缓存的主机数](Get the number of cached hosts)
+	 * @description zh - 获取缓存的主机数，包括否定缓存
+	 * @description en - Get the number of cached hosts, including negative entries
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:43:30
+	 * @return int
+	 */
+	public int getSize() {
+		return this.size;
+	}
+
+	/**
+	 * [获取命中次数](Get the number of hits)
+	 * @description zh - 获取在有效期内命中的次数，包括固定映射
+	 * @description en - Get the number of hits within the time to live, including fixed overrides
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:44:00
+	 * @return long
+	 */
+	public long getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * [获取使用旧地址的次数](Get the number of stale hits)
+	 * @description zh - 获取过期后在刷新完成前仍使用旧地址的次数
+	 * @description en - Get the number of times the old addresses were still used after expiry until the refresh completed
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:44:30
+	 * @return long
+	 */
+	public long getStaleHits() {
+		return this.staleHits;
+	}
+
+	/**
+	 * [获取命中否定缓存的次数](Get the number of negative hits)
+	 * @description zh - 获取命中否定缓存的次数
+	 * @description en - Get the number of negative hits
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:45:00
+	 * @return long
+	 */
+	public long getNegativeHits() {
+		return this.negativeHits;
+	}
+
+	/**
+	 * [获取未命中次数](Get the number of misses)
+	 * @description zh - 获取未命中次数，即请求等待解析的次数
+	 * @description en - Get the number of misses, that is, the number of times a request waited for a lookup
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:45:30
+	 * @return long
+	 */
+	public long getMisses() {
+		return this.misses;
+	}
+
+	/**
+	 * [获取后台刷新次数](Get the number of background refreshes)
+	 * @description zh - 获取后台刷新次数
+	 * @description en - Get the number of background refreshes
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:46:00
+	 * @return long
+	 */
+	public long getRefreshes() {
+		return this.refreshes;
+	}
+
+	/**
+	 * [获取后台刷新失败次数](Get the number of failed background refreshes)
+	 * @description zh - 获取后台刷新失败次数
+	 * @description en - Get the number of failed background refreshes
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:46:30
+	 * @return long
+	 */
+	public long getRefreshFailures() {
+		return this.refreshFailures;
+	}
+
+	/**
+	 * [获取实际解析次数](Get the number of lookups)
+	 * @description zh - 获取调用下层解析器的次数，包括后台刷新
+	 * @description en - Get the number of calls to the underlying resolver, including background refreshes
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:47:00
+	 * @return long
+	 */
+	public long getLookups() {
+		return this.lookups;
+	}
+
+	/**
+	 * [获取平均解析毫秒数](Get the average lookup milliseconds)
+	 * @description zh - 获取平均解析毫秒数
+	 * @description en - Get the average lookup milliseconds
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:47:30
+	 * @return double
+	 */
+	public double getAverageLookupMillis() {
+		return 0 == this.lookups ? 0 : (double) this.totalLookupNanos / this.lookups / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	/**
+	 * [获取最长解析毫秒数](Get the maximum lookup milliseconds)
+	 * @description zh - 获取最长解析毫秒数
+	 * @description en - Get the maximum lookup milliseconds
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:48:00
+	 * @return long
+	 */
+	public long getMaxLookupMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(this.maxLookupNanos);
+	}
+
+	@Override
+	public String toString() {
+		return "ResolverStats[size=" + this.size + ", hits=" + this.hits + ", staleHits=" + this.staleHits
+				+ ", negativeHits=" + this.negativeHits + ", misses=" + this.misses + ", refreshes=" + this.refreshes
+				+ ", refreshFailures=" + this.refreshFailures + ", lookups=" + this.lookups
+				+ ", averageLookupMillis=" + getAverageLookupMillis() + ", maxLookupMillis=" + getMaxLookupMillis() + "]";
+	}
+}
@@ -0,0 +1,253 @@
+package com.axios.core.http;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.axios.core.tool.file.FileTool;
+import com.axios.exception.IORuntimeException;
+
+/**
+ * [分段下载的进度日志](Progress journal of a segmented download)
+ * @description zh - 分段下载的进度日志：记录地址、校验器（ETag或Last-Modified）、总长度和每段已写入的位置，与临时文件放在一起。每写入一定量的数据以及下载失败时保存，恢复时只有地址、校验器和长度都一致才继续。没有日志文件时只在内存中记录进度
+ * @description en - Progress journal of a segmented download: it records the URL, the validator (ETag or Last-Modified), the total length and the written position of every segment, and is kept next to the temporary file. It is saved after a certain amount of data and when the download fails, and a resume only continues when the URL, the validator and the length all match. Without a journal file the progress is only kept in memory
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 20:05:00
+ */
+final class DownloadJournal {
+
+	/** 两次保存之间至少写入的字节数 */
+	private static final long SAVE_INTERVAL = 4 * 1024 * 1024;
+
+	/** 日志文件，null表示不保存 */
+	private final File file;
+	/** 下载地址 */
+	private final String url;
+	/** 校验器 */
+	private final String validator;
+	/** 总长度 */
+	private final long length;
+	/** 各段 */
+	final Segment[] segments;
+	/** 保存锁 */
+	private final ReentrantLock lock = new ReentrantLock();
+	/** 上次保存后写入的字节数 */
+	private long unsaved;
+	/** 临时文件的写入通道，保存前先落盘 */
+	private volatile FileChannel channel;
+
+	private DownloadJournal(File file, String url, String validator, long length, Segment[] segments) {
+		this.file = file;
+		this.url = url;
+		this.validator = validator;
+		this.length = length;
+		this.segments = segments;
+	}
+
+	/**
+	 * [创建新的进度日志](Create a new progress journal)
+	 * @description zh - 将总长度平均切分为指定段数，创建新的进度日志
+	 * @description en - Split the total length evenly into the given number of segments and create a new progress journal
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:05:30
+	 * @param file 日志文件，null表示不保存
+	 * @param url 下载地址
+	 * @param validator 校验器
+	 * @param length 总长度
+	 * @param count 段数
+	 * @return com.axios.core.http.DownloadJournal
+	 */
+	static DownloadJournal create(File file, String url, String validator, long length, int count) {
+		final long size = (length + count - 1) / count;
+		final Segment[] segments = new Segment[count];
+		for (int i = 0; i < count; i++) {
+			final long start = i * size;
+			segments[i] = new Segment(start, Math.min(length, start + size) - 1, start);
+		}
+		return new DownloadJournal(file, url, validator, length, segments);
+	}
+
+	/**
+	 * [加载已有的进度日志](Load an existing progress journal)
+	 * @description zh - 加载已有的进度日志，日志不存在、无法解析或与当前资源不一致时返回null
+	 * @description en - Load an existing progress journal, null is returned when the journal does not exist, cannot be parsed or does not match the current resource
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:06:00
+	 * @param file 日志文件
+	 * @param url 下载地址
+	 * @param validator 当前的校验器
+	 * @param length 当前的总长度
+	 * @return com.axios.core.http.DownloadJournal
+	 */
+	static DownloadJournal load(File file, String url, String validator, long length) {
+		if (null == validator || false == file.isFile()) {
+			return null;
+		}
+		final Properties properties = new Properties();
+		try (InputStream in = Files.newInputStream(file.toPath())) {
+			properties.load(in);
+			if (false == url.equals(properties.getProperty("url"))
+					|| false == validator.equals(properties.getProperty("validator"))
+					|| length != Long.parseLong(properties.getProperty("length", "-1"))) {
+				return null;
+			}
+			final String[] items = properties.getProperty("segments", "").split(",");
+			final Segment[] segments = new Segment[items.length];
+			for (int i = 0; i < items.length; i++) {
+				// start-end@position
+				final int dash = items[i].indexOf('-');
+				final int at = items[i].indexOf('@');
+				final long start = Long.parseLong(items[i].substring(0, dash));
+				final long end = Long.parseLong(items[i].substring(dash + 1, at));
+				final long position = Long.parseLong(items[i].substring(at + 1));
+				if (start > end || end >= length || position < start || position > end + 1) {
+					return null;
+				}
+				segments[i] = new Segment(start, end, position);
+			}
+			return new DownloadJournal(file, url, validator, length, segments);
+		} catch (IOException | RuntimeException e) {
+			// an unreadable journal only means starting over
+			return null;
+		}
+	}
+
+	/**
+	 * [是否保存到文件](Whether it is saved to a file)
+	 * @description zh - 是否保存到文件，不保存时下载失败无法续传
+	 * @description en - Whether it is saved to a file, a failed download cannot be resumed when it is not
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:06:15
+	 * @return boolean
+	 */
+	boolean isPersistent() {
+		return null != this.file;
+	}
+
+	/**
+	 * [关联临时文件的写入通道](Attach the write channel of the temporary file)
+	 * @description zh - 关联临时文件的写入通道，每次保存前先将其中的数据强制写入磁盘，日志记录的位置不会超过已落盘的数据
+	 * @description en - Attach the write channel of the temporary file, its data is forced to the disk before every save so the journal never records a position beyond the data on the disk
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:22:00
+	 * @param channel 写入通道，null表示取消关联
+	 */
+	void attach(FileChannel channel) {
+		this.channel = channel;
+	}
+
+	/**
+	 * [记录写入的数据量](Record the amount of data written)
+	 * @description zh - 记录写入的数据量，累计达到间隔时保存
+	 * @description en - Record the amount of data written, and save when the total reaches the interval
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:06:30
+	 * @param bytes 写入的字节数
+	 */
+	void advance(long bytes) {
+		if (null == this.file) {
+			return;
+		}
+		this.lock.lock();
+		try {
+			this.unsaved += bytes;
+			if (this.unsaved >= SAVE_INTERVAL) {
+				save();
+			}
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * [保存进度日志](Save the progress journal)
+	 * @description zh - 保存进度日志，先将已写入的数据落盘，再写入临时文件并替换，中途中断不会留下损坏或超前的日志
+	 * @description en - Save the progress journal, the written data is forced to the disk first, then the journal is written to a temporary file and replaced, so an interruption does not leave a broken or premature journal behind
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:07:00
+	 */
+	void save() {
+		if (null == this.file) {
+			return;
+		}
+		this.lock.lock();
+		try {
+			final StringBuilder items = new StringBuilder();
+			for (Segment segment : this.segments) {
+				if (items.length() > 0) {
+					items.append(',');
+				}
+				items.append(segment.start).append('-').append(segment.end).append('@').append(segment.position);
+			}
+			// the positions are read first, so everything they cover is forced below
+			final FileChannel data = this.channel;
+			if (null != data && data.isOpen()) {
+				data.force(false);
+			}
+			final Properties properties = new Properties();
+			properties.setProperty("url", this.url);
+			properties.setProperty("validator", this.validator);
+			properties.setProperty("length", String.valueOf(this.length));
+			properties.setProperty("segments", items.toString());
+			final File temp = new File(this.file.getPath() + ".tmp");
+			try (OutputStream out = Files.newOutputStream(temp.toPath())) {
+				properties.store(out, null);
+			}
+			Files.move(temp.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			this.unsaved = 0;
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * [删除进度日志](Delete the progress journal)
+	 * @description zh - 删除进度日志
+	 * @description en - Delete the progress journal
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:07:30
+	 */
+	void delete() {
+		FileTool.del(this.file);
+	}
+
+	/**
+	 * [下载的一段](One segment of the download)
+	 * @description zh - 下载的一段，position之前的数据已写入临时文件
+	 * @description en - One segment of the download, the data before position has been written to the temporary file
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:08:00
+	 */
+	static final class Segment {
+
+		/** 起始位置 */
+		final long start;
+		/** 结束位置，包含 */
+		final long end;
+		/** 已写入的位置 */
+		volatile long position;
+
+		Segment(long start, long end, long position) {
+			this.start = start;
+			this.end = end;
+			this.position = position;
+		}
+	}
+}
@@ -4,12 +4,11 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
-import com.axios.core.map.CaseInsensitiveMap;
+import com.axios.core.map.HeaderMap;
 import com.axios.core.tool.UrlTool;
 import com.axios.core.tool.http.HttpTool;
 import com.axios.header.RequestHeader;
@@ -36,9 +35,14 @@ public abstract class HttpBase<T> {
 	public static final String HTTP_1_1 = "HTTP/1.1";
 
 	/**
-	 * 存储头信息
+	 * HTTP/2，未指定传输引擎时使用共享的HTTP/2传输引擎
 	 */
-	protected Map<String, List<String>> headers = new HashMap<>();
+	public static final String HTTP_2 = "HTTP/2";
+
+	/**
+	 * 存储头信息，名称忽略大小写
+	 */
+	protected HeaderMap headers = new HeaderMap();
 
 	/**
 	 * 编码
@@ -66,17 +70,16 @@ public abstract class HttpBase<T> {
 	 * @return java.lang.String
 	 */
 	public String header(String name) {
-		final List<String> values = headerList(name);
-		if (HttpTool.isEmpty(values)) {
+		if (UrlTool.isBlank(name)) {
 			return null;
 		}
-		return values.get(0);
+		return this.headers.getFirst(name.trim());
 	}
 
 	/**
 	 * [根据name获取头信息列表](Get header information list according to name)
-	 * @description zh - 根据name获取头信息列表
-	 * @description en - Get header information list according to name
+	 * @description zh - 根据name获取头信息列表，返回可修改的副本，修改它不影响已设置的头信息
+	 * @description en - Get header information list according to name, a modifiable copy is returned and changing it does not affect the headers already set
 	 * @version V1.0
 	 * @author XiaoXunYao
 	 * @since 2021-11-19 16:54:00
@@ -87,8 +90,9 @@ public abstract class HttpBase<T> {
 		if (UrlTool.isBlank(name)) {
 			return null;
 		}
-		final CaseInsensitiveMap<String, List<String>> headersIgnoreCase = new CaseInsensitiveMap<>(this.headers);
-		return headersIgnoreCase.get(name.trim());
+		final List<String> values = this.headers.get(name.trim());
+		// the stored lists are immutable so that copies of the map can share them
+		return null == values ? null : new ArrayList<>(values);
 	}
 
 	/**
@@ -102,7 +106,7 @@ public abstract class HttpBase<T> {
 	 * @return java.lang.String
 	 */
 	public String header(RequestHeader name) {
-		return null == name ? null : header(name.toString());
+		return null == name ? null : this.headers.getFirst(name);
 	}
 
 	/**
@@ -165,14 +169,10 @@ public abstract class HttpBase<T> {
 	 */
 	public T header(String name, String value, boolean isOverride) {
 		if (null != name && null != value) {
-			final List<String> values = headers.get(name.trim());
-			if (isOverride || HttpTool.isEmpty(values)) {
-				final ArrayList<String> valueList = new ArrayList<>();
-				valueList.add(value);
-				headers.put(name.trim(), valueList);
-			} else {
-				values.add(value.trim());
-			}
+			final String key = name.trim();
+			// 只有追加到已有值时才去除空白
+			final boolean append = false == isOverride && false == HttpTool.isEmpty(headers.get(key));
+			headers.add(key, append ? value.trim() : value, isOverride);
 		}
 		return (T) this;
 	}
@@ -38,6 +38,39 @@ public class HttpDownloader {
 		return requestDownload(url, timeout).writeBody(targetFileOrDir, tempFileSuffix);
 	}
 
+	/**
+	 * [分段并行下载文件](Download a file in parallel segments)
+	 * @description zh - 分段并行下载文件，服务器不支持范围请求时退回单连接下载
+	 * @description en - Download a file in parallel segments, falling back to a single connection when the server does not support range requests
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:04:30
+	 * @param url 下载地址
+	 * @param targetFileOrDir 写出到的文件或目录
+	 * @param segments 分段数
+	 * @param timeout 超时
+	 * @return long
+	 */
+	public static long downloadFileSegmented(String url, File targetFileOrDir, int segments, int timeout) {
+		return SegmentedDownloader.create(url).setSegments(segments).setTimeout(timeout).download(targetFileOrDir);
+	}
+
+	/**
+	 * [断点续传下载文件](Download a file with resuming)
+	 * @description zh - 断点续传下载文件，失败时保留临时文件和进度日志，再次调用时从断点继续，完成后改名为目标文件
+	 * @description en - Download a file with resuming, the temporary file and the progress journal are kept after a failure and calling again continues from where it stopped, and it is renamed to the target file when finished
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:09:30
+	 * @param url 下载地址
+	 * @param targetFileOrDir 写出到的文件或目录
+	 * @param timeout 超时
+	 * @return long
+	 */
+	public static long downloadFileResumable(String url, File targetFileOrDir, int timeout) {
+		return SegmentedDownloader.create(url).setSegments(1).setResumable(true).setTimeout(timeout).download(targetFileOrDir);
+	}
+
 	public static File downloadForFile(String url, File targetFileOrDir, int timeout) {
 		return requestDownload(url, timeout).writeBodyForFile(targetFileOrDir);
 	}
@@ -3,13 +3,19 @@ package com.axios.core.http;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLSocketFactory;
 
+import com.axios.core.body.FormUrlEncodedBody;
 import com.axios.core.body.MultipartBody;
+import com.axios.core.body.RequestCompression;
+import com.axios.core.body.StreamingMode;
+import com.axios.core.cache.CacheEntry;
+import com.axios.core.cache.HttpCache;
+import com.axios.core.limit.Permit;
+import com.axios.core.limit.RequestLimiter;
 import com.axios.core.config.global.GlobalCookieManager;
 import com.axios.core.config.global.GlobalHeaders;
 import com.axios.core.config.global.HttpGlobalConfig;
-import com.axios.core.connection.Connection;
+import com.axios.core.connection.HttpConnection;
 import com.axios.core.http.url.UrlBuilder;
-import com.axios.core.http.url.UrlQuery;
 import com.axios.core.requestMethod.RequestMethod;
 import com.axios.core.resource.BytesResource;
 import com.axios.core.resource.FileResource;
@@ -18,6 +24,8 @@ import com.axios.core.resource.Resource;
 import com.axios.core.tool.UrlTool;
 import com.axios.core.tool.http.HttpTool;
 import com.axios.core.tool.io.IoTool;
+import com.axios.core.transport.Transport;
+import com.axios.core.transport.http2.Http2Transport;
 import com.axios.core.type.ContentType;
 import com.axios.exception.HttpException;
 import com.axios.exception.IORuntimeException;
@@ -31,13 +39,19 @@ import java.io.OutputStream;
 import java.net.CookieManager;
 import java.net.HttpCookie;
 import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
 import java.net.Proxy;
+import java.net.URL;
 import java.net.URLStreamHandler;
 import java.nio.charset.Charset;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 
 /**
  * [http请求类](HTTP request class)
@@ -49,6 +63,9 @@ import java.util.Map;
  */
 public class HttpRequest extends HttpBase<HttpRequest> {
 
+	/** 默认的Chunked块大小 */
+	private static final int DEFAULT_BLOCK_SIZE = 8192;
+
 	/** URL */
 	private UrlBuilder url;
 
@@ -61,7 +78,7 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 	/**
 	 * 请求前的拦截器，用于在请求前重新编辑请求
 	 */
-	private final HttpInterceptor.Interceptor interceptors = new HttpInterceptor.Interceptor();
+	private final HttpInterceptor.Interceptor interceptors;
 
 	/**
 	 * 默认连接超时
@@ -91,7 +108,7 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 	/**
 	 * 连接对象
 	 */
-	private Connection httpConnection;
+	private HttpConnection httpConnection;
 	/**
 	 * 是否禁用缓存
 	 */
@@ -109,9 +126,21 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 	 */
 	private int maxRedirectCount;
 	/**
-	 * Chuncked块大小，0或小于0表示不设置Chuncked模式
+	 * Chuncked块大小，0或小于0表示使用默认大小
 	 */
 	private int blockSize;
+	/**
+	 * 请求体的发送方式
+	 */
+	private StreamingMode streamingMode = StreamingMode.AUTO;
+	/**
+	 * 请求体压缩，null表示不压缩
+	 */
+	private RequestCompression compression;
+	/**
+	 * 资源请求体
+	 */
+	private Resource bodyResource;
 	/**
 	 * 代理
 	 */
@@ -125,6 +154,46 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 	 * SSLSocketFactory，用于HTTPS安全连接
 	 */
 	private SSLSocketFactory ssf;
+	/**
+	 * 传输引擎，null表示使用全局默认的传输引擎
+	 */
+	private Transport transport;
+	/**
+	 * 异步请求使用的执行器，null表示使用全局默认的执行器
+	 */
+	private Executor executor;
+	/**
+	 * 是否在虚拟线程中执行，null表示使用全局配置
+	 */
+	private Boolean virtualThreads;
+	/**
+	 * 响应缓存，null表示使用全局配置
+	 */
+	private HttpCache cache;
+	/**
+	 * 本次执行需要存入或失效的缓存，不涉及缓存时为null
+	 */
+	private HttpCache activeCache;
+	/**
+	 * 本次执行的缓存键
+	 */
+	private String cacheKey;
+	/**
+	 * 本次执行需要验证的过期缓存
+	 */
+	private CacheEntry staleEntry;
+	/**
+	 * 本次执行发起请求的时间
+	 */
+	private long requestTime;
+	/**
+	 * 请求限流器，null表示使用全局配置
+	 */
+	private RequestLimiter limiter;
+	/**
+	 * 本次执行持有的限流许可
+	 */
+	private Permit permit;
 
 	public HttpRequest(String url) {
 		this(UrlBuilder.ofHttp(url));
@@ -132,7 +201,40 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 
 	public HttpRequest(UrlBuilder url) {
 		this.url = url;
-		this.header(GlobalHeaders.INSTANCE.headers);
+		this.headers = GlobalHeaders.INSTANCE.headers.copy();
+		this.interceptors = new HttpInterceptor.Interceptor();
+	}
+
+	/**
+	 * [由请求模板生成请求](Stamp out a request from a request template)
+	 * @description zh - 由请求模板生成请求，模板中已解析的内容直接复用，拦截器链在模板生成的请求之间共享
+	 * @description en - Stamp out a request from a request template, the content already resolved by the template is reused directly, and the interceptor chain is shared between requests of the template
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:35:30
+	 * @param template 请求模板
+	 * @param url 已展开的地址
+	 */
+	HttpRequest(RequestTemplate template, UrlBuilder url) {
+		this.url = url;
+		this.headers = template.headers();
+		this.interceptors = template.interceptors;
+		this.method = template.method;
+		this.charset = template.charset;
+		this.httpVersion = template.httpVersion;
+		this.connectionTimeout = template.connectionTimeout;
+		this.readTimeout = template.readTimeout;
+		this.maxRedirectCount = template.maxRedirectCount;
+		this.streamingMode = template.streamingMode;
+		this.blockSize = template.blockSize;
+		this.compression = template.compression;
+		this.proxy = template.proxy;
+		this.hostnameVerifier = template.hostnameVerifier;
+		this.ssf = template.ssf;
+		this.transport = template.transport;
+		this.executor = template.executor;
+		this.cache = template.cache;
+		this.limiter = template.limiter;
 	}
 
 	public HttpResponse execute() {
@@ -159,10 +261,52 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 		return this;
 	}
 
+	/**
+	 * [以流模式执行请求](Execute the request in streaming mode)
+	 * @description zh - 以流模式执行请求，等同于execute(true)：响应体留在连接上，不读入内存也不存入缓存，通过 bodyStream、bodyChannel 或 bodyChunks 读取一次，读取后需关闭响应
+	 * @description en - Execute the request in streaming mode, the same as execute(true): the response body stays on the connection, it is neither read into memory nor stored in the cache, it is read once through bodyStream, bodyChannel or bodyChunks, and the response must be closed after reading
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:24:05
+	 * @return com.axios.response.HttpResponse
+	 */
 	public HttpResponse executeAsync() {
 		return this.execute(true);
 	}
 
+	/**
+	 * [异步执行请求](Execute the request asynchronously)
+	 * @description zh - 异步执行请求，连接、发送和读取响应都不阻塞调用线程，响应在执行器中完成并已读取响应体
+	 * @description en - Execute the request asynchronously, connecting, sending and reading the response do not block the calling thread, and the response is completed on the executor with the body already read
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:55:20
+	 * @return java.util.concurrent.CompletableFuture
+	 */
+	public CompletableFuture<HttpResponse> executeAsyncFuture() {
+		if (isVirtualThreads()) {
+			final HttpInterceptor.Interceptor interceptors = this.interceptors;
+			return CompletableFuture.supplyAsync(() -> doExecute(false, interceptors),
+					UrlTool.defaultIfNull(this.executor, HttpGlobalConfig.getVirtualThreadExecutor()));
+		}
+		return doExecuteAsync(UrlTool.defaultIfNull(this.executor, HttpGlobalConfig.getExecutor()), this.interceptors);
+	}
+
+	/**
+	 * [异步执行请求，完成后回调](Execute the request asynchronously and call back when completed)
+	 * @description zh - 异步执行请求，完成后回调，失败时响应为null且异常为原始异常
+	 * @description en - Execute the request asynchronously and call back when completed, on failure the response is null and the exception is the original exception
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:55:58
+	 * @param callback 回调
+	 * @return java.util.concurrent.CompletableFuture
+	 */
+	public CompletableFuture<HttpResponse> executeAsyncFuture(BiConsumer<? super HttpResponse, ? super Throwable> callback) {
+		return executeAsyncFuture().whenComplete((response, e) ->
+				callback.accept(response, (e instanceof CompletionException && null != e.getCause()) ? e.getCause() : e));
+	}
+
 	/**
 	 * [设置全局默认的连接和读取超时时长](Set the global default connection and read timeout)
 	 * @description zh - 设置全局默认的连接和读取超时时长
@@ -429,6 +573,52 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 		return this;
 	}
 
+	/**
+	 * [设置请求体的发送方式](Set how the request body is sent)
+	 * @description zh - 设置请求体的发送方式，默认长度已知时以固定长度流式发送，否则分块发送
+	 * @description en - Set how the request body is sent, by default it is streamed with a fixed length when the length is known and chunked otherwise
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:53:30
+	 * @param streamingMode 发送方式
+	 * @return com.axios.core.http.HttpRequest
+	 */
+	public HttpRequest setStreamingMode(StreamingMode streamingMode) {
+		this.streamingMode = null == streamingMode ? StreamingMode.AUTO : streamingMode;
+		return this;
+	}
+
+	/**
+	 * [设置请求体压缩](Set the request body compression)
+	 * @description zh - 设置请求体压缩，null表示不压缩。长度达到阈值的请求体边压缩边写入连接并分块发送；multipart请求体和已设置Content-Encoding的请求体不压缩，multipart的单个部分可使用GzipResource压缩
+	 * @description en - Set the request body compression, null means no compression. Request bodies whose length reaches the threshold are compressed while being written to the connection and sent chunked; multipart bodies and bodies that already have a Content-Encoding are not compressed, single parts of a multipart body can be compressed with GzipResource
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:34:00
+	 * @param compression 请求体压缩
+	 * @return com.axios.core.http.HttpRequest
+	 */
+	public HttpRequest setCompression(RequestCompression compression) {
+		this.compression = compression;
+		return this;
+	}
+
+	/**
+	 * [采用分块方式上传数据](Upload data in chunked mode)
+	 * @description zh - 总是以分块方式上传数据，无需本地缓存数据
+	 * @description en - Always upload data in chunked mode without local cache data
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:54:00
+	 * @param blockSize 块大小（bytes数），0或小于0表示使用默认大小
+	 * @return com.axios.core.http.HttpRequest
+	 */
+	public HttpRequest setChunkedStreamingMode(int blockSize) {
+		this.blockSize = blockSize;
+		this.streamingMode = StreamingMode.CHUNKED;
+		return this;
+	}
+
 	/**
 	 * [获取 Connection](get Connection)
 	 * @description zh - 获取 Connection
@@ -436,12 +626,87 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 	 * @version V1.0
 	 * @author XiaoXunYao
 	 * @since 2021-11-26 19:56:07
-	 * @return com.axios.core.connection.Connection
+	 * @return com.axios.core.connection.HttpConnection
 	 */
-	public Connection getConnection() {
+	public HttpConnection getConnection() {
 		return this.httpConnection;
 	}
 
+	/**
+	 * [设置本次请求使用的传输引擎](Set the transport used by this request)
+	 * @description zh - 设置本次请求使用的传输引擎，null表示使用全局默认的传输引擎
+	 * @description en - Set the transport used by this request, null means to use the global default transport
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:05:12
+	 * @param transport 传输引擎
+	 * @return com.axios.core.http.HttpRequest
+	 */
+	public HttpRequest setTransport(Transport transport) {
+		this.transport = transport;
+		return this;
+	}
+
+	/**
+	 * [设置本次异步请求使用的执行器](Set the executor used by this asynchronous request)
+	 * @description zh - 设置本次异步请求使用的执行器，null表示使用全局默认的执行器
+	 * @description en - Set the executor used by this asynchronous request, null means to use the global default executor
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:56:30
+	 * @param executor 执行器
+	 * @return com.axios.core.http.HttpRequest
+	 */
+	public HttpRequest setExecutor(Executor executor) {
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * [设置本次请求是否在虚拟线程中执行](Set whether this request is executed on a virtual thread)
+	 * @description zh - 设置本次请求是否在虚拟线程中执行，开启后异步请求在虚拟线程中以阻塞方式完成，覆盖全局配置
+	 * @description en - Set whether this request is executed on a virtual thread. When enabled, the asynchronous request is completed in blocking style on a virtual thread, overriding the global configuration
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:04:30
+	 * @param virtualThreads 是否使用虚拟线程
+	 * @return com.axios.core.http.HttpRequest
+	 */
+	public HttpRequest setVirtualThreads(boolean virtualThreads) {
+		this.virtualThreads = virtualThreads;
+		return this;
+	}
+
+	/**
+	 * [设置本次请求使用的响应缓存](Set the response cache used by this request)
+	 * @description zh - 设置本次请求使用的响应缓存，null表示使用全局配置的缓存
+	 * @description en - Set the response cache used by this request, null means to use the globally configured cache
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:58:10
+	 * @param cache 响应缓存
+	 * @return com.axios.core.http.HttpRequest
+	 */
+	public HttpRequest setCache(HttpCache cache) {
+		this.cache = cache;
+		return this;
+	}
+
+	/**
+	 * [设置本次请求使用的限流器](Set the request limiter used by this request)
+	 * @description zh - 设置本次请求使用的限流器，null表示使用全局配置的限流器。许可在建立连接前获取，在读取完响应（流模式下为收到响应头）后释放，命中缓存的请求不占用许可
+	 * @description en - Set the request limiter used by this request, null means to use the globally configured limiter. The permit is acquired before connecting and released after the response is read (after the response headers are received in streaming mode), requests served from the cache do not take a permit
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:18:00
+	 * @param limiter 请求限流器
+	 * @return com.axios.core.http.HttpRequest
+	 */
+	public HttpRequest setLimiter(RequestLimiter limiter) {
+		this.limiter = limiter;
+		return this;
+	}
+
 	/**
 	 * [设置请求方法](set request method)
 	 * @description zh - 设置请求方法
@@ -624,6 +889,7 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 		}
 		// 停用body
 		this.bodyBytes = null;
+		this.bodyResource = null;
 		if (value instanceof File) {
 			// 文件上传
 			return this.form(name, (File) value);
@@ -896,26 +1162,255 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 	public HttpRequest body(byte[] bodyBytes) {
 		if (null != bodyBytes) {
 			this.bodyBytes = bodyBytes;
+			this.bodyResource = null;
+		}
+		return this;
+	}
+
+	/**
+	 * [以资源作为内容主体](Use a resource as the content body)
+	 * @description zh - 以资源作为内容主体，发送时直接从资源写出，不读入内存。文件资源在能拿到通道的传输引擎上通过transferTo由内核发送，未指定Content-Type时按资源名推断
+	 * @description en - Use a resource as the content body, it is written straight from the resource when sending without being read into memory. File resources are sent by the kernel through transferTo on transports that own a channel, and the Content-Type is guessed from the resource name when not given
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:01:30
+	 * @param resource 资源
+	 * @return com.axios.core.http.HttpRequest
+	 */
+	public HttpRequest body(Resource resource) {
+		if (null != resource) {
+			this.bodyResource = resource;
+			this.bodyBytes = null;
+			this.form = null;
+			if (UrlTool.isBlank(this.header(RequestHeader.CONTENT_TYPE))) {
+				this.contentType(HttpTool.getMimeType(UrlTool.nullToEmpty(resource.getName()), "application/octet-stream"));
+			}
 		}
 		return this;
 	}
 
 	/** --------------- private --------------- */
 
+	private boolean isVirtualThreads() {
+		return null == this.virtualThreads ? HttpGlobalConfig.isVirtualThreads() : this.virtualThreads;
+	}
+
 	private HttpResponse doExecute(boolean isAsync, HttpInterceptor.Interceptor interceptors) {
+		try {
+			if (false == lookup(interceptors)) {
+				acquirePermit();
+				connect();
+			}
+			revalidateCache();
+			if (redirectIfPossible()) {
+				releasePermit();
+				return doExecute(isAsync, null);
+			}
+			final HttpResponse response = storeCache(new HttpResponse(this.httpConnection, this.charset, isAsync, isIgnoreResponseBody()), isAsync);
+			releasePermit();
+			return response;
+		} catch (RuntimeException e) {
+			releasePermit(true);
+			throw e;
+		}
+	}
+
+	private CompletableFuture<HttpResponse> doExecuteAsync(Executor executor, HttpInterceptor.Interceptor interceptors) {
+		return CompletableFuture.supplyAsync(() -> lookup(interceptors), executor)
+				.thenCompose(hit -> hit ? CompletableFuture.completedFuture(true) : acquirePermitAsync().thenApply(permit -> false))
+				// connect on the executor rather than on the thread that granted the permit
+				.thenApplyAsync(hit -> {
+					if (false == hit) {
+						connect();
+					}
+					return this.httpConnection;
+				}, executor).thenCompose(connection -> connection.responseAsync(executor)).thenComposeAsync(connection -> {
+					revalidateCache();
+					if (redirectIfPossible()) {
+						releasePermit();
+						return doExecuteAsync(executor, null);
+					}
+					final HttpResponse response = storeCache(new HttpResponse(this.httpConnection, this.charset, false, isIgnoreResponseBody()), false);
+					releasePermit();
+					return CompletableFuture.completedFuture(response);
+				}, executor).whenComplete((response, e) -> {
+					if (null != e) {
+						releasePermit(true);
+					}
+				});
+	}
+
+	/**
+	 * [执行拦截器并查找缓存](Run the interceptors and lookup cache)
+	 * @description zh - 执行拦截器、拼接GET参数并查找缓存，命中新鲜缓存时返回true
+	 * @description en - Run the interceptors, append the GET parameters and lookup cache, true is returned when a fresh cache is hit
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:18:30
+	 * @param interceptors 拦截器
+	 * @return boolean
+	 */
+	private boolean lookup(HttpInterceptor.Interceptor interceptors) {
 		if (null != interceptors) {
 			for (HttpInterceptor interceptor : interceptors) {
 				interceptor.process(this);
 			}
 		}
 		urlWithParamIfGet();
+		return lookupCache();
+	}
+
+	private void connect() {
 		initConnection();
+		if (null != this.staleEntry) {
+			this.activeCache.addValidators(this.staleEntry, this.httpConnection);
+		}
 		send();
-		HttpResponse httpResponse = sendRedirectIfPossible(isAsync);
-		if (null == httpResponse) {
-			httpResponse = new HttpResponse(this.httpConnection, this.charset, isAsync, isIgnoreResponseBody());
+	}
+
+	private void acquirePermit() {
+		final RequestLimiter limiter = UrlTool.defaultIfNull(this.limiter, HttpGlobalConfig.getLimiter());
+		if (null != limiter) {
+			this.permit = limiter.acquire(this.url.toURL(this.urlHandler));
+		}
+	}
+
+	private CompletableFuture<Permit> acquirePermitAsync() {
+		final RequestLimiter limiter = UrlTool.defaultIfNull(this.limiter, HttpGlobalConfig.getLimiter());
+		if (null == limiter) {
+			return CompletableFuture.completedFuture(null);
+		}
+		return limiter.acquireAsync(this.url.toURL(this.urlHandler)).thenApply(permit -> this.permit = permit);
+	}
+
+	/**
+	 * [按响应状态释放限流许可](Release the limiting permit by response status)
+	 * @description zh - 按响应状态释放限流许可，429和503视为被服务端限流
+	 * @description en - Release the limiting permit by response status, 429 and 503 are regarded as throttled by the server
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:19:00
+	 */
+	private void releasePermit() {
+		if (null == this.permit) {
+			return;
+		}
+		boolean dropped;
+		try {
+			final int status = this.httpConnection.responseCode();
+			dropped = Status.HTTP_TOO_MANY_REQUESTS == status || Status.HTTP_UNAVAILABLE == status;
+		} catch (IOException e) {
+			dropped = true;
+		}
+		releasePermit(dropped);
+	}
+
+	private void releasePermit(boolean dropped) {
+		final Permit permit = this.permit;
+		if (null != permit) {
+			this.permit = null;
+			permit.release(dropped);
+		}
+	}
+
+	/**
+	 * [查找缓存](Lookup cache)
+	 * @description zh - 查找缓存，新鲜的缓存直接作为连接使用，过期的缓存留待条件验证
+	 * @description en - Lookup cache, the fresh cache is used directly as the connection, and the stale cache is left for conditional validation
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:58:40
+	 * @return boolean
+	 */
+	private boolean lookupCache() {
+		this.activeCache = null;
+		this.staleEntry = null;
+		final HttpCache cache = UrlTool.defaultIfNull(this.cache, HttpGlobalConfig.getCache());
+		if (null == cache || this.isDisableCache || (isSafeMethod() && false == RequestMethod.GET.equals(this.method))) {
+			return false;
+		}
+		this.activeCache = cache;
+		this.cacheKey = this.url.toURL(this.urlHandler).toString();
+		this.requestTime = System.currentTimeMillis();
+		if (false == RequestMethod.GET.equals(this.method)) {
+			// unsafe methods only invalidate, see storeCache
+			return false;
+		}
+		final CacheEntry entry = cache.lookup(this.cacheKey, this.headers);
+		if (null == entry) {
+			return false;
+		}
+		if (cache.isFresh(entry, this.headers, this.requestTime)) {
+			if (null != this.httpConnection) {
+				this.httpConnection.disconnectQuietly();
+			}
+			this.httpConnection = cache.hit(entry).setInstanceFollowRedirects(this.maxRedirectCount > 0);
+			this.activeCache = null;
+			return true;
 		}
-		return httpResponse;
+		this.staleEntry = entry;
+		return false;
+	}
+
+	/**
+	 * [服务端返回304时改用缓存的响应](Use the cached response when the server returns 304)
+	 * @description zh - 服务端返回304时改用缓存的响应
+	 * @description en - Use the cached response when the server returns 304
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:59:10
+	 */
+	private void revalidateCache() {
+		final CacheEntry entry = this.staleEntry;
+		if (null == entry) {
+			return;
+		}
+		this.staleEntry = null;
+		try {
+			if (Status.HTTP_NOT_MODIFIED != this.httpConnection.responseCode()) {
+				return;
+			}
+		} catch (IOException e) {
+			// the response reports the failure
+			return;
+		}
+		final HttpConnection notModified = this.httpConnection;
+		this.httpConnection = this.activeCache.revalidated(entry, notModified, this.requestTime, System.currentTimeMillis())
+				.setInstanceFollowRedirects(this.maxRedirectCount > 0);
+		this.activeCache = null;
+		notModified.disconnectQuietly();
+	}
+
+	/**
+	 * [存入或失效缓存](Store or invalidate cache)
+	 * @description zh - GET请求的完整响应在允许时存入缓存，不安全的请求方法成功后使缓存失效
+	 * @description en - The full response of a GET request is stored in the cache when allowed, and an unsafe request method invalidates the cache after success
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:59:40
+	 * @param response 响应
+	 * @param isAsync 是否异步，异步时响应体未读取，不存入缓存
+	 * @return com.axios.response.HttpResponse
+	 */
+	private HttpResponse storeCache(HttpResponse response, boolean isAsync) {
+		final HttpCache cache = this.activeCache;
+		if (null == cache) {
+			return response;
+		}
+		this.activeCache = null;
+		if (RequestMethod.GET.equals(this.method)) {
+			if (false == isAsync) {
+				cache.store(this.cacheKey, this.headers, response, this.requestTime, System.currentTimeMillis());
+			}
+		} else if (response.getStatus() < Status.HTTP_BAD_REQUEST) {
+			cache.invalidate(this.cacheKey);
+		}
+		return response;
+	}
+
+	private boolean isSafeMethod() {
+		return RequestMethod.GET.equals(this.method) || RequestMethod.HEAD.equals(this.method)
+				|| RequestMethod.OPTIONS.equals(this.method) || RequestMethod.TRACE.equals(this.method);
 	}
 
 	private void initConnection() {
@@ -923,14 +1418,17 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 			this.httpConnection.disconnectQuietly();
 		}
 
-		this.httpConnection = Connection
-				.create(this.url.toURL(this.urlHandler), this.proxy)
+		Transport transport = this.transport;
+		if (null == transport) {
+			transport = HTTP_2.equalsIgnoreCase(this.httpVersion) ? Http2Transport.getDefault() : HttpGlobalConfig.getTransport();
+		}
+		this.httpConnection = transport
+				.open(this.url.toURL(this.urlHandler), this.proxy)
 				.setConnectTimeout(this.connectionTimeout)
 				.setReadTimeout(this.readTimeout)
 				.setMethod(this.method)
 				.setHttpsInfo(this.hostnameVerifier, this.ssf)
 				.setInstanceFollowRedirects(this.maxRedirectCount > 0)
-				.setChunkedStreamingMode(this.blockSize)
 				.header(this.headers, true);
 
 		if (null != this.cookie) {
@@ -953,12 +1451,12 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 		}
 	}
 
-	private HttpResponse sendRedirectIfPossible(boolean isAsync) {
+	private boolean redirectIfPossible() {
 		if (this.maxRedirectCount < 1) {
-			return null;
+			return false;
 		}
 
-		if (this.httpConnection.getHttpURLConnection().getInstanceFollowRedirects()) {
+		if (this.httpConnection.isInstanceFollowRedirects()) {
 			int responseCode;
 			try {
 				responseCode = httpConnection.responseCode();
@@ -969,15 +1467,27 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 
 			if (responseCode != HttpURLConnection.HTTP_OK) {
 				if (Status.isRedirected(responseCode)) {
-					setUrl(httpConnection.header(RequestHeader.LOCATION));
+					setUrl(resolveLocation(httpConnection.header(RequestHeader.LOCATION)));
 					if (redirectCount < this.maxRedirectCount) {
 						redirectCount++;
-						return doExecute(isAsync, null);
+						return true;
 					}
 				}
 			}
 		}
-		return null;
+		return false;
+	}
+
+	private String resolveLocation(String location) {
+		if (UrlTool.isBlank(location)) {
+			return location;
+		}
+		try {
+			// relative redirects are resolved against the current URL
+			return new URL(this.httpConnection.getUrl(), location).toString();
+		} catch (MalformedURLException e) {
+			return location;
+		}
 	}
 
 	private void send() throws IORuntimeException {
@@ -1005,29 +1515,87 @@ public class HttpRequest extends HttpBase<HttpRequest> {
 			this.httpConnection.header(RequestHeader.CONTENT_TYPE, ContentType.FORM_URLENCODED.toString(this.charset), true);
 		}
 
-		byte[] content;
+		if (null != this.bodyResource) {
+			try (OutputStream out = getBodyOutputStream(this.bodyResource.size())) {
+				this.bodyResource.writeTo(out);
+			}
+			return;
+		}
 		if ((null != this.bodyBytes && this.bodyBytes.length != 0)) {
-			content = this.bodyBytes;
-		} else {
-			content = bytes(getFormUrlEncoded(), this.charset);
+			IoTool.write(getBodyOutputStream(this.bodyBytes.length), true, this.bodyBytes);
+			return;
+		}
+		// the form is encoded straight into the connection, the length pass lets it go out unchunked
+		final FormUrlEncodedBody body = FormUrlEncodedBody.create(this.form, this.charset);
+		final long length = StreamingMode.AUTO == this.streamingMode || null != this.compression ? body.length() : -1;
+		try (OutputStream out = getBodyOutputStream(length)) {
+			body.write(out);
 		}
-		IoTool.write(this.httpConnection.getOutputStream(), true, content);
 	}
 
-	private String getFormUrlEncoded() {
-		return UrlQuery.of(this.form, true).build(this.charset);
+	/**
+	 * [获取请求体的输出流](Get the output stream of the request body)
+	 * @description zh - 按发送方式设置连接并获取请求体的输出流。需要压缩时设置Content-Encoding并返回边压缩边写入连接的流，压缩后的长度未知，因此按长度未知设置连接
+	 * @description en - Set up the connection by the streaming mode and get the output stream of the request body. When it is to be compressed Content-Encoding is set and a stream compressing into the connection is returned, the compressed length is unknown so the connection is set up as for an unknown length
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:34:30
+	 * @param length 请求体长度，-1表示未知
+	 * @return java.io.OutputStream
+	 * @throws IOException IO异常
+	 */
+	private OutputStream getBodyOutputStream(long length) throws IOException {
+		if (null != this.compression && this.compression.accepts(length)
+				&& UrlTool.isBlank(this.header(RequestHeader.CONTENT_ENCODING))) {
+			this.httpConnection.header(RequestHeader.CONTENT_ENCODING, this.compression.getEncoding(), true);
+			setStreamingMode(-1);
+			return this.compression.wrap(this.httpConnection.getOutputStream(), length);
+		}
+		setStreamingMode(length);
+		return this.httpConnection.getOutputStream();
 	}
 
 	private void sendMultipart() throws IOException {
-		setMultipart();
-
+		final MultipartBody body = MultipartBody.create(this.form, this.charset);
+		this.httpConnection.header(RequestHeader.CONTENT_TYPE, body.getContentType(), true);
+		if (StreamingMode.AUTO == this.streamingMode) {
+			setStreamingMode(body.length());
+		} else {
+			setStreamingMode(-1);
+		}
 		try (OutputStream out = this.httpConnection.getOutputStream()) {
-			MultipartBody.create(this.form, this.charset).write(out);
+			body.write(out);
 		}
 	}
 
-	private void setMultipart() {
-		this.httpConnection.header(RequestHeader.CONTENT_TYPE, MultipartBody.getContentType(), true);
+	/**
+	 * [按发送方式设置连接](Set up the connection by the streaming mode)
+	 * @description zh - 按发送方式设置连接：长度已知时固定长度，未知时分块。开启自动重定向时AUTO退回由连接缓存，因为流式发送的请求体无法在重定向时重放
+	 * @description en - Set up the connection by the streaming mode: fixed length when the length is known and chunked when it is not. AUTO falls back to buffering by the connection when automatic redirects are on, since a streamed body cannot be replayed on a redirect
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:54:30
+	 * @param length 请求体长度，-1表示未知
+	 */
+	private void setStreamingMode(long length) {
+		final int blockSize = this.blockSize > 0 ? this.blockSize : DEFAULT_BLOCK_SIZE;
+		switch (this.streamingMode) {
+			case CHUNKED:
+				this.httpConnection.setChunkedStreamingMode(blockSize);
+				break;
+			case AUTO:
+				if (this.httpConnection.isInstanceFollowRedirects()) {
+					break;
+				}
+				if (length >= 0) {
+					this.httpConnection.setFixedLengthStreamingMode(length);
+				} else {
+					this.httpConnection.setChunkedStreamingMode(blockSize);
+				}
+				break;
+			default:
+				break;
+		}
 	}
 
 	private boolean isIgnoreResponseBody() {
@@ -0,0 +1,598 @@
+package com.axios.core.http;
+
+import java.net.Proxy;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLSocketFactory;
+
+import com.axios.core.body.RequestCompression;
+import com.axios.core.body.StreamingMode;
+import com.axios.core.cache.HttpCache;
+import com.axios.core.config.global.GlobalHeaders;
+import com.axios.core.config.global.HttpGlobalConfig;
+import com.axios.core.http.url.UriTemplate;
+import com.axios.core.limit.RequestLimiter;
+import com.axios.core.map.HeaderMap;
+import com.axios.core.requestMethod.RequestMethod;
+import com.axios.core.tool.UrlTool;
+import com.axios.core.transport.Transport;
+
+/**
+ * [请求模板](Request template)
+ * @description zh - 不可变的请求模板：基础地址、路径模板、默认头、超时、SSL和拦截器只解析一次，之后每次调用只生成携带差异的轻量请求。地址和路径按RFC 6570 URI模板编译，{name} 为必填的路径变量，{?q} 等运算符表达式可以省略
+ * @description en - Immutable request template: the base URL, path template, default headers, timeouts, SSL and interceptors are resolved once, and then each call only stamps out a lightweight request carrying the differences. The URL and path are compiled as an RFC 6570 URI template, {name} is a required path variable and operator expressions such as {?q} may be omitted
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:32:00
+ */
+public final class RequestTemplate {
+
+	/** 编译后的URI模板 */
+	private final UriTemplate uri;
+	/** 必须提供的变量，即简单表达式中的变量 */
+	private final String[] required;
+	/** 默认头 */
+	private final HeaderMap headers;
+	/** 拦截器 */
+	final HttpInterceptor.Interceptor interceptors;
+	/** 请求方法 */
+	final RequestMethod method;
+	/** 编码 */
+	final Charset charset;
+	/** http版本 */
+	final String httpVersion;
+	/** 连接超时 */
+	final int connectionTimeout;
+	/** 读取超时 */
+	final int readTimeout;
+	/** 最大重定向次数 */
+	final int maxRedirectCount;
+	/** 请求体的发送方式 */
+	final StreamingMode streamingMode;
+	/** Chunked块大小 */
+	final int blockSize;
+	/** 请求体压缩 */
+	final RequestCompression compression;
+	/** 代理 */
+	final Proxy proxy;
+	/** 域名验证器 */
+	final HostnameVerifier hostnameVerifier;
+	/** SSL套接字工厂 */
+	final SSLSocketFactory ssf;
+	/** 传输引擎 */
+	final Transport transport;
+	/** 执行器 */
+	final Executor executor;
+	/** 响应缓存 */
+	final HttpCache cache;
+	/** 请求限流器 */
+	final RequestLimiter limiter;
+
+	private RequestTemplate(Builder builder) {
+		String url = builder.url.trim();
+		if (false == url.contains("://")) {
+			url = "http://" + url;
+		}
+		if (UrlTool.isNotEmpty(builder.path)) {
+			final boolean slash = url.endsWith("/");
+			if (builder.path.startsWith("/")) {
+				url = slash ? url + builder.path.substring(1) : url + builder.path;
+			} else {
+				url = slash || builder.path.startsWith("{/") ? url + builder.path : url + '/' + builder.path;
+			}
+		}
+		this.uri = UriTemplate.compile(url);
+		this.required = required(url);
+
+		this.headers = GlobalHeaders.INSTANCE.headers.copy();
+		for (Map.Entry<String, List<String>> entry : builder.headers.entrySet()) {
+			this.headers.put(entry.getKey(), entry.getValue());
+		}
+		this.interceptors = new HttpInterceptor.Interceptor();
+		for (HttpInterceptor interceptor : builder.interceptors) {
+			this.interceptors.addChain(interceptor);
+		}
+		this.method = builder.method;
+		this.charset = builder.charset;
+		this.httpVersion = builder.httpVersion;
+		this.connectionTimeout = builder.connectionTimeout;
+		this.readTimeout = builder.readTimeout;
+		this.maxRedirectCount = builder.maxRedirectCount;
+		this.streamingMode = builder.streamingMode;
+		this.blockSize = builder.blockSize;
+		this.compression = builder.compression;
+		this.proxy = builder.proxy;
+		this.hostnameVerifier = builder.hostnameVerifier;
+		this.ssf = builder.ssf;
+		this.transport = builder.transport;
+		this.executor = builder.executor;
+		this.cache = builder.cache;
+		this.limiter = builder.limiter;
+	}
+
+	/**
+	 * [创建请求模板构建器](Create a request template builder)
+	 * @description zh - 创建请求模板构建器，全局头在构建时取快照
+	 * @description en - Create a request template builder, the global headers are snapshotted when building
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:32:30
+	 * @param url 基础地址
+	 * @return com.axios.core.http.RequestTemplate.Builder
+	 */
+	public static Builder builder(String url) {
+		return new Builder(url);
+	}
+
+	/**
+	 * [按位置生成请求](Stamp out a request by position)
+	 * @description zh - 按路径变量出现的顺序填入变量值，生成新的请求
+	 * @description en - Fill in the variable values in the order the path variables appear and stamp out a new request
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:33:00
+	 * @param values 变量值
+	 * @return com.axios.core.http.HttpRequest
+	 */
+	public HttpRequest request(Object... values) {
+		final int length = null == values ? 0 : values.length;
+		final List<String> names = this.uri.getVariableNames();
+		if (length != names.size()) {
+			throw new IllegalArgumentException("Template expects " + names.size() + " path variables but got " + length + ".");
+		}
+		final Map<String, Object> map = new HashMap<>(length * 2);
+		for (int i = 0; i < length; i++) {
+			map.put(names.get(i), values[i]);
+		}
+		return request(map);
+	}
+
+	/**
+	 * [按名称生成请求](Stamp out a request by name)
+	 * @description zh - 按变量名填入变量值，生成新的请求
+	 * @description en - Fill in the variable values by name and stamp out a new request
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:33:30
+	 * @param values 变量值
+	 * @return com.axios.core.http.HttpRequest
+	 */
+	public HttpRequest request(Map<String, ?> values) {
+		for (String variable : this.required) {
+			if (null == values || null == values.get(variable)) {
+				throw new IllegalArgumentException("Path variable [" + variable + "] is missing.");
+			}
+		}
+		return new HttpRequest(this, this.uri.toUrlBuilder(values).setCharset(this.charset));
+	}
+
+	/**
+	 * [复制默认头](Copy the default headers)
+	 * @description zh - 复制默认头，值列表在请求间共享
+	 * @description en - Copy the default headers, the value lists are shared between requests
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:34:00
+	 * @return com.axios.core.map.HeaderMap
+	 */
+	HeaderMap headers() {
+		return this.headers.copy();
+	}
+
+	/** --------------- private --------------- */
+
+	private static String[] required(String url) {
+		final List<String> required = new ArrayList<>();
+		int open = url.indexOf('{');
+		while (open >= 0) {
+			final int close = url.indexOf('}', open);
+			if (close < 0) {
+				break;
+			}
+			final String name = url.substring(open + 1, close).trim();
+			// only {name} is required, operator expressions such as {?q} may be left undefined
+			if (false == name.isEmpty() && (Character.isLetterOrDigit(name.charAt(0)) || name.charAt(0) == '_')) {
+				for (String variable : name.split(",")) {
+					variable = variable.trim();
+					final int colon = variable.indexOf(':');
+					variable = colon > 0 ? variable.substring(0, colon) : UrlTool.removeSuffix(variable, "*");
+					if (false == required.contains(variable)) {
+						required.add(variable);
+					}
+				}
+			}
+			open = url.indexOf('{', close);
+		}
+		return required.toArray(new String[0]);
+	}
+
+	/**
+	 * [请求模板构建器](Request template builder)
+	 * @description zh - 请求模板构建器
+	 * @description en - Request template builder
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:34:30
+	 */
+	public static final class Builder {
+
+		/** 基础地址 */
+		private final String url;
+		/** 路径模板 */
+		private String path;
+		/** 默认头 */
+		private final HeaderMap headers = new HeaderMap();
+		/** 拦截器 */
+		private final List<HttpInterceptor> interceptors = new ArrayList<>();
+		/** 请求方法 */
+		private RequestMethod method = RequestMethod.GET;
+		/** 编码 */
+		private Charset charset = StandardCharsets.UTF_8;
+		/** http版本 */
+		private String httpVersion = HttpBase.HTTP_1_1;
+		/** 连接超时 */
+		private int connectionTimeout = HttpGlobalConfig.timeout;
+		/** 读取超时 */
+		private int readTimeout = HttpGlobalConfig.timeout;
+		/** 最大重定向次数 */
+		private int maxRedirectCount;
+		/** 请求体的发送方式 */
+		private StreamingMode streamingMode = StreamingMode.AUTO;
+		/** Chunked块大小 */
+		private int blockSize;
+		/** 请求体压缩 */
+		private RequestCompression compression;
+		/** 代理 */
+		private Proxy proxy;
+		/** 域名验证器 */
+		private HostnameVerifier hostnameVerifier;
+		/** SSL套接字工厂 */
+		private SSLSocketFactory ssf;
+		/** 传输引擎 */
+		private Transport transport;
+		/** 执行器 */
+		private Executor executor;
+		/** 响应缓存 */
+		private HttpCache cache;
+		/** 请求限流器 */
+		private RequestLimiter limiter;
+
+		private Builder(String url) {
+			if (UrlTool.isBlank(url)) {
+				throw new IllegalArgumentException("Url must be not blank!");
+			}
+			this.url = url.trim();
+		}
+
+		/**
+		 * [设置路径](Set the path)
+		 * @description zh - 设置相对于基础URL的路径，可以包含模板变量，null表示不追加路径
+		 * @description en - Set the path relative to the base url, it may contain template variables, null means no path is appended
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:24:00
+		 * @param path 路径
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder path(String path) {
+			this.path = path;
+			return this;
+		}
+
+		/**
+		 * [设置请求方法](Set the request method)
+		 * @description zh - 设置请求方法，null表示保持原有的方法，默认GET
+		 * @description en - Set the request method, null keeps the current method, the default is GET
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:24:20
+		 * @param method 请求方法
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder method(RequestMethod method) {
+			if (null != method) {
+				this.method = method;
+			}
+			return this;
+		}
+
+		/**
+		 * [设置一个默认头](Set a default header)
+		 * @description zh - 设置一个默认头，覆盖同名的已有值，name或value为null时忽略
+		 * @description en - Set a default header, existing values of the same name are replaced, ignored when name or value is null
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:24:40
+		 * @param name Header名
+		 * @param value Header值
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder header(String name, String value) {
+			if (null != name && null != value) {
+				this.headers.add(name.trim(), value, true);
+			}
+			return this;
+		}
+
+		/**
+		 * [设置编码](Set the charset)
+		 * @description zh - 设置编码，null表示保持原有的编码，默认UTF-8
+		 * @description en - Set the charset, null keeps the current charset, the default is UTF-8
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:25:00
+		 * @param charset 编码
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder charset(Charset charset) {
+			if (null != charset) {
+				this.charset = charset;
+			}
+			return this;
+		}
+
+		/**
+		 * [设置http版本](Set the http version)
+		 * @description zh - 设置http版本
+		 * @description en - Set the http version
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:25:20
+		 * @param httpVersion http版本
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder httpVersion(String httpVersion) {
+			this.httpVersion = httpVersion;
+			return this;
+		}
+
+		/**
+		 * [设置超时](Set the timeout)
+		 * @description zh - 同时设置连接超时和读取超时
+		 * @description en - Set both the connection timeout and the read timeout
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:25:40
+		 * @param milliseconds 超时毫秒数
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder timeout(int milliseconds) {
+			this.connectionTimeout = milliseconds;
+			this.readTimeout = milliseconds;
+			return this;
+		}
+
+		/**
+		 * [设置连接超时](Set the connection timeout)
+		 * @description zh - 设置连接超时
+		 * @description en - Set the connection timeout
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:26:00
+		 * @param milliseconds 超时毫秒数
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder setConnectionTimeout(int milliseconds) {
+			this.connectionTimeout = milliseconds;
+			return this;
+		}
+
+		/**
+		 * [设置读取超时](Set the read timeout)
+		 * @description zh - 设置读取超时
+		 * @description en - Set the read timeout
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:26:20
+		 * @param milliseconds 超时毫秒数
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder setReadTimeout(int milliseconds) {
+			this.readTimeout = milliseconds;
+			return this;
+		}
+
+		/**
+		 * [设置最大重定向次数](Set the maximum number of redirects)
+		 * @description zh - 设置最大重定向次数，小于0时按0处理
+		 * @description en - Set the maximum number of redirects, values below 0 are treated as 0
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:26:40
+		 * @param maxRedirectCount 最大重定向次数
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder setMaxRedirectCount(int maxRedirectCount) {
+			this.maxRedirectCount = Math.max(maxRedirectCount, 0);
+			return this;
+		}
+
+		/**
+		 * [设置请求体的发送方式](Set how the request body is sent)
+		 * @description zh - 设置请求体的发送方式，null表示AUTO
+		 * @description en - Set how the request body is sent, null means AUTO
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:27:00
+		 * @param streamingMode 发送方式
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder setStreamingMode(StreamingMode streamingMode) {
+			this.streamingMode = null == streamingMode ? StreamingMode.AUTO : streamingMode;
+			return this;
+		}
+
+		/**
+		 * [采用分块方式上传数据](Upload data in chunked mode)
+		 * @description zh - 总是以分块方式上传数据，无需本地缓存数据
+		 * @description en - Always upload data in chunked mode without local cache data
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:27:20
+		 * @param blockSize 块大小（bytes数），0或小于0表示使用默认大小
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder setChunkedStreamingMode(int blockSize) {
+			this.blockSize = blockSize;
+			this.streamingMode = StreamingMode.CHUNKED;
+			return this;
+		}
+
+		/**
+		 * [设置请求体压缩](Set the request body compression)
+		 * @description zh - 设置请求体压缩，null表示不压缩
+		 * @description en - Set the request body compression, null means no compression
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:27:40
+		 * @param compression 请求体压缩
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder setCompression(RequestCompression compression) {
+			this.compression = compression;
+			return this;
+		}
+
+		/**
+		 * [设置代理](Set the proxy)
+		 * @description zh - 设置代理
+		 * @description en - Set the proxy
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:28:00
+		 * @param proxy 代理
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder setProxy(Proxy proxy) {
+			this.proxy = proxy;
+			return this;
+		}
+
+		/**
+		 * [设置域名验证器](Set the hostname verifier)
+		 * @description zh - 设置域名验证器，只针对HTTPS请求
+		 * @description en - Set the hostname verifier, only for HTTPS requests
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:28:20
+		 * @param hostnameVerifier 域名验证器
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder setHostnameVerifier(HostnameVerifier hostnameVerifier) {
+			this.hostnameVerifier = hostnameVerifier;
+			return this;
+		}
+
+		/**
+		 * [设置SSL套接字工厂](Set the SSL socket factory)
+		 * @description zh - 设置SSL套接字工厂，只针对HTTPS请求
+		 * @description en - Set the SSL socket factory, only for HTTPS requests
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:28:40
+		 * @param ssf SSL套接字工厂
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder setSSLSocketFactory(SSLSocketFactory ssf) {
+			this.ssf = ssf;
+			return this;
+		}
+
+		/**
+		 * [设置传输引擎](Set the transport)
+		 * @description zh - 设置传输引擎，null表示使用全局默认的传输引擎
+		 * @description en - Set the transport, null means to use the global default transport
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:29:00
+		 * @param transport 传输引擎
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder setTransport(Transport transport) {
+			this.transport = transport;
+			return this;
+		}
+
+		/**
+		 * [设置异步请求使用的执行器](Set the executor used by asynchronous requests)
+		 * @description zh - 设置异步请求使用的执行器，null表示使用全局默认的执行器
+		 * @description en - Set the executor used by asynchronous requests, null means to use the global default executor
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:29:20
+		 * @param executor 执行器
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder setExecutor(Executor executor) {
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * [设置响应缓存](Set the response cache)
+		 * @description zh - 设置响应缓存，null表示使用全局配置的缓存
+		 * @description en - Set the response cache, null means to use the globally configured cache
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:29:40
+		 * @param cache 响应缓存
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder setCache(HttpCache cache) {
+			this.cache = cache;
+			return this;
+		}
+
+		/**
+		 * [设置限流器](Set the request limiter)
+		 * @description zh - 设置限流器，null表示使用全局配置的限流器
+		 * @description en - Set the request limiter, null means to use the globally configured limiter
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:30:00
+		 * @param limiter 请求限流器
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder setLimiter(RequestLimiter limiter) {
+			this.limiter = limiter;
+			return this;
+		}
+
+		/**
+		 * [添加拦截器](Add an interceptor)
+		 * @description zh - 添加拦截器，按添加顺序执行，null时忽略
+		 * @description en - Add an interceptor, interceptors run in the order they were added, null is ignored
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:30:20
+		 * @param interceptor 拦截器
+		 * @return com.axios.core.http.RequestTemplate.Builder
+		 */
+		public Builder addInterceptor(HttpInterceptor interceptor) {
+			if (null != interceptor) {
+				this.interceptors.add(interceptor);
+			}
+			return this;
+		}
+
+		/**
+		 * [构建请求模板](Build the request template)
+		 * @description zh - 构建请求模板
+		 * @description en - Build the request template
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 19:35:00
+		 * @return com.axios.core.http.RequestTemplate
+		 */
+		public RequestTemplate build() {
+			return new RequestTemplate(this);
+		}
+	}
+}
@@ -0,0 +1,443 @@
+package com.axios.core.http;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.axios.Conn;
+import com.axios.core.assertion.Assert;
+import com.axios.core.config.global.HttpGlobalConfig;
+import com.axios.core.tool.UrlTool;
+import com.axios.core.tool.file.FileTool;
+import com.axios.core.tool.io.BufferPool;
+import com.axios.core.tool.io.IoTool;
+import com.axios.exception.HttpException;
+import com.axios.exception.IORuntimeException;
+import com.axios.header.RequestHeader;
+import com.axios.response.HttpResponse;
+import com.axios.status.Status;
+
+/**
+ * [分段并行下载](Segmented parallel download)
+ * @description zh - 分段并行下载：先以 Range: bytes=0-0 探测资源大小和是否支持范围请求，再把资源切分为多个字节范围并发下载，每段按偏移直接写入文件。每段请求带 If-Range，资源中途改变时立即失败。服务器不支持范围请求时退回单连接下载。下载完成后按指定的摘要或服务器的 Digest/Repr-Digest 头校验，数据先写入临时文件，校验通过后再改名。开启断点续传时失败后保留临时文件和进度日志，下次从断点继续
+ * @description en - Segmented parallel download: the size of the resource and range support are probed first with Range: bytes=0-0, then the resource is split into byte ranges that are downloaded concurrently and each segment is written straight to its offset in the file. Every range request carries If-Range so a resource that changes midway fails at once. It falls back to a single connection when the server does not support range requests. When finished the file is verified against the given checksum or the Digest/Repr-Digest header of the server, the data is written to a temporary file first and renamed once verified. With resuming on, the temporary file and the progress journal are kept after a failure and the next call continues from where it stopped
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 20:02:00
+ */
+public class SegmentedDownloader {
+
+	/** 默认分段数 */
+	public static final int DEFAULT_SEGMENTS = 4;
+	/** 默认的最小分段大小，小于此大小的资源不再切分 */
+	public static final long DEFAULT_MIN_SEGMENT_SIZE = 1024 * 1024;
+
+	/** 临时文件后缀 */
+	private static final String TEMP_SUFFIX = ".temp";
+	/** 进度日志后缀 */
+	private static final String JOURNAL_SUFFIX = ".journal";
+	/** 支持的摘要算法，由强到弱，左为HTTP中的名称，右为JDK中的名称 */
+	private static final String[][] DIGEST_ALGORITHMS = {
+			{ "sha-512", "SHA-512" }, { "sha-256", "SHA-256" }, { "sha", "SHA-1" }, { "md5", "MD5" } };
+
+	/** 下载地址 */
+	private final String url;
+	/** 分段数 */
+	private int segments = DEFAULT_SEGMENTS;
+	/** 最小分段大小 */
+	private long minSegmentSize = DEFAULT_MIN_SEGMENT_SIZE;
+	/** 超时 */
+	private int timeout = HttpGlobalConfig.timeout;
+	/** 执行器 */
+	private Executor executor;
+	/** 期望的摘要算法 */
+	private String checksumAlgorithm;
+	/** 期望的摘要，十六进制 */
+	private String checksum;
+	/** 是否断点续传 */
+	private boolean resumable;
+
+	public SegmentedDownloader(String url) {
+		Assert.notBlank(url, "[url] is blank !");
+		this.url = url;
+	}
+
+	/**
+	 * [创建分段下载](Create a segmented download)
+	 * @description zh - 创建分段下载
+	 * @description en - Create a segmented download
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:02:30
+	 * @param url 下载地址
+	 * @return com.axios.core.http.SegmentedDownloader
+	 */
+	public static SegmentedDownloader create(String url) {
+		return new SegmentedDownloader(url);
+	}
+
+	public SegmentedDownloader setSegments(int segments) {
+		this.segments = Math.max(segments, 1);
+		return this;
+	}
+
+	public SegmentedDownloader setMinSegmentSize(long minSegmentSize) {
+		this.minSegmentSize = Math.max(minSegmentSize, 1);
+		return this;
+	}
+
+	public SegmentedDownloader setTimeout(int timeout) {
+		this.timeout = timeout;
+		return this;
+	}
+
+	public SegmentedDownloader setExecutor(Executor executor) {
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * [设置期望的摘要](Set the expected checksum)
+	 * @description zh - 设置期望的摘要，下载完成后校验，优先于服务器提供的摘要
+	 * @description en - Set the expected checksum verified when the download finishes, it takes precedence over the digest provided by the server
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:03:00
+	 * @param algorithm 摘要算法，如SHA-256
+	 * @param hex 十六进制的摘要
+	 * @return com.axios.core.http.SegmentedDownloader
+	 */
+	public SegmentedDownloader setChecksum(String algorithm, String hex) {
+		this.checksumAlgorithm = algorithm;
+		this.checksum = null == hex ? null : hex.trim().toLowerCase(Locale.ROOT);
+		return this;
+	}
+
+	/**
+	 * [设置是否断点续传](Set whether to resume)
+	 * @description zh - 设置是否断点续传，开启后失败时保留临时文件和进度日志，再次下载同一目标时从断点继续。资源的ETag或Last-Modified改变时重新下载，服务器不提供二者之一时无法续传
+	 * @description en - Set whether to resume. When on, the temporary file and the progress journal are kept after a failure and downloading the same target again continues from where it stopped. The download starts over when the ETag or Last-Modified of the resource changes, and it cannot be resumed when the server provides neither
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:08:30
+	 * @param resumable 是否断点续传
+	 * @return com.axios.core.http.SegmentedDownloader
+	 */
+	public SegmentedDownloader setResumable(boolean resumable) {
+		this.resumable = resumable;
+		return this;
+	}
+
+	/**
+	 * [下载到文件](Download to a file)
+	 * @description zh - 下载到文件，返回文件大小
+	 * @description en - Download to a file and return the file size
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:03:30
+	 * @param targetFileOrDir 写出到的文件或目录
+	 * @return long
+	 */
+	public long download(File targetFileOrDir) {
+		return downloadForFile(targetFileOrDir).length();
+	}
+
+	/**
+	 * [下载到文件](Download to a file)
+	 * @description zh - 下载到文件，目标为目录时从响应头补全文件名，返回写出的文件
+	 * @description en - Download to a file, the file name is completed from the response header when the target is a directory, and the written file is returned
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:04:00
+	 * @param targetFileOrDir 写出到的文件或目录
+	 * @return java.io.File
+	 */
+	public File downloadForFile(File targetFileOrDir) {
+		Assert.notNull(targetFileOrDir, "[targetFileOrDir] must be not null!");
+		HttpResponse response = request().header(RequestHeader.RANGE, "bytes=0-0", true).executeAsync();
+		File tempFile = null;
+		DownloadJournal journal = null;
+		try {
+			if (Status.HTTP_RANGE_NOT_SATISFIABLE == response.getStatus()) {
+				// an empty resource has no byte 0
+				IoTool.close(response);
+				response = request().executeAsync();
+			}
+			checkOk(response);
+			final File outFile = response.completeFileNameFromHeader(targetFileOrDir);
+			tempFile = new File(outFile.getParentFile(), outFile.getName() + TEMP_SUFFIX);
+			final File journalFile = new File(tempFile.getPath() + JOURNAL_SUFFIX);
+			final String[] expected = expectedChecksum(response);
+			final long total = Status.HTTP_PARTIAL == response.getStatus() && UrlTool.isBlank(response.contentEncoding())
+					? totalLength(response.header(RequestHeader.CONTENT_RANGE)) : -1;
+			if (total < 0) {
+				// no usable range support, a server ignoring the range already sends the whole body
+				if (Status.HTTP_PARTIAL == response.getStatus()) {
+					IoTool.close(response);
+					response = request().executeAsync();
+					checkOk(response);
+				}
+				FileTool.del(journalFile);
+				response.writeBody(FileTool.getOutputStream(tempFile), true);
+			} else {
+				final String validator = validator(response);
+				IoTool.close(response);
+				journal = this.resumable && tempFile.isFile() ? DownloadJournal.load(journalFile, this.url, validator, total) : null;
+				final boolean resume = null != journal;
+				if (false == resume) {
+					final int count = (int) Math.max(1, Math.min(this.segments, (total + this.minSegmentSize - 1) / this.minSegmentSize));
+					// without a validator a partial file could mix two versions, so the progress is kept in memory only
+					journal = DownloadJournal.create(this.resumable && null != validator ? journalFile : null, this.url, validator, total, count);
+				}
+				downloadSegments(journal, validator, tempFile, resume);
+			}
+			verify(tempFile, expected);
+			FileTool.rename(tempFile, outFile.getName(), true);
+			if (null != journal) {
+				journal.delete();
+			}
+			return outFile;
+		} catch (Exception e) {
+			if (null == journal || false == keep(journal, e)) {
+				FileTool.del(tempFile);
+				if (null != journal) {
+					journal.delete();
+				}
+			}
+			throw e instanceof HttpException ? (HttpException) e : new HttpException(e);
+		} finally {
+			IoTool.close(response);
+		}
+	}
+
+	/** --------------- private --------------- */
+
+	private HttpRequest request() {
+		// ranges address the stored bytes, so the body must not be compressed on the fly
+		return Conn.createGet(this.url, true)
+				.timeout(this.timeout)
+				.header(RequestHeader.ACCEPT_ENCODING, "identity", true);
+	}
+
+	private boolean keep(DownloadJournal journal, Exception e) {
+		if (false == journal.isPersistent() || e instanceof ChecksumException) {
+			return false;
+		}
+		try {
+			// the partial file stays for the next call
+			journal.save();
+			return true;
+		} catch (RuntimeException ignore) {
+			return false;
+		}
+	}
+
+	private void downloadSegments(DownloadJournal journal, String validator, File tempFile, boolean resume) throws IOException {
+		final Executor executor = UrlTool.defaultIfNull(this.executor, HttpGlobalConfig.getExecutor());
+		final AtomicBoolean failed = new AtomicBoolean();
+		if (false == resume) {
+			FileTool.del(tempFile);
+		}
+		try (FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			journal.attach(channel);
+			final CompletableFuture<?>[] futures = new CompletableFuture<?>[journal.segments.length];
+			for (int i = 0; i < futures.length; i++) {
+				final DownloadJournal.Segment segment = journal.segments[i];
+				futures[i] = CompletableFuture.runAsync(() -> downloadSegment(segment, journal, validator, channel, failed), executor);
+			}
+			try {
+				// allOf only completes once every segment has stopped, so the channel is not closed under them
+				CompletableFuture.allOf(futures).join();
+			} catch (CompletionException e) {
+				final RuntimeException failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+				if (journal.isPersistent()) {
+					// the journal is kept after the channel is closed, so the data goes to the disk first
+					try {
+						channel.force(false);
+					} catch (IOException suppressed) {
+						failure.addSuppressed(suppressed);
+					}
+				}
+				throw failure;
+			} finally {
+				journal.attach(null);
+			}
+		}
+	}
+
+	private void downloadSegment(DownloadJournal.Segment segment, DownloadJournal journal, String validator, FileChannel channel, AtomicBoolean failed) {
+		final long start = segment.position;
+		final long end = segment.end;
+		if (start > end) {
+			// finished before the download was resumed
+			return;
+		}
+		HttpResponse response = null;
+		try {
+			final HttpRequest request = request().header(RequestHeader.RANGE, "bytes=" + start + '-' + end, true);
+			if (null != validator) {
+				request.header(RequestHeader.IF_RANGE, validator, true);
+			}
+			response = request.executeAsync();
+			if (Status.HTTP_PARTIAL != response.getStatus()) {
+				throw new HttpException("Server answered the range [" + start + '-' + end + "] with status code: ["
+						+ response.getStatus() + "], the resource may have changed.");
+			}
+			final String range = response.header(RequestHeader.CONTENT_RANGE);
+			if (null == range || false == range.trim().startsWith("bytes " + start + '-' + end + '/')) {
+				throw new HttpException("Unexpected Content-Range [" + range + "] for the range [" + start + '-' + end + "].");
+			}
+			response.bodyChunks(0, buffer -> {
+				if (failed.get()) {
+					throw new HttpException("Download aborted because another segment failed.");
+				}
+				try {
+					final int n = buffer.remaining();
+					long position = segment.position;
+					while (buffer.hasRemaining()) {
+						position += channel.write(buffer, position);
+					}
+					// the journal never runs ahead of the data that has been written
+					segment.position = position;
+					journal.advance(n);
+				} catch (IOException e) {
+					throw new IORuntimeException(e);
+				}
+			});
+			if (segment.position != end + 1) {
+				throw new HttpException("Range [" + start + '-' + end + "] ended after " + (segment.position - start) + " bytes.");
+			}
+		} catch (RuntimeException e) {
+			failed.set(true);
+			throw e;
+		} finally {
+			IoTool.close(response);
+		}
+	}
+
+	private void verify(File file, String[] expected) throws IOException, NoSuchAlgorithmException {
+		if (null == expected) {
+			return;
+		}
+		final MessageDigest digest = MessageDigest.getInstance(expected[0]);
+		final BufferPool pool = BufferPool.getDefault();
+		final byte[] array = pool.acquire();
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			final ByteBuffer buffer = ByteBuffer.wrap(array);
+			int n;
+			while ((n = channel.read(buffer)) > -1) {
+				digest.update(array, 0, n);
+				buffer.clear();
+			}
+		} finally {
+			pool.release(array);
+		}
+		final String actual = hex(digest.digest());
+		if (false == actual.equals(expected[1])) {
+			throw new ChecksumException(expected[0] + " checksum mismatch, expected [" + expected[1] + "] but was [" + actual + "].");
+		}
+	}
+
+	private String[] expectedChecksum(HttpResponse response) {
+		if (null != this.checksum) {
+			return new String[] { UrlTool.defaultIfNull(this.checksumAlgorithm, "SHA-256"), this.checksum };
+		}
+		// Repr-Digest: sha-256=:base64:, Digest: SHA-256=base64, both describe the whole resource even in a 206
+		String[] expected = parseDigest(response.header(RequestHeader.REPR_DIGEST));
+		if (null == expected) {
+			expected = parseDigest(response.header(RequestHeader.DIGEST));
+		}
+		return expected;
+	}
+
+	private static String[] parseDigest(String header) {
+		if (UrlTool.isBlank(header)) {
+			return null;
+		}
+		for (String[] algorithm : DIGEST_ALGORITHMS) {
+			for (String item : header.split(",")) {
+				final int eq = item.indexOf('=');
+				if (eq > 0 && algorithm[0].equalsIgnoreCase(item.substring(0, eq).trim())) {
+					String value = item.substring(eq + 1).trim();
+					if (value.length() > 1 && value.startsWith(":") && value.endsWith(":")) {
+						value = value.substring(1, value.length() - 1);
+					}
+					try {
+						return new String[] { algorithm[1], hex(Base64.getDecoder().decode(value)) };
+					} catch (IllegalArgumentException e) {
+						// not base64, ignore this digest
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	private static long totalLength(String contentRange) {
+		// bytes 0-0/12345, the length is * when unknown
+		if (null == contentRange) {
+			return -1;
+		}
+		final int slash = contentRange.lastIndexOf('/');
+		if (slash < 0) {
+			return -1;
+		}
+		try {
+			return Long.parseLong(contentRange.substring(slash + 1).trim());
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	private static String validator(HttpResponse response) {
+		// If-Range only accepts a strong ETag
+		final String etag = response.header(RequestHeader.ETAG);
+		if (UrlTool.isNotBlank(etag) && false == etag.startsWith("W/")) {
+			return etag;
+		}
+		final String lastModified = response.header(RequestHeader.LAST_MODIFIED);
+		return UrlTool.isBlank(lastModified) ? null : lastModified;
+	}
+
+	private static void checkOk(HttpResponse response) {
+		if (false == response.isOk()) {
+			throw new HttpException("Server response error with status code: [" + response.getStatus() + "]");
+		}
+	}
+
+	/**
+	 * [摘要不匹配](Checksum mismatch)
+	 * @description zh - 摘要不匹配，已下载的数据不可用，不保留临时文件
+	 * @description en - Checksum mismatch, the downloaded data is unusable and the temporary file is not kept
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:09:00
+	 */
+	private static final class ChecksumException extends HttpException {
+		private static final long serialVersionUID = 1L;
+
+		private ChecksumException(String message) {
+			super(message);
+		}
+	}
+
+	private static String hex(byte[] bytes) {
+		final char[] digits = "0123456789abcdef".toCharArray();
+		final char[] chars = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			chars[i * 2] = digits[(bytes[i] >> 4) & 0xF];
+			chars[i * 2 + 1] = digits[bytes[i] & 0xF];
+		}
+		return new String(chars);
+	}
+}
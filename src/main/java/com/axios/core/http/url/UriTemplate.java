@@ -0,0 +1,625 @@
+package com.axios.core.http.url;
+
+import java.lang.reflect.Array;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.axios.core.rfc.PercentCodec;
+import com.axios.core.rfc.RFC3986;
+import com.axios.core.tool.UrlTool;
+
+/**
+ * [URI模板](URI template)
+ * @description zh - RFC 6570 URI模板（1到4级）：模板只编译一次并缓存，展开时按各运算符的规则直接编码写入预估大小的缓冲区。协议和主机为字面量时在编译时拆分，展开结果不再经过解析即可生成UrlBuilder
+ * @description en - RFC 6570 URI template (levels 1 to 4): a template is compiled once and cached, and expansion encodes directly into a pre-sized buffer following the rules of each operator. When the scheme and host are literal they are split at compile time, so the expansion becomes a UrlBuilder without being parsed again
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:38:00
+ */
+public final class UriTemplate {
+
+	/** 缓存的模板数量上限 */
+	private static final int CACHE_SIZE = 512;
+	/** 模板缓存，读取不加锁，满了以后淘汰任意一个 */
+	private static final Map<String, UriTemplate> CACHE = new ConcurrentHashMap<>(64);
+	/** 只允许非保留字符 */
+	private static final PercentCodec UNRESERVED = RFC3986.UNRESERVED;
+	/** 允许非保留字符和保留字符，RFC3986.GEN_DELIMS中缺少@，在这里补上 */
+	private static final PercentCodec RESERVED = RFC3986.RESERVED.orNew(RFC3986.UNRESERVED).or(PercentCodec.of("@"));
+	/** 模板使用的编码 */
+	private static final Charset CHARSET = StandardCharsets.UTF_8;
+
+	/** 原始模板 */
+	private final String template;
+	/** 编译后的部分，字面量为String，表达式为Expression */
+	private final Object[] parts;
+	/** 变量名，按出现顺序 */
+	private final List<String> variableNames;
+	/** 编译时拆分出的协议，未拆分时为null */
+	private final String scheme;
+	/** 编译时拆分出的原始授权部分，展开时原样输出 */
+	private final String authority;
+	/** 编译时拆分出的主机 */
+	private final String host;
+	/** 编译时拆分出的端口 */
+	private final int port;
+	/** 上次展开的长度，用于预估缓冲区大小 */
+	private volatile int lastLength;
+
+	private UriTemplate(String template) {
+		this.template = template;
+		final List<Object> parts = new ArrayList<>();
+		final Set<String> names = new LinkedHashSet<>();
+		int i = 0;
+		while (i < template.length()) {
+			final int open = template.indexOf('{', i);
+			if (open < 0) {
+				parts.add(template.substring(i));
+				break;
+			}
+			if (open > i) {
+				parts.add(template.substring(i, open));
+			}
+			final int close = template.indexOf('}', open);
+			if (close < 0) {
+				throw new IllegalArgumentException("Unclosed expression in URI template [" + template + "].");
+			}
+			final Expression expression = Expression.parse(template.substring(open + 1, close), template);
+			for (VarSpec spec : expression.specs) {
+				names.add(spec.name);
+			}
+			parts.add(expression);
+			i = close + 1;
+		}
+
+		// split a literal scheme and authority off so the expansion does not have to be parsed
+		String scheme = null;
+		String authority = null;
+		String host = null;
+		int port = -1;
+		if (false == parts.isEmpty() && parts.get(0) instanceof String) {
+			final String literal = (String) parts.get(0);
+			final int schemeEnd = literal.indexOf("://");
+			if (schemeEnd > 0) {
+				int authorityEnd = schemeEnd + 3;
+				while (authorityEnd < literal.length() && "/?#".indexOf(literal.charAt(authorityEnd)) < 0) {
+					authorityEnd++;
+				}
+				if (authorityEnd < literal.length() || parts.size() == 1 || isPathStart(parts.get(1))) {
+					scheme = literal.substring(0, schemeEnd);
+					authority = literal.substring(schemeEnd + 3, authorityEnd);
+					host = hostOf(authority);
+					port = portOf(authority);
+					if (authorityEnd < literal.length()) {
+						parts.set(0, literal.substring(authorityEnd));
+					} else {
+						parts.remove(0);
+					}
+				}
+			}
+		}
+		for (int p = 0; p < parts.size(); p++) {
+			if (parts.get(p) instanceof String) {
+				parts.set(p, encodeReserved(new StringBuilder(), (String) parts.get(p)).toString());
+			}
+		}
+		this.parts = parts.toArray();
+		this.variableNames = Collections.unmodifiableList(new ArrayList<>(names));
+		this.scheme = scheme;
+		this.authority = authority;
+		this.host = host;
+		this.port = port;
+		this.lastLength = template.length() + 16;
+	}
+
+	/**
+	 * [编译URI模板](Compile a URI template)
+	 * @description zh - 编译URI模板，相同的模板从缓存中取得
+	 * @description en - Compile a URI template, the same template is taken from the cache
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:38:30
+	 * @param template 模板
+	 * @return com.axios.core.http.url.UriTemplate
+	 */
+	public static UriTemplate compile(String template) {
+		if (UrlTool.isBlank(template)) {
+			throw new IllegalArgumentException("URI template must be not blank!");
+		}
+		final UriTemplate cached = CACHE.get(template);
+		if (null != cached) {
+			return cached;
+		}
+		// compiled outside of any lock, a concurrent compile of the same template just loses the race
+		final UriTemplate compiled = new UriTemplate(template);
+		if (CACHE.size() >= CACHE_SIZE) {
+			final Iterator<String> keys = CACHE.keySet().iterator();
+			if (keys.hasNext()) {
+				keys.next();
+				keys.remove();
+			}
+		}
+		final UriTemplate existing = CACHE.putIfAbsent(template, compiled);
+		return null == existing ? compiled : existing;
+	}
+
+	/**
+	 * [获取变量名](Get the variable names)
+	 * @description zh - 获取变量名，按首次出现的顺序
+	 * @description en - Get the variable names, in the order of first appearance
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:39:00
+	 * @return java.util.List
+	 */
+	public List<String> getVariableNames() {
+		return this.variableNames;
+	}
+
+	/**
+	 * [展开模板](Expand the template)
+	 * @description zh - 展开模板，未定义的变量（null、空集合、空Map）按RFC 6570的规则省略
+	 * @description en - Expand the template, undefined variables (null, empty collection, empty map) are omitted according to the rules of RFC 6570
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:39:30
+	 * @param variables 变量
+	 * @return java.lang.String
+	 */
+	public String expand(Map<String, ?> variables) {
+		final StringBuilder builder = new StringBuilder(this.lastLength);
+		if (null != this.scheme) {
+			builder.append(this.scheme).append("://").append(this.authority);
+		}
+		expandTo(builder, variables);
+		return builder.toString();
+	}
+
+	/**
+	 * [按位置展开模板](Expand the template by position)
+	 * @description zh - 按变量首次出现的顺序填入变量值并展开模板
+	 * @description en - Fill in the variable values in the order the variables first appear and expand the template
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:40:00
+	 * @param values 变量值
+	 * @return java.lang.String
+	 */
+	public String expand(Object... values) {
+		return expand(toMap(values));
+	}
+
+	/**
+	 * [展开为URL生成器](Expand into a URL generator)
+	 * @description zh - 展开为URL生成器，路径和查询参数保持已编码的形式，之后追加的查询参数照常编码
+	 * @description en - Expand into a URL generator, the path and query keep the encoded form, and query parameters added later are encoded as usual
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:40:30
+	 * @param variables 变量
+	 * @return com.axios.core.http.url.UrlBuilder
+	 */
+	public UrlBuilder toUrlBuilder(Map<String, ?> variables) {
+		if (null == this.scheme) {
+			// the authority depends on variables, split the expansion
+			final String expanded = expand(variables);
+			final int schemeEnd = expanded.indexOf("://");
+			if (schemeEnd < 0) {
+				throw new IllegalArgumentException("Expanded URI [" + expanded + "] has no scheme.");
+			}
+			int authorityEnd = schemeEnd + 3;
+			while (authorityEnd < expanded.length() && "/?#".indexOf(expanded.charAt(authorityEnd)) < 0) {
+				authorityEnd++;
+			}
+			final String authority = expanded.substring(schemeEnd + 3, authorityEnd);
+			return split(expanded.substring(0, schemeEnd), hostOf(authority), portOf(authority), expanded, authorityEnd);
+		}
+		final StringBuilder builder = new StringBuilder(this.lastLength);
+		expandTo(builder, variables);
+		return split(this.scheme, this.host, this.port, builder, 0);
+	}
+
+	/**
+	 * [按位置展开为URL生成器](Expand into a URL generator by position)
+	 * @description zh - 按变量首次出现的顺序填入变量值并展开为URL生成器
+	 * @description en - Fill in the variable values in the order the variables first appear and expand into a URL generator
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:41:00
+	 * @param values 变量值
+	 * @return com.axios.core.http.url.UrlBuilder
+	 */
+	public UrlBuilder toUrlBuilder(Object... values) {
+		return toUrlBuilder(toMap(values));
+	}
+
+	@Override
+	public String toString() {
+		return this.template;
+	}
+
+	/** --------------- private --------------- */
+
+	private void expandTo(StringBuilder builder, Map<String, ?> variables) {
+		for (Object part : this.parts) {
+			if (part instanceof String) {
+				builder.append((String) part);
+			} else {
+				((Expression) part).expand(builder, variables);
+			}
+		}
+		this.lastLength = builder.length() + 16;
+	}
+
+	private Map<String, Object> toMap(Object[] values) {
+		final int length = null == values ? 0 : values.length;
+		if (length != this.variableNames.size()) {
+			throw new IllegalArgumentException("URI template [" + this.template + "] expects "
+					+ this.variableNames.size() + " variables but got " + length + ".");
+		}
+		final Map<String, Object> map = new LinkedHashMap<>(length * 2);
+		for (int i = 0; i < length; i++) {
+			map.put(this.variableNames.get(i), values[i]);
+		}
+		return map;
+	}
+
+	private static UrlBuilder split(String scheme, String host, int port, CharSequence rest, int start) {
+		int queryStart = -1;
+		int fragmentStart = -1;
+		for (int i = start; i < rest.length(); i++) {
+			final char c = rest.charAt(i);
+			if (c == '?' && queryStart < 0) {
+				queryStart = i;
+			} else if (c == '#') {
+				fragmentStart = i;
+				break;
+			}
+		}
+		final int pathEnd = queryStart >= 0 ? queryStart : (fragmentStart >= 0 ? fragmentStart : rest.length());
+		final String path = rest.subSequence(start, pathEnd).toString();
+		final String query = queryStart < 0 ? null : rest.subSequence(queryStart + 1, fragmentStart >= 0 ? fragmentStart : rest.length()).toString();
+		final String fragment = fragmentStart < 0 ? null : rest.subSequence(fragmentStart + 1, rest.length()).toString();
+		return UrlBuilder.ofEncoded(scheme, host, port, path, query, fragment, CHARSET);
+	}
+
+	/** 授权部分中的主机，不含用户信息和端口 */
+	private static String hostOf(String authority) {
+		final int start = authority.lastIndexOf('@') + 1;
+		final int colon = portColon(authority, start);
+		return authority.substring(start, colon < 0 ? authority.length() : colon);
+	}
+
+	/** 授权部分中的端口，没有端口或端口为空时返回-1 */
+	private static int portOf(String authority) {
+		final int colon = portColon(authority, authority.lastIndexOf('@') + 1);
+		if (colon < 0 || colon == authority.length() - 1) {
+			return -1;
+		}
+		return Integer.parseInt(authority.substring(colon + 1));
+	}
+
+	private static int portColon(String authority, int hostStart) {
+		final int colon = authority.lastIndexOf(':');
+		return colon >= hostStart && colon > authority.lastIndexOf(']') ? colon : -1;
+	}
+
+	private static boolean isPathStart(Object part) {
+		if (part instanceof Expression) {
+			final char op = ((Expression) part).operator;
+			return op == '/' || op == '?' || op == '#';
+		}
+		return false;
+	}
+
+	/**
+	 * [编码并保留已编码的三元组](Encode while keeping encoded triplets)
+	 * @description zh - 按保留字符集编码，已经是百分号编码的三元组原样保留
+	 * @description en - Encode with the reserved character set, triplets that are already percent encoded are kept as they are
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:41:30
+	 * @param builder 目标
+	 * @param value 值
+	 * @return java.lang.StringBuilder
+	 */
+	private static StringBuilder encodeReserved(StringBuilder builder, String value) {
+		int percent = value.indexOf('%');
+		if (percent < 0) {
+			return RESERVED.encodeTo(value, CHARSET, builder);
+		}
+		int from = 0;
+		while (percent >= 0) {
+			final boolean triplet = percent + 2 < value.length() && isHex(value.charAt(percent + 1)) && isHex(value.charAt(percent + 2));
+			RESERVED.encodeTo(value.subSequence(from, triplet ? percent : percent + 1), CHARSET, builder);
+			if (triplet) {
+				builder.append(value, percent, percent + 3);
+				from = percent + 3;
+			} else {
+				from = percent + 1;
+			}
+			percent = value.indexOf('%', from);
+		}
+		return RESERVED.encodeTo(value.subSequence(from, value.length()), CHARSET, builder);
+	}
+
+	private static boolean isHex(char c) {
+		return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+	}
+
+	/**
+	 * [变量说明](Variable specification)
+	 * @description zh - 表达式中的一个变量及其修饰符
+	 * @description en - A variable in an expression and its modifiers
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:42:00
+	 */
+	private static final class VarSpec {
+
+		/** 变量名 */
+		private final String name;
+		/** 是否展开 */
+		private final boolean explode;
+		/** 前缀长度，0表示不截取 */
+		private final int prefix;
+
+		private VarSpec(String name, boolean explode, int prefix) {
+			this.name = name;
+			this.explode = explode;
+			this.prefix = prefix;
+		}
+	}
+
+	/**
+	 * [表达式](Expression)
+	 * @description zh - 模板中花括号内的表达式
+	 * @description en - Expression inside braces in the template
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:42:30
+	 */
+	private static final class Expression {
+
+		/** 运算符，无运算符时为0 */
+		private final char operator;
+		/** 第一个值前的字符 */
+		private final String first;
+		/** 值之间的分隔符 */
+		private final String separator;
+		/** 是否输出变量名 */
+		private final boolean named;
+		/** 值为空时变量名后的字符 */
+		private final String ifEmpty;
+		/** 是否允许保留字符 */
+		private final boolean allowReserved;
+		/** 变量 */
+		private final VarSpec[] specs;
+
+		private Expression(char operator, VarSpec[] specs) {
+			this.operator = operator;
+			this.specs = specs;
+			switch (operator) {
+				case '+':
+					this.first = "";
+					this.separator = ",";
+					this.named = false;
+					this.ifEmpty = "";
+					this.allowReserved = true;
+					break;
+				case '#':
+					this.first = "#";
+					this.separator = ",";
+					this.named = false;
+					this.ifEmpty = "";
+					this.allowReserved = true;
+					break;
+				case '.':
+					this.first = ".";
+					this.separator = ".";
+					this.named = false;
+					this.ifEmpty = "";
+					this.allowReserved = false;
+					break;
+				case '/':
+					this.first = "/";
+					this.separator = "/";
+					this.named = false;
+					this.ifEmpty = "";
+					this.allowReserved = false;
+					break;
+				case ';':
+					this.first = ";";
+					this.separator = ";";
+					this.named = true;
+					this.ifEmpty = "";
+					this.allowReserved = false;
+					break;
+				case '?':
+					this.first = "?";
+					this.separator = "&";
+					this.named = true;
+					this.ifEmpty = "=";
+					this.allowReserved = false;
+					break;
+				case '&':
+					this.first = "&";
+					this.separator = "&";
+					this.named = true;
+					this.ifEmpty = "=";
+					this.allowReserved = false;
+					break;
+				default:
+					this.first = "";
+					this.separator = ",";
+					this.named = false;
+					this.ifEmpty = "";
+					this.allowReserved = false;
+			}
+		}
+
+		private static Expression parse(String body, String template) {
+			if (body.isEmpty()) {
+				throw new IllegalArgumentException("Empty expression in URI template [" + template + "].");
+			}
+			char operator = body.charAt(0);
+			if ("+#./;?&".indexOf(operator) >= 0) {
+				body = body.substring(1);
+			} else if ("=,!@|".indexOf(operator) >= 0) {
+				throw new IllegalArgumentException("Reserved operator [" + operator + "] in URI template [" + template + "].");
+			} else {
+				operator = 0;
+			}
+			final String[] names = body.split(",");
+			final VarSpec[] specs = new VarSpec[names.length];
+			for (int i = 0; i < names.length; i++) {
+				String name = names[i].trim();
+				boolean explode = false;
+				int prefix = 0;
+				if (name.endsWith("*")) {
+					explode = true;
+					name = name.substring(0, name.length() - 1);
+				} else {
+					final int colon = name.indexOf(':');
+					if (colon > 0) {
+						try {
+							prefix = Integer.parseInt(name.substring(colon + 1));
+						} catch (NumberFormatException e) {
+							prefix = -1;
+						}
+						if (prefix <= 0 || prefix >= 10000) {
+							throw new IllegalArgumentException("Invalid prefix modifier [" + name + "] in URI template [" + template + "].");
+						}
+						name = name.substring(0, colon);
+					}
+				}
+				if (name.isEmpty()) {
+					throw new IllegalArgumentException("Empty variable name in URI template [" + template + "].");
+				}
+				specs[i] = new VarSpec(name, explode, prefix);
+			}
+			return new Expression(operator, specs);
+		}
+
+		private void expand(StringBuilder builder, Map<String, ?> variables) {
+			boolean first = true;
+			for (VarSpec spec : this.specs) {
+				final Object value = null == variables ? null : variables.get(spec.name);
+				if (isUndefined(value)) {
+					continue;
+				}
+				builder.append(first ? this.first : this.separator);
+				first = false;
+				if (value instanceof Map) {
+					expandMap(builder, spec, (Map<?, ?>) value);
+				} else if (value instanceof Iterable || value.getClass().isArray()) {
+					expandList(builder, spec, iterator(value));
+				} else {
+					String string = value.toString();
+					if (spec.prefix > 0 && string.codePointCount(0, string.length()) > spec.prefix) {
+						string = string.substring(0, string.offsetByCodePoints(0, spec.prefix));
+					}
+					if (this.named) {
+						encode(builder, spec.name);
+						builder.append(string.isEmpty() ? this.ifEmpty : "=");
+					}
+					encode(builder, string);
+				}
+			}
+		}
+
+		private void expandList(StringBuilder builder, VarSpec spec, Iterator<?> items) {
+			if (false == spec.explode && this.named) {
+				encode(builder, spec.name).append('=');
+			}
+			boolean first = true;
+			while (items.hasNext()) {
+				final Object item = items.next();
+				if (null == item) {
+					continue;
+				}
+				if (false == first) {
+					builder.append(spec.explode ? this.separator : ",");
+				}
+				first = false;
+				final String string = item.toString();
+				if (spec.explode && this.named) {
+					encode(builder, spec.name).append(string.isEmpty() ? this.ifEmpty : "=");
+				}
+				encode(builder, string);
+			}
+		}
+
+		private void expandMap(StringBuilder builder, VarSpec spec, Map<?, ?> map) {
+			if (false == spec.explode && this.named) {
+				encode(builder, spec.name).append('=');
+			}
+			boolean first = true;
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				if (null == entry.getKey() || null == entry.getValue()) {
+					continue;
+				}
+				if (false == first) {
+					builder.append(spec.explode ? this.separator : ",");
+				}
+				first = false;
+				final String value = entry.getValue().toString();
+				encode(builder, entry.getKey().toString());
+				if (spec.explode) {
+					builder.append(value.isEmpty() ? this.ifEmpty : "=");
+				} else {
+					builder.append(',');
+				}
+				encode(builder, value);
+			}
+		}
+
+		private StringBuilder encode(StringBuilder builder, String value) {
+			return this.allowReserved ? encodeReserved(builder, value) : UNRESERVED.encodeTo(value, CHARSET, builder);
+		}
+
+		private static boolean isUndefined(Object value) {
+			if (null == value) {
+				return true;
+			}
+			if (value instanceof Map) {
+				return ((Map<?, ?>) value).isEmpty();
+			}
+			if (value instanceof Iterable) {
+				return false == ((Iterable<?>) value).iterator().hasNext();
+			}
+			return value.getClass().isArray() && 0 == Array.getLength(value);
+		}
+
+		private static Iterator<?> iterator(Object value) {
+			if (value instanceof Iterable) {
+				return ((Iterable<?>) value).iterator();
+			}
+			final int length = Array.getLength(value);
+			return new Iterator<Object>() {
+
+				/** 下一个位置 */
+				private int next;
+
+				@Override
+				public boolean hasNext() {
+					return this.next < length;
+				}
+
+				@Override
+				public Object next() {
+					return Array.get(value, this.next++);
+				}
+			};
+		}
+	}
+}
@@ -8,6 +8,7 @@ import java.net.URL;
 import java.net.URLStreamHandler;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 import com.axios.core.assertion.Assert;
 import com.axios.core.rfc.RFC3986;
@@ -57,6 +58,21 @@ public final class UrlBuilder implements Serializable {
 	 */
 	private String fragment;
 
+	/**
+	 * 已编码的路径，由URI模板展开得到
+	 */
+	private String encodedPath;
+
+	/**
+	 * 已编码的查询语句，由URI模板展开得到
+	 */
+	private String encodedQuery;
+
+	/**
+	 * 已编码的标识符，由URI模板展开得到
+	 */
+	private String encodedFragment;
+
 	/**
 	 * 编码，用于URLEncode和URLDecode
 	 */
@@ -231,6 +247,46 @@ public final class UrlBuilder implements Serializable {
 		return new UrlBuilder(scheme, host, port, path, query, fragment, charset);
 	}
 
+	/**
+	 * [使用URI模板构建UrlBuilder](Build urlbuilder using URI template)
+	 * @description zh - 使用RFC 6570 URI模板构建UrlBuilder，模板编译后会被缓存
+	 * @description en - Build urlbuilder using RFC 6570 URI template, the compiled template is cached
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:43:00
+	 * @param template URI模板，例如http://127.0.0.1/users/{id}{?fields*}
+	 * @param variables 变量
+	 * @return com.axios.core.http.url.UrlBuilder
+	 */
+	public static UrlBuilder ofTemplate(String template, Map<String, ?> variables) {
+		return UriTemplate.compile(template).toUrlBuilder(variables);
+	}
+
+	/**
+	 * [使用已编码的部分构建UrlBuilder](Build urlbuilder using encoded parts)
+	 * @description zh - 使用已编码的路径、查询语句和标识符构建UrlBuilder，这些部分不会再被编码
+	 * @description en - Build urlbuilder using encoded path, query and fragment, these parts will not be encoded again
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:43:30
+	 * @param scheme 协议
+	 * @param host 主机
+	 * @param port 端口，-1表示默认端口
+	 * @param encodedPath 已编码的路径
+	 * @param encodedQuery 已编码的查询语句
+	 * @param encodedFragment 已编码的标识符
+	 * @param charset 编码，用于之后追加的部分
+	 * @return com.axios.core.http.url.UrlBuilder
+	 */
+	static UrlBuilder ofEncoded(String scheme, String host, int port, String encodedPath, String encodedQuery, String encodedFragment, Charset charset) {
+		// an empty query is kept so that GET requests can append their form to it
+		final UrlBuilder builder = new UrlBuilder(scheme, host, port, null, new UrlQuery(), null, charset);
+		builder.encodedPath = UrlTool.isEmpty(encodedPath) ? null : encodedPath;
+		builder.encodedQuery = UrlTool.isEmpty(encodedQuery) ? null : encodedQuery;
+		builder.encodedFragment = UrlTool.isEmpty(encodedFragment) ? null : encodedFragment;
+		return builder;
+	}
+
 	/** getter and setter */
 
 	/**
@@ -365,6 +421,14 @@ public final class UrlBuilder implements Serializable {
 	 * @return java.lang.String
 	 */
 	public String getPathStr() {
+		if (null != this.encodedPath) {
+			if (null == this.path) {
+				return this.encodedPath;
+			}
+			// segments added after expansion are appended to the encoded path
+			final String added = this.path.build(charset);
+			return this.encodedPath.endsWith("/") && added.startsWith("/") ? this.encodedPath + added.substring(1) : this.encodedPath + added;
+		}
 		return null == this.path ? "/" : this.path.build(charset);
 	}
 
@@ -380,6 +444,7 @@ public final class UrlBuilder implements Serializable {
 	 */
 	public UrlBuilder setPath(UrlPath path) {
 		this.path = path;
+		this.encodedPath = null;
 		return this;
 	}
 
@@ -442,7 +507,11 @@ public final class UrlBuilder implements Serializable {
 	 * @return java.lang.String
 	 */
 	public String getQueryStr() {
-		return null == this.query ? null : this.query.build(this.charset);
+		final String query = null == this.query ? null : this.query.build(this.charset);
+		if (null == this.encodedQuery) {
+			return query;
+		}
+		return UrlTool.isEmpty(query) ? this.encodedQuery : this.encodedQuery + '&' + query;
 	}
 
 	/**
@@ -457,6 +526,7 @@ public final class UrlBuilder implements Serializable {
 	 */
 	public UrlBuilder setQuery(UrlQuery query) {
 		this.query = query;
+		this.encodedQuery = null;
 		return this;
 	}
 
@@ -506,6 +576,9 @@ public final class UrlBuilder implements Serializable {
 	 * @return java.lang.String
 	 */
 	public String getFragmentEncoded() {
+		if (null != this.encodedFragment) {
+			return this.encodedFragment;
+		}
 		return RFC3986.FRAGMENT.encode(this.fragment, this.charset);
 	}
 
@@ -524,6 +597,7 @@ public final class UrlBuilder implements Serializable {
 			this.fragment = null;
 		}
 		this.fragment = UrlTool.removePrefix(fragment, "#");
+		this.encodedFragment = null;
 		return this;
 	}
 
@@ -604,7 +678,7 @@ public final class UrlBuilder implements Serializable {
 		}
 
 		// fragment
-		if (UrlTool.isNotBlank(this.fragment)) {
+		if (UrlTool.isNotBlank(this.fragment) || null != this.encodedFragment) {
 			fileBuilder.append('#').append(getFragmentEncoded());
 		}
 
@@ -626,6 +700,10 @@ public final class UrlBuilder implements Serializable {
 	 */
 	public URI toURI() {
 		try {
+			if (null != this.encodedPath || null != this.encodedQuery || null != this.encodedFragment) {
+				// the multi-argument constructor would encode the encoded parts again
+				return new URI(build());
+			}
 			return new URI(
 					getSchemeWithDefault(),
 					getAuthority(),
@@ -154,7 +154,7 @@ public class UrlPath {
 		}
 		final StringBuilder builder = new StringBuilder();
 		for (String segment : segments) {
-			builder.append('/').append(RFC3986.SEGMENT_NZ_NC.encode(segment, charset));
+			RFC3986.SEGMENT_NZ_NC.encodeTo(segment, charset, builder.append('/'));
 		}
 		if (withEngTag || UrlTool.isEmpty(builder)) {
 			builder.append('/');
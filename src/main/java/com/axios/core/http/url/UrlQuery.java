@@ -276,10 +276,10 @@ public class UrlQuery {
 				if (sb.length() > 0) {
 					sb.append("&");
 				}
-				sb.append(keyCoder.encode(name, charset));
+				keyCoder.encodeTo(name, charset, sb);
 				value = entry.getValue();
 				if (null != value) {
-					sb.append("=").append(valueCoder.encode(value, charset));
+					valueCoder.encodeTo(value, charset, sb.append('='));
 				}
 			}
 		}
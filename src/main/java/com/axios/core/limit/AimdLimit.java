@@ -0,0 +1,71 @@
+package com.axios.core.limit;
+
+/**
+ * [加性增、乘性减的自适应并发上限](Additive increase, multiplicative decrease adaptive concurrency limit)
+ * @description zh - 加性增、乘性减的自适应并发上限：请求被限流、失败或延迟明显高于基线时按比例下调，否则在上限被用满时缓慢上调。非线程安全，由调用方加锁
+ * @description en - Additive increase, multiplicative decrease adaptive concurrency limit: it is scaled down when a request is throttled, fails or its latency is clearly above the baseline, otherwise it is slowly raised while the limit is in use. Not thread safe, the caller holds the lock
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:06:40
+ */
+final class AimdLimit {
+
+	/** 下调比例 */
+	private static final double BACKOFF = 0.9;
+	/** 延迟超过基线的倍数时视为过载 */
+	private static final double TOLERANCE = 2.0;
+	/** 基线延迟的平滑系数 */
+	private static final double BASELINE_ALPHA = 0.05;
+
+	/** 最小上限 */
+	private final int min;
+	/** 最大上限 */
+	private final int max;
+	/** 当前上限 */
+	private double limit;
+	/** 基线延迟，纳秒 */
+	private double baseline = -1;
+
+	AimdLimit(int initial, int min, int max) {
+		this.min = Math.max(1, min);
+		this.max = Math.max(this.min, max);
+		this.limit = Math.min(this.max, Math.max(this.min, initial));
+	}
+
+	/**
+	 * [获取当前上限](Get the current limit)
+	 * @description zh - 获取当前上限
+	 * @description en - Get the current limit
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:07:10
+	 * @return int
+	 */
+	int getLimit() {
+		return (int) this.limit;
+	}
+
+	/**
+	 * [记录一次请求结果](Record a request result)
+	 * @description zh - 记录一次请求结果并调整上限
+	 * @description en - Record a request result and adjust the limit
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:07:40
+	 * @param latencyNanos 请求延迟
+	 * @param dropped 是否被限流或失败
+	 * @param inFlight 结束前正在执行的请求数
+	 */
+	void onSample(long latencyNanos, boolean dropped, int inFlight) {
+		final boolean slow = this.baseline > 0 && latencyNanos > this.baseline * TOLERANCE;
+		if (false == dropped) {
+			this.baseline = this.baseline < 0 ? latencyNanos : this.baseline + BASELINE_ALPHA * (latencyNanos - this.baseline);
+		}
+		if (dropped || slow) {
+			this.limit = Math.max(this.min, this.limit * BACKOFF);
+		} else if (inFlight * 2 >= this.limit) {
+			// only grow while the current limit is actually being used
+			this.limit = Math.min(this.max, this.limit + 1 / this.limit);
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package com.axios.core.limit;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [限流器统计信息](Limiter statistics)
+ * @description zh - 单个路由的限流器统计信息
+ * @description en - Limiter statistics of a single route
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:08:10
+ */
+public final class LimiterStats implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/** 当前并发上限 */
+	private final int limit;
+	/** 正在执行的请求数 */
+	private final int inFlight;
+	/** 等待许可的请求数 */
+	private final int queued;
+	/** 已获得许可的请求数 */
+	private final long acquired;
+	/** 被拒绝的请求数 */
+	private final long rejected;
+	/** 累计等待纳秒数 */
+	private final long totalWaitNanos;
+	/** 最长等待纳秒数 */
+	private final long maxWaitNanos;
+
+	public LimiterStats(int limit, int inFlight, int queued, long acquired, long rejected, long totalWaitNanos, long maxWaitNanos) {
+		this.limit = limit;
+		this.inFlight = inFlight;
+		this.queued = queued;
+		this.acquired = acquired;
+		this.rejected = rejected;
+		this.totalWaitNanos = totalWaitNanos;
+		this.maxWaitNanos = maxWaitNanos;
+	}
+
+	/**
+	 * [获取当前并发上限](Get the current concurrency limit)
+	 * @description zh - 获取当前并发上限，未限制并发时为Integer.MAX_VALUE
+	 * @description en - Get the current concurrency limit, Integer.MAX_VALUE when concurrency is not limited
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:08:30
+	 * @return int
+	 */
+	public int getLimit() {
+		return this.limit;
+	}
+
+	/**
+	 * [获取正在执行的请求数](Get the number of requests in flight)
+	 * @description zh - 获取正在执行的请求数
+	 * @description en - Get the number of requests in flight
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:08:50
+	 * @return int
+	 */
+	public int getInFlight() {
+		return this.inFlight;
+	}
+
+	/**
+	 * [获取等待许可的请求数](Get the number of requests waiting for a permit)
+	 * @description zh - 获取等待许可的请求数
+	 * @description en - Get the number of requests waiting for a permit
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:09:10
+	 * @return int
+	 */
+	public int getQueued() {
+		return this.queued;
+	}
+
+	/**
+	 * [获取已获得许可的请求数](Get the number of requests that obtained a permit)
+	 * @description zh - 获取已获得许可的请求数
+	 * @description en - Get the number of requests that obtained a permit
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:09:30
+	 * @return long
+	 */
+	public long getAcquired() {
+		return this.acquired;
+	}
+
+	/**
+	 * [获取被拒绝的请求数](Get the number of rejected requests)
+	 * @description zh - 获取被拒绝的请求数
+	 * @description en - Get the number of rejected requests
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:09:50
+	 * @return long
+	 */
+	public long getRejected() {
+		return this.rejected;
+	}
+
+	/**
+	 * [获取平均等待毫秒数](Get the average waiting milliseconds)
+	 * @description zh - 获取已获得许可的请求的平均等待毫秒数
+	 * @description en - Get the average waiting milliseconds of requests that obtained a permit
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:10:10
+	 * @return double
+	 */
+	public double getAverageWaitMillis() {
+		return 0 == this.acquired ? 0 : (double) this.totalWaitNanos / this.acquired / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	/**
+	 * [获取最长等待毫秒数](Get the maximum waiting milliseconds)
+	 * @description zh - 获取最长等待毫秒数
+	 * @description en - Get the maximum waiting milliseconds
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:10:30
+	 * @return long
+	 */
+	public long getMaxWaitMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(this.maxWaitNanos);
+	}
+
+	@Override
+	public String toString() {
+		return "LimiterStats[limit=" + this.limit + ", inFlight=" + this.inFlight + ", queued=" + this.queued
+				+ ", acquired=" + this.acquired + ", rejected=" + this.rejected
+				+ ", averageWaitMillis=" + getAverageWaitMillis() + ", maxWaitMillis=" + getMaxWaitMillis() + "]";
+	}
+}
@@ -0,0 +1,62 @@
+package com.axios.core.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * [请求许可](Request permit)
+ * @description zh - 请求许可，请求结束后必须释放，释放时上报延迟与结果用于调整并发上限
+ * @description en - Request permit, it must be released after the request ends, and the latency and result are reported on release to adjust the concurrency limit
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:11:00
+ */
+public final class Permit {
+
+	/** 所属路由 */
+	private final RequestLimiter.Route route;
+	/** 等待许可的纳秒数 */
+	private final long waitNanos;
+	/** 获得许可的时间 */
+	private final long acquiredAt;
+	/** 是否已释放 */
+	private final AtomicBoolean released = new AtomicBoolean();
+
+	Permit(RequestLimiter.Route route, long waitNanos) {
+		this.route = route;
+		this.waitNanos = waitNanos;
+		this.acquiredAt = System.nanoTime();
+	}
+
+	/**
+	 * [获取等待许可的毫秒数](Get the milliseconds waited for the permit)
+	 * @description zh - 获取等待许可的毫秒数
+	 * @description en - Get the milliseconds waited for the permit
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:11:20
+	 * @return long
+	 */
+	public long getWaitMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(this.waitNanos);
+	}
+
+	/**
+	 * [释放许可](Release the permit)
+	 * @description zh - 释放许可，重复释放无效
+	 * @description en - Release the permit, repeated release has no effect
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:11:40
+	 * @param dropped 请求是否被服务端限流或失败
+	 */
+	public void release(boolean dropped) {
+		if (this.released.compareAndSet(false, true)) {
+			this.route.release(System.nanoTime() - this.acquiredAt, dropped);
+		}
+	}
+
+	long getWaitNanos() {
+		return this.waitNanos;
+	}
+}
@@ -0,0 +1,442 @@
+package com.axios.core.limit;
+
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.axios.exception.LimitExceededException;
+
+/**
+ * [客户端请求限流器](Client side request limiter)
+ * @description zh - 客户端请求限流器，按路由（协议、主机和端口）分别限制每秒请求数（令牌桶）和并发数（加性增、乘性减的自适应上限）。获取许可不阻塞线程，超出时排队，等待超过上限时拒绝
+ * @description en - Client side request limiter, which limits the requests per second (token bucket) and the concurrency (additive increase, multiplicative decrease adaptive limit) separately per route (scheme, host and port). Acquiring a permit does not block the thread, requests are queued when exceeded and rejected when the wait exceeds the upper limit
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:12:00
+ */
+public class RequestLimiter {
+
+	/** 默认最长等待毫秒数 */
+	public static final long DEFAULT_MAX_WAIT = 30000;
+
+	/** 每秒请求数，不大于0表示不限制 */
+	private volatile double permitsPerSecond;
+	/** 令牌桶容量 */
+	private volatile int burst = 1;
+	/** 初始并发上限，不大于0表示不限制 */
+	private volatile int initialLimit;
+	/** 最小并发上限 */
+	private volatile int minLimit;
+	/** 最大并发上限 */
+	private volatile int maxLimit;
+	/** 最长等待纳秒数 */
+	private volatile long maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_MAX_WAIT);
+	/** 路由状态 */
+	private final Map<String, Route> routes = new ConcurrentHashMap<>();
+
+	/**
+	 * [创建请求限流器](Create a request limiter)
+	 * @description zh - 创建请求限流器，默认不做任何限制
+	 * @description en - Create a request limiter, no limit is applied by default
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:12:20
+	 * @return com.axios.core.limit.RequestLimiter
+	 */
+	public static RequestLimiter create() {
+		return new RequestLimiter();
+	}
+
+	/**
+	 * [设置每秒请求数](Set the requests per second)
+	 * @description zh - 设置每个路由每秒请求数，只对之后首次访问的路由生效
+	 * @description en - Set the requests per second of each route, which only takes effect for routes accessed for the first time afterwards
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:12:40
+	 * @param permitsPerSecond 每秒请求数
+	 * @param burst 允许的突发请求数
+	 * @return com.axios.core.limit.RequestLimiter
+	 */
+	public RequestLimiter setRate(double permitsPerSecond, int burst) {
+		this.permitsPerSecond = permitsPerSecond;
+		this.burst = Math.max(1, burst);
+		return this;
+	}
+
+	/**
+	 * [设置固定并发数](Set a fixed concurrency)
+	 * @description zh - 设置每个路由的固定并发数，只对之后首次访问的路由生效
+	 * @description en - Set a fixed concurrency of each route, which only takes effect for routes accessed for the first time afterwards
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:13:00
+	 * @param limit 并发数
+	 * @return com.axios.core.limit.RequestLimiter
+	 */
+	public RequestLimiter setConcurrency(int limit) {
+		return setConcurrency(limit, limit, limit);
+	}
+
+	/**
+	 * [设置自适应并发数](Set an adaptive concurrency)
+	 * @description zh - 设置每个路由的自适应并发数：服务端返回429、503、请求失败或延迟超过基线两倍时下调，否则缓慢上调。只对之后首次访问的路由生效
+	 * @description en - Set an adaptive concurrency of each route: it is lowered when the server returns 429 or 503, the request fails or the latency exceeds twice the baseline, otherwise it is slowly raised. It only takes effect for routes accessed for the first time afterwards
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:13:20
+	 * @param initial 初始并发数
+	 * @param min 最小并发数
+	 * @param max 最大并发数
+	 * @return com.axios.core.limit.RequestLimiter
+	 */
+	public RequestLimiter setConcurrency(int initial, int min, int max) {
+		this.initialLimit = initial;
+		this.minLimit = min;
+		this.maxLimit = max;
+		return this;
+	}
+
+	/**
+	 * [设置最长等待时间](Set the maximum waiting time)
+	 * @description zh - 设置获取许可的最长等待毫秒数，为0时超出限制立即拒绝
+	 * @description en - Set the maximum milliseconds to wait for a permit, when it is 0 the request is rejected immediately once the limit is exceeded
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:13:40
+	 * @param milliseconds 毫秒数
+	 * @return com.axios.core.limit.RequestLimiter
+	 */
+	public RequestLimiter setMaxWait(long milliseconds) {
+		this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, milliseconds));
+		return this;
+	}
+
+	/**
+	 * [异步获取许可](Acquire a permit asynchronously)
+	 * @description zh - 异步获取许可，超出限制时排队，等待超过上限时以LimitExceededException异常结束
+	 * @description en - Acquire a permit asynchronously, queued when the limit is exceeded, and completed with LimitExceededException when the wait exceeds the upper limit
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:14:00
+	 * @param url 请求地址
+	 * @return java.util.concurrent.CompletableFuture
+	 */
+	public CompletableFuture<Permit> acquireAsync(URL url) {
+		final Route route = this.routes.computeIfAbsent(key(url), key -> new Route(key, this));
+		final CompletableFuture<Permit> future = new CompletableFuture<>();
+		final long start = System.nanoTime();
+		final long deadline = start + this.maxWaitNanos;
+		final long wait = null == route.bucket ? 0 : route.bucket.reserve(this.maxWaitNanos);
+		if (wait < 0) {
+			route.reject(future, "rate");
+		} else if (wait > 0) {
+			Scheduler.INSTANCE.schedule(() -> route.acquire(future, start, deadline), wait, TimeUnit.NANOSECONDS);
+		} else {
+			route.acquire(future, start, deadline);
+		}
+		return future;
+	}
+
+	/**
+	 * [获取许可](Acquire a permit)
+	 * @description zh - 阻塞当前线程直到获得许可
+	 * @description en - Block the current thread until a permit is obtained
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:14:20
+	 * @param url 请求地址
+	 * @return com.axios.core.limit.Permit
+	 */
+	public Permit acquire(URL url) {
+		try {
+			return acquireAsync(url).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * [获取路由的统计信息](Get the statistics of a route)
+	 * @description zh - 获取路由的统计信息，路由尚未访问时返回null
+	 * @description en - Get the statistics of a route, null is returned when the route has not been accessed
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:14:40
+	 * @param url 请求地址
+	 * @return com.axios.core.limit.LimiterStats
+	 */
+	public LimiterStats getStats(URL url) {
+		final Route route = this.routes.get(key(url));
+		return null == route ? null : route.stats();
+	}
+
+	/**
+	 * [获取所有路由的统计信息](Get the statistics of all routes)
+	 * @description zh - 获取所有路由的统计信息，键为协议://主机:端口
+	 * @description en - Get the statistics of all routes, the key is scheme://host:port
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:15:00
+	 * @return java.util.Map
+	 */
+	public Map<String, LimiterStats> getStats() {
+		final Map<String, LimiterStats> stats = new LinkedHashMap<>();
+		this.routes.forEach((key, route) -> stats.put(key, route.stats()));
+		return Collections.unmodifiableMap(stats);
+	}
+
+	/** --------------- private --------------- */
+
+	private static String key(URL url) {
+		final int port = -1 == url.getPort() ? url.getDefaultPort() : url.getPort();
+		return url.getProtocol() + "://" + url.getHost().toLowerCase() + ":" + port;
+	}
+
+	/**
+	 * [单个路由的限流状态](Limiting state of a single route)
+	 * @description zh - 单个路由的限流状态
+	 * @description en - Limiting state of a single route
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:15:20
+	 */
+	static final class Route {
+
+		/** 路由键 */
+		private final String key;
+		/** 令牌桶，不限速时为null */
+		private final TokenBucket bucket;
+		/** 并发上限，不限制并发时为null */
+		private final AimdLimit limit;
+		/** 锁 */
+		private final ReentrantLock lock = new ReentrantLock();
+		/** 等待并发许可的请求 */
+		private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+		/** 正在执行的请求数 */
+		private int inFlight;
+		/** 已获得许可的请求数 */
+		private long acquired;
+		/** 被拒绝的请求数 */
+		private long rejected;
+		/** 累计等待纳秒数 */
+		private long totalWaitNanos;
+		/** 最长等待纳秒数 */
+		private long maxWaitNanos;
+
+		Route(String key, RequestLimiter limiter) {
+			this.key = key;
+			this.bucket = limiter.permitsPerSecond > 0 ? new TokenBucket(limiter.permitsPerSecond, limiter.burst) : null;
+			this.limit = limiter.initialLimit > 0 ? new AimdLimit(limiter.initialLimit, limiter.minLimit, limiter.maxLimit) : null;
+		}
+
+		/**
+		 * [获取并发许可](Acquire a concurrency permit)
+		 * @description zh - 获取并发许可，没有空位时排队直到截止时间。此时已扣除速率令牌，被拒绝时退还
+		 * @description en - Acquire a concurrency permit, queued until the deadline when there is no free slot. The rate token has already been taken by then and is refunded when rejected
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 19:15:40
+		 * @param future 许可
+		 * @param start 开始等待的时间
+		 * @param deadline 截止时间
+		 */
+		void acquire(CompletableFuture<Permit> future, long start, long deadline) {
+			final Waiter waiter;
+			this.lock.lock();
+			try {
+				if (null == this.limit || this.inFlight < this.limit.getLimit()) {
+					this.inFlight++;
+					waiter = null;
+				} else {
+					final long remaining = deadline - System.nanoTime();
+					if (remaining <= 0) {
+						this.rejected++;
+						refund();
+						future.completeExceptionally(exceeded("concurrency"));
+						return;
+					}
+					waiter = new Waiter(future, start);
+					this.waiters.addLast(waiter);
+					waiter.timeout = Scheduler.INSTANCE.schedule(() -> timeout(waiter), remaining, TimeUnit.NANOSECONDS);
+				}
+			} finally {
+				this.lock.unlock();
+			}
+			if (null == waiter) {
+				grant(future, start);
+			}
+		}
+
+		/**
+		 * [释放许可](Release a permit)
+		 * @description zh - 释放许可，调整并发上限并唤醒排队的请求
+		 * @description en - Release a permit, adjust the concurrency limit and wake up the queued requests
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 19:16:00
+		 * @param latencyNanos 请求延迟
+		 * @param dropped 请求是否被服务端限流或失败
+		 */
+		void release(long latencyNanos, boolean dropped) {
+			final List<Waiter> ready = new ArrayList<>();
+			this.lock.lock();
+			try {
+				if (null != this.limit) {
+					this.limit.onSample(latencyNanos, dropped, this.inFlight);
+				}
+				this.inFlight--;
+				while (false == this.waiters.isEmpty() && this.inFlight < this.limit.getLimit()) {
+					this.inFlight++;
+					ready.add(this.waiters.pollFirst());
+				}
+			} finally {
+				this.lock.unlock();
+			}
+			for (Waiter waiter : ready) {
+				waiter.timeout.cancel(false);
+				grant(waiter.future, waiter.start);
+			}
+		}
+
+		void reject(CompletableFuture<Permit> future, String kind) {
+			this.lock.lock();
+			try {
+				this.rejected++;
+			} finally {
+				this.lock.unlock();
+			}
+			future.completeExceptionally(exceeded(kind));
+		}
+
+		LimiterStats stats() {
+			this.lock.lock();
+			try {
+				return new LimiterStats(null == this.limit ? Integer.MAX_VALUE : this.limit.getLimit(), this.inFlight,
+						this.waiters.size(), this.acquired, this.rejected, this.totalWaitNanos, this.maxWaitNanos);
+			} finally {
+				this.lock.unlock();
+			}
+		}
+
+		/** --------------- private --------------- */
+
+		private void grant(CompletableFuture<Permit> future, long start) {
+			final long waited = System.nanoTime() - start;
+			final Permit permit = new Permit(this, waited);
+			if (false == future.complete(permit)) {
+				// the caller gave up, hand the slot and the token back without a latency sample
+				refund();
+				abandon();
+				return;
+			}
+			this.lock.lock();
+			try {
+				this.acquired++;
+				this.totalWaitNanos += waited;
+				this.maxWaitNanos = Math.max(this.maxWaitNanos, waited);
+			} finally {
+				this.lock.unlock();
+			}
+		}
+
+		private void abandon() {
+			final Waiter next;
+			this.lock.lock();
+			try {
+				next = this.waiters.pollFirst();
+				if (null == next) {
+					this.inFlight--;
+				}
+			} finally {
+				this.lock.unlock();
+			}
+			if (null != next) {
+				next.timeout.cancel(false);
+				grant(next.future, next.start);
+			}
+		}
+
+		private void timeout(Waiter waiter) {
+			this.lock.lock();
+			try {
+				if (false == this.waiters.remove(waiter)) {
+					return;
+				}
+				this.rejected++;
+			} finally {
+				this.lock.unlock();
+			}
+			refund();
+			waiter.future.completeExceptionally(exceeded("concurrency"));
+		}
+
+		private void refund() {
+			if (null != this.bucket) {
+				this.bucket.refund();
+			}
+		}
+
+		private LimitExceededException exceeded(String kind) {
+			return new LimitExceededException("Request " + kind + " limit of [" + this.key + "] exceeded.");
+		}
+	}
+
+	/**
+	 * [排队的请求](Queued request)
+	 * @description zh - 排队等待并发许可的请求
+	 * @description en - Request queued for a concurrency permit
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:16:20
+	 */
+	private static final class Waiter {
+
+		/** 许可 */
+		private final CompletableFuture<Permit> future;
+		/** 开始等待的时间 */
+		private final long start;
+		/** 超时任务 */
+		private ScheduledFuture<?> timeout;
+
+		private Waiter(CompletableFuture<Permit> future, long start) {
+			this.future = future;
+			this.start = start;
+		}
+	}
+
+	/**
+	 * [延迟任务调度器](Delayed task scheduler)
+	 * @description zh - 延迟任务调度器，使用单个守护线程
+	 * @description en - Delayed task scheduler, using a single daemon thread
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:16:40
+	 */
+	private static final class Scheduler {
+
+		private static final ScheduledThreadPoolExecutor INSTANCE = new ScheduledThreadPoolExecutor(1, runnable -> {
+			final Thread thread = new Thread(runnable, "axios-limiter");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		static {
+			INSTANCE.setRemoveOnCancelPolicy(true);
+		}
+	}
+}
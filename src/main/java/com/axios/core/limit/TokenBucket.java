@@ -0,0 +1,82 @@
+package com.axios.core.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [令牌桶](Token bucket)
+ * @description zh - 令牌桶，按固定速率生成令牌，最多积攒突发数量；预约时立即扣除令牌并返回需要等待的时间，不阻塞线程
+ * @description en - Token bucket, tokens are generated at a fixed rate and up to the burst size are accumulated; a reservation deducts the token immediately and returns the time to wait without blocking the thread
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:05:40
+ */
+final class TokenBucket {
+
+	/** 每纳秒生成的令牌数 */
+	private final double tokensPerNano;
+	/** 最大令牌数 */
+	private final double burst;
+	/** 锁 */
+	private final ReentrantLock lock = new ReentrantLock();
+	/** 当前令牌数，为负表示已被预约 */
+	private double tokens;
+	/** 上次补充令牌的时间 */
+	private long lastRefill;
+
+	TokenBucket(double permitsPerSecond, int burst) {
+		this.tokensPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+		this.burst = Math.max(1, burst);
+		this.tokens = this.burst;
+		this.lastRefill = System.nanoTime();
+	}
+
+	/**
+	 * [预约一个令牌](Reserve a token)
+	 * @description zh - 预约一个令牌，返回需要等待的纳秒数，等待时间超过上限时不预约并返回-1
+	 * @description en - Reserve a token and return the number of nanoseconds to wait, when the waiting time exceeds the upper limit, no reservation is made and -1 is returned
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:06:10
+	 * @param maxWaitNanos 最长等待纳秒数
+	 * @return long
+	 */
+	long reserve(long maxWaitNanos) {
+		this.lock.lock();
+		try {
+			final long now = System.nanoTime();
+			this.tokens = Math.min(this.burst, this.tokens + (now - this.lastRefill) * this.tokensPerNano);
+			this.lastRefill = now;
+			if (this.tokens >= 1) {
+				this.tokens -= 1;
+				return 0;
+			}
+			final long wait = (long) Math.ceil((1 - this.tokens) / this.tokensPerNano);
+			if (wait > maxWaitNanos) {
+				return -1;
+			}
+			// the debt is paid back by later refills, which keeps queued callers in order
+			this.tokens -= 1;
+			return wait;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * [退还一个令牌](Refund a token)
+	 * @description zh - 退还已预约但未使用的令牌，例如请求在等待并发许可时被拒绝
+	 * @description en - Refund a token that was reserved but not used, for example when the request is rejected while waiting for a concurrency permit
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:19:00
+	 */
+	void refund() {
+		this.lock.lock();
+		try {
+			this.tokens = Math.min(this.burst, this.tokens + 1);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,446 @@
+package com.axios.core.map;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.axios.header.RequestHeader;
+
+/**
+ * [忽略大小写的头信息Map](Case insensitive header map)
+ * @description zh - 忽略大小写的头信息Map：名称和值按插入顺序存放在数组中，开放寻址的索引表保存忽略大小写的哈希，查找时不分配对象。常用头的哈希预先计算。支持null键，用于保存响应状态行
+ * @description en - Case insensitive header map: names and values are stored in arrays in insertion order, an open addressing index table keeps the case insensitive hashes, and lookups do not allocate. Hashes of well-known headers are precomputed. The null key is supported for the response status line
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:25:00
+ */
+public class HeaderMap extends AbstractMap<String, List<String>> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/** 默认容量 */
+	private static final int DEFAULT_CAPACITY = 16;
+	/** 常用头的哈希，按枚举序号存放 */
+	private static final int[] WELL_KNOWN = new int[RequestHeader.values().length];
+
+	static {
+		for (RequestHeader header : RequestHeader.values()) {
+			WELL_KNOWN[header.ordinal()] = hash(header.toString());
+		}
+	}
+
+	/** 头名称，按插入顺序 */
+	private String[] names;
+	/** 头的值 */
+	private Object[] values;
+	/** 头名称的哈希 */
+	private int[] hashes;
+	/** 索引表，保存位置+1，0表示空 */
+	private int[] index;
+	/** 头的数量 */
+	private int size;
+	/** 条目视图 */
+	private transient Set<Map.Entry<String, List<String>>> entrySet;
+
+	public HeaderMap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public HeaderMap(int initialCapacity) {
+		final int capacity = Math.max(4, initialCapacity);
+		this.names = new String[capacity];
+		this.values = new Object[capacity];
+		this.hashes = new int[capacity];
+		this.index = new int[tableSize(capacity)];
+	}
+
+	/**
+	 * [复制头信息](Copy headers)
+	 * @description zh - 复制头信息。来源区分大小写时，只有大小写不同的名称合并为一个头，值按顺序追加而不是互相覆盖
+	 * @description en - Copy headers. When the source is case sensitive, names that differ only in case are merged into one header and their values are appended in order instead of overwriting each other
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:21:00
+	 * @param headers 头信息
+	 */
+	public HeaderMap(Map<String, List<String>> headers) {
+		this(null == headers ? DEFAULT_CAPACITY : headers.size());
+		if (null != headers) {
+			for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+				merge(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * [获取常用头的值](Get the values of a well-known header)
+	 * @description zh - 获取常用头的值，使用预先计算的哈希
+	 * @description en - Get the values of a well-known header, using the precomputed hash
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:25:30
+	 * @param name 头名称
+	 * @return java.util.List
+	 */
+	public List<String> get(RequestHeader name) {
+		return null == name ? null : valueAt(find(name.toString(), WELL_KNOWN[name.ordinal()]));
+	}
+
+	/**
+	 * [获取头的第一个值](Get the first value of a header)
+	 * @description zh - 获取头的第一个值，不存在时返回null
+	 * @description en - Get the first value of a header, null is returned when it does not exist
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:26:00
+	 * @param name 头名称
+	 * @return java.lang.String
+	 */
+	public String getFirst(String name) {
+		return first(valueAt(find(name, hash(name))));
+	}
+
+	/**
+	 * [获取常用头的第一个值](Get the first value of a well-known header)
+	 * @description zh - 获取常用头的第一个值，不存在时返回null
+	 * @description en - Get the first value of a well-known header, null is returned when it does not exist
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:26:30
+	 * @param name 头名称
+	 * @return java.lang.String
+	 */
+	public String getFirst(RequestHeader name) {
+		return first(get(name));
+	}
+
+	/**
+	 * [添加头](Add a header)
+	 * @description zh - 添加头，覆盖时替换已有的值，否则追加。值列表不可变，追加时复制，因此复制出的HeaderMap可以安全地共享值列表
+	 * @description en - Add a header, existing values are replaced when overriding, otherwise appended. Value lists are immutable and copied on append, so copied HeaderMaps can share value lists safely
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:30:00
+	 * @param name 头名称
+	 * @param value 头的值
+	 * @param isOverride 是否覆盖
+	 * @return com.axios.core.map.HeaderMap
+	 */
+	public HeaderMap add(String name, String value, boolean isOverride) {
+		final List<String> values = get(name);
+		if (isOverride || null == values || values.isEmpty()) {
+			put(name, Collections.singletonList(value));
+		} else {
+			final List<String> appended = new ArrayList<>(values.size() + 1);
+			appended.addAll(values);
+			appended.add(value);
+			put(name, Collections.unmodifiableList(appended));
+		}
+		return this;
+	}
+
+	/**
+	 * [复制](Copy)
+	 * @description zh - 复制，只复制数组，值列表共享
+	 * @description en - Copy, only the arrays are copied and the value lists are shared
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:30:30
+	 * @return com.axios.core.map.HeaderMap
+	 */
+	public HeaderMap copy() {
+		final HeaderMap copy = new HeaderMap(0);
+		copy.names = this.names.clone();
+		copy.values = this.values.clone();
+		copy.hashes = this.hashes.clone();
+		copy.index = this.index.clone();
+		copy.size = this.size;
+		return copy;
+	}
+
+	/**
+	 * [复制头信息](Copy headers)
+	 * @description zh - 复制头信息，来源是HeaderMap时直接复制数组
+	 * @description en - Copy headers, the arrays are copied directly when the source is a HeaderMap
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:31:00
+	 * @param headers 头信息
+	 * @return com.axios.core.map.HeaderMap
+	 */
+	public static HeaderMap copyOf(Map<String, List<String>> headers) {
+		return headers instanceof HeaderMap ? ((HeaderMap) headers).copy() : new HeaderMap(headers);
+	}
+
+	/** ---------------- override ---------------- */
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return (null == key || key instanceof String) && find((String) key, hash((String) key)) >= 0;
+	}
+
+	@Override
+	public List<String> get(Object key) {
+		if (null != key && false == key instanceof String) {
+			return null;
+		}
+		return valueAt(find((String) key, hash((String) key)));
+	}
+
+	@Override
+	public List<String> put(String key, List<String> value) {
+		final int hash = hash(key);
+		final int position = find(key, hash);
+		if (position >= 0) {
+			final List<String> old = valueAt(position);
+			this.values[position] = value;
+			return old;
+		}
+		if (this.size == this.names.length) {
+			grow();
+		}
+		this.names[this.size] = key;
+		this.values[this.size] = value;
+		this.hashes[this.size] = hash;
+		this.size++;
+		insert(this.size - 1);
+		return null;
+	}
+
+	@Override
+	public List<String> remove(Object key) {
+		if (null != key && false == key instanceof String) {
+			return null;
+		}
+		final int position = find((String) key, hash((String) key));
+		if (position < 0) {
+			return null;
+		}
+		final List<String> old = valueAt(position);
+		removeAt(position);
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(this.names, 0, this.size, null);
+		Arrays.fill(this.values, 0, this.size, null);
+		Arrays.fill(this.index, 0);
+		this.size = 0;
+	}
+
+	@Override
+	public Set<Map.Entry<String, List<String>>> entrySet() {
+		if (null == this.entrySet) {
+			this.entrySet = new EntrySet();
+		}
+		return this.entrySet;
+	}
+
+	/** ---------------- private ---------------- */
+
+	/**
+	 * [计算忽略大小写的哈希](Compute the case insensitive hash)
+	 * @description zh - 计算忽略大小写的哈希，ASCII字符直接折叠，其余字符与String.equalsIgnoreCase的规则一致
+	 * @description en - Compute the case insensitive hash, ASCII characters are folded directly, and the other characters follow the rules of String.equalsIgnoreCase
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:27:00
+	 * @param name 头名称
+	 * @return int
+	 */
+	private static int hash(String name) {
+		if (null == name) {
+			return 0;
+		}
+		int hash = 0;
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (c < 128) {
+				if (c >= 'A' && c <= 'Z') {
+					c += 'a' - 'A';
+				}
+			} else {
+				c = Character.toLowerCase(Character.toUpperCase(c));
+			}
+			hash = 31 * hash + c;
+		}
+		return hash ^ (hash >>> 16);
+	}
+
+	private static int tableSize(int capacity) {
+		int size = 8;
+		while (size < capacity * 2) {
+			size <<= 1;
+		}
+		return size;
+	}
+
+	private static String first(List<String> values) {
+		return null == values || values.isEmpty() ? null : values.get(0);
+	}
+
+	private void merge(String name, List<String> values) {
+		final List<String> existing = get(name);
+		if (null == existing || null == values) {
+			put(name, null == existing ? values : existing);
+			return;
+		}
+		final List<String> merged = new ArrayList<>(existing.size() + values.size());
+		merged.addAll(existing);
+		merged.addAll(values);
+		put(name, Collections.unmodifiableList(merged));
+	}
+
+	private int find(String name, int hash) {
+		final int mask = this.index.length - 1;
+		for (int slot = hash & mask; 0 != this.index[slot]; slot = (slot + 1) & mask) {
+			final int position = this.index[slot] - 1;
+			if (this.hashes[position] == hash) {
+				final String candidate = this.names[position];
+				if (null == name ? null == candidate : name.equalsIgnoreCase(candidate)) {
+					return position;
+				}
+			}
+		}
+		return -1;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<String> valueAt(int position) {
+		return position < 0 ? null : (List<String>) this.values[position];
+	}
+
+	private void insert(int position) {
+		final int mask = this.index.length - 1;
+		int slot = this.hashes[position] & mask;
+		while (0 != this.index[slot]) {
+			slot = (slot + 1) & mask;
+		}
+		this.index[slot] = position + 1;
+	}
+
+	private void grow() {
+		final int capacity = this.names.length * 2;
+		this.names = Arrays.copyOf(this.names, capacity);
+		this.values = Arrays.copyOf(this.values, capacity);
+		this.hashes = Arrays.copyOf(this.hashes, capacity);
+		this.index = new int[tableSize(capacity)];
+		reindex();
+	}
+
+	private void removeAt(int position) {
+		final int moved = this.size - position - 1;
+		if (moved > 0) {
+			System.arraycopy(this.names, position + 1, this.names, position, moved);
+			System.arraycopy(this.values, position + 1, this.values, position, moved);
+			System.arraycopy(this.hashes, position + 1, this.hashes, position, moved);
+		}
+		this.size--;
+		this.names[this.size] = null;
+		this.values[this.size] = null;
+		// removal is rare for headers, rebuilding keeps the probing simple
+		Arrays.fill(this.index, 0);
+		reindex();
+	}
+
+	private void reindex() {
+		for (int i = 0; i < this.size; i++) {
+			insert(i);
+		}
+	}
+
+	/**
+	 * [条目视图](Entry view)
+	 * @description zh - 按插入顺序遍历的条目视图
+	 * @description en - Entry view iterated in insertion order
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:27:30
+	 */
+	private final class EntrySet extends AbstractSet<Map.Entry<String, List<String>>> {
+
+		@Override
+		public int size() {
+			return HeaderMap.this.size;
+		}
+
+		@Override
+		public void clear() {
+			HeaderMap.this.clear();
+		}
+
+		@Override
+		public Iterator<Map.Entry<String, List<String>>> iterator() {
+			return new Iterator<Map.Entry<String, List<String>>>() {
+
+				/** 下一个位置 */
+				private int next;
+				/** 上一个返回的位置 */
+				private int last = -1;
+
+				@Override
+				public boolean hasNext() {
+					return this.next < HeaderMap.this.size;
+				}
+
+				@Override
+				public Map.Entry<String, List<String>> next() {
+					if (false == hasNext()) {
+						throw new NoSuchElementException();
+					}
+					this.last = this.next++;
+					return new Entry(this.last);
+				}
+
+				@Override
+				public void remove() {
+					if (this.last < 0) {
+						throw new IllegalStateException();
+					}
+					removeAt(this.last);
+					this.next = this.last;
+					this.last = -1;
+				}
+			};
+		}
+	}
+
+	/**
+	 * [条目](Entry)
+	 * @description zh - 直接读写数组的条目
+	 * @description en - Entry reading and writing the arrays directly
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:28:00
+	 */
+	private final class Entry extends AbstractMap.SimpleEntry<String, List<String>> {
+		private static final long serialVersionUID = 1L;
+
+		/** 位置 */
+		private final int position;
+
+		private Entry(int position) {
+			super(HeaderMap.this.names[position], valueAt(position));
+			this.position = position;
+		}
+
+		@Override
+		public List<String> setValue(List<String> value) {
+			HeaderMap.this.values[this.position] = value;
+			return super.setValue(value);
+		}
+	}
+}
@@ -47,6 +47,11 @@ public class BytesResource implements Resource, Serializable {
 		return new ByteArrayInputStream(this.bytes);
 	}
 
+	@Override
+	public long size() {
+		return null == this.bytes ? 0 : this.bytes.length;
+	}
+
 	@Override
 	public String readStr(Charset charset) throws IORuntimeException {
 		return toString(this.bytes, charset);
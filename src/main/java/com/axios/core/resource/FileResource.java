@@ -4,13 +4,18 @@ import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Path;
 
 import com.axios.core.assertion.Assert;
+import com.axios.core.tool.io.ChannelSink;
+import com.axios.core.tool.io.IoTool;
+import com.axios.exception.IORuntimeException;
 import com.axios.exception.NoResourceException;
 
 /**
@@ -78,6 +83,36 @@ public class FileResource implements Resource, Serializable {
 		return null;
 	}
 
+	@Override
+	public long size() {
+		return this.file.isFile() ? this.file.length() : -1;
+	}
+
+	/**
+	 * [将文件内容写出到流](Write out the file content to stream)
+	 * @description zh - 将文件内容写出到流。输出流能直接接收文件区域时只交出文件区域，由传输层用transferTo发送；否则不经BufferedInputStream，直接用池化缓冲区复制
+	 * @description en - Write out the file content to stream. When the output stream accepts file regions directly only the region is handed over and the transport sends it with transferTo; otherwise it is copied through a pooled buffer directly, without a BufferedInputStream
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:57:30
+	 * @param out OutputStream
+	 * @throws com.axios.exception.IORuntimeException
+	 */
+	@Override
+	public void writeTo(OutputStream out) throws IORuntimeException {
+		try {
+			if (out instanceof ChannelSink && this.file.isFile()) {
+				((ChannelSink) out).writeFile(this.file.toPath(), 0, this.file.length());
+				return;
+			}
+			try (InputStream in = new FileInputStream(this.file)) {
+				IoTool.copy(in, out);
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
 	private BufferedInputStream getInputStream(InputStream in) {
 		Assert.notNull(in, "InputStream must be not null!");
 		return (in instanceof BufferedInputStream) ? (BufferedInputStream) in : new BufferedInputStream(in);
@@ -0,0 +1,103 @@
+package com.axios.core.resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+
+import com.axios.core.body.RequestCompression;
+import com.axios.core.strem.CompressingOutputStream;
+import com.axios.core.tool.io.FastByteArrayOutputStream;
+import com.axios.exception.IORuntimeException;
+
+/**
+ * [gzip压缩后的资源](Gzip compressed resource)
+ * @description zh - gzip压缩后的资源，用于以压缩文件的形式上传multipart的一个部分，资源名加上.gz后缀。写出时边压缩边写入，大资源在多个线程中分块并行压缩，不在内存中生成压缩后的完整内容；压缩后的大小未知
+ * @description en - Gzip compressed resource, for uploading one part of a multipart body as a compressed file, the resource name gets a .gz suffix. It is compressed while being written out, large resources are compressed in parallel blocks on several threads, and the whole compressed content is not built in memory; the compressed size is unknown
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 20:40:30
+ */
+public class GzipResource implements Resource {
+
+	/** 被压缩的资源 */
+	private final Resource resource;
+	/** 压缩方式 */
+	private final RequestCompression compression;
+
+	public GzipResource(Resource resource) {
+		this(resource, RequestCompression.parallelGzip());
+	}
+
+	public GzipResource(Resource resource, RequestCompression compression) {
+		if (false == "gzip".equals(compression.getEncoding())) {
+			throw new IllegalArgumentException("Gzip resource needs gzip compression.");
+		}
+		this.resource = resource;
+		this.compression = compression;
+	}
+
+	@Override
+	public String getName() {
+		final String name = this.resource.getName();
+		return null == name ? null : name + ".gz";
+	}
+
+	@Override
+	public URL getUrl() {
+		return null;
+	}
+
+	/**
+	 * [获得压缩后内容的InputStream](Get the InputStream of the compressed content)
+	 * @description zh - 获得压缩后内容的InputStream，需要在内存中压缩整个资源，上传时使用writeTo
+	 * @description en - Get the InputStream of the compressed content, the whole resource has to be compressed in memory, uploads go through writeTo
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:41:00
+	 * @return java.io.InputStream
+	 */
+	@Override
+	public InputStream getStream() {
+		final FastByteArrayOutputStream out = new FastByteArrayOutputStream();
+		writeTo(out);
+		return new ByteArrayInputStream(out.toByteArray());
+	}
+
+	/**
+	 * [将压缩后的内容写出到流](Write out the compressed content to stream)
+	 * @description zh - 将压缩后的内容写出到流，不关闭输出流
+	 * @description en - Write out the compressed content to stream without closing the output stream
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:41:30
+	 * @param out OutputStream
+	 * @throws com.axios.exception.IORuntimeException
+	 */
+	@Override
+	public void writeTo(OutputStream out) throws IORuntimeException {
+		final CompressingOutputStream gzip = this.compression.wrap(out, this.resource.size());
+		try {
+			this.resource.writeTo(gzip);
+		} catch (RuntimeException e) {
+			// finish anyway so the pooled deflater and buffers go back, the original failure is what gets thrown
+			try {
+				gzip.finish();
+			} catch (IOException suppressed) {
+				e.addSuppressed(suppressed);
+			}
+			throw e;
+		}
+		try {
+			gzip.finish();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "gzip:" + this.resource;
+	}
+}
@@ -0,0 +1,213 @@
+package com.axios.core.resource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.axios.core.assertion.Assert;
+import com.axios.core.tool.io.BufferPool;
+import com.axios.core.tool.io.ChannelSink;
+import com.axios.exception.IORuntimeException;
+import com.axios.exception.NoResourceException;
+
+/**
+ * [内存映射的文件资源](Memory mapped file resource)
+ * @description zh - 内存映射的文件资源：创建时将文件以只读方式映射到内存，超过2GB的文件分段映射。写出到能直接接收缓冲区的输出时只交出映射的缓冲区，数据不经过堆，TLS加密也直接读取映射；否则用池化缓冲区复制。映射在资源被回收前一直占用地址空间，适合反复发送或需要加密发送的大文件
+ * @description en - Memory mapped file resource: the file is mapped read only into memory when created, and files over 2GB are mapped in segments. When writing to an output that accepts buffers directly only the mapped buffers are handed over, the data never passes through the heap and TLS encryption also reads the mapping directly; otherwise it is copied through a pooled buffer. The mapping occupies address space until the resource is garbage collected, it suits large files that are sent repeatedly or encrypted
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:58:00
+ */
+public class MappedFileResource implements Resource {
+
+	/** 单段映射的最大字节数 */
+	private static final long MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+
+	/** 文件 */
+	private final File file;
+	/** 映射的各段 */
+	private final MappedByteBuffer[] segments;
+	/** 文件大小 */
+	private final long size;
+
+	public MappedFileResource(Path path) {
+		this(path.toFile());
+	}
+
+	public MappedFileResource(String path) {
+		this(new File(path));
+	}
+
+	public MappedFileResource(File file) {
+		Assert.notNull(file, "File is null !");
+		this.file = file;
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			this.size = channel.size();
+			this.segments = new MappedByteBuffer[(int) ((this.size + MAX_SEGMENT_SIZE - 1) / MAX_SEGMENT_SIZE)];
+			for (int i = 0; i < this.segments.length; i++) {
+				final long position = i * MAX_SEGMENT_SIZE;
+				this.segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_SEGMENT_SIZE, this.size - position));
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	@Override
+	public String getName() {
+		return this.file.getName();
+	}
+
+	@Override
+	public URL getUrl() {
+		try {
+			return this.file.toURI().toURL();
+		} catch (MalformedURLException e) {
+			throw new NoResourceException(e);
+		}
+	}
+
+	@Override
+	public InputStream getStream() {
+		return new MappedInputStream(buffers());
+	}
+
+	@Override
+	public long size() {
+		return this.size;
+	}
+
+	/**
+	 * [将映射的内容写出到流](Write out the mapped content to stream)
+	 * @description zh - 将映射的内容写出到流。输出流能直接接收缓冲区时交出映射的只读视图，否则用池化缓冲区复制
+	 * @description en - Write out the mapped content to stream. When the output stream accepts buffers directly read only views of the mapping are handed over, otherwise the content is copied through a pooled buffer
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:58:30
+	 * @param out OutputStream
+	 * @throws com.axios.exception.IORuntimeException
+	 */
+	@Override
+	public void writeTo(OutputStream out) throws IORuntimeException {
+		try {
+			if (out instanceof ChannelSink) {
+				for (ByteBuffer buffer : buffers()) {
+					((ChannelSink) out).writeBuffer(buffer);
+				}
+				return;
+			}
+			final BufferPool pool = BufferPool.getDefault();
+			final byte[] chunk = pool.acquire();
+			try {
+				for (ByteBuffer buffer : buffers()) {
+					while (buffer.hasRemaining()) {
+						final int n = Math.min(chunk.length, buffer.remaining());
+						buffer.get(chunk, 0, n);
+						out.write(chunk, 0, n);
+					}
+				}
+				out.flush();
+			} finally {
+				pool.release(chunk);
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	public File getFile() {
+		return this.file;
+	}
+
+	@Override
+	public String toString() {
+		return this.file.toString();
+	}
+
+	/** --------------- private --------------- */
+
+	private ByteBuffer[] buffers() {
+		// every reader gets its own position over the shared mapping
+		final ByteBuffer[] buffers = new ByteBuffer[this.segments.length];
+		for (int i = 0; i < buffers.length; i++) {
+			buffers[i] = this.segments[i].asReadOnlyBuffer();
+		}
+		return buffers;
+	}
+
+	/**
+	 * [读取映射缓冲区的输入流](Input stream reading mapped buffers)
+	 * @description zh - 依次读取映射缓冲区的输入流
+	 * @description en - Input stream reading the mapped buffers in turn
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:59:00
+	 */
+	private static final class MappedInputStream extends InputStream {
+
+		/** 映射的缓冲区 */
+		private final ByteBuffer[] buffers;
+		/** 当前读取的缓冲区 */
+		private int index;
+
+		private MappedInputStream(ByteBuffer[] buffers) {
+			this.buffers = buffers;
+		}
+
+		@Override
+		public int read() {
+			final ByteBuffer buffer = current();
+			return null == buffer ? -1 : buffer.get() & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (0 == len) {
+				return 0;
+			}
+			final ByteBuffer buffer = current();
+			if (null == buffer) {
+				return -1;
+			}
+			final int n = Math.min(len, buffer.remaining());
+			buffer.get(b, off, n);
+			return n;
+		}
+
+		@Override
+		public long skip(long n) {
+			long skipped = 0;
+			ByteBuffer buffer;
+			while (skipped < n && null != (buffer = current())) {
+				final int step = (int) Math.min(n - skipped, buffer.remaining());
+				buffer.position(buffer.position() + step);
+				skipped += step;
+			}
+			return skipped;
+		}
+
+		@Override
+		public int available() {
+			final ByteBuffer buffer = current();
+			return null == buffer ? 0 : buffer.remaining();
+		}
+
+		private ByteBuffer current() {
+			while (this.index < this.buffers.length) {
+				if (this.buffers[this.index].hasRemaining()) {
+					return this.buffers[this.index];
+				}
+				this.index++;
+			}
+			return null;
+		}
+	}
+}
@@ -12,6 +12,7 @@ import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.axios.core.tool.http.HttpTool;
 import com.axios.exception.IORuntimeException;
@@ -28,7 +29,8 @@ public class MultiResource implements Resource, Iterable<Resource>, Iterator<Res
 	private static final long serialVersionUID = 1L;
 
 	private final List<Resource> resources;
-	private int cursor;
+	/** 当前游标，使用原子操作避免在虚拟线程中加锁 */
+	private final AtomicInteger cursor = new AtomicInteger();
 
 	public MultiResource(Resource... resources) {
 		this((ArrayList<Resource>)newArrayList(false,resources));
@@ -44,37 +46,42 @@ public class MultiResource implements Resource, Iterable<Resource>, Iterator<Res
 
 	@Override
 	public String getName() {
-		return resources.get(cursor).getName();
+		return resources.get(cursor.get()).getName();
 	}
 
 	@Override
 	public URL getUrl() {
-		return resources.get(cursor).getUrl();
+		return resources.get(cursor.get()).getUrl();
 	}
 
 	@Override
 	public InputStream getStream() {
-		return resources.get(cursor).getStream();
+		return resources.get(cursor.get()).getStream();
+	}
+
+	@Override
+	public long size() {
+		return resources.get(cursor.get()).size();
 	}
 
 	@Override
 	public BufferedReader getReader(Charset charset) {
-		return resources.get(cursor).getReader(charset);
+		return resources.get(cursor.get()).getReader(charset);
 	}
 
 	@Override
 	public String readStr(Charset charset) throws IORuntimeException {
-		return resources.get(cursor).readStr(charset);
+		return resources.get(cursor.get()).readStr(charset);
 	}
 
 	@Override
 	public String readUtf8Str() throws IORuntimeException {
-		return resources.get(cursor).readUtf8Str();
+		return resources.get(cursor.get()).readUtf8Str();
 	}
 
 	@Override
 	public byte[] readBytes() throws IORuntimeException {
-		return resources.get(cursor).readBytes();
+		return resources.get(cursor.get()).readBytes();
 	}
 
 	@Override
@@ -84,25 +91,28 @@ public class MultiResource implements Resource, Iterable<Resource>, Iterator<Res
 
 	@Override
 	public boolean hasNext() {
-		return cursor < resources.size();
+		return cursor.get() < resources.size();
 	}
 
 	@Override
-	public synchronized Resource next() {
-		if (cursor >= resources.size()) {
-			throw new ConcurrentModificationException();
-		}
-		this.cursor++;
+	public Resource next() {
+		int current;
+		do {
+			current = this.cursor.get();
+			if (current >= resources.size()) {
+				throw new ConcurrentModificationException();
+			}
+		} while (false == this.cursor.compareAndSet(current, current + 1));
 		return this;
 	}
 
 	@Override
 	public void remove() {
-		this.resources.remove(this.cursor);
+		this.resources.remove(this.cursor.get());
 	}
 
-	public synchronized void reset() {
-		this.cursor = 0;
+	public void reset() {
+		this.cursor.set(0);
 	}
 
 	public MultiResource add(Resource resource) {
@@ -54,6 +54,19 @@ public interface Resource {
 	 */
 	InputStream getStream();
 
+	/**
+	 * [获取资源大小](Get resource size)
+	 * @description zh - 获取资源的字节数，-1表示未知
+	 * @description en - Get the number of bytes of the resource, -1 means unknown
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:52:30
+	 * @return long
+	 */
+	default long size() {
+		return -1;
+	}
+
 	/**
 	 * [将资源内容写出到流](Write out resource content to stream)
 	 * @description zh - 将资源内容写出到流
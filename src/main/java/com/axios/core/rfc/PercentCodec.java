@@ -1,13 +1,17 @@
 package com.axios.core.rfc;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.util.BitSet;
 
 import com.axios.core.tool.UrlTool;
+import com.axios.exception.IORuntimeException;
 
 /**
  * rfc3986 : https://www.ietf.org/rfc/rfc3986.html
@@ -24,6 +28,15 @@ public class PercentCodec implements Serializable {
 	/** Whether the encoding space is+ */
 	private boolean encodeSpaceAsPlus = false;
 
+	/** ASCII safe character table, rebuilt after the safe characters change */
+	private transient volatile boolean[] table;
+
+	/** Upper case hex digits */
+	private static final char[] DIGITS_UPPER = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
+
+	/** Non UTF-8 encoder reused per thread */
+	private static final ThreadLocal<EncoderCache> ENCODER = new ThreadLocal<>();
+
 	public PercentCodec() {
 		this(new BitSet(256));
 	}
@@ -77,6 +90,7 @@ public class PercentCodec implements Serializable {
 	 */
 	public PercentCodec addSafe(char c) {
 		safeCharacters.set(c);
+		this.table = null;
 		return this;
 	}
 
@@ -92,6 +106,7 @@ public class PercentCodec implements Serializable {
 	 */
 	public PercentCodec removeSafe(char c) {
 		safeCharacters.clear(c);
+		this.table = null;
 		return this;
 	}
 
@@ -107,6 +122,7 @@ public class PercentCodec implements Serializable {
 	 */
 	public PercentCodec or(PercentCodec codec) {
 		this.safeCharacters.or(codec.safeCharacters);
+		this.table = null;
 		return this;
 	}
 
@@ -139,61 +155,270 @@ public class PercentCodec implements Serializable {
 		return this;
 	}
 
+	/**
+	 * [编码](Encode)
+	 * @description zh - 百分号编码，没有需要编码的字符时直接返回原字符串
+	 * @description en - Percent encode, the original string is returned as it is when no character needs encoding
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:45:00
+	 * @param path 字符串
+	 * @param charset 编码
+	 * @return java.lang.String
+	 */
 	public String encode(CharSequence path, Charset charset) {
 		if (null == charset || UrlTool.isEmpty(path)) {
 			return UrlTool.toString(path);
 		}
+		final int first = indexOfUnsafe(path);
+		if (first < 0) {
+			return path.toString();
+		}
+		final StringBuilder builder = new StringBuilder(path.length() + 16);
+		builder.append(path, 0, first);
+		try {
+			encodeTo(path, first, charset, builder);
+		} catch (IOException e) {
+			// StringBuilder does not throw
+			throw new IORuntimeException(e);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * [编码到Appendable](Encode to appendable)
+	 * @description zh - 百分号编码并直接写入Appendable，不生成中间字符串
+	 * @description en - Percent encode and write directly to the appendable without building an intermediate string
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:45:30
+	 * @param path 字符串
+	 * @param charset 编码
+	 * @param appendable 目标
+	 * @return java.lang.Appendable
+	 */
+	public <A extends Appendable> A encodeTo(CharSequence path, Charset charset, A appendable) {
+		if (UrlTool.isEmpty(path)) {
+			return appendable;
+		}
+		try {
+			if (null == charset) {
+				appendable.append(path);
+			} else {
+				encodeTo(path, 0, charset, appendable);
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return appendable;
+	}
 
-		final StringBuilder rewrittenPath = new StringBuilder(path.length());
-		final ByteArrayOutputStream buf = new ByteArrayOutputStream();
-		final OutputStreamWriter writer = new OutputStreamWriter(buf, charset);
+	/**
+	 * [编码到ByteBuffer](Encode to byte buffer)
+	 * @description zh - 百分号编码并以ASCII字节写入ByteBuffer，空间不足时抛出BufferOverflowException
+	 * @description en - Percent encode and write ASCII bytes to the byte buffer, BufferOverflowException is thrown when there is not enough room
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:46:00
+	 * @param path 字符串
+	 * @param charset 编码
+	 * @param buffer 目标
+	 * @return java.nio.ByteBuffer
+	 */
+	public ByteBuffer encodeTo(CharSequence path, Charset charset, ByteBuffer buffer) {
+		encodeTo(path, charset, new ByteBufferAppender(buffer));
+		return buffer;
+	}
+
+	/** --------------- private --------------- */
+
+	/**
+	 * [获取ASCII安全字符表](Get the ASCII safe character table)
+	 * @description zh - 获取ASCII安全字符表，安全字符改变后重新生成
+	 * @description en - Get the ASCII safe character table, it is rebuilt after the safe characters change
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:46:30
+	 * @return boolean[]
+	 */
+	private boolean[] table() {
+		boolean[] table = this.table;
+		if (null == table) {
+			table = new boolean[128];
+			for (int c = 0; c < table.length; c++) {
+				table[c] = this.safeCharacters.get(c);
+			}
+			this.table = table;
+		}
+		return table;
+	}
+
+	private boolean isSafe(boolean[] table, char c) {
+		return c < 128 ? table[c] : this.safeCharacters.get(c);
+	}
+
+	private int indexOfUnsafe(CharSequence path) {
+		final boolean[] table = table();
+		final int length = path.length();
+		for (int i = 0; i < length; i++) {
+			if (false == isSafe(table, path.charAt(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
 
-		int c;
-		for (int i = 0; i < path.length(); i++) {
-			c = path.charAt(i);
-			if (safeCharacters.get(c)) {
-				rewrittenPath.append((char) c);
-			} else if (encodeSpaceAsPlus && c == ' ') {
-				rewrittenPath.append('+');
+	private void encodeTo(CharSequence path, int from, Charset charset, Appendable appendable) throws IOException {
+		final boolean[] table = table();
+		final int length = path.length();
+		int i = from;
+		while (i < length) {
+			int end = i;
+			while (end < length && isSafe(table, path.charAt(end))) {
+				end++;
+			}
+			if (end > i) {
+				appendable.append(path, i, end);
+				i = end;
+				continue;
+			}
+			if (this.encodeSpaceAsPlus && path.charAt(i) == ' ') {
+				appendable.append('+');
+				i++;
+				continue;
+			}
+			// encode the whole run of unsafe characters at once so surrogate pairs stay together
+			end = i + 1;
+			while (end < length && false == isSafe(table, path.charAt(end))
+					&& false == (this.encodeSpaceAsPlus && path.charAt(end) == ' ')) {
+				end++;
+			}
+			if (StandardCharsets.UTF_8.equals(charset)) {
+				encodeUtf8(path, i, end, appendable);
 			} else {
-				// convert to external encoding before hex conversion
-				try {
-					writer.write((char) c);
-					writer.flush();
-				} catch (IOException e) {
-					buf.reset();
-					continue;
-				}
+				encodeCharset(path, i, end, charset, appendable);
+			}
+			i = end;
+		}
+	}
 
-				byte[] ba = buf.toByteArray();
-				for (byte toEncode : ba) {
-					// Converting each byte in the buffer
-					rewrittenPath.append('%');
-					appendHex(rewrittenPath, toEncode, false);
+	private static void encodeUtf8(CharSequence path, int from, int to, Appendable appendable) throws IOException {
+		for (int i = from; i < to; i++) {
+			final char c = path.charAt(i);
+			if (c < 0x80) {
+				appendByte(appendable, c);
+			} else if (c < 0x800) {
+				appendByte(appendable, 0xC0 | (c >> 6));
+				appendByte(appendable, 0x80 | (c & 0x3F));
+			} else if (Character.isSurrogate(c)) {
+				if (Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(path.charAt(i + 1))) {
+					final int codePoint = Character.toCodePoint(c, path.charAt(++i));
+					appendByte(appendable, 0xF0 | (codePoint >> 18));
+					appendByte(appendable, 0x80 | ((codePoint >> 12) & 0x3F));
+					appendByte(appendable, 0x80 | ((codePoint >> 6) & 0x3F));
+					appendByte(appendable, 0x80 | (codePoint & 0x3F));
+				} else {
+					// malformed input is replaced like the JDK encoder does
+					appendByte(appendable, '?');
 				}
-				buf.reset();
+			} else {
+				appendByte(appendable, 0xE0 | (c >> 12));
+				appendByte(appendable, 0x80 | ((c >> 6) & 0x3F));
+				appendByte(appendable, 0x80 | (c & 0x3F));
 			}
 		}
-		return rewrittenPath.toString();
+	}
+
+	private static void encodeCharset(CharSequence path, int from, int to, Charset charset, Appendable appendable) throws IOException {
+		EncoderCache cache = ENCODER.get();
+		if (null == cache || false == cache.charset.equals(charset)) {
+			cache = new EncoderCache(charset);
+			ENCODER.set(cache);
+		}
+		final ByteBuffer bytes = cache.buffer(to - from);
+		final CharsetEncoder encoder = cache.encoder.reset();
+		encoder.encode(CharBuffer.wrap(path, from, to), bytes, true);
+		encoder.flush(bytes);
+		bytes.flip();
+		while (bytes.hasRemaining()) {
+			appendByte(appendable, bytes.get());
+		}
+	}
+
+	private static void appendByte(Appendable appendable, int b) throws IOException {
+		appendable.append('%').append(DIGITS_UPPER[(b >> 4) & 0x0F]).append(DIGITS_UPPER[b & 0x0F]);
 	}
 
 	/**
-	 * [将byte值转为16进制并添加到 StringBuilder 中](Convert the byte value to hexadecimal and add it to StringBuilder)
-	 * @description zh - 将byte值转为16进制并添加到 StringBuilder 中
-	 * @description en - Convert the byte value to hexadecimal and add it to StringBuilder
+	 * [线程内复用的编码器](Encoder reused within a thread)
+	 * @description zh - 线程内复用的非UTF-8编码器及其输出缓冲区
+	 * @description en - Non UTF-8 encoder reused within a thread and its output buffer
 	 * @version V1.0
 	 * @author XiaoXunYao
-	 * @since 2021-11-21 20:56:03
+	 * @since 2026-10-18 19:47:00
 	 */
-	private void appendHex(StringBuilder builder, byte b, boolean toLowerCase) {
-		final char[] DIGITS_LOWER = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
-		final char[] DIGITS_UPPER = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
-		final char[] toDigits = toLowerCase ? DIGITS_LOWER : DIGITS_UPPER;
-
-		int high = (b & 0xf0) >>> 4;
-		int low = b & 0x0f;
-		builder.append(toDigits[high]);
-		builder.append(toDigits[low]);
+	private static final class EncoderCache {
+
+		/** 编码 */
+		private final Charset charset;
+		/** 编码器 */
+		private final CharsetEncoder encoder;
+		/** 输出缓冲区 */
+		private ByteBuffer buffer;
+
+		private EncoderCache(Charset charset) {
+			this.charset = charset;
+			this.encoder = charset.newEncoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			this.buffer = ByteBuffer.allocate(64);
+		}
+
+		private ByteBuffer buffer(int chars) {
+			final int capacity = (int) Math.ceil(chars * (double) this.encoder.maxBytesPerChar()) + 8;
+			if (this.buffer.capacity() < capacity) {
+				this.buffer = ByteBuffer.allocate(capacity);
+			}
+			this.buffer.clear();
+			return this.buffer;
+		}
+	}
+
+	/**
+	 * [写入ByteBuffer的Appendable](Appendable writing to a byte buffer)
+	 * @description zh - 将编码结果（全部为ASCII）写入ByteBuffer
+	 * @description en - Write the encoded result (all ASCII) to the byte buffer
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:47:30
+	 */
+	private static final class ByteBufferAppender implements Appendable {
+
+		/** 目标 */
+		private final ByteBuffer buffer;
+
+		private ByteBufferAppender(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public Appendable append(CharSequence csq) {
+			return append(csq, 0, csq.length());
+		}
+
+		@Override
+		public Appendable append(CharSequence csq, int start, int end) {
+			for (int i = start; i < end; i++) {
+				this.buffer.put((byte) csq.charAt(i));
+			}
+			return this;
+		}
+
+		@Override
+		public Appendable append(char c) {
+			this.buffer.put((byte) c);
+			return this;
+		}
 	}
 
 }
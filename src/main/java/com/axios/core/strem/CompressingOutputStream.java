@@ -0,0 +1,53 @@
+package com.axios.core.strem;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * [边压缩边写入下层流的输出流](Output stream compressing into an underlying stream)
+ * @description zh - 边压缩边写入下层流的输出流。finish写完压缩数据和结尾但不关闭下层流，用于只压缩下层流中的一部分内容，例如multipart的一个部分；close在finish后关闭下层流
+ * @description en - Output stream compressing into an underlying stream. finish writes the rest of the compressed data and the trailer without closing the underlying stream, for compressing only part of what goes into it, such as one part of a multipart body; close closes the underlying stream after finish
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 20:35:00
+ */
+public abstract class CompressingOutputStream extends OutputStream {
+
+	/** 下层流 */
+	protected final OutputStream out;
+
+	protected CompressingOutputStream(OutputStream out) {
+		this.out = out;
+	}
+
+	/**
+	 * [完成压缩](Finish compressing)
+	 * @description zh - 写完剩余的压缩数据和结尾并归还借用的资源，不关闭下层流，之后不能再写入。重复调用无效果
+	 * @description en - Write the rest of the compressed data and the trailer and return the borrowed resources without closing the underlying stream, nothing can be written afterwards. Repeated calls have no effect
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:35:30
+	 * @throws IOException IO异常
+	 */
+	public abstract void finish() throws IOException;
+
+	/**
+	 * [刷新下层流](Flush the underlying stream)
+	 * @description zh - 只刷新下层流，不强制压缩器输出，避免降低压缩率
+	 * @description en - Only flush the underlying stream and do not force the compressor to output, so the compression ratio is not lowered
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:36:00
+	 * @throws IOException IO异常
+	 */
+	@Override
+	public void flush() throws IOException {
+		this.out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		finish();
+		this.out.close();
+	}
+}
@@ -4,10 +4,10 @@ import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.Inflater;
-import java.util.zip.InflaterInputStream;
 
+import com.axios.core.connection.ReleasePolicy;
+import com.axios.core.requestMethod.RequestMethod;
+import com.axios.core.tool.io.InflaterPool;
 import com.axios.exception.HttpException;
 import com.axios.response.HttpResponse;
 import com.axios.status.Status;
@@ -24,6 +24,14 @@ public class HttpInputStream extends InputStream {
 
 	/** 原始流 */
 	private InputStream in;
+	/** 传输层的响应体流，未经解压 */
+	private InputStream raw;
+	/** 未压缩时响应体的长度，-1表示未知 */
+	private long length = -1;
+	/** 已读取的字节数 */
+	private long count;
+	/** 是否已读到结尾 */
+	private boolean eof;
 
 	public HttpInputStream(HttpResponse response) {
 		init(response);
@@ -31,18 +39,32 @@ public class HttpInputStream extends InputStream {
 
 	@Override
 	public int read() throws IOException {
-		return this.in.read();
+		final int b = this.in.read();
+		if (b < 0) {
+			this.eof = true;
+		} else {
+			this.count++;
+		}
+		return b;
 	}
 
 	@SuppressWarnings("NullableProblems")
 	@Override
 	public int read(byte[] b, int off, int len) throws IOException {
-		return this.in.read(b, off, len);
+		final int n = this.in.read(b, off, len);
+		if (n < 0) {
+			this.eof = true;
+		} else {
+			this.count += n;
+		}
+		return n;
 	}
 
 	@Override
 	public long skip(long n) throws IOException {
-		return this.in.skip(n);
+		final long skipped = this.in.skip(n);
+		this.count += skipped;
+		return skipped;
 	}
 
 	@Override
@@ -55,13 +77,61 @@ public class HttpInputStream extends InputStream {
 		this.in.close();
 	}
 
+	/**
+	 * [获取从连接上读取的字节数](Get the number of bytes read from the connection)
+	 * @description zh - 获取从连接上读取的字节数，压缩的响应为解压前的字节数
+	 * @description en - Get the number of bytes read from the connection, for a compressed response it is the number of bytes before inflating
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:21:30
+	 * @return long
+	 */
+	public long getWireBytes() {
+		return this.in instanceof InflatingInputStream ? ((InflatingInputStream) this.in).getWireBytes() : this.count;
+	}
+
+	/**
+	 * [获取解压后的字节数](Get the number of bytes after decoding)
+	 * @description zh - 获取读取到的响应体字节数，压缩的响应为解压后的字节数
+	 * @description en - Get the number of body bytes read, for a compressed response it is the number of bytes after inflating
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:22:00
+	 * @return long
+	 */
+	public long getDecodedBytes() {
+		return this.count;
+	}
+
+	/**
+	 * [按释放策略关闭](Close according to the release policy)
+	 * @description zh - 按释放策略关闭：已读完或剩余不多时读完传输层的流再关闭，返回true表示连接可以复用；否则直接关闭，返回false，调用者应断开连接
+	 * @description en - Close according to the release policy: when the body has been read or only a little is left the transport stream is drained and then closed, and true means the connection can be reused; otherwise it is closed directly and false is returned, the caller should disconnect
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:13:30
+	 * @param policy 释放策略
+	 * @return boolean
+	 */
+	public boolean release(ReleasePolicy policy) {
+		final long remaining = this.eof ? 0 : (this.length < 0 ? -1 : Math.max(0, this.length - this.count));
+		// a decoder may stop before the transport stream reports its end, so the raw stream is drained
+		final boolean reusable = this.in != this.raw ? this.eof && policy.drain(this.raw, 0) : policy.drain(this.raw, remaining);
+		try {
+			this.in.close();
+		} catch (IOException e) {
+			return false;
+		}
+		return reusable;
+	}
+
 	@Override
-	public synchronized void mark(int readlimit) {
+	public void mark(int readlimit) {
 		this.in.mark(readlimit);
 	}
 
 	@Override
-	public synchronized void reset() throws IOException {
+	public void reset() throws IOException {
 		this.in.reset();
 	}
 
@@ -82,15 +152,18 @@ public class HttpInputStream extends InputStream {
 			this.in = new ByteArrayInputStream(("Error request, response status: "+response.status).getBytes());
 			return;
 		}
+		this.raw = this.in;
+		this.length = hasBody(response) ? response.contentLength() : 0;
 
-		if (response.isGzip() && false == (response.in instanceof GZIPInputStream)) {
-			try {
-				this.in = new GZIPInputStream(this.in);
-			} catch (IOException e) {
-			}
-		} else if (response.isDeflate() && false == (this.in instanceof InflaterInputStream)) {
-			this.in = new InflaterInputStream(this.in, new Inflater(true));
+		if (response.isGzip() || response.isDeflate()) {
+			this.in = new InflatingInputStream(this.in, response.isGzip(), InflaterPool.getDefault());
 		}
 	}
 
+	private static boolean hasBody(HttpResponse response) {
+		final int status = response.status;
+		return RequestMethod.HEAD != response.httpConnection.getMethod() && status >= Status.HTTP_OK
+				&& Status.HTTP_NO_CONTENT != status && Status.HTTP_NOT_MODIFIED != status;
+	}
+
 }
@@ -0,0 +1,406 @@
+package com.axios.core.strem;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import com.axios.core.tool.io.BufferPool;
+import com.axios.core.tool.io.InflaterPool;
+
+/**
+ * [解压响应体的输入流](Input stream inflating the response body)
+ * @description zh - 解压响应体的输入流，支持gzip（含多段）、带zlib头和不带zlib头的deflate，并校验CRC32或Adler32。解压器从池中借用，读到结尾或关闭时立即归还，输入使用池化的缓冲区。第一次读取时才解析头部，标为gzip但内容未压缩时原样返回
+ * @description en - Input stream inflating the response body, supporting gzip (including multiple members) and deflate with or without zlib header, verifying CRC32 or Adler32. The inflater is borrowed from a pool and returned as soon as the end is reached or the stream is closed, and input goes through a pooled buffer. The header is only parsed on the first read, and content labelled gzip that is not compressed is returned as is
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 20:19:30
+ */
+final class InflatingInputStream extends InputStream {
+
+	/** gzip魔数，小端 */
+	private static final int GZIP_MAGIC = 0x8b1f;
+	/** gzip头标志：头部校验 */
+	private static final int FHCRC = 2;
+	/** gzip头标志：扩展字段 */
+	private static final int FEXTRA = 4;
+	/** gzip头标志：文件名 */
+	private static final int FNAME = 8;
+	/** gzip头标志：注释 */
+	private static final int FCOMMENT = 16;
+
+	/** 传输层的响应体流 */
+	private final InputStream in;
+	/** 是否为gzip，否则为deflate */
+	private final boolean gzip;
+	/** 解压器池 */
+	private final InflaterPool pool;
+	/** 读取与关闭之间的锁，避免归还仍在使用的解压器 */
+	private final ReentrantLock lock = new ReentrantLock();
+	/** 单字节读取的缓冲 */
+	private final byte[] single = new byte[1];
+	/** 解压器，未开始或已归还时为null */
+	private Inflater inflater;
+	/** 输入缓冲区 */
+	private byte[] buffer;
+	/** 缓冲区中未处理数据的起始位置 */
+	private int pos;
+	/** 缓冲区中数据的结束位置 */
+	private int limit;
+	/** 当前段的校验，不带zlib头的deflate为null */
+	private Checksum checksum;
+	/** 当前段解压出的字节数 */
+	private long memberSize;
+	/** 已解压完成的gzip段数 */
+	private int members;
+	/** 从连接上读取的字节数 */
+	private long wireBytes;
+	/** 解压后的字节数 */
+	private long decodedBytes;
+	/** 状态 */
+	private State state = State.HEADER;
+	/** 是否已关闭 */
+	private volatile boolean closed;
+
+	InflatingInputStream(InputStream in, boolean gzip, InflaterPool pool) {
+		this.in = in;
+		this.gzip = gzip;
+		this.pool = pool;
+		this.buffer = BufferPool.getDefault().acquire();
+	}
+
+	/**
+	 * @description zh - 获取从连接上读取的字节数
+	 * @description en - Get the number of bytes read from the connection
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:20:00
+	 * @return long
+	 */
+	long getWireBytes() {
+		return this.wireBytes;
+	}
+
+	/**
+	 * @description zh - 获取解压后的字节数
+	 * @description en - Get the number of bytes after inflating
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:20:15
+	 * @return long
+	 */
+	long getDecodedBytes() {
+		return this.decodedBytes;
+	}
+
+	@Override
+	public int read() throws IOException {
+		this.lock.lock();
+		try {
+			return -1 == read(this.single, 0, 1) ? -1 : this.single[0] & 0xFF;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	@SuppressWarnings("NullableProblems")
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (0 == len) {
+			return 0;
+		}
+		this.lock.lock();
+		try {
+			while (true) {
+				if (this.closed) {
+					throw new IOException("Stream closed.");
+				}
+				switch (this.state) {
+					case HEADER:
+						readHeader();
+						break;
+					case BODY:
+						final int n = inflate(b, off, len);
+						if (n > 0) {
+							return n;
+						}
+						break;
+					case PASSTHROUGH:
+						return passthrough(b, off, len);
+					default:
+						return -1;
+				}
+			}
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public int available() {
+		// like InflaterInputStream, the size after inflating is unknown before the end
+		return State.EOF == this.state ? 0 : 1;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		try {
+			// closing the source first wakes up a read blocked on it
+			this.in.close();
+		} finally {
+			this.lock.lock();
+			try {
+				releaseResources();
+			} finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+	/** --------------- private --------------- */
+
+	private void readHeader() throws IOException {
+		if (false == fill(1)) {
+			// an empty body, as sent with some 204 and HEAD responses
+			end();
+			return;
+		}
+		if (this.gzip) {
+			if (false == fill(2) || GZIP_MAGIC != ((this.buffer[this.pos] & 0xFF) | (this.buffer[this.pos + 1] & 0xFF) << 8)) {
+				if (0 == this.members) {
+					// labelled gzip but sent uncompressed
+					this.state = State.PASSTHROUGH;
+				} else {
+					// trailing garbage after the last member is ignored
+					end();
+				}
+				return;
+			}
+			this.pos += 2;
+			if (8 != readUnsignedByte()) {
+				throw new ZipException("Unsupported compression method in GZIP header.");
+			}
+			final int flags = readUnsignedByte();
+			// MTIME, XFL and OS
+			skipBytes(6);
+			if (0 != (flags & FEXTRA)) {
+				skipBytes(readUnsignedByte() | readUnsignedByte() << 8);
+			}
+			if (0 != (flags & FNAME)) {
+				skipZeroTerminated();
+			}
+			if (0 != (flags & FCOMMENT)) {
+				skipZeroTerminated();
+			}
+			if (0 != (flags & FHCRC)) {
+				skipBytes(2);
+			}
+			this.checksum = null == this.checksum ? new CRC32() : this.checksum;
+		} else if (fill(2) && isZlibHeader(this.buffer[this.pos] & 0xFF, this.buffer[this.pos + 1] & 0xFF)) {
+			if (0 != (this.buffer[this.pos + 1] & 0x20)) {
+				throw new ZipException("Preset dictionary is not supported.");
+			}
+			this.pos += 2;
+			this.checksum = new Adler32();
+		}
+		startBody();
+	}
+
+	private void startBody() {
+		if (null == this.inflater) {
+			this.inflater = this.pool.acquire();
+		} else {
+			this.inflater.reset();
+		}
+		if (null != this.checksum) {
+			this.checksum.reset();
+		}
+		this.memberSize = 0;
+		this.state = State.BODY;
+		if (this.limit > this.pos) {
+			this.inflater.setInput(this.buffer, this.pos, this.limit - this.pos);
+			this.pos = this.limit;
+		}
+	}
+
+	private int inflate(byte[] b, int off, int len) throws IOException {
+		final Inflater inflater = this.inflater;
+		int n;
+		try {
+			while (0 == (n = inflater.inflate(b, off, len))) {
+				if (inflater.finished()) {
+					finishMember();
+					return 0;
+				}
+				if (inflater.needsDictionary()) {
+					throw new ZipException("Preset dictionary is not supported.");
+				}
+				if (inflater.needsInput()) {
+					final int read = this.in.read(this.buffer, 0, this.buffer.length);
+					if (read < 0) {
+						throw new EOFException("Unexpected end of " + (this.gzip ? "GZIP" : "ZLIB") + " input stream.");
+					}
+					this.wireBytes += read;
+					this.pos = this.limit = read;
+					inflater.setInput(this.buffer, 0, read);
+				}
+			}
+		} catch (DataFormatException e) {
+			throw new ZipException(null == e.getMessage() ? "Invalid compressed data format." : e.getMessage());
+		}
+		if (null != this.checksum) {
+			this.checksum.update(b, off, n);
+		}
+		this.memberSize += n;
+		this.decodedBytes += n;
+		return n;
+	}
+
+	private void finishMember() throws IOException {
+		// the bytes after the end of the compressed data are still at the end of the buffer
+		this.pos = this.limit - this.inflater.getRemaining();
+		if (this.gzip) {
+			final long crc = readInt(false);
+			final long size = readInt(false);
+			if (crc != this.checksum.getValue() || size != (this.memberSize & 0xFFFFFFFFL)) {
+				throw new ZipException("Corrupt GZIP trailer.");
+			}
+			this.members++;
+			// another member may follow
+			this.state = State.HEADER;
+		} else {
+			if (null != this.checksum && readInt(true) != this.checksum.getValue()) {
+				throw new ZipException("Corrupt ZLIB trailer.");
+			}
+			end();
+		}
+	}
+
+	private int passthrough(byte[] b, int off, int len) throws IOException {
+		final int n;
+		if (this.pos < this.limit) {
+			n = Math.min(len, this.limit - this.pos);
+			System.arraycopy(this.buffer, this.pos, b, off, n);
+			this.pos += n;
+		} else {
+			n = this.in.read(b, off, len);
+			if (n < 0) {
+				end();
+				return -1;
+			}
+			this.wireBytes += n;
+		}
+		this.decodedBytes += n;
+		return n;
+	}
+
+	/**
+	 * [保证缓冲区中至少有指定的字节数](Make sure at least the given number of bytes are buffered)
+	 * @description zh - 保证缓冲区中至少有指定的字节数，不足时先把剩余数据移到开头再读取，流先结束时返回false。只在解压器不引用缓冲区时调用
+	 * @description en - Make sure at least the given number of bytes are buffered, the remaining data is moved to the start before reading when short, and false is returned when the stream ends first. Only called while the inflater does not reference the buffer
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:20:30
+	 * @param count 字节数
+	 * @return boolean
+	 * @throws java.io.IOException
+	 */
+	private boolean fill(int count) throws IOException {
+		if (this.limit - this.pos >= count) {
+			return true;
+		}
+		if (this.pos > 0) {
+			System.arraycopy(this.buffer, this.pos, this.buffer, 0, this.limit - this.pos);
+			this.limit -= this.pos;
+			this.pos = 0;
+		}
+		while (this.limit < count) {
+			final int read = this.in.read(this.buffer, this.limit, this.buffer.length - this.limit);
+			if (read < 0) {
+				return false;
+			}
+			this.wireBytes += read;
+			this.limit += read;
+		}
+		return true;
+	}
+
+	private int readUnsignedByte() throws IOException {
+		if (false == fill(1)) {
+			throw new EOFException("Unexpected end of " + (this.gzip ? "GZIP" : "ZLIB") + " header or trailer.");
+		}
+		return this.buffer[this.pos++] & 0xFF;
+	}
+
+	private long readInt(boolean bigEndian) throws IOException {
+		long value = 0;
+		for (int i = 0; i < 4; i++) {
+			final long b = readUnsignedByte();
+			value = bigEndian ? value << 8 | b : value | b << (8 * i);
+		}
+		return value;
+	}
+
+	private void skipBytes(int count) throws IOException {
+		for (int i = 0; i < count; i++) {
+			readUnsignedByte();
+		}
+	}
+
+	private void skipZeroTerminated() throws IOException {
+		while (0 != readUnsignedByte()) {
+			// skip
+		}
+	}
+
+	private void end() {
+		this.state = State.EOF;
+		// give the native memory back as soon as possible, the caller may never close
+		releaseResources();
+	}
+
+	private void releaseResources() {
+		if (null != this.inflater) {
+			this.pool.release(this.inflater);
+			this.inflater = null;
+		}
+		if (null != this.buffer) {
+			BufferPool.getDefault().release(this.buffer);
+			this.buffer = null;
+		}
+	}
+
+	private static boolean isZlibHeader(int cmf, int flg) {
+		// deflate with a window of at most 32K, and the check bits of RFC 1950
+		return 8 == (cmf & 0x0F) && (cmf >> 4) <= 7 && 0 == (cmf << 8 | flg) % 31;
+	}
+
+	/**
+	 * [解压状态](Inflating state)
+	 * @description zh - 解压状态
+	 * @description en - Inflating state
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:21:00
+	 */
+	private enum State {
+		/** 读取头部 */
+		HEADER,
+		/** 解压数据 */
+		BODY,
+		/** 内容未压缩，原样返回 */
+		PASSTHROUGH,
+		/** 已结束 */
+		EOF
+	}
+}
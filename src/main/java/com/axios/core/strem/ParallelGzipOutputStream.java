@@ -0,0 +1,351 @@
+package com.axios.core.strem;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import com.axios.core.tool.io.DeflaterPool;
+
+/**
+ * [多线程分块gzip压缩的输出流](Output stream compressing gzip in parallel blocks)
+ * @description zh - 多线程分块gzip压缩的输出流：写入的内容切分为固定大小的块，在ForkJoin池中并行压缩，每块以上一块的最后32K为字典，非最后一块以同步刷新结束，因此按顺序拼接即为一个合法的deflate流；各块的CRC32在压缩线程中计算后合并。正在压缩的块数有上限，写入方在结果积压时等待最早的块。整个内容不足一块时在当前线程压缩
+ * @description en - Output stream compressing gzip in parallel blocks: written content is split into blocks of a fixed size that are compressed in parallel on a fork-join pool, every block uses the last 32K of the previous block as dictionary and every block but the last ends with a sync flush, so concatenating them in order gives one valid deflate stream; the CRC32 of every block is computed on the compressing thread and then combined. The number of blocks being compressed is bounded, and the writer waits for the oldest block when results pile up. Content of less than one block is compressed on the current thread
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 20:36:30
+ */
+public final class ParallelGzipOutputStream extends CompressingOutputStream {
+
+	/** 默认块大小 */
+	public static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+	/** deflate窗口大小，即字典的最大长度 */
+	private static final int WINDOW_SIZE = 32 * 1024;
+
+	/** 压缩级别 */
+	private final int level;
+	/** 块大小 */
+	private final int blockSize;
+	/** 执行压缩的池 */
+	private final ForkJoinPool pool;
+	/** 压缩器池 */
+	private final DeflaterPool deflaters;
+	/** 最多同时压缩的块数 */
+	private final int maxPending;
+	/** 按顺序等待写出的块 */
+	private final ArrayDeque<Block> pending = new ArrayDeque<>();
+	/** 可复用的输入数组 */
+	private final ArrayDeque<byte[]> freeInputs = new ArrayDeque<>();
+	/** 可复用的输出数组 */
+	private final ArrayDeque<byte[]> freeOutputs = new ArrayDeque<>();
+	/** 单字节写入的缓冲 */
+	private final byte[] single = new byte[1];
+	/** 正在填充的块 */
+	private byte[] current;
+	/** 正在填充的块中的字节数 */
+	private int count;
+	/** 上一块，作为当前块的字典 */
+	private byte[] previous;
+	/** 上一块中的字节数 */
+	private int previousCount;
+	/** 已提交的块数 */
+	private long blocks;
+	/** 已写出内容的CRC32 */
+	private long crc;
+	/** 已写出内容压缩前的字节数 */
+	private long size;
+	/** 是否已写入头部 */
+	private boolean started;
+	/** 是否已完成 */
+	private boolean finished;
+
+	/**
+	 * [创建多线程分块gzip压缩的输出流](Create an output stream compressing gzip in parallel blocks)
+	 * @description zh - 创建多线程分块gzip压缩的输出流，最多同时压缩池并行度两倍的块
+	 * @description en - Create an output stream compressing gzip in parallel blocks, at most twice the parallelism of the pool blocks are compressed at the same time
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:37:00
+	 * @param out 下层流
+	 * @param level 压缩级别，-1到9
+	 * @param blockSize 块大小，不小于32K
+	 * @param pool 执行压缩的池
+	 * @param deflaters 压缩器池
+	 */
+	public ParallelGzipOutputStream(OutputStream out, int level, int blockSize, ForkJoinPool pool, DeflaterPool deflaters) {
+		super(out);
+		if ((level < 0 || level > 9) && Deflater.DEFAULT_COMPRESSION != level) {
+			throw new IllegalArgumentException("Invalid compression level: " + level);
+		}
+		if (blockSize < WINDOW_SIZE) {
+			throw new IllegalArgumentException("Block size must be at least " + WINDOW_SIZE + ".");
+		}
+		this.level = level;
+		this.blockSize = blockSize;
+		this.pool = pool;
+		this.deflaters = deflaters;
+		this.maxPending = Math.max(2, pool.getParallelism() * 2);
+	}
+
+	/**
+	 * @description zh - 获取已写出内容压缩前的字节数
+	 * @description en - Get the number of bytes written out before compressing
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:37:30
+	 * @return long
+	 */
+	public long getSize() {
+		return this.size;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		this.single[0] = (byte) b;
+		write(this.single, 0, 1);
+	}
+
+	@SuppressWarnings("NullableProblems")
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (this.finished) {
+			throw new IOException("Stream finished");
+		}
+		while (len > 0) {
+			if (null == this.current) {
+				this.current = take(this.freeInputs, this.blockSize);
+			}
+			final int n = Math.min(len, this.blockSize - this.count);
+			System.arraycopy(b, off, this.current, this.count, n);
+			this.count += n;
+			off += n;
+			len -= n;
+			if (this.count == this.blockSize) {
+				submit(false);
+			}
+		}
+	}
+
+	@Override
+	public void finish() throws IOException {
+		if (this.finished) {
+			return;
+		}
+		this.finished = true;
+		if (null == this.current) {
+			this.current = new byte[0];
+		}
+		submit(true);
+		while (false == this.pending.isEmpty()) {
+			writeBlock(this.pending.poll());
+		}
+		final int check = (int) this.crc;
+		final int isize = (int) this.size;
+		this.out.write(new byte[]{
+				(byte) check, (byte) (check >>> 8), (byte) (check >>> 16), (byte) (check >>> 24),
+				(byte) isize, (byte) (isize >>> 8), (byte) (isize >>> 16), (byte) (isize >>> 24)});
+	}
+
+	/** --------------- private --------------- */
+
+	/**
+	 * [提交正在填充的块](Submit the block being filled)
+	 * @description zh - 提交正在填充的块。只有一块的内容直接在当前线程压缩；积压的块达到上限时先写出最早的块
+	 * @description en - Submit the block being filled. Content of only one block is compressed directly on the current thread; when the pending blocks reach the limit the oldest one is written out first
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:38:00
+	 * @param last 是否为最后一块
+	 * @throws IOException IO异常
+	 */
+	private void submit(boolean last) throws IOException {
+		if (false == this.started) {
+			this.out.write(DeflatingOutputStream.GZIP_HEADER);
+			this.started = true;
+		}
+		final Block block = new Block(this.current, this.count, this.previous, this.previousCount, last,
+				take(this.freeOutputs, this.blockSize + (this.blockSize >> 3)));
+		if (last && 0 == this.blocks) {
+			block.invoke();
+		} else {
+			this.pool.execute(block);
+		}
+		this.blocks++;
+		this.pending.add(block);
+		this.previous = this.current;
+		this.previousCount = this.count;
+		this.current = null;
+		this.count = 0;
+		while (this.pending.size() > this.maxPending) {
+			writeBlock(this.pending.poll());
+		}
+	}
+
+	private void writeBlock(Block block) throws IOException {
+		block.join();
+		this.out.write(block.output, 0, block.outputLength);
+		this.crc = crc32Combine(this.crc, block.crc, block.length);
+		this.size += block.length;
+		// the block before this one was its dictionary, neither is read any more
+		if (null != block.dictionary && this.freeInputs.size() < this.maxPending) {
+			this.freeInputs.add(block.dictionary);
+		}
+		if (this.freeOutputs.size() < this.maxPending) {
+			this.freeOutputs.add(block.output);
+		}
+	}
+
+	private static byte[] take(ArrayDeque<byte[]> free, int size) {
+		final byte[] array = free.poll();
+		return null == array ? new byte[size] : array;
+	}
+
+	/**
+	 * [合并CRC32](Combine CRC32)
+	 * @description zh - 由两段内容各自的CRC32和第二段的长度算出拼接后的CRC32，与zlib的crc32_combine相同，在GF(2)上对矩阵平方求幂
+	 * @description en - Compute the CRC32 of two concatenated pieces from the CRC32 of each and the length of the second, the same as crc32_combine of zlib, raising a matrix to a power by squaring over GF(2)
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:38:30
+	 * @param crc1 第一段的CRC32
+	 * @param crc2 第二段的CRC32
+	 * @param length2 第二段的长度
+	 * @return long
+	 */
+	static long crc32Combine(long crc1, long crc2, long length2) {
+		if (length2 <= 0) {
+			return crc1;
+		}
+		final long[] even = new long[32];
+		final long[] odd = new long[32];
+		// the operator for one zero bit
+		odd[0] = 0xEDB88320L;
+		long row = 1;
+		for (int n = 1; n < 32; n++) {
+			odd[n] = row;
+			row <<= 1;
+		}
+		// two and then four zero bits
+		gf2MatrixSquare(even, odd);
+		gf2MatrixSquare(odd, even);
+		// apply length2 zero bytes to crc1, the first square gives the operator for one zero byte
+		do {
+			gf2MatrixSquare(even, odd);
+			if (0 != (length2 & 1)) {
+				crc1 = gf2MatrixTimes(even, crc1);
+			}
+			length2 >>= 1;
+			if (0 == length2) {
+				break;
+			}
+			gf2MatrixSquare(odd, even);
+			if (0 != (length2 & 1)) {
+				crc1 = gf2MatrixTimes(odd, crc1);
+			}
+			length2 >>= 1;
+		} while (0 != length2);
+		return crc1 ^ crc2;
+	}
+
+	private static long gf2MatrixTimes(long[] matrix, long vector) {
+		long sum = 0;
+		for (int i = 0; 0 != vector; i++, vector >>>= 1) {
+			if (0 != (vector & 1)) {
+				sum ^= matrix[i];
+			}
+		}
+		return sum;
+	}
+
+	private static void gf2MatrixSquare(long[] square, long[] matrix) {
+		for (int n = 0; n < 32; n++) {
+			square[n] = gf2MatrixTimes(matrix, matrix[n]);
+		}
+	}
+
+	/**
+	 * [压缩一块的任务](Task compressing one block)
+	 * @description zh - 压缩一块的任务，压缩器从池中借用，输出数组不够时扩容
+	 * @description en - Task compressing one block, the deflater is borrowed from the pool and the output array grows when it is not large enough
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:39:00
+	 */
+	private final class Block extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		/** 输入 */
+		final byte[] input;
+		/** 输入的字节数 */
+		final int length;
+		/** 上一块的输入，第一块为null */
+		final byte[] dictionary;
+		/** 上一块的字节数 */
+		final int dictionaryLength;
+		/** 是否为最后一块 */
+		final boolean last;
+		/** 输出 */
+		byte[] output;
+		/** 输出的字节数 */
+		int outputLength;
+		/** 输入的CRC32 */
+		long crc;
+
+		Block(byte[] input, int length, byte[] dictionary, int dictionaryLength, boolean last, byte[] output) {
+			this.input = input;
+			this.length = length;
+			this.dictionary = dictionary;
+			this.dictionaryLength = dictionaryLength;
+			this.last = last;
+			this.output = output;
+		}
+
+		@Override
+		protected void compute() {
+			final Deflater deflater = deflaters.acquire(level);
+			try {
+				if (null != this.dictionary) {
+					final int window = Math.min(WINDOW_SIZE, this.dictionaryLength);
+					deflater.setDictionary(this.dictionary, this.dictionaryLength - window, window);
+				}
+				deflater.setInput(this.input, 0, this.length);
+				if (this.last) {
+					deflater.finish();
+					while (false == deflater.finished()) {
+						deflate(deflater, Deflater.NO_FLUSH);
+					}
+				} else {
+					// a pooled deflater acquired with another level only applies the new level on its first call and
+					// returns early, so the input is consumed without flushing first
+					while (false == deflater.needsInput()) {
+						deflate(deflater, Deflater.NO_FLUSH);
+					}
+					// a sync flush ends on a byte boundary, so the next block can follow directly
+					while (deflate(deflater, Deflater.SYNC_FLUSH)) {
+						// the output was full, there may be more
+					}
+				}
+			} finally {
+				deflaters.release(deflater);
+			}
+			final CRC32 checksum = new CRC32();
+			checksum.update(this.input, 0, this.length);
+			this.crc = checksum.getValue();
+		}
+
+		private boolean deflate(Deflater deflater, int flush) {
+			if (this.outputLength == this.output.length) {
+				this.output = Arrays.copyOf(this.output, this.output.length << 1);
+			}
+			final int available = this.output.length - this.outputLength;
+			final int n = deflater.deflate(this.output, this.outputLength, available, flush);
+			this.outputLength += n;
+			return n == available;
+		}
+	}
+}
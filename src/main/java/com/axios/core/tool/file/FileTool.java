@@ -265,7 +265,7 @@ public class FileTool {
 		File file = directory;
 		for (String name : names) {
 			if (null != name) {
-				file = file(file, name);
+				file = new File(file, name);
 			}
 		}
 		return file;
@@ -0,0 +1,178 @@
+package com.axios.core.tool.io;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [可复用的字节缓冲池](Reusable byte buffer pool)
+ * @description zh - 可复用的字节缓冲池，先从本线程缓存的缓冲区获取，再从有界的全局缓冲区获取，都没有时新建；只回收大小等于池缓冲大小的数组
+ * @description en - Reusable byte buffer pool. Buffers are taken from the one cached by the current thread first, then from the bounded global slab, and newly allocated when both are empty; only arrays whose size equals the pool buffer size are recycled
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 18:30:05
+ */
+public final class BufferPool {
+
+	/** 默认缓冲大小 */
+	public static final int DEFAULT_BUFFER_SIZE = 2 << 12;
+	/** 默认全局缓冲区最大空闲数 */
+	public static final int DEFAULT_MAX_IDLE = 256;
+
+	/** 缓冲大小 */
+	private final int bufferSize;
+	/** 本线程缓存的缓冲区 */
+	private final ThreadLocal<byte[]> local = new ThreadLocal<>();
+	/** 全局空闲缓冲区 */
+	private final BlockingQueue<byte[]> slab;
+	/** 命中次数 */
+	private final LongAdder hits = new LongAdder();
+	/** 未命中次数 */
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * [创建字节缓冲池](Create byte buffer pool)
+	 * @description zh - 创建字节缓冲池
+	 * @description en - Create byte buffer pool
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:30:40
+	 * @param bufferSize 缓冲大小
+	 * @param maxIdle 全局缓冲区最大空闲数
+	 * @return com.axios.core.tool.io.BufferPool
+	 */
+	public static BufferPool create(int bufferSize, int maxIdle) {
+		return new BufferPool(bufferSize, maxIdle);
+	}
+
+	/**
+	 * [获取共享的字节缓冲池](Get the shared byte buffer pool)
+	 * @description zh - 获取共享的字节缓冲池，缓冲大小为8KB
+	 * @description en - Get the shared byte buffer pool, the buffer size is 8KB
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:31:02
+	 * @return com.axios.core.tool.io.BufferPool
+	 */
+	public static BufferPool getDefault() {
+		return Holder.INSTANCE;
+	}
+
+	public BufferPool(int bufferSize, int maxIdle) {
+		if (bufferSize <= 0 || maxIdle <= 0) {
+			throw new IllegalArgumentException("Buffer size and max idle must be greater than 0.");
+		}
+		this.bufferSize = bufferSize;
+		this.slab = new ArrayBlockingQueue<>(maxIdle);
+	}
+
+	/**
+	 * [获取一个缓冲区](Acquire a buffer)
+	 * @description zh - 获取一个缓冲区，内容未清空，使用完毕后应通过 release 归还
+	 * @description en - Acquire a buffer whose content is not cleared, it should be returned through release after use
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:31:30
+	 * @return byte[]
+	 */
+	public byte[] acquire() {
+		byte[] buffer = this.local.get();
+		if (null != buffer) {
+			this.local.set(null);
+			this.hits.increment();
+			return buffer;
+		}
+		buffer = this.slab.poll();
+		if (null != buffer) {
+			this.hits.increment();
+			return buffer;
+		}
+		this.misses.increment();
+		return new byte[this.bufferSize];
+	}
+
+	/**
+	 * [归还缓冲区](Release the buffer)
+	 * @description zh - 归还缓冲区，大小不符或池已满时丢弃，归还后不得再使用
+	 * @description en - Release the buffer, discarded when the size does not match or the pool is full, and it must not be used after release
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:32:01
+	 * @param buffer 缓冲区
+	 */
+	public void release(byte[] buffer) {
+		if (null == buffer || buffer.length != this.bufferSize) {
+			return;
+		}
+		if (null == this.local.get()) {
+			this.local.set(buffer);
+			return;
+		}
+		this.slab.offer(buffer);
+	}
+
+	/**
+	 * @description zh - 获取缓冲大小
+	 * @description en - Get buffer size
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:32:20
+	 * @return int
+	 */
+	public int getBufferSize() {
+		return this.bufferSize;
+	}
+
+	/**
+	 * @description zh - 获取命中次数
+	 * @description en - Get the number of hits
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:32:40
+	 * @return long
+	 */
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * @description zh - 获取未命中次数，即新建缓冲区的次数
+	 * @description en - Get the number of misses, that is, the number of new buffers allocated
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:33:00
+	 * @return long
+	 */
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * @description zh - 获取全局缓冲区中的空闲数，不含线程缓存
+	 * @description en - Get the number of idle buffers in the global slab, excluding thread caches
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:33:20
+	 * @return int
+	 */
+	public int getIdleCount() {
+		return this.slab.size();
+	}
+
+	@Override
+	public String toString() {
+		return "BufferPool[size=" + this.bufferSize + ", hits=" + getHitCount() + ", misses=" + getMissCount() + ", idle=" + getIdleCount() + "]";
+	}
+
+	/**
+	 * [共享的缓冲池，首次使用时创建](Shared buffer pool, created on first use)
+	 * @description zh - 共享的缓冲池，首次使用时创建
+	 * @description en - Shared buffer pool, created on first use
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:33:45
+	 */
+	private static class Holder {
+		private static final BufferPool INSTANCE = new BufferPool(DEFAULT_BUFFER_SIZE, DEFAULT_MAX_IDLE);
+	}
+}
@@ -0,0 +1,42 @@
+package com.axios.core.tool.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * [可直接接收文件区域和缓冲区的输出](Output that accepts file regions and buffers directly)
+ * @description zh - 可直接接收文件区域和缓冲区的输出。由能够拿到通道的传输层的请求体输出流实现，文件内容之后由FileChannel.transferTo交给内核发送，缓冲区不再复制到堆中。资源写出时先判断输出流是否实现本接口，未实现时退回到池化缓冲区复制
+ * @description en - Output that accepts file regions and buffers directly. It is implemented by the request body output stream of transports that own a channel, the file content is later handed to the kernel with FileChannel.transferTo and buffers are not copied onto the heap. Resources check whether the output stream implements this interface when writing and fall back to copying through pooled buffers otherwise
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:56:00
+ */
+public interface ChannelSink {
+
+	/**
+	 * [写入文件区域](Write a file region)
+	 * @description zh - 写入文件区域，文件在发送时才打开读取，发送完成前不应修改
+	 * @description en - Write a file region, the file is only opened and read when sending and should not be modified until it has been sent
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:56:30
+	 * @param file 文件
+	 * @param position 起始位置
+	 * @param count 字节数
+	 * @throws java.io.IOException
+	 */
+	void writeFile(Path file, long position, long count) throws IOException;
+
+	/**
+	 * [写入缓冲区](Write a buffer)
+	 * @description zh - 写入缓冲区的剩余内容，不复制数据，缓冲区的位置移动到末尾，之后不应再修改其内容
+	 * @description en - Write the remaining content of the buffer without copying it, the position of the buffer moves to its limit and its content should not be modified afterwards
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:57:00
+	 * @param buffer 缓冲区
+	 * @throws java.io.IOException
+	 */
+	void writeBuffer(ByteBuffer buffer) throws IOException;
+}
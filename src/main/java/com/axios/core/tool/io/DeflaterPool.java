@@ -0,0 +1,154 @@
+package com.axios.core.tool.io;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+
+/**
+ * [可复用的压缩器池](Reusable deflater pool)
+ * @description zh - 可复用的压缩器池，与解压器池相同，避免每个请求体新建Deflater并等待清理器释放本地内存。池中的压缩器均为不带zlib头的模式，获取时设置压缩级别，归还时重置，池满时立即调用end
+ * @description en - Reusable deflater pool, like the inflater pool it avoids creating a Deflater for every request body and waiting for the cleaner to free its native memory. Deflaters in the pool are all in the mode without zlib header, the level is set when acquired, they are reset when released and end is called at once when the pool is full
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 20:24:00
+ */
+public final class DeflaterPool {
+
+	/** 默认最大空闲数 */
+	public static final int DEFAULT_MAX_IDLE = 32;
+
+	/** 空闲的压缩器，不按线程缓存，请求可能在任意线程中发送 */
+	private final BlockingQueue<Deflater> idle;
+	/** 命中次数 */
+	private final LongAdder hits = new LongAdder();
+	/** 未命中次数 */
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * [创建压缩器池](Create deflater pool)
+	 * @description zh - 创建压缩器池
+	 * @description en - Create deflater pool
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:24:30
+	 * @param maxIdle 最大空闲数
+	 * @return com.axios.core.tool.io.DeflaterPool
+	 */
+	public static DeflaterPool create(int maxIdle) {
+		return new DeflaterPool(maxIdle);
+	}
+
+	/**
+	 * [获取共享的压缩器池](Get the shared deflater pool)
+	 * @description zh - 获取共享的压缩器池
+	 * @description en - Get the shared deflater pool
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:25:00
+	 * @return com.axios.core.tool.io.DeflaterPool
+	 */
+	public static DeflaterPool getDefault() {
+		return Holder.INSTANCE;
+	}
+
+	public DeflaterPool(int maxIdle) {
+		if (maxIdle <= 0) {
+			throw new IllegalArgumentException("Max idle must be greater than 0.");
+		}
+		this.idle = new ArrayBlockingQueue<>(maxIdle);
+	}
+
+	/**
+	 * [获取一个压缩器](Acquire a deflater)
+	 * @description zh - 获取一个不带zlib头模式、指定压缩级别的压缩器，使用完毕后应通过 release 归还
+	 * @description en - Acquire a deflater in the mode without zlib header with the given level, it should be returned through release after use
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:25:30
+	 * @param level 压缩级别，-1到9
+	 * @return java.util.zip.Deflater
+	 */
+	public Deflater acquire(int level) {
+		final Deflater deflater = this.idle.poll();
+		if (null != deflater) {
+			this.hits.increment();
+			deflater.setLevel(level);
+			return deflater;
+		}
+		this.misses.increment();
+		return new Deflater(level, true);
+	}
+
+	/**
+	 * [归还压缩器](Release the deflater)
+	 * @description zh - 重置并归还压缩器，池已满时释放其本地内存，归还后不得再使用
+	 * @description en - Reset and return the deflater, its native memory is freed when the pool is full, and it must not be used after release
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:26:00
+	 * @param deflater 压缩器
+	 */
+	public void release(Deflater deflater) {
+		if (null == deflater) {
+			return;
+		}
+		deflater.reset();
+		if (false == this.idle.offer(deflater)) {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * @description zh - 获取命中次数
+	 * @description en - Get the number of hits
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:26:30
+	 * @return long
+	 */
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * @description zh - 获取未命中次数，即新建压缩器的次数
+	 * @description en - Get the number of misses, that is, the number of new deflaters created
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:27:00
+	 * @return long
+	 */
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * @description zh - 获取池中的空闲数
+	 * @description en - Get the number of idle deflaters in the pool
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:27:30
+	 * @return int
+	 */
+	public int getIdleCount() {
+		return this.idle.size();
+	}
+
+	@Override
+	public String toString() {
+		return "DeflaterPool[hits=" + getHitCount() + ", misses=" + getMissCount() + ", idle=" + getIdleCount() + "]";
+	}
+
+	/**
+	 * [共享的压缩器池，首次使用时创建](Shared deflater pool, created on first use)
+	 * @description zh - 共享的压缩器池，首次使用时创建
+	 * @description en - Shared deflater pool, created on first use
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:28:00
+	 */
+	private static class Holder {
+		private static final DeflaterPool INSTANCE = new DeflaterPool(DEFAULT_MAX_IDLE);
+	}
+}
@@ -51,6 +51,18 @@ public class FastByteArrayOutputStream extends OutputStream {
 		buffer.reset();
 	}
 
+	/**
+	 * [将缓冲区归还到缓冲池并清空](Return the buffers to the buffer pool and clear)
+	 * @description zh - 将缓冲区归还到缓冲池并清空，调用前应已通过 toByteArray 或 writeTo 取出数据
+	 * @description en - Return the buffers to the buffer pool and clear, the data should have been taken out through toByteArray or writeTo before calling
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:35:00
+	 */
+	public void release() {
+		buffer.release();
+	}
+
 	public void writeTo(OutputStream out) throws IORuntimeException {
 		final int index = buffer.index();
 		if(index < 0){
@@ -65,7 +65,8 @@ public class FastByteBuffer {
 		int newBufferSize = Math.max(minChunkLen, delta);
 
 		currentBufferIndex++;
-		currentBuffer = new byte[newBufferSize];
+		final BufferPool pool = BufferPool.getDefault();
+		currentBuffer = newBufferSize <= pool.getBufferSize() ? pool.acquire() : new byte[newBufferSize];
 		offset = 0;
 
 		// add buffer
@@ -212,6 +213,23 @@ public class FastByteBuffer {
 		buffersCount = 0;
 	}
 
+	/**
+	 * [将缓冲区归还到缓冲池并清空](Return the buffers to the buffer pool and clear)
+	 * @description zh - 将缓冲区归还到缓冲池并清空，调用前应已取出需要的数据
+	 * @description en - Return the buffers to the buffer pool and clear, the required data should have been taken out before calling
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:34:30
+	 */
+	public void release() {
+		final BufferPool pool = BufferPool.getDefault();
+		for (int i = 0; i <= currentBufferIndex; i++) {
+			pool.release(buffers[i]);
+			buffers[i] = null;
+		}
+		reset();
+	}
+
 	public byte[] toArray() {
 		int pos = 0;
 		byte[] array = new byte[size];
@@ -0,0 +1,152 @@
+package com.axios.core.tool.io;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Inflater;
+
+/**
+ * [可复用的解压器池](Reusable inflater pool)
+ * @description zh - 可复用的解压器池。Inflater的zlib状态在本地内存中，不调用end时只能等垃圾回收后的清理器释放，高负载下进程内存持续增长。池中的解压器均为不带zlib头的模式，归还时重置，池满时立即调用end释放本地内存
+ * @description en - Reusable inflater pool. The zlib state of an Inflater lives in native memory, and without calling end it is only freed by the cleaner after garbage collection, so the process memory keeps growing under load. Inflaters in the pool are all in the mode without zlib header, they are reset when released and end is called at once to free the native memory when the pool is full
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 20:15:00
+ */
+public final class InflaterPool {
+
+	/** 默认最大空闲数 */
+	public static final int DEFAULT_MAX_IDLE = 64;
+
+	/** 空闲的解压器，不按线程缓存，请求可能在任意线程中读取 */
+	private final BlockingQueue<Inflater> idle;
+	/** 命中次数 */
+	private final LongAdder hits = new LongAdder();
+	/** 未命中次数 */
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * [创建解压器池](Create inflater pool)
+	 * @description zh - 创建解压器池
+	 * @description en - Create inflater pool
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:15:30
+	 * @param maxIdle 最大空闲数
+	 * @return com.axios.core.tool.io.InflaterPool
+	 */
+	public static InflaterPool create(int maxIdle) {
+		return new InflaterPool(maxIdle);
+	}
+
+	/**
+	 * [获取共享的解压器池](Get the shared inflater pool)
+	 * @description zh - 获取共享的解压器池
+	 * @description en - Get the shared inflater pool
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:16:00
+	 * @return com.axios.core.tool.io.InflaterPool
+	 */
+	public static InflaterPool getDefault() {
+		return Holder.INSTANCE;
+	}
+
+	public InflaterPool(int maxIdle) {
+		if (maxIdle <= 0) {
+			throw new IllegalArgumentException("Max idle must be greater than 0.");
+		}
+		this.idle = new ArrayBlockingQueue<>(maxIdle);
+	}
+
+	/**
+	 * [获取一个解压器](Acquire an inflater)
+	 * @description zh - 获取一个不带zlib头模式的解压器，使用完毕后应通过 release 归还
+	 * @description en - Acquire an inflater in the mode without zlib header, it should be returned through release after use
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:16:30
+	 * @return java.util.zip.Inflater
+	 */
+	public Inflater acquire() {
+		final Inflater inflater = this.idle.poll();
+		if (null != inflater) {
+			this.hits.increment();
+			return inflater;
+		}
+		this.misses.increment();
+		return new Inflater(true);
+	}
+
+	/**
+	 * [归还解压器](Release the inflater)
+	 * @description zh - 重置并归还解压器，池已满时释放其本地内存，归还后不得再使用
+	 * @description en - Reset and return the inflater, its native memory is freed when the pool is full, and it must not be used after release
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:17:00
+	 * @param inflater 解压器
+	 */
+	public void release(Inflater inflater) {
+		if (null == inflater) {
+			return;
+		}
+		inflater.reset();
+		if (false == this.idle.offer(inflater)) {
+			inflater.end();
+		}
+	}
+
+	/**
+	 * @description zh - 获取命中次数
+	 * @description en - Get the number of hits
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:17:30
+	 * @return long
+	 */
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * @description zh - 获取未命中次数，即新建解压器的次数
+	 * @description en - Get the number of misses, that is, the number of new inflaters created
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:18:00
+	 * @return long
+	 */
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * @description zh - 获取池中的空闲数
+	 * @description en - Get the number of idle inflaters in the pool
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:18:30
+	 * @return int
+	 */
+	public int getIdleCount() {
+		return this.idle.size();
+	}
+
+	@Override
+	public String toString() {
+		return "InflaterPool[hits=" + getHitCount() + ", misses=" + getMissCount() + ", idle=" + getIdleCount() + "]";
+	}
+
+	/**
+	 * [共享的解压器池，首次使用时创建](Shared inflater pool, created on first use)
+	 * @description zh - 共享的解压器池，首次使用时创建
+	 * @description en - Shared inflater pool, created on first use
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:19:00
+	 */
+	private static class Holder {
+		private static final InflaterPool INSTANCE = new InflaterPool(DEFAULT_MAX_IDLE);
+	}
+}
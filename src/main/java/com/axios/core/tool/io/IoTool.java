@@ -34,12 +34,16 @@ public class IoTool {
 		Assert.notNull(source, "InputStream is null !");
 		Assert.notNull(target, "OutputStream is null !");
 
+		final BufferPool pool = BufferPool.getDefault();
+		final byte[] buffer = pool.acquire();
 		final long size;
 		try {
-			size = doCopy(source, target, new byte[bufferSize(Long.MAX_VALUE)]);
+			size = doCopy(source, target, buffer);
 			target.flush();
 		} catch (IOException e) {
 			throw new IORuntimeException(e);
+		} finally {
+			pool.release(buffer);
 		}
 		return size;
 	}
@@ -55,7 +59,7 @@ public class IoTool {
 	 * @return int
 	 */
 	private static int bufferSize(long count) {
-		return (int) Math.min(8192 , count);
+		return (int) Math.min(BufferPool.DEFAULT_BUFFER_SIZE, count);
 	}
 
 	/**
@@ -173,7 +177,12 @@ public class IoTool {
 		}
 
 		// 未知bytes总量的流
-		return read(in, isClose).toByteArray();
+		final FastByteArrayOutputStream out = read(in, isClose);
+		try {
+			return out.toByteArray();
+		} finally {
+			out.release();
+		}
 	}
 
 	/**
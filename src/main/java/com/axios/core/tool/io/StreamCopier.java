@@ -34,12 +34,18 @@ public class StreamCopier extends IoCopier<InputStream, OutputStream> {
 		Assert.notNull(source, "InputStream is null !");
 		Assert.notNull(target, "OutputStream is null !");
 
+		final int bufferSize = bufferSize(this.count);
+		final BufferPool pool = BufferPool.getDefault();
+		// reads never exceed bufferSize, so a larger pooled array is fine
+		final byte[] buffer = bufferSize <= pool.getBufferSize() ? pool.acquire() : new byte[bufferSize];
 		final long size;
 		try {
-			size = doCopy(source, target, new byte[bufferSize(this.count)]);
+			size = doCopy(source, target, buffer);
 			target.flush();
 		} catch (IOException e) {
 			throw new IORuntimeException(e);
+		} finally {
+			pool.release(buffer);
 		}
 
 		return size;
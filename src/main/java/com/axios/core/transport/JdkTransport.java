@@ -0,0 +1,27 @@
+package com.axios.core.transport;
+
+import java.net.Proxy;
+import java.net.URL;
+
+import com.axios.core.connection.Connection;
+import com.axios.core.connection.HttpConnection;
+
+/**
+ * [基于HttpURLConnection的默认传输引擎](Default transport engine based on HttpURLConnection)
+ * @description zh - 基于HttpURLConnection的默认传输引擎
+ * @description en - Default transport engine based on HttpURLConnection
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 15:57:12
+ */
+public class JdkTransport implements Transport {
+
+	/** 单例 */
+	public static final JdkTransport INSTANCE = new JdkTransport();
+
+	@Override
+	public HttpConnection open(URL url, Proxy proxy) {
+		return Connection.create(url, proxy);
+	}
+
+}
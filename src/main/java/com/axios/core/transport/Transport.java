@@ -0,0 +1,32 @@
+package com.axios.core.transport;
+
+import java.net.Proxy;
+import java.net.URL;
+
+import com.axios.core.connection.HttpConnection;
+
+/**
+ * [传输引擎接口，负责为每一次请求创建连接](Transport engine interface, responsible for creating a connection for each request)
+ * @description zh - 传输引擎接口，负责为每一次请求创建连接
+ * @description en - Transport engine interface, responsible for creating a connection for each request
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 15:55:04
+ */
+@FunctionalInterface
+public interface Transport {
+
+	/**
+	 * [打开一个连接](Open a connection)
+	 * @description zh - 打开一个连接
+	 * @description en - Open a connection
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 15:55:41
+	 * @param url URL
+	 * @param proxy 代理，null表示不使用代理
+	 * @return com.axios.core.connection.HttpConnection
+	 */
+	HttpConnection open(URL url, Proxy proxy);
+
+}
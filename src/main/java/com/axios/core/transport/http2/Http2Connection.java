@@ -0,0 +1,489 @@
+package com.axios.core.transport.http2;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.Proxy;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLSocketFactory;
+
+import com.axios.core.connection.HttpConnection;
+import com.axios.core.requestMethod.RequestMethod;
+import com.axios.core.tool.UrlTool;
+import com.axios.exception.ConnException;
+import com.axios.header.RequestHeader;
+import com.axios.status.Status;
+
+/**
+ * [基于java.net.http的HTTP/2连接](HTTP/2 connection based on java.net.http)
+ * @description zh - 基于java.net.http的HTTP/2连接，每个请求是共享连接上的一个流
+ * @description en - HTTP/2 connection based on java.net.http, each request is a stream on a shared connection
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 18:14:02
+ */
+public final class Http2Connection implements HttpConnection {
+
+	/** 由JDK管理、不允许手动设置的请求头 */
+	private static final Set<String> RESTRICTED_HEADERS = new HashSet<>(Arrays.asList(
+			"connection", "content-length", "expect", "host", "upgrade", "keep-alive", "transfer-encoding"));
+
+	/** 所属传输引擎 */
+	private final Http2Transport transport;
+	/** 连接URL */
+	private final URL url;
+	/** 代理 */
+	private final Proxy proxy;
+	/** 请求方法 */
+	private RequestMethod method = RequestMethod.GET;
+	/** 请求头 */
+	private final Map<String, List<String>> requestHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+	/** 连接超时 */
+	private int connectTimeout;
+	/** 读取超时 */
+	private int readTimeout;
+	/** 是否自动重定向 */
+	private boolean followRedirects;
+	/** 固定长度，-1表示未设置 */
+	private long fixedLength = -1;
+	/** 是否分块发送 */
+	private boolean chunked;
+	/** 请求体 */
+	private volatile Http2RequestBody requestBody;
+	/** 是否已发起请求 */
+	private final AtomicBoolean started = new AtomicBoolean();
+	/** 响应头到达时完成 */
+	private final CompletableFuture<HttpResponse<InputStream>> response = new CompletableFuture<>();
+	/** 发送中的请求 */
+	private volatile CompletableFuture<HttpResponse<InputStream>> sending;
+	/** 响应头 */
+	private volatile Map<String, List<String>> responseHeaders;
+
+	Http2Connection(Http2Transport transport, URL url, Proxy proxy) {
+		final String protocol = url.getProtocol();
+		if (false == "http".equalsIgnoreCase(protocol) && false == "https".equalsIgnoreCase(protocol)) {
+			throw new ConnException("URL [" + url + "] is not a http url, make sure URL is format for http.");
+		}
+		this.transport = transport;
+		this.url = url;
+		this.proxy = proxy;
+	}
+
+	@Override
+	public URL getUrl() {
+		return this.url;
+	}
+
+	@Override
+	public Proxy getProxy() {
+		return this.proxy;
+	}
+
+	@Override
+	public RequestMethod getMethod() {
+		return this.method;
+	}
+
+	@Override
+	public Http2Connection setMethod(RequestMethod method) {
+		if (null != method) {
+			this.method = method;
+		}
+		return this;
+	}
+
+	@Override
+	public Http2Connection header(String header, String value, boolean isOverride) {
+		List<String> values = this.requestHeaders.get(header);
+		if (null == values || isOverride) {
+			values = new ArrayList<>(1);
+			this.requestHeaders.put(header, values);
+		}
+		values.add(value);
+		return this;
+	}
+
+	@Override
+	public String header(String name) {
+		final List<String> values = headerValues(name);
+		return null == values || values.isEmpty() ? null : values.get(values.size() - 1);
+	}
+
+	@Override
+	public Map<String, List<String>> headers() {
+		try {
+			return responseHeaders(awaitResponse());
+		} catch (IOException | RuntimeException e) {
+			return Collections.emptyMap();
+		}
+	}
+
+	/**
+	 * [设置https信息](Set https information)
+	 * @description zh - 设置https信息。java.net.http只能使用SSLContext，证书和域名校验由传输引擎的SSLContext决定，https请求指定了域名验证器或SSLSocketFactory时抛出异常而不是忽略
+	 * @description en - Set https information. java.net.http can only use an SSLContext, so certificate and hostname verification are determined by the SSLContext of the transport, and an https request with a hostname verifier or SSLSocketFactory throws instead of ignoring them
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:14:40
+	 * @param hostnameVerifier 域名验证器
+	 * @param ssf SSLSocketFactory
+	 * @return com.axios.core.transport.http2.Http2Connection
+	 * @throws com.axios.exception.ConnException 指定了域名验证器或SSLSocketFactory
+	 */
+	@Override
+	public Http2Connection setHttpsInfo(HostnameVerifier hostnameVerifier, SSLSocketFactory ssf) throws ConnException {
+		if ((null != hostnameVerifier || null != ssf) && "https".equalsIgnoreCase(this.url.getProtocol())) {
+			throw new ConnException("HTTP/2 transport cannot use a HostnameVerifier or SSLSocketFactory, "
+					+ "set an SSLContext with Http2Transport.setSslContext or use another transport for [" + this.url + "].");
+		}
+		return this;
+	}
+
+	@Override
+	public Http2Connection disableCache() {
+		// java.net.http never caches responses
+		return this;
+	}
+
+	@Override
+	public Http2Connection setConnectTimeout(int timeout) {
+		if (timeout > 0) {
+			this.connectTimeout = timeout;
+		}
+		return this;
+	}
+
+	@Override
+	public Http2Connection setReadTimeout(int timeout) {
+		if (timeout > 0) {
+			this.readTimeout = timeout;
+		}
+		return this;
+	}
+
+	@Override
+	public Http2Connection setChunkedStreamingMode(int blockSize) {
+		// HTTP/2 frames the body itself, the block size only turns on streaming
+		this.chunked = true;
+		return this;
+	}
+
+	@Override
+	public Http2Connection setFixedLengthStreamingMode(long contentLength) {
+		if (contentLength >= 0) {
+			this.fixedLength = contentLength;
+		}
+		return this;
+	}
+
+	@Override
+	public Http2Connection setInstanceFollowRedirects(boolean isInstanceFollowRedirects) {
+		this.followRedirects = isInstanceFollowRedirects;
+		return this;
+	}
+
+	@Override
+	public boolean isInstanceFollowRedirects() {
+		return this.followRedirects;
+	}
+
+	/**
+	 * [发起请求，不等待响应](Send the request without waiting for the response)
+	 * @description zh - 发起请求，不等待响应
+	 * @description en - Send the request without waiting for the response
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:15:10
+	 * @return com.axios.core.transport.http2.Http2Connection
+	 * @throws java.io.IOException
+	 */
+	@Override
+	public Http2Connection connect() throws IOException {
+		if (false == this.started.compareAndSet(false, true)) {
+			return this;
+		}
+		try {
+			final HttpClient client = this.transport.client(this.proxy, this.connectTimeout);
+			final CompletableFuture<HttpResponse<InputStream>> sending = client.sendAsync(buildRequest(), HttpResponse.BodyHandlers.ofInputStream());
+			this.sending = sending;
+			sending.whenComplete((result, e) -> {
+				if (null == e) {
+					this.response.complete(result);
+				} else {
+					final Throwable cause = e instanceof CompletionException && null != e.getCause() ? e.getCause() : e;
+					cancelBody(cause);
+					this.response.completeExceptionally(cause);
+				}
+			});
+		} catch (IOException | RuntimeException e) {
+			final Throwable cause = e instanceof IllegalArgumentException ? new IOException(e.getMessage(), e) : e;
+			cancelBody(cause);
+			this.response.completeExceptionally(cause);
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			throw e;
+		}
+		return this;
+	}
+
+	@Override
+	public Http2Connection disconnect() {
+		final CompletableFuture<HttpResponse<InputStream>> sending = this.sending;
+		if (null != sending) {
+			sending.cancel(true);
+		}
+		cancelBody(new IOException("Connection was disconnected."));
+		if (this.response.isDone() && false == this.response.isCompletedExceptionally()) {
+			// closing the body before it is fully read resets the stream
+			try {
+				this.response.join().body().close();
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+		return this;
+	}
+
+	@Override
+	public InputStream getInputStream() throws IOException {
+		return awaitResponse().body();
+	}
+
+	@Override
+	public InputStream getErrorStream() {
+		if (false == this.response.isDone() || this.response.isCompletedExceptionally()) {
+			return null;
+		}
+		final HttpResponse<InputStream> done = this.response.join();
+		return done.statusCode() >= Status.HTTP_BAD_REQUEST ? done.body() : null;
+	}
+
+	/**
+	 * [获取请求体的输出流](Get the output stream of the request body)
+	 * @description zh - 获取请求体的输出流。设置了固定长度或分块发送时立即发起请求，写入的数据边写边发；否则缓冲到关闭时发送
+	 * @description en - Get the output stream of the request body. When a fixed length or chunked sending is set the request is sent at once and written data is sent while writing; otherwise it is buffered until closed
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:16:30
+	 * @return java.io.OutputStream
+	 * @throws java.io.IOException
+	 */
+	@Override
+	public OutputStream getOutputStream() throws IOException {
+		if (null != this.requestBody) {
+			return this.requestBody;
+		}
+		if (this.started.get()) {
+			throw new IOException("Cannot write request body after the request has been sent.");
+		}
+		this.requestBody = new Http2RequestBody(this, this.fixedLength, this.chunked);
+		if (this.requestBody.isStreaming()) {
+			connect();
+		}
+		return this.requestBody;
+	}
+
+	@Override
+	public int responseCode() throws IOException {
+		return awaitResponse().statusCode();
+	}
+
+	@Override
+	public String getCharsetName() {
+		return UrlTool.getCharset(header(RequestHeader.CONTENT_TYPE));
+	}
+
+	/**
+	 * [发起请求，响应头到达时完成，不占用执行器线程](Send the request, completed when the response header arrives, without occupying the executor thread)
+	 * @description zh - 发起请求，响应头到达时完成，不占用执行器线程
+	 * @description en - Send the request, completed when the response header arrives, without occupying the executor thread
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:15:40
+	 * @param executor 执行器，未使用
+	 * @return java.util.concurrent.CompletableFuture
+	 */
+	@Override
+	public CompletableFuture<HttpConnection> responseAsync(Executor executor) {
+		try {
+			closeBody();
+			connect();
+		} catch (IOException | RuntimeException e) {
+			final CompletableFuture<HttpConnection> failed = new CompletableFuture<>();
+			failed.completeExceptionally(e);
+			return failed;
+		}
+		return this.response.thenApply(response -> this);
+	}
+
+	/**
+	 * [获取实际使用的协议版本](Get the protocol version actually used)
+	 * @description zh - 获取实际使用的协议版本，服务端不支持HTTP/2时为HTTP/1.1
+	 * @description en - Get the protocol version actually used, HTTP/1.1 when the server does not support HTTP/2
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:16:05
+	 * @return java.net.http.HttpClient.Version
+	 * @throws java.io.IOException
+	 */
+	public HttpClient.Version version() throws IOException {
+		return awaitResponse().version();
+	}
+
+	@Override
+	public String toString() {
+		return "Http2Connection[" + this.method + " " + this.url + "]";
+	}
+
+	/** --------------- private --------------- */
+
+	/**
+	 * [等待响应头](Wait for response header)
+	 * @description zh - 等待响应头
+	 * @description en - Wait for response header
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:16:30
+	 * @return java.net.http.HttpResponse
+	 * @throws java.io.IOException
+	 */
+	private HttpResponse<InputStream> awaitResponse() throws IOException {
+		closeBody();
+		connect();
+		try {
+			return this.response.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			disconnect();
+			throw new InterruptedIOException(e.getMessage());
+		} catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	private List<String> headerValues(String name) {
+		if (null == name) {
+			return null;
+		}
+		for (Map.Entry<String, List<String>> entry : headers().entrySet()) {
+			if (name.equalsIgnoreCase(entry.getKey())) {
+				return entry.getValue();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * [转换响应头，与HttpURLConnection一致，状态行放在null键下](Convert response headers, consistent with HttpURLConnection, the status line is placed under the null key)
+	 * @description zh - 转换响应头，与HttpURLConnection一致，状态行放在null键下
+	 * @description en - Convert response headers, consistent with HttpURLConnection, the status line is placed under the null key
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:17:00
+	 * @param response 响应
+	 * @return java.util.Map
+	 */
+	private Map<String, List<String>> responseHeaders(HttpResponse<InputStream> response) {
+		Map<String, List<String>> headers = this.responseHeaders;
+		if (null == headers) {
+			headers = new LinkedHashMap<>();
+			final String version = HttpClient.Version.HTTP_2 == response.version() ? "HTTP/2" : "HTTP/1.1";
+			headers.put(null, Collections.singletonList(version + ' ' + response.statusCode()));
+			for (Map.Entry<String, List<String>> entry : response.headers().map().entrySet()) {
+				if (false == entry.getKey().startsWith(":")) {
+					headers.put(entry.getKey(), entry.getValue());
+				}
+			}
+			headers = Collections.unmodifiableMap(headers);
+			this.responseHeaders = headers;
+		}
+		return headers;
+	}
+
+	/**
+	 * [构建请求](Build request)
+	 * @description zh - 构建请求，由JDK管理的请求头被跳过
+	 * @description en - Build request, the headers managed by the JDK are skipped
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:17:30
+	 * @return java.net.http.HttpRequest
+	 * @throws java.io.IOException
+	 */
+	private HttpRequest buildRequest() throws IOException {
+		final HttpRequest.Builder builder;
+		try {
+			builder = HttpRequest.newBuilder(this.url.toURI());
+		} catch (URISyntaxException e) {
+			throw new IOException(e.getMessage(), e);
+		}
+		if (this.readTimeout > 0) {
+			builder.timeout(Duration.ofMillis(this.readTimeout));
+		}
+		for (Map.Entry<String, List<String>> entry : this.requestHeaders.entrySet()) {
+			final String name = entry.getKey();
+			if (RESTRICTED_HEADERS.contains(name.toLowerCase())) {
+				continue;
+			}
+			for (String value : entry.getValue()) {
+				builder.header(name, UrlTool.nullToEmpty(value));
+			}
+		}
+		final HttpRequest.BodyPublisher body = null == this.requestBody
+				? HttpRequest.BodyPublishers.noBody()
+				: this.requestBody.publisher();
+		return builder.method(this.method.name(), body).build();
+	}
+
+	/**
+	 * [结束请求体](End the request body)
+	 * @description zh - 等待响应前结束请求体，与HttpURLConnection一致
+	 * @description en - End the request body before waiting for the response, consistent with HttpURLConnection
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:17:00
+	 * @throws java.io.IOException
+	 */
+	private void closeBody() throws IOException {
+		if (null != this.requestBody) {
+			this.requestBody.close();
+		}
+	}
+
+	private void cancelBody(Throwable cause) {
+		final Http2RequestBody body = this.requestBody;
+		if (null != body && body.isStreaming()) {
+			body.cancel(cause instanceof IOException ? (IOException) cause : new IOException(cause));
+		}
+	}
+}
@@ -0,0 +1,384 @@
+package com.axios.core.transport.http2;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [HTTP/2请求体的输出流](Output stream of the HTTP/2 request body)
+ * @description zh - HTTP/2请求体的输出流。设置了固定长度或分块发送时为流式：获取输出流时即发起请求，写入的数据块经有界管道交给客户端边写边发，排队的数据超过上限时写入方等待，关闭时结束请求体。否则按块缓冲整个请求体，关闭时发起请求，发送时不再拷贝
+ * @description en - Output stream of the HTTP/2 request body. It streams when a fixed length or chunked sending is set: the request is sent when the output stream is obtained, written segments are handed to the client through a bounded pipe and sent while writing, the writer waits when the queued data exceeds the limit, and closing ends the body. Otherwise the whole body is buffered in segments and the request is sent when it is closed, without copying it again to send
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 21:11:00
+ */
+final class Http2RequestBody extends OutputStream {
+
+	/** 单个缓冲块的大小 */
+	private static final int SEGMENT_SIZE = 8192;
+	/** 流式发送时最多排队的字节数，超过时写入方等待 */
+	private static final long MAX_QUEUED = 256 * 1024;
+
+	/** 所属连接 */
+	private final Http2Connection connection;
+	/** 固定长度，-1表示不固定 */
+	private final long fixedLength;
+	/** 是否流式发送 */
+	private final boolean streaming;
+	/** 缓冲模式下已写满的数据块 */
+	private final List<byte[]> segments = new ArrayList<>();
+	/** 当前写入的数据块 */
+	private byte[] current;
+	/** 当前数据块已写入的字节数 */
+	private int position;
+	/** 总长度 */
+	private long length;
+	/** 是否已关闭 */
+	private boolean closed;
+
+	/** 流式发送的锁 */
+	private final ReentrantLock lock = new ReentrantLock();
+	/** 排队的数据减少时通知写入方 */
+	private final Condition drained = this.lock.newCondition();
+	/** 有新数据或已写完时通知读取方 */
+	private final Condition readable = this.lock.newCondition();
+	/** 等待客户端读取的数据块 */
+	private final ArrayDeque<byte[]> queue = new ArrayDeque<>();
+	/** 排队的字节数 */
+	private long queued;
+	/** 是否已写完 */
+	private boolean ended;
+	/** 发送失败的原因，写入方和读取方不再等待 */
+	private IOException failure;
+	/** 管道的读取端是否已交给客户端，请求体不能重放 */
+	private final AtomicBoolean subscribed = new AtomicBoolean();
+
+	Http2RequestBody(Http2Connection connection, long fixedLength, boolean streaming) {
+		this.connection = connection;
+		this.fixedLength = fixedLength;
+		this.streaming = streaming || fixedLength >= 0;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		write(new byte[] { (byte) b }, 0, 1);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		checkOpen(len);
+		if (false == this.streaming && len >= SEGMENT_SIZE) {
+			// large writes are kept as a single segment
+			trim();
+			this.segments.add(Arrays.copyOfRange(b, off, off + len));
+			this.length += len;
+			return;
+		}
+		while (len > 0) {
+			if (null == this.current) {
+				this.current = new byte[SEGMENT_SIZE];
+				this.position = 0;
+			}
+			final int n = Math.min(len, this.current.length - this.position);
+			System.arraycopy(b, off, this.current, this.position, n);
+			this.position += n;
+			off += n;
+			len -= n;
+			this.length += n;
+			if (this.position == this.current.length) {
+				if (this.streaming) {
+					flush();
+				} else {
+					this.segments.add(this.current);
+					this.current = null;
+				}
+			}
+		}
+	}
+
+	/**
+	 * [发送已写入的数据](Send the written data)
+	 * @description zh - 流式发送时把当前未满的数据块交给客户端，缓冲模式下无操作
+	 * @description en - Hand the current segment that is not full yet to the client when streaming, no-op when buffering
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:11:30
+	 * @throws java.io.IOException
+	 */
+	@Override
+	public void flush() throws IOException {
+		if (this.streaming && null != this.current && this.position > 0) {
+			final byte[] segment = this.position == this.current.length ? this.current : Arrays.copyOf(this.current, this.position);
+			this.current = null;
+			enqueue(segment);
+		}
+	}
+
+	/**
+	 * [关闭请求体](Close the request body)
+	 * @description zh - 流式发送时发送剩余数据并结束请求体，固定长度未写满时中止请求；缓冲模式下发起请求
+	 * @description en - When streaming, send the remaining data and end the body, and abort the request when less than the fixed length was written; when buffering, send the request
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:12:00
+	 * @throws java.io.IOException
+	 */
+	@Override
+	public void close() throws IOException {
+		if (this.closed) {
+			return;
+		}
+		if (false == this.streaming) {
+			trim();
+			this.closed = true;
+			this.connection.connect();
+			return;
+		}
+		flush();
+		this.closed = true;
+		if (this.fixedLength >= 0 && this.length != this.fixedLength) {
+			this.connection.disconnect();
+			throw new IOException("Insufficient data written, expected " + this.fixedLength + " bytes but got " + this.length + ".");
+		}
+		this.lock.lock();
+		try {
+			checkFailure();
+			this.ended = true;
+			this.readable.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * [是否流式发送](Whether it is streamed)
+	 * @description zh - 是否流式发送，即设置了固定长度或分块发送
+	 * @description en - Whether it is streamed, that is, a fixed length or chunked sending is set
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:12:30
+	 * @return boolean
+	 */
+	boolean isStreaming() {
+		return this.streaming;
+	}
+
+	/**
+	 * [获取请求体的发布者](Get the publisher of the request body)
+	 * @description zh - 获取请求体的发布者。流式发送时读取管道，只能被订阅一次；缓冲模式下直接发送已缓冲的数据块，可以重放
+	 * @description en - Get the publisher of the request body. When streaming it reads the pipe and can only be subscribed once; when buffering the buffered segments are sent as they are and can be replayed
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:13:00
+	 * @return java.net.http.HttpRequest.BodyPublisher
+	 */
+	HttpRequest.BodyPublisher publisher() {
+		if (this.streaming) {
+			if (0 == this.fixedLength) {
+				return HttpRequest.BodyPublishers.noBody();
+			}
+			// a second subscription, e.g. a retry by the client, fails instead of sending a partial body
+			final HttpRequest.BodyPublisher pipe = HttpRequest.BodyPublishers.ofInputStream(
+					() -> this.subscribed.compareAndSet(false, true) ? new Input() : null);
+			return this.fixedLength > 0 ? HttpRequest.BodyPublishers.fromPublisher(pipe, this.fixedLength) : pipe;
+		}
+		trim();
+		if (0 == this.length) {
+			return HttpRequest.BodyPublishers.noBody();
+		}
+		return HttpRequest.BodyPublishers.fromPublisher(HttpRequest.BodyPublishers.ofByteArrays(this.segments), this.length);
+	}
+
+	/**
+	 * [发送失败](Sending failed)
+	 * @description zh - 请求结束时调用，丢弃排队的数据，等待中和之后的写入抛出异常
+	 * @description en - Called when the request ends, the queued data is dropped and waiting and later writes throw
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:13:30
+	 * @param cause 原因
+	 */
+	void cancel(IOException cause) {
+		this.lock.lock();
+		try {
+			if (null == this.failure) {
+				this.failure = cause;
+			}
+			this.queue.clear();
+			this.queued = 0;
+			this.drained.signalAll();
+			this.readable.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/** --------------- private --------------- */
+
+	/**
+	 * [把数据块交给客户端](Hand a segment to the client)
+	 * @description zh - 把数据块交给客户端，排队的字节数达到上限时等待客户端读取
+	 * @description en - Hand a segment to the client, when the queued bytes reach the limit it waits for the client to read them
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:14:00
+	 * @param segment 数据块
+	 * @throws java.io.IOException
+	 */
+	private void enqueue(byte[] segment) throws IOException {
+		this.lock.lock();
+		try {
+			while (null == this.failure && this.queued >= MAX_QUEUED) {
+				try {
+					this.drained.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException("Interrupted while waiting to send the request body.");
+				}
+			}
+			checkFailure();
+			this.queue.add(segment);
+			this.queued += segment.length;
+			this.readable.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * [收起当前数据块](Put away the current segment)
+	 * @description zh - 缓冲模式下把当前未满的数据块截断后加入已写满的数据块
+	 * @description en - When buffering, truncate the current segment that is not full and add it to the full segments
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:14:30
+	 */
+	private void trim() {
+		if (null != this.current) {
+			if (this.position > 0) {
+				this.segments.add(Arrays.copyOf(this.current, this.position));
+			}
+			this.current = null;
+		}
+	}
+
+	private void checkFailure() throws IOException {
+		if (null != this.failure) {
+			throw new IOException("Request body could not be sent.", this.failure);
+		}
+	}
+
+	private void checkOpen(long len) throws IOException {
+		if (this.closed) {
+			throw new IOException("Request body has already been sent.");
+		}
+		if (this.fixedLength >= 0 && this.length + len > this.fixedLength) {
+			throw new IOException("Too many bytes written, expected " + this.fixedLength + " bytes.");
+		}
+	}
+
+	/**
+	 * [管道的读取端](Read end of the pipe)
+	 * @description zh - 管道的读取端，由客户端的线程读取，没有数据时等待写入方
+	 * @description en - Read end of the pipe, read by the threads of the client, waiting for the writer when there is no data
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:15:00
+	 */
+	private final class Input extends InputStream {
+
+		/** 正在读取的数据块 */
+		private byte[] reading;
+		/** 正在读取的数据块已读取的字节数 */
+		private int offset;
+
+		@Override
+		public int read() throws IOException {
+			final byte[] one = new byte[1];
+			return -1 == read(one, 0, 1) ? -1 : one[0] & 0xff;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (0 == len) {
+				return 0;
+			}
+			if (null == this.reading && false == take()) {
+				return -1;
+			}
+			final int n = Math.min(len, this.reading.length - this.offset);
+			System.arraycopy(this.reading, this.offset, b, off, n);
+			this.offset += n;
+			if (this.offset == this.reading.length) {
+				this.reading = null;
+			}
+			return n;
+		}
+
+		/**
+		 * [关闭读取端](Close the read end)
+		 * @description zh - 客户端放弃发送时关闭读取端，写入方不再等待
+		 * @description en - Close the read end when the client gives up sending, the writer no longer waits
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:15:30
+		 */
+		@Override
+		public void close() {
+			lock.lock();
+			try {
+				if (false == ended || false == queue.isEmpty()) {
+					cancel(new IOException("Request body stream was closed by the client."));
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * [取出下一个数据块](Take the next segment)
+		 * @description zh - 取出下一个数据块，没有数据时等待，已写完时返回false。取出后不再计入排队的字节数，等待的写入方在排队减半时继续
+		 * @description en - Take the next segment, waiting when there is no data, false once everything was written. Once taken it no longer counts as queued, and a waiting writer continues when the queue is down to half
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 21:16:00
+		 * @return boolean
+		 * @throws java.io.IOException
+		 */
+		private boolean take() throws IOException {
+			lock.lock();
+			try {
+				while (queue.isEmpty()) {
+					checkFailure();
+					if (ended) {
+						return false;
+					}
+					try {
+						readable.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new InterruptedIOException("Interrupted while waiting for the request body.");
+					}
+				}
+				this.reading = queue.poll();
+				this.offset = 0;
+				queued -= this.reading.length;
+				if (queued <= MAX_QUEUED >> 1) {
+					drained.signalAll();
+				}
+				return true;
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+}
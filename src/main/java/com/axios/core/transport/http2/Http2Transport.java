@@ -0,0 +1,174 @@
+package com.axios.core.transport.http2;
+
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+import javax.net.ssl.SSLContext;
+
+import com.axios.core.connection.HttpConnection;
+import com.axios.core.transport.Transport;
+import com.axios.exception.ConnException;
+
+/**
+ * [基于java.net.http的HTTP/2传输引擎](HTTP/2 transport engine based on java.net.http)
+ * @description zh - 基于java.net.http的HTTP/2传输引擎，https通过ALPN协商h2，同一主机的并发请求在一个连接上多路复用，HPACK头压缩和流量控制由JDK完成；服务端不支持时退化为HTTP/1.1。需要 JDK 11 及以上
+ * @description en - HTTP/2 transport engine based on java.net.http. HTTPS negotiates h2 through ALPN, concurrent requests to the same host are multiplexed on one connection, and HPACK header compression and flow control are done by the JDK; it falls back to HTTP/1.1 when the server does not support it. Requires JDK 11 and above
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 18:10:05
+ */
+public class Http2Transport implements Transport {
+
+	/** 客户端，按代理和连接超时区分，相同客户端的请求共享连接 */
+	private final ConcurrentMap<String, HttpClient> clients = new ConcurrentHashMap<>();
+	/** https使用的SSLContext */
+	private volatile SSLContext sslContext;
+	/** 客户端使用的执行器，null表示使用JDK默认执行器 */
+	private volatile Executor executor;
+
+	/**
+	 * [创建HTTP/2传输引擎](Create HTTP/2 transport)
+	 * @description zh - 创建HTTP/2传输引擎
+	 * @description en - Create HTTP/2 transport
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:10:40
+	 * @return com.axios.core.transport.http2.Http2Transport
+	 */
+	public static Http2Transport create() {
+		return new Http2Transport();
+	}
+
+	/**
+	 * [获取共享的HTTP/2传输引擎](Get the shared HTTP/2 transport)
+	 * @description zh - 获取共享的HTTP/2传输引擎，请求的http版本为HTTP/2且未指定传输引擎时使用
+	 * @description en - Get the shared HTTP/2 transport, used when the http version of the request is HTTP/2 and no transport is specified
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:11:02
+	 * @return com.axios.core.transport.http2.Http2Transport
+	 */
+	public static Http2Transport getDefault() {
+		return Holder.INSTANCE;
+	}
+
+	/**
+	 * [设置https使用的SSLContext](Set the SSLContext used by HTTPS)
+	 * @description zh - 设置https使用的SSLContext，已创建的客户端将被丢弃。需要信任自签名证书时使用，例如SSLContextBuilder.create().buildQuietly()信任所有证书
+	 * @description en - Set the SSLContext used by HTTPS, the clients already created will be discarded. Used to trust self-signed certificates, for example SSLContextBuilder.create().buildQuietly() trusts all certificates
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:11:30
+	 * @param sslContext SSLContext
+	 * @return com.axios.core.transport.http2.Http2Transport
+	 */
+	public Http2Transport setSslContext(SSLContext sslContext) {
+		this.sslContext = sslContext;
+		this.clients.clear();
+		return this;
+	}
+
+	/**
+	 * [获取https使用的SSLContext](Get the SSLContext used by HTTPS)
+	 * @description zh - 获取https使用的SSLContext，默认为JDK默认的SSLContext，校验证书和域名
+	 * @description en - Get the SSLContext used by HTTPS, the JDK default SSLContext by default, which verifies the certificate and the hostname
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:11:55
+	 * @return javax.net.ssl.SSLContext
+	 */
+	public SSLContext getSslContext() {
+		SSLContext context = this.sslContext;
+		if (null == context) {
+			synchronized (this) {
+				context = this.sslContext;
+				if (null == context) {
+					try {
+						context = SSLContext.getDefault();
+					} catch (NoSuchAlgorithmException e) {
+						throw new ConnException(e);
+					}
+					this.sslContext = context;
+				}
+			}
+		}
+		return context;
+	}
+
+	/**
+	 * [设置客户端使用的执行器](Set the executor used by the client)
+	 * @description zh - 设置客户端使用的执行器，null表示使用JDK默认执行器，已创建的客户端将被丢弃
+	 * @description en - Set the executor used by the client, null means to use the JDK default executor, the clients already created will be discarded
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:12:20
+	 * @param executor 执行器
+	 * @return com.axios.core.transport.http2.Http2Transport
+	 */
+	public Http2Transport setExecutor(Executor executor) {
+		this.executor = executor;
+		this.clients.clear();
+		return this;
+	}
+
+	@Override
+	public HttpConnection open(URL url, Proxy proxy) {
+		return new Http2Connection(this, url, proxy);
+	}
+
+	/**
+	 * [获取客户端](Get client)
+	 * @description zh - 获取客户端，代理和连接超时相同的请求共享同一个客户端及其连接
+	 * @description en - Get client, requests with the same proxy and connection timeout share the same client and its connections
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:12:50
+	 * @param proxy 代理
+	 * @param connectTimeout 连接超时
+	 * @return java.net.http.HttpClient
+	 */
+	HttpClient client(Proxy proxy, int connectTimeout) {
+		final boolean direct = null == proxy || Proxy.Type.DIRECT == proxy.type();
+		if (false == direct && (Proxy.Type.HTTP != proxy.type() || false == proxy.address() instanceof InetSocketAddress)) {
+			throw new ConnException("HTTP/2 transport only supports HTTP proxies, use the JDK transport for [" + proxy + "].");
+		}
+		final String key = (direct ? "DIRECT" : proxy.address().toString()) + '|' + connectTimeout;
+		return this.clients.computeIfAbsent(key, k -> {
+			final HttpClient.Builder builder = HttpClient.newBuilder()
+					.version(HttpClient.Version.HTTP_2)
+					.followRedirects(HttpClient.Redirect.NEVER)
+					.sslContext(getSslContext());
+			if (false == direct) {
+				builder.proxy(ProxySelector.of((InetSocketAddress) proxy.address()));
+			}
+			if (connectTimeout > 0) {
+				builder.connectTimeout(Duration.ofMillis(connectTimeout));
+			}
+			final Executor custom = this.executor;
+			if (null != custom) {
+				builder.executor(custom);
+			}
+			return builder.build();
+		});
+	}
+
+	/**
+	 * [共享的传输引擎，首次使用时创建](Shared transport, created on first use)
+	 * @description zh - 共享的传输引擎，首次使用时创建
+	 * @description en - Shared transport, created on first use
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:13:15
+	 */
+	private static class Holder {
+		private static final Http2Transport INSTANCE = new Http2Transport();
+	}
+}
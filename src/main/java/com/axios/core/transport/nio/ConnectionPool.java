@@ -0,0 +1,704 @@
+package com.axios.core.transport.nio;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.axios.exception.ConnException;
+
+/**
+ * [按路由管理的连接池](Connection pool managed by route)
+ * @description zh - 按路由（协议+主机+端口+代理）管理的连接池，支持单路由和总数限制、后台空闲淘汰、复用前校验以及统计
+ * @description en - Connection pool managed by route (scheme + host + port + proxy), supporting per route and total limits, background idle eviction, validation before reuse and statistics
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 17:28:15
+ */
+public class ConnectionPool implements Closeable {
+
+	/** 默认单路由最大连接数 */
+	public static final int DEFAULT_MAX_PER_ROUTE = 8;
+	/** 默认最大连接总数 */
+	public static final int DEFAULT_MAX_TOTAL = 64;
+	/** 默认空闲超时（毫秒） */
+	public static final long DEFAULT_IDLE_TIMEOUT = 60 * 1000L;
+	/** 默认等待连接的超时（毫秒） */
+	public static final long DEFAULT_ACQUIRE_TIMEOUT = 30 * 1000L;
+
+	/** 锁 */
+	private final ReentrantLock lock = new ReentrantLock();
+	/** 路由状态 */
+	private final Map<String, RouteState> routes = new HashMap<>();
+	/** 有请求在等待连接的路由 */
+	private final Map<String, RouteState> waiting = new LinkedHashMap<>();
+	/** 单路由最大连接数 */
+	private volatile int maxPerRoute = DEFAULT_MAX_PER_ROUTE;
+	/** 最大连接总数 */
+	private volatile int maxTotal = DEFAULT_MAX_TOTAL;
+	/** 空闲超时（毫秒） */
+	private volatile long idleTimeout = DEFAULT_IDLE_TIMEOUT;
+	/** 等待连接的超时（毫秒） */
+	private volatile long acquireTimeout = DEFAULT_ACQUIRE_TIMEOUT;
+	/** 已借出的连接总数 */
+	private int leased;
+	/** 空闲的连接总数 */
+	private int idle;
+	/** 等待连接的请求总数 */
+	private int pending;
+	/** 等待顺序的序号 */
+	private long sequence;
+	/** 是否已关闭 */
+	private boolean closed;
+	/** 后台淘汰线程 */
+	private ScheduledExecutorService evictor;
+	/** 淘汰任务 */
+	private ScheduledFuture<?> evictTask;
+
+	/**
+	 * [设置单路由最大连接数](Set the maximum number of connections per route)
+	 * @description zh - 设置单路由最大连接数
+	 * @description en - Set the maximum number of connections per route
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:29:01
+	 * @param maxPerRoute 单路由最大连接数
+	 * @return com.axios.core.transport.nio.ConnectionPool
+	 */
+	public ConnectionPool setMaxPerRoute(int maxPerRoute) {
+		if (maxPerRoute <= 0) {
+			throw new IllegalArgumentException("Max connections per route must be greater than 0.");
+		}
+		this.maxPerRoute = maxPerRoute;
+		dispatch();
+		return this;
+	}
+
+	/**
+	 * [获取单路由最大连接数](Get the maximum number of connections per route)
+	 * @description zh - 获取单路由最大连接数
+	 * @description en - Get the maximum number of connections per route
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:29:20
+	 * @return int
+	 */
+	public int getMaxPerRoute() {
+		return this.maxPerRoute;
+	}
+
+	/**
+	 * [设置最大连接总数](Set the maximum total number of connections)
+	 * @description zh - 设置最大连接总数
+	 * @description en - Set the maximum total number of connections
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:29:41
+	 * @param maxTotal 最大连接总数
+	 * @return com.axios.core.transport.nio.ConnectionPool
+	 */
+	public ConnectionPool setMaxTotal(int maxTotal) {
+		if (maxTotal <= 0) {
+			throw new IllegalArgumentException("Max total connections must be greater than 0.");
+		}
+		this.maxTotal = maxTotal;
+		dispatch();
+		return this;
+	}
+
+	/**
+	 * [获取最大连接总数](Get the maximum total number of connections)
+	 * @description zh - 获取最大连接总数
+	 * @description en - Get the maximum total number of connections
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:30:02
+	 * @return int
+	 */
+	public int getMaxTotal() {
+		return this.maxTotal;
+	}
+
+	/**
+	 * [设置空闲超时，超过该时间未使用的连接将被后台线程关闭](Set the idle timeout, connections not used beyond this time will be closed by the background thread)
+	 * @description zh - 设置空闲超时，超过该时间未使用的连接将被后台线程关闭
+	 * @description en - Set the idle timeout, connections not used beyond this time will be closed by the background thread
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:30:25
+	 * @param idleTimeout 空闲超时（毫秒）
+	 * @return com.axios.core.transport.nio.ConnectionPool
+	 */
+	public ConnectionPool setIdleTimeout(long idleTimeout) {
+		if (idleTimeout <= 0) {
+			throw new IllegalArgumentException("Idle timeout must be greater than 0.");
+		}
+		this.lock.lock();
+		try {
+			this.idleTimeout = idleTimeout;
+			if (null != this.evictTask) {
+				this.evictTask.cancel(false);
+				this.evictTask = null;
+				scheduleEviction();
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		return this;
+	}
+
+	/**
+	 * [获取空闲超时](Get idle timeout)
+	 * @description zh - 获取空闲超时
+	 * @description en - Get idle timeout
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:30:50
+	 * @return long
+	 */
+	public long getIdleTimeout() {
+		return this.idleTimeout;
+	}
+
+	/**
+	 * [设置等待连接的超时，连接池满时请求最多等待该时间](Set the timeout of waiting for a connection, a request waits at most this long when the pool is full)
+	 * @description zh - 设置等待连接的超时，连接池满时请求最多等待该时间，与连接超时无关，小于等于0表示一直等待
+	 * @description en - Set the timeout of waiting for a connection, a request waits at most this long when the pool is full. It is independent of the connect timeout, and less than or equal to 0 means waiting indefinitely
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:23:00
+	 * @param acquireTimeout 等待连接的超时（毫秒）
+	 * @return com.axios.core.transport.nio.ConnectionPool
+	 */
+	public ConnectionPool setAcquireTimeout(long acquireTimeout) {
+		this.acquireTimeout = acquireTimeout;
+		return this;
+	}
+
+	/**
+	 * [获取等待连接的超时](Get the timeout of waiting for a connection)
+	 * @description zh - 获取等待连接的超时
+	 * @description en - Get the timeout of waiting for a connection
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:23:20
+	 * @return long
+	 */
+	public long getAcquireTimeout() {
+		return this.acquireTimeout;
+	}
+
+	/**
+	 * [获取连接池总体统计](Get the overall statistics of the connection pool)
+	 * @description zh - 获取连接池总体统计
+	 * @description en - Get the overall statistics of the connection pool
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:31:12
+	 * @return com.axios.core.transport.nio.PoolStats
+	 */
+	public PoolStats getStats() {
+		this.lock.lock();
+		try {
+			return new PoolStats(this.leased, this.idle, this.pending, this.maxTotal);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * [获取各路由的统计，键为路由，例如：https://example.com:443](Get the statistics of each route, the key is the route, for example: https://example.com:443)
+	 * @description zh - 获取各路由的统计，键为路由，例如：https://example.com:443
+	 * @description en - Get the statistics of each route, the key is the route, for example: https://example.com:443
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:31:40
+	 * @return java.util.Map
+	 */
+	public Map<String, PoolStats> getRouteStats() {
+		this.lock.lock();
+		try {
+			final Map<String, PoolStats> stats = new LinkedHashMap<>();
+			for (Map.Entry<String, RouteState> entry : this.routes.entrySet()) {
+				final RouteState state = entry.getValue();
+				stats.put(entry.getKey(), new PoolStats(state.leased, state.idle.size(),
+						state.waiters.size(), this.maxPerRoute));
+			}
+			return Collections.unmodifiableMap(stats);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * [关闭所有空闲连接](Close all idle connections)
+	 * @description zh - 关闭所有空闲连接
+	 * @description en - Close all idle connections
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:32:05
+	 */
+	public void evictAll() {
+		evictIdle(Long.MIN_VALUE);
+	}
+
+	/**
+	 * [关闭连接池，关闭所有空闲连接，借出的连接在归还时关闭](Close the connection pool, close all idle connections, and leased connections are closed when returned)
+	 * @description zh - 关闭连接池，关闭所有空闲连接，借出的连接在归还时关闭
+	 * @description en - Close the connection pool, close all idle connections, and leased connections are closed when returned
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:32:30
+	 */
+	@Override
+	public void close() {
+		final List<Waiter> waiters = new ArrayList<>();
+		this.lock.lock();
+		try {
+			this.closed = true;
+			for (RouteState state : this.waiting.values()) {
+				waiters.addAll(state.waiters);
+				state.waiters.clear();
+			}
+			this.waiting.clear();
+			this.pending = 0;
+			if (null != this.evictor) {
+				this.evictor.shutdownNow();
+				this.evictor = null;
+				this.evictTask = null;
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		evictAll();
+		for (Waiter waiter : waiters) {
+			waiter.future.completeExceptionally(new ConnException("Connection pool has been closed."));
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ConnectionPool" + getStats();
+	}
+
+	/** --------------- package --------------- */
+
+	/**
+	 * [获取连接，结果为null表示允许新建连接](Get a connection, and a null result means that a new connection is allowed)
+	 * @description zh - 获取连接，结果为null表示允许新建连接
+	 * @description en - Get a connection, and a null result means that a new connection is allowed
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:33:10
+	 * @param route 路由
+	 * @return java.util.concurrent.CompletableFuture
+	 */
+	CompletableFuture<NioPooledChannel> acquire(String route) {
+		final CompletableFuture<NioPooledChannel> future = new CompletableFuture<>();
+		final List<NioPooledChannel> stale = new ArrayList<>();
+		this.lock.lock();
+		try {
+			if (this.closed) {
+				future.completeExceptionally(new ConnException("Connection pool has been closed."));
+				return future;
+			}
+			scheduleEviction();
+			final RouteState state = route(route);
+			final NioPooledChannel channel = pollIdle(state, stale);
+			if (null != channel) {
+				state.leased++;
+				this.leased++;
+				future.complete(channel);
+			} else if (reserve(state, stale)) {
+				future.complete(null);
+			} else {
+				final Waiter waiter = new Waiter(route, future, this.sequence++);
+				state.waiters.add(waiter);
+				this.waiting.putIfAbsent(route, state);
+				this.pending++;
+				final long timeout = this.acquireTimeout;
+				if (timeout > 0) {
+					this.evictor.schedule(() -> expire(waiter), timeout, TimeUnit.MILLISECONDS);
+				}
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		closeAll(stale);
+		return future;
+	}
+
+	/**
+	 * [归还连接](Return connection)
+	 * @description zh - 归还连接
+	 * @description en - Return connection
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:34:02
+	 * @param route 路由
+	 * @param channel 通道，null表示新建连接失败
+	 * @param reusable 是否可复用，可复用的通道必须已处于空闲状态
+	 */
+	void release(String route, NioPooledChannel channel, boolean reusable) {
+		boolean close = false;
+		this.lock.lock();
+		try {
+			final RouteState state = route(route);
+			state.leased--;
+			this.leased--;
+			if (reusable && null != channel && false == this.closed && channel.isReusable()) {
+				channel.idleSince = System.nanoTime();
+				state.idle.push(channel);
+				this.idle++;
+			} else {
+				close = null != channel;
+			}
+			removeIfUnused(route, state);
+		} finally {
+			this.lock.unlock();
+		}
+		if (close) {
+			channel.closeAsync();
+		}
+		dispatch();
+	}
+
+	/**
+	 * [移除已失效的空闲连接](Remove invalid idle connections)
+	 * @description zh - 移除已失效的空闲连接
+	 * @description en - Remove invalid idle connections
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:34:30
+	 * @param channel 通道
+	 */
+	void evict(NioPooledChannel channel) {
+		boolean removed = false;
+		this.lock.lock();
+		try {
+			final RouteState state = this.routes.get(channel.route);
+			if (null != state && state.idle.remove(channel)) {
+				this.idle--;
+				removed = true;
+				removeIfUnused(channel.route, state);
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		if (removed) {
+			dispatch();
+		}
+	}
+
+	/** --------------- private --------------- */
+
+	/**
+	 * [为等待的请求分配连接](Allocate connections for waiting requests)
+	 * @description zh - 为等待的请求分配连接，等待的请求按路由排队，只查看有请求等待的路由，能分配的请求中最早等待的优先
+	 * @description en - Allocate connections for waiting requests. Waiting requests are queued by route, only the routes with waiting requests are visited, and the earliest waiting request that can be served goes first
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:35:02
+	 */
+	private void dispatch() {
+		final List<Runnable> grants = new ArrayList<>();
+		final List<NioPooledChannel> stale = new ArrayList<>();
+		this.lock.lock();
+		try {
+			// a route that could not be served stays blocked, a grant never frees room for it
+			final Set<RouteState> blocked = new HashSet<>();
+			while (false == this.waiting.isEmpty()) {
+				RouteState next = null;
+				final Iterator<Map.Entry<String, RouteState>> iterator = this.waiting.entrySet().iterator();
+				while (iterator.hasNext()) {
+					final Map.Entry<String, RouteState> entry = iterator.next();
+					final RouteState state = entry.getValue();
+					final Waiter head = head(state);
+					if (null == head) {
+						iterator.remove();
+						removeIfUnused(entry.getKey(), state);
+					} else if (false == blocked.contains(state) && (null == next || head.sequence < next.waiters.peek().sequence)) {
+						next = state;
+					}
+				}
+				if (null == next) {
+					break;
+				}
+				final NioPooledChannel channel = pollIdle(next, stale);
+				if (null != channel) {
+					next.leased++;
+					this.leased++;
+				} else if (false == reserve(next, stale)) {
+					blocked.add(next);
+					continue;
+				}
+				final Waiter waiter = next.waiters.poll();
+				this.pending--;
+				grants.add(() -> {
+					if (false == waiter.future.complete(channel)) {
+						// the waiter gave up in the meantime
+						release(waiter.route, channel, null != channel);
+					}
+				});
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		closeAll(stale);
+		for (Runnable grant : grants) {
+			grant.run();
+		}
+	}
+
+	/**
+	 * [获取路由最早的有效等待请求，需持有锁](Get the earliest live waiting request of a route, the lock needs to be held)
+	 * @description zh - 获取路由最早的有效等待请求，已放弃的请求被移除，需持有锁
+	 * @description en - Get the earliest live waiting request of a route, requests that gave up are removed, the lock needs to be held
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:23:40
+	 * @param state 路由状态
+	 * @return com.axios.core.transport.nio.ConnectionPool.Waiter
+	 */
+	private Waiter head(RouteState state) {
+		Waiter waiter;
+		while (null != (waiter = state.waiters.peek()) && waiter.future.isDone()) {
+			state.waiters.poll();
+			this.pending--;
+		}
+		return waiter;
+	}
+
+	/**
+	 * [取出一个可用的空闲连接，需持有锁](Take out an available idle connection, the lock needs to be held)
+	 * @description zh - 取出一个可用的空闲连接，需持有锁
+	 * @description en - Take out an available idle connection, the lock needs to be held
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:35:40
+	 * @param state 路由状态
+	 * @param stale 失效连接
+	 * @return com.axios.core.transport.nio.NioPooledChannel
+	 */
+	private NioPooledChannel pollIdle(RouteState state, List<NioPooledChannel> stale) {
+		final long expire = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(this.idleTimeout);
+		NioPooledChannel channel;
+		while (null != (channel = state.idle.poll())) {
+			this.idle--;
+			// validation before reuse
+			if (channel.isReusable() && channel.idleSince - expire > 0) {
+				return channel;
+			}
+			stale.add(channel);
+		}
+		return null;
+	}
+
+	/**
+	 * [预留一个新建连接的名额，需持有锁](Reserve a place for a new connection, the lock needs to be held)
+	 * @description zh - 预留一个新建连接的名额，必要时关闭其它路由的空闲连接，需持有锁
+	 * @description en - Reserve a place for a new connection, closing idle connections of other routes if necessary, the lock needs to be held
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:36:15
+	 * @param state 路由状态
+	 * @param stale 被关闭的连接
+	 * @return boolean
+	 */
+	private boolean reserve(RouteState state, List<NioPooledChannel> stale) {
+		if (state.leased + state.idle.size() >= this.maxPerRoute) {
+			return false;
+		}
+		if (this.leased + this.idle >= this.maxTotal) {
+			// make room by closing the oldest idle connection of another route
+			NioPooledChannel oldest = null;
+			RouteState owner = null;
+			for (RouteState candidate : this.routes.values()) {
+				final NioPooledChannel last = candidate.idle.peekLast();
+				if (null != last && (null == oldest || last.idleSince - oldest.idleSince < 0)) {
+					oldest = last;
+					owner = candidate;
+				}
+			}
+			if (null == oldest) {
+				return false;
+			}
+			owner.idle.pollLast();
+			this.idle--;
+			stale.add(oldest);
+		}
+		state.leased++;
+		this.leased++;
+		return true;
+	}
+
+	/**
+	 * [关闭超时的空闲连接](Close idle connections that have timed out)
+	 * @description zh - 关闭超时的空闲连接
+	 * @description en - Close idle connections that have timed out
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:36:50
+	 * @param expire 空闲开始时间早于该值的连接将被关闭
+	 */
+	private void evictIdle(long expire) {
+		final List<NioPooledChannel> stale = new ArrayList<>();
+		this.lock.lock();
+		try {
+			final Iterator<Map.Entry<String, RouteState>> routeIterator = this.routes.entrySet().iterator();
+			while (routeIterator.hasNext()) {
+				final RouteState state = routeIterator.next().getValue();
+				final Iterator<NioPooledChannel> iterator = state.idle.iterator();
+				while (iterator.hasNext()) {
+					final NioPooledChannel channel = iterator.next();
+					if (Long.MIN_VALUE == expire || channel.idleSince - expire <= 0 || false == channel.isReusable()) {
+						iterator.remove();
+						this.idle--;
+						stale.add(channel);
+					}
+				}
+				if (0 == state.leased && state.idle.isEmpty() && state.waiters.isEmpty()) {
+					routeIterator.remove();
+				}
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		closeAll(stale);
+		if (false == stale.isEmpty()) {
+			dispatch();
+		}
+	}
+
+	/**
+	 * [等待连接超时](Timeout waiting for connection)
+	 * @description zh - 等待连接超时
+	 * @description en - Timeout waiting for connection
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:37:10
+	 * @param waiter 等待的请求
+	 */
+	private void expire(Waiter waiter) {
+		boolean removed = false;
+		this.lock.lock();
+		try {
+			final RouteState state = this.routes.get(waiter.route);
+			if (null != state && state.waiters.remove(waiter)) {
+				removed = true;
+				this.pending--;
+				if (state.waiters.isEmpty()) {
+					this.waiting.remove(waiter.route);
+					removeIfUnused(waiter.route, state);
+				}
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		if (removed) {
+			waiter.future.completeExceptionally(new ConnException("Timeout waiting for connection from pool, route: " + waiter.route));
+		}
+	}
+
+	/**
+	 * [启动后台淘汰线程，需持有锁](Start the background eviction thread, the lock needs to be held)
+	 * @description zh - 启动后台淘汰线程，需持有锁
+	 * @description en - Start the background eviction thread, the lock needs to be held
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:37:25
+	 */
+	private void scheduleEviction() {
+		if (null != this.evictTask || this.closed) {
+			return;
+		}
+		if (null == this.evictor) {
+			this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				final Thread thread = new Thread(runnable, "axios-pool-evictor");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		final long period = Math.max(10, Math.min(1000, this.idleTimeout / 2));
+		this.evictTask = this.evictor.scheduleWithFixedDelay(
+				() -> evictIdle(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(this.idleTimeout)),
+				period, period, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * [获取或创建路由状态，需持有锁](Get or create route state, the lock needs to be held)
+	 * @description zh - 获取或创建路由状态，需持有锁
+	 * @description en - Get or create route state, the lock needs to be held
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:37:50
+	 * @param route 路由
+	 * @return com.axios.core.transport.nio.ConnectionPool.RouteState
+	 */
+	private RouteState route(String route) {
+		return this.routes.computeIfAbsent(route, key -> new RouteState());
+	}
+
+	private void removeIfUnused(String route, RouteState state) {
+		if (0 == state.leased && state.idle.isEmpty() && state.waiters.isEmpty()) {
+			this.routes.remove(route);
+		}
+	}
+
+	private static void closeAll(List<NioPooledChannel> channels) {
+		for (NioPooledChannel channel : channels) {
+			channel.closeAsync();
+		}
+	}
+
+	/**
+	 * [路由状态](Route state)
+	 * @description zh - 路由状态
+	 * @description en - Route state
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:38:20
+	 */
+	private static final class RouteState {
+		/** 空闲连接，最近使用的在队首 */
+		private final ArrayDeque<NioPooledChannel> idle = new ArrayDeque<>();
+		/** 等待连接的请求，先进先出 */
+		private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+		/** 已借出的连接数 */
+		private int leased;
+	}
+
+	/**
+	 * [等待连接的请求](Request waiting for connection)
+	 * @description zh - 等待连接的请求
+	 * @description en - Request waiting for connection
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:38:45
+	 */
+	private static final class Waiter {
+		private final String route;
+		private final CompletableFuture<NioPooledChannel> future;
+		/** 等待顺序 */
+		private final long sequence;
+
+		private Waiter(String route, CompletableFuture<NioPooledChannel> future, long sequence) {
+			this.route = route;
+			this.future = future;
+			this.sequence = sequence;
+		}
+	}
+}
@@ -0,0 +1,207 @@
+package com.axios.core.transport.nio;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [由事件循环填充的响应体输入流](Response body input stream filled by the event loop)
+ * @description zh - 由事件循环填充的响应体输入流，缓冲超过高水位时暂停读取，低于低水位时恢复
+ * @description en - Response body input stream filled by the event loop, reading is paused above the high watermark and resumed below the low watermark
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 16:32:10
+ */
+final class NioBodyStream extends InputStream {
+
+	/** 高水位，超过后暂停从通道读取 */
+	static final int HIGH_WATERMARK = 1024 * 1024;
+	/** 低水位，低于后恢复从通道读取 */
+	static final int LOW_WATERMARK = 256 * 1024;
+
+	/** 所属的交换过程 */
+	private final NioExchange exchange;
+	/** 锁 */
+	private final ReentrantLock lock = new ReentrantLock();
+	/** 有数据可读的条件 */
+	private final Condition readable = lock.newCondition();
+	/** 已接收未读取的数据块 */
+	private final ArrayDeque<byte[]> chunks = new ArrayDeque<>();
+	/** 首个数据块的读取位置 */
+	private int offset;
+	/** 缓冲的字节数 */
+	private long buffered;
+	/** 是否已读到结尾 */
+	private boolean eof;
+	/** 是否已关闭 */
+	private boolean closed;
+	/** 读取时的异常 */
+	private IOException error;
+	/** 是否已暂停读取 */
+	private volatile boolean paused;
+
+	NioBodyStream(NioExchange exchange) {
+		this.exchange = exchange;
+	}
+
+	/**
+	 * [追加数据并清空传入的列表，需要暂停读取时返回true](Append data and clear the given list, and return true when reading needs to be paused)
+	 * @description zh - 追加数据并清空传入的列表，需要暂停读取时返回true
+	 * @description en - Append data and clear the given list, and return true when reading needs to be paused
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:32:55
+	 * @param data 数据
+	 * @param last 是否为最后的数据
+	 * @return boolean
+	 */
+	boolean offer(List<byte[]> data, boolean last) {
+		this.lock.lock();
+		try {
+			if (false == this.closed) {
+				for (byte[] chunk : data) {
+					this.chunks.add(chunk);
+					this.buffered += chunk.length;
+				}
+			}
+			data.clear();
+			if (last) {
+				this.eof = true;
+			}
+			this.readable.signalAll();
+			if (this.buffered > HIGH_WATERMARK && false == this.eof) {
+				this.paused = true;
+			}
+			return this.paused;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * [以异常结束](End with an exception)
+	 * @description zh - 以异常结束
+	 * @description en - End with an exception
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:33:44
+	 * @param e 异常
+	 */
+	void fail(IOException e) {
+		this.lock.lock();
+		try {
+			if (false == this.eof) {
+				this.error = e;
+			}
+			this.readable.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * [是否已暂停读取](Whether reading has been paused)
+	 * @description zh - 是否已暂停读取
+	 * @description en - Whether reading has been paused
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:34:05
+	 * @return boolean
+	 */
+	boolean isPaused() {
+		return this.paused;
+	}
+
+	@Override
+	public int read() throws IOException {
+		final byte[] one = new byte[1];
+		return -1 == read(one, 0, 1) ? -1 : one[0] & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (0 == len) {
+			return 0;
+		}
+		boolean resume = false;
+		int count = 0;
+		this.lock.lock();
+		try {
+			while (this.chunks.isEmpty()) {
+				if (this.closed) {
+					throw new IOException("Stream closed.");
+				}
+				if (null != this.error) {
+					throw this.error;
+				}
+				if (this.eof) {
+					return -1;
+				}
+				try {
+					this.readable.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException(e.getMessage());
+				}
+			}
+			while (count < len && false == this.chunks.isEmpty()) {
+				final byte[] chunk = this.chunks.peek();
+				final int n = Math.min(len - count, chunk.length - this.offset);
+				System.arraycopy(chunk, this.offset, b, off + count, n);
+				count += n;
+				this.offset += n;
+				if (this.offset == chunk.length) {
+					this.chunks.poll();
+					this.offset = 0;
+				}
+			}
+			this.buffered -= count;
+			if (this.paused && this.buffered <= LOW_WATERMARK) {
+				this.paused = false;
+				resume = true;
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		if (resume) {
+			this.exchange.resume();
+		}
+		return count;
+	}
+
+	@Override
+	public int available() {
+		this.lock.lock();
+		try {
+			return (int) Math.min(Integer.MAX_VALUE, this.buffered);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void close() {
+		final boolean complete;
+		this.lock.lock();
+		try {
+			if (this.closed) {
+				return;
+			}
+			this.closed = true;
+			this.chunks.clear();
+			this.buffered = 0;
+			complete = this.eof || null != this.error;
+			this.readable.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+		if (false == complete) {
+			// the rest of the body is unread, the connection can not be reused
+			this.exchange.abort();
+		}
+	}
+}
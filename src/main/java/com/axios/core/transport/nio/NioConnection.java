@@ -0,0 +1,670 @@
+package com.axios.core.transport.nio;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.URL;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLSocketFactory;
+
+import com.axios.core.config.ssl.DefaultSSLInfo;
+import com.axios.core.connection.HttpConnection;
+import com.axios.core.requestMethod.RequestMethod;
+import com.axios.core.tool.UrlTool;
+import com.axios.exception.ConnException;
+import com.axios.header.RequestHeader;
+import com.axios.status.Status;
+
+/**
+ * [基于NIO事件循环的HTTP/1.1连接](HTTP/1.1 connection based on NIO event loop)
+ * @description zh - 基于NIO事件循环的HTTP/1.1连接，等待响应时不占用线程
+ * @description en - HTTP/1.1 connection based on NIO event loop, no thread is occupied while waiting for the response
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 16:50:12
+ */
+public final class NioConnection implements HttpConnection {
+
+	/** 所属传输引擎 */
+	private final NioTransport transport;
+	/** 连接URL */
+	private final URL url;
+	/** 代理 */
+	private final Proxy proxy;
+	/** 请求方法 */
+	private RequestMethod method = RequestMethod.GET;
+	/** 请求头 */
+	private final Map<String, List<String>> requestHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+	/** 连接超时 */
+	private int connectTimeout;
+	/** 读取超时 */
+	private int readTimeout;
+	/** Chunked块大小 */
+	private int chunkSize;
+	/** 固定长度流式发送的请求体长度，-1表示未设置 */
+	private long fixedLength = -1;
+	/** 是否自动重定向 */
+	private boolean followRedirects;
+	/** 域名验证器 */
+	private HostnameVerifier hostnameVerifier = DefaultSSLInfo.TRUST_ANY_HOSTNAME_VERIFIER;
+	/** 请求体 */
+	private NioRequestBody requestBody;
+	/** 是否已发起请求 */
+	private final AtomicBoolean started = new AtomicBoolean();
+	/** 响应头到达时完成 */
+	private final CompletableFuture<NioConnection> head = new CompletableFuture<>();
+	/** 交换过程 */
+	private volatile NioExchange exchange;
+	/** 响应状态码 */
+	private volatile int status;
+	/** 响应头 */
+	private volatile Map<String, List<String>> responseHeaders = Collections.emptyMap();
+	/** 响应体 */
+	private volatile InputStream body;
+
+	NioConnection(NioTransport transport, URL url, Proxy proxy) {
+		final String protocol = url.getProtocol();
+		if (false == "http".equalsIgnoreCase(protocol) && false == "https".equalsIgnoreCase(protocol)) {
+			throw new ConnException("URL [" + url + "] is not a http url, make sure URL is format for http.");
+		}
+		this.transport = transport;
+		this.url = url;
+		this.proxy = proxy;
+	}
+
+	@Override
+	public URL getUrl() {
+		return this.url;
+	}
+
+	@Override
+	public Proxy getProxy() {
+		return this.proxy;
+	}
+
+	@Override
+	public RequestMethod getMethod() {
+		return this.method;
+	}
+
+	@Override
+	public NioConnection setMethod(RequestMethod method) {
+		if (null != method) {
+			this.method = method;
+		}
+		return this;
+	}
+
+	@Override
+	public NioConnection header(String header, String value, boolean isOverride) {
+		List<String> values = this.requestHeaders.get(header);
+		if (null == values || isOverride) {
+			values = new ArrayList<>(1);
+			this.requestHeaders.put(header, values);
+		}
+		values.add(value);
+		return this;
+	}
+
+	@Override
+	public String header(String name) {
+		awaitHeadQuietly();
+		return NioResponseParser.value(this.responseHeaders, name);
+	}
+
+	@Override
+	public Map<String, List<String>> headers() {
+		awaitHeadQuietly();
+		return this.responseHeaders;
+	}
+
+	/**
+	 * [设置域名验证器，NIO引擎的证书校验由传输引擎的SSLContext决定](Set the hostname verifier, the certificate verification of the NIO engine is determined by the SSLContext of the transport)
+	 * @description zh - 设置域名验证器，NIO引擎的证书校验由传输引擎的SSLContext决定。SSLEngine无法由SSLSocketFactory创建，https请求指定了SSLSocketFactory时直接失败，而不是用另一套信任配置发送请求
+	 * @description en - Set the hostname verifier, the certificate verification of the NIO engine is determined by the SSLContext of the transport. An SSLEngine cannot be created from an SSLSocketFactory, so https requests that set one fail right away instead of being sent with different trust settings
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:51:02
+	 * @param hostnameVerifier 域名验证器
+	 * @param ssf SSLSocketFactory
+	 * @return com.axios.core.transport.nio.NioConnection
+	 * @throws com.axios.exception.ConnException https请求指定了SSLSocketFactory
+	 */
+	@Override
+	public NioConnection setHttpsInfo(HostnameVerifier hostnameVerifier, SSLSocketFactory ssf) throws ConnException {
+		if (null != ssf && "https".equalsIgnoreCase(this.url.getProtocol())) {
+			throw new ConnException("NIO transport cannot use an SSLSocketFactory, "
+					+ "set an SSLContext with NioTransport.setSslContext or use another transport for [" + this.url + "].");
+		}
+		this.hostnameVerifier = UrlTool.defaultIfNull(hostnameVerifier, DefaultSSLInfo.TRUST_ANY_HOSTNAME_VERIFIER);
+		return this;
+	}
+
+	@Override
+	public NioConnection disableCache() {
+		// the NIO engine never caches responses
+		return this;
+	}
+
+	@Override
+	public NioConnection setConnectTimeout(int timeout) {
+		if (timeout > 0) {
+			this.connectTimeout = timeout;
+		}
+		return this;
+	}
+
+	@Override
+	public NioConnection setReadTimeout(int timeout) {
+		if (timeout > 0) {
+			this.readTimeout = timeout;
+		}
+		return this;
+	}
+
+	@Override
+	public NioConnection setChunkedStreamingMode(int blockSize) {
+		if (blockSize > 0) {
+			this.chunkSize = blockSize;
+		}
+		return this;
+	}
+
+	@Override
+	public NioConnection setFixedLengthStreamingMode(long contentLength) {
+		if (contentLength >= 0) {
+			this.fixedLength = contentLength;
+		}
+		return this;
+	}
+
+	@Override
+	public NioConnection setInstanceFollowRedirects(boolean isInstanceFollowRedirects) {
+		this.followRedirects = isInstanceFollowRedirects;
+		return this;
+	}
+
+	@Override
+	public boolean isInstanceFollowRedirects() {
+		return this.followRedirects;
+	}
+
+	/**
+	 * [发起请求，不等待响应](Send the request without waiting for the response)
+	 * @description zh - 发起请求，不等待响应
+	 * @description en - Send the request without waiting for the response
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:51:40
+	 * @return com.axios.core.transport.nio.NioConnection
+	 * @throws java.io.IOException
+	 */
+	@Override
+	public NioConnection connect() throws IOException {
+		if (false == this.started.compareAndSet(false, true)) {
+			return this;
+		}
+		try {
+			checkProxy();
+			// the address is resolved off the caller and the event loop, and only when no idle connection can be reused
+			final NioExchange exchange = new NioExchange(this, this.transport, route(), buildRequest(), RequestMethod.HEAD == this.method);
+			this.exchange = exchange;
+			exchange.start();
+		} catch (IOException | RuntimeException e) {
+			this.head.completeExceptionally(e);
+			throw e;
+		}
+		return this;
+	}
+
+	@Override
+	public NioConnection disconnect() {
+		final NioExchange exchange = this.exchange;
+		if (null != exchange) {
+			exchange.abort();
+		}
+		return this;
+	}
+
+	@Override
+	public InputStream getInputStream() throws IOException {
+		awaitHead();
+		return this.body;
+	}
+
+	@Override
+	public InputStream getErrorStream() {
+		if (false == this.head.isDone() || this.head.isCompletedExceptionally()) {
+			return null;
+		}
+		return this.status >= Status.HTTP_BAD_REQUEST ? this.body : null;
+	}
+
+	/**
+	 * [获取请求体的输出流](Get the output stream of the request body)
+	 * @description zh - 获取请求体的输出流。设置了固定长度或分块发送时立即发出请求头，写入的内容边写边发；否则缓冲整个请求体，关闭输出流时发起请求
+	 * @description en - Get the output stream of the request body. When a fixed length or chunked sending is set the request header goes out at once and written content is sent while writing; otherwise the whole body is buffered and the request is sent when the output stream is closed
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:06:30
+	 * @return java.io.OutputStream
+	 * @throws java.io.IOException
+	 */
+	@Override
+	public OutputStream getOutputStream() throws IOException {
+		if (null == this.requestBody) {
+			if (this.started.get()) {
+				throw new IOException("Cannot write request body after the request has been sent.");
+			}
+			final NioRequestBody body = new NioRequestBody(this, this.fixedLength, this.chunkSize);
+			this.requestBody = body;
+			if (body.isStreaming()) {
+				connect();
+			}
+		}
+		return this.requestBody;
+	}
+
+	@Override
+	public int responseCode() throws IOException {
+		awaitHead();
+		return this.status;
+	}
+
+	@Override
+	public String getCharsetName() {
+		return UrlTool.getCharset(header(RequestHeader.CONTENT_TYPE));
+	}
+
+	/**
+	 * [发起请求，响应头到达时在事件循环线程中完成，不占用执行器线程](Send the request, completed in the event loop thread when the response header arrives, without occupying the executor thread)
+	 * @description zh - 发起请求，响应头到达时在事件循环线程中完成，不占用执行器线程
+	 * @description en - Send the request, completed in the event loop thread when the response header arrives, without occupying the executor thread
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:51:02
+	 * @param executor 执行器，未使用
+	 * @return java.util.concurrent.CompletableFuture
+	 */
+	@Override
+	public CompletableFuture<HttpConnection> responseAsync(Executor executor) {
+		try {
+			if (null != this.requestBody) {
+				this.requestBody.close();
+			}
+			connect();
+		} catch (IOException | RuntimeException e) {
+			final CompletableFuture<HttpConnection> failed = new CompletableFuture<>();
+			failed.completeExceptionally(e);
+			return failed;
+		}
+		return this.head.thenApply(connection -> connection);
+	}
+
+	/**
+	 * [获取响应头到达时完成的Future](Get the future that completes when the response header arrives)
+	 * @description zh - 获取响应头到达时完成的Future
+	 * @description en - Get the future that completes when the response header arrives
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:52:15
+	 * @return java.util.concurrent.CompletableFuture
+	 */
+	public CompletableFuture<NioConnection> headFuture() {
+		return this.head;
+	}
+
+	@Override
+	public String toString() {
+		return "NioConnection[" + this.method + " " + this.url + "]";
+	}
+
+	/** --------------- event loop callbacks --------------- */
+
+	/**
+	 * [响应头到达](Response header arrived)
+	 * @description zh - 响应头到达
+	 * @description en - Response header arrived
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:52:44
+	 * @param status 状态码
+	 * @param headers 响应头
+	 * @param body 响应体
+	 */
+	void onHead(int status, Map<String, List<String>> headers, InputStream body) {
+		this.status = status;
+		this.responseHeaders = Collections.unmodifiableMap(headers);
+		this.body = body;
+		this.head.complete(this);
+	}
+
+	/**
+	 * [响应头到达前失败](Failed before the response header arrived)
+	 * @description zh - 响应头到达前失败
+	 * @description en - Failed before the response header arrived
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:53:05
+	 * @param e 异常
+	 */
+	void onFailure(IOException e) {
+		this.head.completeExceptionally(e);
+	}
+
+	boolean isHttps() {
+		return "https".equalsIgnoreCase(this.url.getProtocol());
+	}
+
+	int getConnectTimeout() {
+		return this.connectTimeout;
+	}
+
+	int getReadTimeout() {
+		return this.readTimeout;
+	}
+
+	HostnameVerifier getHostnameVerifier() {
+		return this.hostnameVerifier;
+	}
+
+	/**
+	 * [请求是否允许复用连接](Whether the request allows connection reuse)
+	 * @description zh - 请求是否允许复用连接
+	 * @description en - Whether the request allows connection reuse
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:42:10
+	 * @return boolean
+	 */
+	boolean isKeepAliveRequested() {
+		final List<String> values = this.requestHeaders.get(RequestHeader.CONNECTION.toString());
+		if (null != values) {
+			for (String value : values) {
+				if ("close".equalsIgnoreCase(UrlTool.nullToEmpty(value).trim())) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * [获取连接池路由](Get connection pool route)
+	 * @description zh - 获取连接池路由，相同路由的连接可以互相复用
+	 * @description en - Get connection pool route, connections of the same route can be reused by each other
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:42:40
+	 * @return java.lang.String
+	 */
+	String route() {
+		final String route = this.url.getProtocol().toLowerCase() + "://" + this.url.getHost().toLowerCase() + ':' + port();
+		return usesProxy() ? route + " via " + this.proxy.address() : route;
+	}
+
+	/**
+	 * [创建TLS会话](Create TLS session)
+	 * @description zh - 创建TLS会话
+	 * @description en - Create TLS session
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:53:30
+	 * @return com.axios.core.transport.nio.NioTlsSession
+	 * @throws javax.net.ssl.SSLException
+	 */
+	NioTlsSession createTlsSession() throws SSLException {
+		final SSLEngine engine = this.transport.getSslContext().createSSLEngine(this.url.getHost(), port());
+		engine.setUseClientMode(true);
+		return new NioTlsSession(engine);
+	}
+
+	/** --------------- private --------------- */
+
+	/**
+	 * [等待响应头](Wait for response header)
+	 * @description zh - 等待响应头
+	 * @description en - Wait for response header
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:54:02
+	 * @throws java.io.IOException
+	 */
+	private void awaitHead() throws IOException {
+		if (null != this.requestBody) {
+			// a streamed body has to be complete before the response can come
+			this.requestBody.close();
+		}
+		connect();
+		try {
+			this.head.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			disconnect();
+			throw new InterruptedIOException(e.getMessage());
+		} catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	/**
+	 * [等待响应头，失败时静默](Wait for the response header, silently when failed)
+	 * @description zh - 等待响应头，失败时静默
+	 * @description en - Wait for the response header, silently when failed
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:54:30
+	 */
+	private void awaitHeadQuietly() {
+		try {
+			awaitHead();
+		} catch (IOException | RuntimeException e) {
+			// headers stay empty
+		}
+	}
+
+	/**
+	 * [解析要连接的地址](Resolve the addresses to connect)
+	 * @description zh - 异步解析要连接的所有地址，连接时依次尝试。解析器能立即得到结果时直接完成，否则在执行器中解析，不阻塞调用线程
+	 * @description en - Resolve all addresses to connect asynchronously, they are tried in turn when connecting. It completes at once when the resolver can answer directly, otherwise the lookup runs on the executor and the calling thread is not blocked
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:55:01
+	 * @param executor 执行可能阻塞的解析的执行器
+	 * @return java.util.concurrent.CompletableFuture
+	 */
+	CompletableFuture<InetSocketAddress[]> resolveAddresses(Executor executor) {
+		final String host;
+		final int port;
+		if (usesProxy()) {
+			final InetSocketAddress proxyAddress = (InetSocketAddress) this.proxy.address();
+			host = proxyAddress.getHostString();
+			port = proxyAddress.getPort();
+		} else {
+			host = this.url.getHost();
+			port = port();
+		}
+		return this.transport.getHostResolver().resolveAsync(host, executor).thenApply(addresses -> {
+			if (null == addresses || 0 == addresses.length) {
+				throw new CompletionException(new UnknownHostException(host));
+			}
+			final InetSocketAddress[] result = new InetSocketAddress[addresses.length];
+			for (int i = 0; i < addresses.length; i++) {
+				result[i] = new InetSocketAddress(addresses[i], port);
+			}
+			return result;
+		});
+	}
+
+	/**
+	 * [请求方法是否幂等](Whether the request method is idempotent)
+	 * @description zh - 请求方法是否幂等，幂等的请求在服务端可能已收到时仍可在新连接上重发
+	 * @description en - Whether the request method is idempotent, an idempotent request may be sent again on a new connection even when the server may already have received it
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:00:00
+	 * @return boolean
+	 */
+	boolean isIdempotent() {
+		switch (this.method) {
+			case GET:
+			case HEAD:
+			case OPTIONS:
+			case TRACE:
+			case PUT:
+			case DELETE:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * [构建请求头和请求体数据](Build request header and body data)
+	 * @description zh - 构建请求头和请求体数据，元素为连续发送的ByteBuffer[]、用transferTo发送的NioFileRegion或流式发送的NioRequestBody。TLS连接无法交给内核直接发送，文件区域映射为缓冲区
+	 * @description en - Build request header and body data, the elements are ByteBuffer[] sent together, NioFileRegions sent with transferTo or a NioRequestBody that is streamed. TLS connections cannot let the kernel send directly, so file regions are mapped into buffers
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:55:30
+	 * @return java.lang.Object[]
+	 * @throws java.io.IOException
+	 */
+	private Object[] buildRequest() throws IOException {
+		final StringBuilder head = new StringBuilder(256);
+		head.append(this.method.name()).append(' ').append(requestTarget()).append(" HTTP/1.1\r\n");
+		if (false == this.requestHeaders.containsKey(RequestHeader.HOST.toString())) {
+			head.append("Host: ").append(hostHeader()).append("\r\n");
+		}
+		final boolean hasBody = null != this.requestBody;
+		final boolean streaming = hasBody && this.requestBody.isStreaming();
+		final boolean chunked = hasBody && this.chunkSize > 0;
+		for (Map.Entry<String, List<String>> entry : this.requestHeaders.entrySet()) {
+			final String name = entry.getKey();
+			if (RequestHeader.CONTENT_LENGTH.toString().equalsIgnoreCase(name)
+					|| RequestHeader.TRANSFER_ENCODING.toString().equalsIgnoreCase(name)) {
+				// framing headers always follow the real body
+				continue;
+			}
+			for (String value : entry.getValue()) {
+				head.append(name).append(": ").append(UrlTool.nullToEmpty(value)).append("\r\n");
+			}
+		}
+		if (chunked) {
+			head.append("Transfer-Encoding: chunked\r\n");
+		} else if (hasBody) {
+			head.append("Content-Length: ").append(this.requestBody.length()).append("\r\n");
+		}
+		head.append("\r\n");
+
+		final List<Object> parts = new ArrayList<>();
+		final List<ByteBuffer> buffers = new ArrayList<>();
+		buffers.add(ByteBuffer.wrap(head.toString().getBytes(StandardCharsets.ISO_8859_1)));
+		if (streaming) {
+			// the body follows the head as it is written, already framed
+			parts.add(buffers.toArray(new ByteBuffer[0]));
+			parts.add(this.requestBody);
+			return parts.toArray();
+		}
+		if (hasBody) {
+			final boolean https = isHttps();
+			for (Object segment : this.requestBody.segments()) {
+				if (segment instanceof ByteBuffer) {
+					addBody(buffers, (ByteBuffer) segment, chunked);
+					continue;
+				}
+				final NioFileRegion region = (NioFileRegion) segment;
+				if (https) {
+					for (ByteBuffer mapped : region.map()) {
+						addBody(buffers, mapped, chunked);
+					}
+					continue;
+				}
+				if (chunked) {
+					buffers.add(ByteBuffer.wrap((Long.toHexString(region.count) + "\r\n").getBytes(StandardCharsets.ISO_8859_1)));
+				}
+				parts.add(buffers.toArray(new ByteBuffer[0]));
+				parts.add(region);
+				buffers.clear();
+				if (chunked) {
+					buffers.add(ByteBuffer.wrap(new byte[] { '\r', '\n' }));
+				}
+			}
+			if (chunked) {
+				buffers.add(ByteBuffer.wrap("0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1)));
+			}
+		}
+		parts.add(buffers.toArray(new ByteBuffer[0]));
+		return parts.toArray();
+	}
+
+	private void addBody(List<ByteBuffer> buffers, ByteBuffer segment, boolean chunked) {
+		if (false == chunked) {
+			buffers.add(segment);
+			return;
+		}
+		while (segment.hasRemaining()) {
+			final int n = Math.min(this.chunkSize, segment.remaining());
+			final ByteBuffer chunk = segment.duplicate();
+			chunk.limit(chunk.position() + n);
+			segment.position(segment.position() + n);
+			buffers.add(ByteBuffer.wrap((Integer.toHexString(n) + "\r\n").getBytes(StandardCharsets.ISO_8859_1)));
+			buffers.add(chunk);
+			buffers.add(ByteBuffer.wrap(new byte[] { '\r', '\n' }));
+		}
+	}
+
+	private void checkProxy() {
+		if (usesProxy() && (this.proxy.type() != Proxy.Type.HTTP || isHttps() || false == this.proxy.address() instanceof InetSocketAddress)) {
+			throw new ConnException("NIO transport only supports plain http through a HTTP proxy, use the JDK transport for [" + this.proxy + "].");
+		}
+	}
+
+	private boolean usesProxy() {
+		return null != this.proxy && Proxy.Type.DIRECT != this.proxy.type();
+	}
+
+	private int port() {
+		return -1 == this.url.getPort() ? this.url.getDefaultPort() : this.url.getPort();
+	}
+
+	private String hostHeader() {
+		return -1 == this.url.getPort() || this.url.getPort() == this.url.getDefaultPort()
+				? this.url.getHost()
+				: this.url.getHost() + ':' + this.url.getPort();
+	}
+
+	private String requestTarget() {
+		if (usesProxy()) {
+			return this.url.toExternalForm();
+		}
+		final String file = this.url.getFile();
+		return UrlTool.isBlank(file) ? "/" : file;
+	}
+}
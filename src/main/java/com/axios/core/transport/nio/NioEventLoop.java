@@ -0,0 +1,259 @@
+package com.axios.core.transport.nio;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.axios.exception.ConnException;
+
+/**
+ * [单线程的Selector事件循环，一个线程复用大量连接](Single thread selector event loop, one thread multiplexes a large number of connections)
+ * @description zh - 单线程的Selector事件循环，一个线程复用大量连接
+ * @description en - Single thread selector event loop, one thread multiplexes a large number of connections
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 16:05:37
+ */
+final class NioEventLoop implements Runnable {
+
+	/** 超时检查的时间粒度 */
+	private static final long TICK_MILLIS = 50;
+
+	/** 选择器 */
+	private final Selector selector;
+	/** 投递到事件循环中执行的任务 */
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+	/** 事件循环线程 */
+	private final Thread thread;
+	/** 是否运行中 */
+	private volatile boolean running = true;
+	/** 超时检查时复用的SelectionKey列表 */
+	private final List<SelectionKey> checking = new ArrayList<>();
+
+	NioEventLoop(String name) {
+		try {
+			this.selector = Selector.open();
+		} catch (IOException e) {
+			throw new ConnException(e);
+		}
+		this.thread = new Thread(this, name);
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	/**
+	 * [获取选择器](Get selector)
+	 * @description zh - 获取选择器
+	 * @description en - Get selector
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:06:20
+	 * @return java.nio.channels.Selector
+	 */
+	Selector selector() {
+		return this.selector;
+	}
+
+	/**
+	 * [当前线程是否为事件循环线程](Whether the current thread is an event loop thread)
+	 * @description zh - 当前线程是否为事件循环线程
+	 * @description en - Whether the current thread is an event loop thread
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:06:41
+	 * @return boolean
+	 */
+	boolean inEventLoop() {
+		return Thread.currentThread() == this.thread;
+	}
+
+	/**
+	 * [在事件循环线程中执行任务](Execute tasks in the event loop thread)
+	 * @description zh - 在事件循环线程中执行任务。事件循环已关闭时抛出异常，任务不会执行；与关闭同时投递的任务要么仍由关闭过程执行，要么被取回并抛出异常
+	 * @description en - Execute tasks in the event loop thread. When the event loop is closed an exception is thrown and the task does not run; a task handed over while the loop is closing is either still run by the close or taken back with an exception
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:07:02
+	 * @param task 任务
+	 * @throws com.axios.exception.ConnException 事件循环已关闭
+	 */
+	void execute(Runnable task) throws ConnException {
+		if (false == this.running) {
+			throw new ConnException("NIO event loop [" + this.thread.getName() + "] has been shut down.");
+		}
+		this.tasks.add(task);
+		// closeAll may have drained the queue between the check and the add, then nobody would run the task
+		if (false == this.running && this.tasks.remove(task)) {
+			throw new ConnException("NIO event loop [" + this.thread.getName() + "] has been shut down.");
+		}
+		if (false == inEventLoop()) {
+			this.selector.wakeup();
+		}
+	}
+
+	/**
+	 * [关闭事件循环，所有未完成的连接将以异常结束](Close the event loop, and all outstanding connections will end with an exception)
+	 * @description zh - 关闭事件循环，所有未完成的连接将以异常结束
+	 * @description en - Close the event loop, and all outstanding connections will end with an exception
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:07:30
+	 */
+	void shutdown() {
+		this.running = false;
+		this.selector.wakeup();
+	}
+
+	@Override
+	public void run() {
+		long lastCheck = System.nanoTime();
+		Error fatal = null;
+		while (this.running) {
+			try {
+				// ready keys are handed over without copying the selected-key set
+				this.selector.select(this::handle, TICK_MILLIS);
+				runTasks();
+				final long now = System.nanoTime();
+				if (now - lastCheck >= TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS)) {
+					lastCheck = now;
+					checkTimeouts(now);
+				}
+			} catch (Error e) {
+				// the loop cannot be trusted any more, end its connections instead of leaving them hanging
+				fatal = e;
+				this.running = false;
+			} catch (Exception e) {
+				report(e);
+			}
+		}
+		closeAll(fatal);
+		if (null != fatal) {
+			throw fatal;
+		}
+	}
+
+	/**
+	 * [执行投递的任务](Execute the delivered task)
+	 * @description zh - 执行投递的任务
+	 * @description en - Execute the delivered task
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:08:12
+	 */
+	private void runTasks() {
+		Runnable task;
+		while (null != (task = this.tasks.poll())) {
+			try {
+				task.run();
+			} catch (RuntimeException e) {
+				// tasks report their own failures to the exchange, anything escaping is a bug
+				report(e);
+			}
+		}
+	}
+
+	/**
+	 * [检查超时](Check timeouts)
+	 * @description zh - 检查所有通道的超时，复用同一个列表，超时处理可能关闭通道，因此不直接遍历选择器的键集合
+	 * @description en - Check the timeouts of all channels reusing the same list, timeout handling may close channels so the key set of the selector is not iterated directly
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:59:00
+	 * @param now 当前时间
+	 */
+	private void checkTimeouts(long now) {
+		this.checking.addAll(this.selector.keys());
+		try {
+			for (SelectionKey key : this.checking) {
+				if (key.isValid() && key.attachment() instanceof NioHandler) {
+					((NioHandler) key.attachment()).checkTimeout(now);
+				}
+			}
+		} finally {
+			this.checking.clear();
+		}
+	}
+
+	/**
+	 * [报告未处理的异常](Report an unhandled exception)
+	 * @description zh - 把未处理的异常交给线程的UncaughtExceptionHandler，事件循环继续运行
+	 * @description en - Hand an unhandled exception to the UncaughtExceptionHandler of the thread, and the event loop keeps running
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:59:30
+	 * @param e 异常
+	 */
+	private void report(Throwable e) {
+		try {
+			this.thread.getUncaughtExceptionHandler().uncaughtException(this.thread, e);
+		} catch (RuntimeException ignore) {
+			// a failing handler must not take the loop down
+		}
+	}
+
+	/**
+	 * [分发就绪事件](Dispatch ready events)
+	 * @description zh - 分发就绪事件
+	 * @description en - Dispatch ready events
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:08:35
+	 * @param key SelectionKey
+	 */
+	private void handle(SelectionKey key) {
+		final Object attachment = key.attachment();
+		if (false == attachment instanceof NioHandler) {
+			return;
+		}
+		final NioHandler handler = (NioHandler) attachment;
+		try {
+			if (key.isValid()) {
+				handler.handle(key);
+			}
+		} catch (Exception e) {
+			handler.fail(e);
+		}
+	}
+
+	/**
+	 * [关闭所有通道](Close all channels)
+	 * @description zh - 关闭所有通道
+	 * @description en - Close all channels
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:09:01
+	 * @param fatal 使事件循环终止的错误，正常关闭时为null
+	 */
+	private void closeAll(Error fatal) {
+		final ConnException cause = null == fatal
+				? new ConnException("NIO event loop [" + this.thread.getName() + "] has been shut down.")
+				: new ConnException("NIO event loop [" + this.thread.getName() + "] failed.", fatal);
+		Runnable task;
+		while (null != (task = this.tasks.poll())) {
+			try {
+				task.run();
+			} catch (RuntimeException e) {
+				report(e);
+			}
+		}
+		for (SelectionKey key : new ArrayList<>(this.selector.keys())) {
+			if (key.attachment() instanceof NioHandler) {
+				try {
+					((NioHandler) key.attachment()).fail(cause);
+				} catch (RuntimeException e) {
+					report(e);
+				}
+			}
+		}
+		try {
+			this.selector.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+}
@@ -0,0 +1,822 @@
+package com.axios.core.transport.nio;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLPeerUnverifiedException;
+
+/**
+ * [一次请求响应交换的状态机，所有方法都在事件循环线程中执行](State machine of one request response exchange, all methods are executed in the event loop thread)
+ * @description zh - 一次请求响应交换的状态机，所有方法都在事件循环线程中执行
+ * @description en - State machine of one request response exchange, all methods are executed in the event loop thread
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 16:40:18
+ */
+final class NioExchange implements NioHandler, NioResponseParser.Listener {
+
+	/** 交换状态 */
+	private enum State {
+		CONNECTING, HANDSHAKING, WRITING, READING, DONE
+	}
+
+	/** 读缓冲区大小 */
+	private static final int READ_BUFFER_SIZE = 16 * 1024;
+
+	/** 所属连接 */
+	private final NioConnection connection;
+	/** 传输引擎 */
+	private final NioTransport transport;
+	/** 路由 */
+	private final String route;
+	/** 请求数据模板：ByteBuffer[]、NioFileRegion或NioRequestBody，重试时重新发送 */
+	private final Object[] template;
+	/** 流式发送的请求体，没有时为null */
+	private final NioRequestBody streamingBody;
+	/** 是否为HEAD请求 */
+	private final boolean headRequest;
+	/** 读缓冲区 */
+	private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+	/** 事件循环 */
+	private volatile NioEventLoop loop;
+	/** 解析出的地址，复用连接时为null，新建连接前异步解析 */
+	private InetSocketAddress[] addresses;
+	/** 正在连接的地址下标 */
+	private int addressIndex;
+	/** 待发送的请求数据 */
+	private Object[] request;
+	/** 正在发送的请求数据下标 */
+	private int part;
+	/** 正在发送的文件区域的通道 */
+	private FileChannel file;
+	/** 正在发送的文件区域已发送的字节数 */
+	private long transferred;
+	/** 本次尝试已写入通道的字节数 */
+	private long sent;
+	/** 正在发送的流式请求体数据块 */
+	private Object segment;
+	/** 发送单个缓冲区时复用的数组 */
+	private final ByteBuffer[] single = new ByteBuffer[1];
+	/** 是否已从流式请求体取出数据，取出后无法重发 */
+	private boolean streamed;
+	/** 是否在等待写入方产生请求体数据 */
+	private boolean waitingForBody;
+	/** 响应解析器 */
+	private NioResponseParser parser;
+	/** 是否已从连接池借出连接 */
+	private boolean leased;
+	/** 借出的通道 */
+	private NioPooledChannel pooled;
+	/** 是否为复用的连接 */
+	private boolean reused;
+	/** 已收到的响应字节数 */
+	private long received;
+	/** 是否被主动中止 */
+	private volatile boolean aborted;
+	/** 通道 */
+	private SocketChannel channel;
+	/** 注册的SelectionKey */
+	private SelectionKey key;
+	/** TLS会话，http时为null */
+	private NioTlsSession tls;
+	/** 当前状态 */
+	private State state = State.CONNECTING;
+	/** 开始时间 */
+	private long startTime;
+	/** 最后一次读写的时间 */
+	private long lastActivity;
+	/** 响应体 */
+	private NioBodyStream body;
+	/** 本次读取解析出的响应体数据，解析完成后统一交付 */
+	private final List<byte[]> chunks = new ArrayList<>();
+
+	NioExchange(NioConnection connection, NioTransport transport, String route, Object[] request, boolean headRequest) {
+		this.connection = connection;
+		this.transport = transport;
+		this.route = route;
+		this.template = request;
+		this.headRequest = headRequest;
+		NioRequestBody streamingBody = null;
+		for (Object part : request) {
+			if (part instanceof NioRequestBody) {
+				streamingBody = (NioRequestBody) part;
+			}
+		}
+		this.streamingBody = streamingBody;
+		if (null != streamingBody) {
+			streamingBody.subscribe(this);
+		}
+	}
+
+	/**
+	 * [从连接池获取连接并开始交换](Get a connection from the pool and start the exchange)
+	 * @description zh - 从连接池获取连接并开始交换
+	 * @description en - Get a connection from the pool and start the exchange
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:41:02
+	 */
+	void start() {
+		this.request = new Object[this.template.length];
+		for (int i = 0; i < this.template.length; i++) {
+			if (this.template[i] instanceof ByteBuffer[]) {
+				final ByteBuffer[] buffers = ((ByteBuffer[]) this.template[i]).clone();
+				for (int j = 0; j < buffers.length; j++) {
+					buffers[j] = buffers[j].duplicate();
+				}
+				this.request[i] = buffers;
+			} else {
+				this.request[i] = this.template[i];
+			}
+		}
+		this.part = 0;
+		this.sent = 0;
+		this.segment = null;
+		this.waitingForBody = false;
+		closeFile();
+		this.parser = new NioResponseParser(this, this.headRequest);
+		this.readBuffer.clear();
+		this.transport.getPool().acquire(this.route).whenComplete((pooled, e) -> {
+			if (null != e) {
+				this.connection.onFailure(e instanceof IOException ? (IOException) e : new IOException(e));
+				return;
+			}
+			this.leased = true;
+			this.loop = null == pooled ? this.transport.nextLoop() : pooled.loop;
+			if (null != pooled || null != this.addresses) {
+				handOff(() -> begin(pooled));
+				return;
+			}
+			// a lookup that may block runs on the resolve executor, never on the event loop or the thread completing the lease
+			this.connection.resolveAddresses(this.transport.getResolveExecutor()).whenComplete((addresses, ex) -> handOff(() -> {
+				if (null == ex) {
+					this.addresses = addresses;
+					this.addressIndex = 0;
+					begin(null);
+				} else {
+					fail(ex instanceof CompletionException && null != ex.getCause() ? ex.getCause() : ex);
+				}
+			}));
+		});
+	}
+
+	/**
+	 * [把任务交给事件循环](Hand the task over to the event loop)
+	 * @description zh - 把任务交给事件循环，事件循环已关闭时直接失败
+	 * @description en - Hand the task over to the event loop, and fail directly when the event loop is closed
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:00:30
+	 * @param task 任务
+	 */
+	private void handOff(Runnable task) {
+		try {
+			this.loop.execute(task);
+		} catch (RuntimeException e) {
+			fail(e);
+		}
+	}
+
+	/**
+	 * [在事件循环中开始交换](Start the exchange in the event loop)
+	 * @description zh - 在事件循环中开始交换
+	 * @description en - Start the exchange in the event loop
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:41:18
+	 * @param pooled 复用的通道，null表示新建连接
+	 */
+	private void begin(NioPooledChannel pooled) {
+		if (State.DONE == this.state) {
+			return;
+		}
+		if (this.aborted) {
+			this.pooled = pooled;
+			fail(new IOException("Connection aborted."));
+			return;
+		}
+		this.startTime = System.nanoTime();
+		this.lastActivity = this.startTime;
+		try {
+			if (null != pooled) {
+				this.pooled = pooled;
+				this.reused = true;
+				this.channel = pooled.channel;
+				this.key = pooled.key;
+				this.tls = pooled.tls;
+				if (false == pooled.isReusable()) {
+					throw new EOFException("Pooled connection has been closed.");
+				}
+				if (null != this.tls) {
+					// the connection was verified for the request that opened it, this request may use another verifier
+					verifyHostname();
+				}
+				this.key.attach(this);
+				this.state = State.WRITING;
+				write();
+				return;
+			}
+			open();
+		} catch (Throwable e) {
+			fail(e);
+		}
+	}
+
+	/**
+	 * [连接当前地址](Connect to the current address)
+	 * @description zh - 打开通道并连接当前下标的地址
+	 * @description en - Open a channel and connect to the address at the current index
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:10:00
+	 * @throws java.io.IOException
+	 */
+	private void open() throws IOException {
+		this.channel = SocketChannel.open();
+		this.pooled = new NioPooledChannel(this.transport.getPool(), this.route, this.loop, this.channel);
+		this.channel.configureBlocking(false);
+		this.channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+		if (this.channel.connect(this.addresses[this.addressIndex])) {
+			this.key = this.channel.register(this.loop.selector(), 0, this);
+			this.pooled.key = this.key;
+			onConnected();
+		} else {
+			this.key = this.channel.register(this.loop.selector(), SelectionKey.OP_CONNECT, this);
+			this.pooled.key = this.key;
+		}
+	}
+
+	/**
+	 * [连接下一个地址](Connect to the next address)
+	 * @description zh - TCP连接失败或超时时连接下一个解析出的地址，每个地址都有完整的连接超时。没有更多地址时返回false
+	 * @description en - Connect to the next resolved address when the TCP connect failed or timed out, every address gets the full connect timeout. Return false when there are no more addresses
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:10:30
+	 * @return boolean
+	 */
+	private boolean connectNext() {
+		if (State.CONNECTING != this.state || null == this.channel || this.aborted
+				|| null == this.addresses || this.addressIndex + 1 >= this.addresses.length) {
+			return false;
+		}
+		closeChannel();
+		this.channel = null;
+		this.key = null;
+		this.pooled = null;
+		this.addressIndex++;
+		this.startTime = System.nanoTime();
+		this.lastActivity = this.startTime;
+		try {
+			open();
+		} catch (Throwable e) {
+			fail(e);
+		}
+		return true;
+	}
+
+	/**
+	 * [恢复读取响应体](Resume reading the response body)
+	 * @description zh - 恢复读取响应体
+	 * @description en - Resume reading the response body
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:41:30
+	 */
+	void resume() {
+		submit(() -> {
+			if (State.READING == this.state) {
+				this.lastActivity = System.nanoTime();
+				try {
+					interest(SelectionKey.OP_READ);
+					// decrypted data may already be waiting in the TLS session
+					read();
+				} catch (Throwable e) {
+					fail(e);
+				}
+			}
+		});
+	}
+
+	/**
+	 * [流式请求体有新数据](The streamed request body has new data)
+	 * @description zh - 流式请求体有新数据或已写完时由写入方调用，事件循环正在等待数据时继续发送。交换尚未分配事件循环时无需通知，开始发送时会自行读取
+	 * @description en - Called by the writer when the streamed request body has new data or is complete, and sending continues if the event loop is waiting for data. No notification is needed before the exchange has an event loop, it reads the body by itself once it starts sending
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:07:00
+	 */
+	void bodyReady() {
+		final NioEventLoop loop = this.loop;
+		if (null == loop) {
+			return;
+		}
+		try {
+			loop.execute(() -> {
+				if (State.WRITING == this.state && this.waitingForBody) {
+					this.waitingForBody = false;
+					try {
+						write();
+					} catch (Throwable e) {
+						fail(e);
+					}
+				}
+			});
+		} catch (RuntimeException e) {
+			// the event loop is shutting down and fails the exchange, which cancels the body
+		}
+	}
+
+	/**
+	 * [中止交换并关闭通道](Abort the exchange and close the channel)
+	 * @description zh - 中止交换并关闭通道
+	 * @description en - Abort the exchange and close the channel
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:41:55
+	 */
+	void abort() {
+		submit(() -> {
+			this.aborted = true;
+			fail(new IOException("Connection aborted."));
+		});
+	}
+
+	@Override
+	public void handle(SelectionKey key) throws IOException {
+		switch (this.state) {
+			case CONNECTING:
+				if (key.isConnectable() && this.channel.finishConnect()) {
+					onConnected();
+				}
+				break;
+			case HANDSHAKING:
+				handshake();
+				break;
+			case WRITING:
+				write();
+				break;
+			case READING:
+				read();
+				break;
+			default:
+				break;
+		}
+	}
+
+	@Override
+	public void checkTimeout(long now) {
+		switch (this.state) {
+			case CONNECTING:
+			case HANDSHAKING:
+				if (expired(now, this.startTime, this.connection.getConnectTimeout())) {
+					fail(new SocketTimeoutException("Connect timed out."));
+				}
+				break;
+			case WRITING:
+			case READING:
+				// waiting for the writer of a streamed body is not the server being slow
+				if (false == this.waitingForBody && (null == this.body || false == this.body.isPaused())
+						&& expired(now, this.lastActivity, this.connection.getReadTimeout())) {
+					fail(new SocketTimeoutException("Read timed out."));
+				}
+				break;
+			default:
+				break;
+		}
+	}
+
+	@Override
+	public void fail(Throwable cause) {
+		if (State.DONE == this.state || connectNext()) {
+			return;
+		}
+		// a reused connection may have been closed by the server while idle. Once request bytes went out the server may
+		// have acted on them, so only an idempotent request is sent again
+		final boolean stale = this.reused && 0 == this.received && null == this.body
+				&& false == this.aborted && false == cause instanceof SocketTimeoutException
+				&& (0 == this.sent || this.connection.isIdempotent()) && false == this.streamed;
+		this.state = State.DONE;
+		closeFile();
+		closeChannel();
+		releaseLease(false);
+		if (stale) {
+			this.state = State.CONNECTING;
+			this.reused = false;
+			this.pooled = null;
+			this.channel = null;
+			this.key = null;
+			this.tls = null;
+			start();
+			return;
+		}
+		final IOException e = (cause instanceof IOException) ? (IOException) cause : new IOException(cause);
+		if (null != this.streamingBody) {
+			this.streamingBody.cancel(e);
+		}
+		if (null == this.body) {
+			this.connection.onFailure(e);
+		} else {
+			this.body.fail(e);
+		}
+	}
+
+	@Override
+	public void onHead(int status, Map<String, List<String>> headers) {
+		this.body = new NioBodyStream(this);
+		this.connection.onHead(status, headers, this.body);
+	}
+
+	@Override
+	public void onBody(ByteBuffer data) {
+		final byte[] bytes = new byte[data.remaining()];
+		data.get(bytes);
+		this.chunks.add(bytes);
+	}
+
+	/**
+	 * [TCP连接已建立](TCP connection established)
+	 * @description zh - TCP连接已建立
+	 * @description en - TCP connection established
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:42:40
+	 * @throws java.io.IOException
+	 */
+	private void onConnected() throws IOException {
+		this.lastActivity = System.nanoTime();
+		if (this.connection.isHttps()) {
+			this.tls = this.connection.createTlsSession();
+			this.pooled.tls = this.tls;
+			this.state = State.HANDSHAKING;
+			handshake();
+		} else {
+			this.state = State.WRITING;
+			write();
+		}
+	}
+
+	/**
+	 * [推进TLS握手](Advance TLS handshake)
+	 * @description zh - 推进TLS握手
+	 * @description en - Advance TLS handshake
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:43:05
+	 * @throws java.io.IOException
+	 */
+	private void handshake() throws IOException {
+		if (false == this.tls.handshake(this.channel)) {
+			interest(this.tls.wantWrite() ? SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+			return;
+		}
+		verifyHostname();
+		this.lastActivity = System.nanoTime();
+		this.state = State.WRITING;
+		write();
+	}
+
+	/**
+	 * [校验主机名](Verify the hostname)
+	 * @description zh - 用本次请求的域名验证器校验TLS会话
+	 * @description en - Verify the TLS session with the hostname verifier of this request
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:31:00
+	 * @throws javax.net.ssl.SSLPeerUnverifiedException 主机名未通过校验
+	 */
+	private void verifyHostname() throws SSLPeerUnverifiedException {
+		final String host = this.connection.getUrl().getHost();
+		if (false == this.connection.getHostnameVerifier().verify(host, this.tls.session())) {
+			throw new SSLPeerUnverifiedException("Hostname [" + host + "] not verified.");
+		}
+	}
+
+	/**
+	 * [发送请求](Send request)
+	 * @description zh - 发送请求
+	 * @description en - Send request
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:43:30
+	 * @throws java.io.IOException
+	 */
+	private void write() throws IOException {
+		boolean done = true;
+		while (this.part < this.request.length) {
+			final Object part = this.request[this.part];
+			if (part instanceof NioFileRegion) {
+				done = transfer((NioFileRegion) part);
+			} else if (part instanceof NioRequestBody) {
+				done = stream((NioRequestBody) part);
+			} else {
+				done = write((ByteBuffer[]) part);
+			}
+			if (false == done) {
+				break;
+			}
+			this.part++;
+		}
+		this.lastActivity = System.nanoTime();
+		if (done) {
+			this.state = State.READING;
+			interest(SelectionKey.OP_READ);
+		} else {
+			// while waiting for the writer the socket is not watched, bodyReady continues
+			interest(this.waitingForBody ? 0 : SelectionKey.OP_WRITE);
+		}
+	}
+
+	/**
+	 * [发送流式请求体](Send the streamed request body)
+	 * @description zh - 发送写入方已交出的数据块，全部发送且请求体已写完时返回true；暂无数据时标记为等待写入方
+	 * @description en - Send the segments handed over by the writer, and return true when all of them are sent and the body is complete; when there is no data yet it is marked as waiting for the writer
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:07:30
+	 * @param body 流式请求体
+	 * @return boolean
+	 * @throws java.io.IOException
+	 */
+	private boolean stream(NioRequestBody body) throws IOException {
+		while (true) {
+			if (null == this.segment) {
+				this.segment = body.poll();
+				if (null == this.segment) {
+					if (body.isDrained()) {
+						return true;
+					}
+					this.waitingForBody = true;
+					return false;
+				}
+				this.streamed = true;
+			}
+			final boolean done;
+			if (this.segment instanceof NioFileRegion) {
+				done = transfer((NioFileRegion) this.segment);
+			} else {
+				this.single[0] = (ByteBuffer) this.segment;
+				done = write(this.single);
+			}
+			if (false == done) {
+				return false;
+			}
+			this.segment = null;
+		}
+	}
+
+	/**
+	 * [发送缓冲区](Send buffers)
+	 * @description zh - 发送缓冲区，全部发送完成时返回true
+	 * @description en - Send buffers, and return true when all of them are sent
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:01:00
+	 * @param buffers 缓冲区
+	 * @return boolean
+	 * @throws java.io.IOException
+	 */
+	private boolean write(ByteBuffer[] buffers) throws IOException {
+		final long before = remaining(buffers);
+		try {
+			if (null == this.tls) {
+				this.channel.write(buffers);
+				return false == NioTlsSession.hasRemaining(buffers);
+			}
+			return this.tls.write(this.channel, buffers);
+		} finally {
+			this.sent += before - remaining(buffers);
+		}
+	}
+
+	/**
+	 * [发送文件区域](Send a file region)
+	 * @description zh - 用FileChannel.transferTo把文件区域交给内核直接发送到套接字，全部发送完成时返回true
+	 * @description en - Hand the file region to the kernel with FileChannel.transferTo to be sent straight to the socket, and return true when all of it is sent
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:00:30
+	 * @param region 文件区域
+	 * @return boolean
+	 * @throws java.io.IOException
+	 */
+	private boolean transfer(NioFileRegion region) throws IOException {
+		if (null == this.file) {
+			this.file = region.open();
+			this.transferred = 0;
+		}
+		while (this.transferred < region.count) {
+			final long n = this.file.transferTo(region.position + this.transferred, region.count - this.transferred, this.channel);
+			if (n <= 0) {
+				if (region.position + this.transferred >= this.file.size()) {
+					throw new EOFException("File [" + region.file + "] is shorter than the request body expects.");
+				}
+				// the socket send buffer is full
+				return false;
+			}
+			this.transferred += n;
+			this.sent += n;
+		}
+		closeFile();
+		return true;
+	}
+
+	/**
+	 * [读取响应](Read response)
+	 * @description zh - 读取响应
+	 * @description en - Read response
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:43:58
+	 * @throws java.io.IOException
+	 */
+	private void read() throws IOException {
+		while (State.READING == this.state) {
+			final int n = (null == this.tls) ? this.channel.read(this.readBuffer) : this.tls.read(this.channel, this.readBuffer);
+			if (n < 0) {
+				if (this.parser.onEof()) {
+					complete();
+				} else {
+					fail(new EOFException(this.parser.isHeadDone()
+							? "Premature end of response body."
+							: "Unexpected end of file from server."));
+				}
+				return;
+			}
+			if (0 == n) {
+				return;
+			}
+			this.lastActivity = System.nanoTime();
+			this.received += n;
+			this.readBuffer.flip();
+			final boolean done = this.parser.feed(this.readBuffer);
+			this.readBuffer.clear();
+			if (done) {
+				complete();
+				return;
+			}
+			if (null != this.body && this.body.offer(this.chunks, false)) {
+				interest(0);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * [响应完整接收](Response received completely)
+	 * @description zh - 响应完整接收
+	 * @description en - Response received completely
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:44:22
+	 */
+	private void complete() {
+		this.state = State.DONE;
+		final boolean reusable = this.parser.isKeepAlive() && this.connection.isKeepAliveRequested()
+				&& (null == this.tls || false == this.tls.hasPendingOutput()) && this.pooled.isReusable();
+		if (reusable) {
+			this.pooled.idle();
+		} else {
+			closeChannel();
+		}
+		// the connection goes back to the pool before the caller can see the end of the body
+		releaseLease(reusable);
+		this.body.offer(this.chunks, true);
+	}
+
+	/**
+	 * [归还借出的连接](Return the leased connection)
+	 * @description zh - 归还借出的连接
+	 * @description en - Return the leased connection
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:44:35
+	 * @param reusable 是否可复用
+	 */
+	private void releaseLease(boolean reusable) {
+		if (this.leased) {
+			this.leased = false;
+			this.transport.getPool().release(this.route, this.pooled, reusable);
+		}
+	}
+
+	/**
+	 * [关闭通道](Close channel)
+	 * @description zh - 关闭通道
+	 * @description en - Close channel
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:44:45
+	 */
+	private void closeChannel() {
+		if (null != this.pooled) {
+			this.pooled.close();
+		} else if (null != this.channel) {
+			try {
+				this.channel.close();
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+	}
+
+	/**
+	 * [关闭正在发送的文件](Close the file being sent)
+	 * @description zh - 关闭正在发送的文件
+	 * @description en - Close the file being sent
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:01:00
+	 */
+	private void closeFile() {
+		if (null != this.file) {
+			try {
+				this.file.close();
+			} catch (IOException e) {
+				// ignore
+			}
+			this.file = null;
+		}
+	}
+
+	/**
+	 * [设置关注的事件](Set interested events)
+	 * @description zh - 设置关注的事件
+	 * @description en - Set interested events
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:45:10
+	 * @param ops 事件
+	 */
+	private void interest(int ops) {
+		if (this.key.isValid() && this.key.interestOps() != ops) {
+			this.key.interestOps(ops);
+		}
+	}
+
+	/**
+	 * [在事件循环中执行任务，事件循环已关闭时直接关闭通道](Execute the task in the event loop, and close the channel directly when the event loop is closed)
+	 * @description zh - 在事件循环中执行任务，事件循环已关闭时直接关闭通道
+	 * @description en - Execute the task in the event loop, and close the channel directly when the event loop is closed
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:45:35
+	 * @param task 任务
+	 */
+	private void submit(Runnable task) {
+		final NioEventLoop loop = this.loop;
+		if (null == loop) {
+			// still waiting for a pooled connection, the lease is returned once granted
+			this.aborted = true;
+			this.connection.onFailure(new IOException("Connection aborted."));
+			return;
+		}
+		try {
+			loop.execute(task);
+		} catch (RuntimeException e) {
+			if (null != this.channel) {
+				try {
+					this.channel.close();
+				} catch (IOException ignore) {
+					// ignore
+				}
+			}
+		}
+	}
+
+	private static long remaining(ByteBuffer[] buffers) {
+		long remaining = 0;
+		for (ByteBuffer buffer : buffers) {
+			remaining += buffer.remaining();
+		}
+		return remaining;
+	}
+
+	/**
+	 * [是否超时](Whether it timed out)
+	 * @description zh - 是否超时
+	 * @description en - Whether it timed out
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:46:01
+	 * @param now 当前时间
+	 * @param since 开始时间
+	 * @param timeoutMillis 超时毫秒数，小于等于0表示不超时
+	 * @return boolean
+	 */
+	private static boolean expired(long now, long since, int timeoutMillis) {
+		return timeoutMillis > 0 && now - since > TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+	}
+}
@@ -0,0 +1,73 @@
+package com.axios.core.transport.nio;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * [请求体中的文件区域](File region in the request body)
+ * @description zh - 请求体中的文件区域，明文连接用FileChannel.transferTo发送，TLS连接映射为缓冲区后加密
+ * @description en - File region in the request body, sent with FileChannel.transferTo on plain connections and mapped into buffers for encryption on TLS connections
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:59:30
+ */
+final class NioFileRegion {
+
+	/** 单段映射的最大字节数 */
+	private static final long MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+
+	/** 文件 */
+	final Path file;
+	/** 起始位置 */
+	final long position;
+	/** 字节数 */
+	final long count;
+
+	NioFileRegion(Path file, long position, long count) {
+		this.file = file;
+		this.position = position;
+		this.count = count;
+	}
+
+	/**
+	 * [打开文件通道](Open the file channel)
+	 * @description zh - 打开文件通道
+	 * @description en - Open the file channel
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 19:59:45
+	 * @return java.nio.channels.FileChannel
+	 * @throws java.io.IOException
+	 */
+	FileChannel open() throws IOException {
+		return FileChannel.open(this.file, StandardOpenOption.READ);
+	}
+
+	/**
+	 * [将区域映射为只读缓冲区](Map the region into read only buffers)
+	 * @description zh - 将区域映射为只读缓冲区，超过2GB时分段映射
+	 * @description en - Map the region into read only buffers, in segments when it is over 2GB
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:00:00
+	 * @return java.nio.ByteBuffer[]
+	 * @throws java.io.IOException
+	 */
+	ByteBuffer[] map() throws IOException {
+		try (FileChannel channel = open()) {
+			if (channel.size() < this.position + this.count) {
+				throw new EOFException("File [" + this.file + "] is shorter than the request body expects.");
+			}
+			final ByteBuffer[] buffers = new ByteBuffer[(int) ((this.count + MAX_SEGMENT_SIZE - 1) / MAX_SEGMENT_SIZE)];
+			for (int i = 0; i < buffers.length; i++) {
+				final long offset = i * MAX_SEGMENT_SIZE;
+				buffers[i] = channel.map(FileChannel.MapMode.READ_ONLY, this.position + offset, Math.min(MAX_SEGMENT_SIZE, this.count - offset));
+			}
+			return buffers;
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.axios.core.transport.nio;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+
+/**
+ * [注册在事件循环上的通道处理器](Channel handler registered on the event loop)
+ * @description zh - 注册在事件循环上的通道处理器
+ * @description en - Channel handler registered on the event loop
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 16:02:11
+ */
+interface NioHandler {
+
+	/**
+	 * [处理就绪事件](Handle ready events)
+	 * @description zh - 处理就绪事件
+	 * @description en - Handle ready events
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:02:40
+	 * @param key 就绪的SelectionKey
+	 * @throws java.io.IOException
+	 */
+	void handle(SelectionKey key) throws IOException;
+
+	/**
+	 * [检查是否超时](Check whether it has timed out)
+	 * @description zh - 检查是否超时
+	 * @description en - Check whether it has timed out
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:03:02
+	 * @param now 当前时间（System.nanoTime）
+	 */
+	void checkTimeout(long now);
+
+	/**
+	 * [以异常关闭处理器](Close the handler with an exception)
+	 * @description zh - 以异常关闭处理器
+	 * @description en - Close the handler with an exception
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:03:25
+	 * @param cause 原因
+	 */
+	void fail(Throwable cause);
+
+}
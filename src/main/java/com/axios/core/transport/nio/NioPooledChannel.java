@@ -0,0 +1,130 @@
+package com.axios.core.transport.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+/**
+ * [可复用的通道，空闲时负责检测对端关闭](Reusable channel, responsible for detecting peer close while idle)
+ * @description zh - 可复用的通道，空闲时负责检测对端关闭
+ * @description en - Reusable channel, responsible for detecting peer close while idle
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 17:23:40
+ */
+final class NioPooledChannel implements NioHandler {
+
+	/** 所属连接池 */
+	private final ConnectionPool pool;
+	/** 路由 */
+	final String route;
+	/** 通道注册的事件循环 */
+	final NioEventLoop loop;
+	/** 通道 */
+	final SocketChannel channel;
+	/** 注册的SelectionKey */
+	SelectionKey key;
+	/** TLS会话，http时为null */
+	NioTlsSession tls;
+	/** 进入空闲的时间（System.nanoTime） */
+	volatile long idleSince;
+	/** 空闲时是否检测到连接已不可用 */
+	private volatile boolean broken;
+
+	NioPooledChannel(ConnectionPool pool, String route, NioEventLoop loop, SocketChannel channel) {
+		this.pool = pool;
+		this.route = route;
+		this.loop = loop;
+		this.channel = channel;
+	}
+
+	/**
+	 * [是否可复用](Whether it can be reused)
+	 * @description zh - 是否可复用
+	 * @description en - Whether it can be reused
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:24:12
+	 * @return boolean
+	 */
+	boolean isReusable() {
+		return false == this.broken && this.channel.isOpen() && this.channel.isConnected()
+				&& null != this.key && this.key.isValid();
+	}
+
+	/**
+	 * [进入空闲状态，在事件循环中调用](Enter idle state, called in the event loop)
+	 * @description zh - 进入空闲状态，在事件循环中调用
+	 * @description en - Enter idle state, called in the event loop
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:24:40
+	 */
+	void idle() {
+		this.idleSince = System.nanoTime();
+		this.key.attach(this);
+		this.key.interestOps(SelectionKey.OP_READ);
+	}
+
+	/**
+	 * [在事件循环中关闭通道](Close the channel in the event loop)
+	 * @description zh - 在事件循环中关闭通道
+	 * @description en - Close the channel in the event loop
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:25:03
+	 */
+	void closeAsync() {
+		this.broken = true;
+		try {
+			this.loop.execute(this::close);
+		} catch (RuntimeException e) {
+			close();
+		}
+	}
+
+	/**
+	 * [关闭通道](Close the channel)
+	 * @description zh - 关闭通道
+	 * @description en - Close the channel
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:25:26
+	 */
+	void close() {
+		this.broken = true;
+		if (null != this.key) {
+			this.key.cancel();
+		}
+		if (null != this.tls && this.channel.isOpen()) {
+			this.tls.closeQuietly(this.channel);
+		}
+		try {
+			this.channel.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+
+	@Override
+	public void handle(SelectionKey key) throws IOException {
+		// an idle connection must stay silent, anything else means it is gone
+		final ByteBuffer probe = ByteBuffer.allocate(64);
+		final int n = (null == this.tls) ? this.channel.read(probe) : this.tls.read(this.channel, probe);
+		if (0 != n) {
+			fail(null);
+		}
+	}
+
+	@Override
+	public void checkTimeout(long now) {
+		// idle expiry is handled by the pool evictor
+	}
+
+	@Override
+	public void fail(Throwable cause) {
+		close();
+		this.pool.evict(this);
+	}
+}
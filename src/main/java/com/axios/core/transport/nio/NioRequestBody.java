@@ -0,0 +1,413 @@
+package com.axios.core.transport.nio;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.axios.core.tool.io.ChannelSink;
+
+/**
+ * [请求体的输出流](Output stream of the request body)
+ * @description zh - 请求体的输出流。设置了固定长度或分块发送时为流式：获取输出流时即发送请求头，写入的数据块交给事件循环边写边发，排队的数据超过上限时写入方等待，关闭时结束请求体。否则缓冲整个请求体，关闭时发起请求。文件区域和外部缓冲区只记录引用，发送时才读取
+ * @description en - Output stream of the request body. It streams when a fixed length or chunked sending is set: the request header is sent when the output stream is obtained, written segments are handed to the event loop and sent while writing, the writer waits when the queued data exceeds the limit, and closing ends the body. Otherwise the whole body is buffered and the request is sent when it is closed. File regions and external buffers are only referenced and read when sending
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 16:36:02
+ */
+final class NioRequestBody extends OutputStream implements ChannelSink {
+
+	/** 单个缓冲块的大小 */
+	private static final int SEGMENT_SIZE = 8192;
+	/** 流式发送时最多排队的字节数，超过时写入方等待 */
+	private static final long MAX_QUEUED = 256 * 1024;
+	/** 分块发送的结尾 */
+	private static final byte[] LAST_CHUNK = "0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1);
+	/** 分块之间的换行 */
+	private static final byte[] CRLF = { '\r', '\n' };
+
+	/** 所属连接 */
+	private final NioConnection connection;
+	/** 固定长度，-1表示不固定 */
+	private final long fixedLength;
+	/** 分块大小，0表示不分块 */
+	private final int chunkSize;
+	/** 已写入的数据块：写模式的ByteBuffer或NioFileRegion，只用于缓冲模式 */
+	private final List<Object> segments = new ArrayList<>();
+	/** 当前写入的数据块 */
+	private ByteBuffer current;
+	/** 总长度 */
+	private long length;
+	/** 是否已关闭 */
+	private boolean closed;
+
+	/** 流式发送的锁 */
+	private final ReentrantLock lock = new ReentrantLock();
+	/** 排队的数据减少时通知写入方 */
+	private final Condition drained = this.lock.newCondition();
+	/** 等待事件循环发送的数据：读模式的ByteBuffer或NioFileRegion */
+	private final ArrayDeque<Object> queue = new ArrayDeque<>();
+	/** 排队的缓冲区字节数，文件区域不占内存，不计入 */
+	private long queued;
+	/** 是否已写完，结尾已入队 */
+	private boolean ended;
+	/** 发送失败的原因，写入方不再等待 */
+	private IOException failure;
+	/** 正在发送请求体的交换，有新数据时通知 */
+	private volatile NioExchange exchange;
+
+	NioRequestBody(NioConnection connection, long fixedLength, int chunkSize) {
+		this.connection = connection;
+		this.fixedLength = fixedLength;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		write(new byte[] { (byte) b }, 0, 1);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		checkOpen(len);
+		if (isStreaming()) {
+			while (len > 0) {
+				if (null == this.current) {
+					this.current = ByteBuffer.allocate(this.chunkSize > 0 ? this.chunkSize : SEGMENT_SIZE);
+				}
+				final int n = Math.min(len, this.current.remaining());
+				this.current.put(b, off, n);
+				off += n;
+				len -= n;
+				this.length += n;
+				if (false == this.current.hasRemaining()) {
+					flush();
+				}
+			}
+			return;
+		}
+		if (len >= SEGMENT_SIZE) {
+			// large writes are kept as a single segment
+			final byte[] copy = new byte[len];
+			System.arraycopy(b, off, copy, 0, len);
+			this.current = null;
+			final ByteBuffer segment = ByteBuffer.wrap(copy);
+			segment.position(len);
+			this.segments.add(segment);
+			this.length += len;
+			return;
+		}
+		while (len > 0) {
+			if (null == this.current || false == this.current.hasRemaining()) {
+				this.current = ByteBuffer.allocate(SEGMENT_SIZE);
+				this.segments.add(this.current);
+			}
+			final int n = Math.min(len, this.current.remaining());
+			this.current.put(b, off, n);
+			off += n;
+			len -= n;
+			this.length += n;
+		}
+	}
+
+	@Override
+	public void writeFile(Path file, long position, long count) throws IOException {
+		checkOpen(count);
+		if (count <= 0) {
+			return;
+		}
+		final NioFileRegion region = new NioFileRegion(file, position, count);
+		this.length += count;
+		if (false == isStreaming()) {
+			this.current = null;
+			this.segments.add(region);
+			return;
+		}
+		flush();
+		if (false == this.connection.isHttps()) {
+			enqueue(region, count);
+			return;
+		}
+		// TLS connections cannot let the kernel send directly
+		for (ByteBuffer mapped : region.map()) {
+			enqueue(mapped, mapped.remaining());
+		}
+	}
+
+	@Override
+	public void writeBuffer(ByteBuffer buffer) throws IOException {
+		final int len = buffer.remaining();
+		checkOpen(len);
+		if (0 == len) {
+			return;
+		}
+		final ByteBuffer segment = buffer.slice();
+		buffer.position(buffer.limit());
+		this.length += len;
+		if (isStreaming()) {
+			flush();
+			enqueue(segment, len);
+			return;
+		}
+		segment.position(len);
+		this.current = null;
+		this.segments.add(segment);
+	}
+
+	/**
+	 * [发送已写入的数据](Send the written data)
+	 * @description zh - 流式发送时把当前未满的数据块交给事件循环，缓冲模式下无操作
+	 * @description en - Hand the current segment that is not full yet to the event loop when streaming, no-op when buffering
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:03:00
+	 * @throws java.io.IOException
+	 */
+	@Override
+	public void flush() throws IOException {
+		if (isStreaming() && null != this.current && this.current.position() > 0) {
+			final ByteBuffer segment = this.current;
+			this.current = null;
+			segment.flip();
+			enqueue(segment, segment.remaining());
+		}
+	}
+
+	/**
+	 * [关闭请求体](Close the request body)
+	 * @description zh - 流式发送时发送剩余数据并结束请求体，固定长度未写满时中止请求；缓冲模式下发起请求
+	 * @description en - When streaming, send the remaining data and end the body, and abort the request when less than the fixed length was written; when buffering, send the request
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:03:30
+	 * @throws java.io.IOException
+	 */
+	@Override
+	public void close() throws IOException {
+		if (this.closed) {
+			return;
+		}
+		if (false == isStreaming()) {
+			this.closed = true;
+			this.connection.connect();
+			return;
+		}
+		flush();
+		this.closed = true;
+		if (this.fixedLength >= 0 && this.length != this.fixedLength) {
+			this.connection.disconnect();
+			throw new IOException("Insufficient data written, expected " + this.fixedLength + " bytes but got " + this.length + ".");
+		}
+		this.lock.lock();
+		try {
+			checkFailure();
+			if (this.chunkSize > 0) {
+				add(ByteBuffer.wrap(LAST_CHUNK));
+			}
+			this.ended = true;
+		} finally {
+			this.lock.unlock();
+		}
+		notifyExchange();
+	}
+
+	/**
+	 * [是否流式发送](Whether it is streamed)
+	 * @description zh - 是否流式发送，即设置了固定长度或分块发送
+	 * @description en - Whether it is streamed, that is, a fixed length or chunked sending is set
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:04:00
+	 * @return boolean
+	 */
+	boolean isStreaming() {
+		return this.fixedLength >= 0 || this.chunkSize > 0;
+	}
+
+	/**
+	 * [获取请求体长度](Get request body length)
+	 * @description zh - 获取请求体长度，流式发送时为固定长度
+	 * @description en - Get request body length, the fixed length when streaming
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:36:40
+	 * @return long
+	 */
+	long length() {
+		return this.fixedLength >= 0 ? this.fixedLength : this.length;
+	}
+
+	/**
+	 * [获取可发送的数据块](Get sendable data segments)
+	 * @description zh - 获取缓冲模式下可发送的数据块，元素为读模式的ByteBuffer或NioFileRegion
+	 * @description en - Get the sendable data segments when buffering, the elements are ByteBuffers in read mode or NioFileRegions
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:37:01
+	 * @return java.util.List
+	 */
+	List<Object> segments() {
+		final List<Object> result = new ArrayList<>(this.segments.size());
+		for (Object segment : this.segments) {
+			if (segment instanceof ByteBuffer) {
+				final ByteBuffer view = ((ByteBuffer) segment).duplicate();
+				view.flip();
+				result.add(view);
+			} else {
+				result.add(segment);
+			}
+		}
+		return result;
+	}
+
+	/** --------------- event loop callbacks --------------- */
+
+	void subscribe(NioExchange exchange) {
+		this.exchange = exchange;
+	}
+
+	/**
+	 * [取出下一个待发送的数据块](Take the next segment to send)
+	 * @description zh - 在事件循环中取出下一个待发送的数据块，没有时返回null。取出后不再计入排队的字节数，等待的写入方在排队减半时继续
+	 * @description en - Take the next segment to send in the event loop, or null when there is none. Once taken it no longer counts as queued, and a waiting writer continues when the queue is down to half
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:04:30
+	 * @return java.lang.Object
+	 */
+	Object poll() {
+		this.lock.lock();
+		try {
+			final Object segment = this.queue.poll();
+			if (segment instanceof ByteBuffer) {
+				this.queued -= ((ByteBuffer) segment).remaining();
+				if (this.queued <= MAX_QUEUED >> 1) {
+					this.drained.signalAll();
+				}
+			}
+			return segment;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * [请求体是否已全部取出](Whether the whole body has been taken)
+	 * @description zh - 请求体是否已写完且全部取出
+	 * @description en - Whether the body has been written completely and all of it has been taken
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:05:00
+	 * @return boolean
+	 */
+	boolean isDrained() {
+		this.lock.lock();
+		try {
+			return this.ended && this.queue.isEmpty();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * [发送失败](Sending failed)
+	 * @description zh - 交换结束时调用，丢弃排队的数据，等待中和之后的写入抛出异常
+	 * @description en - Called when the exchange ends, the queued data is dropped and waiting and later writes throw
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:05:30
+	 * @param cause 原因
+	 */
+	void cancel(IOException cause) {
+		this.lock.lock();
+		try {
+			if (null == this.failure) {
+				this.failure = cause;
+			}
+			this.queue.clear();
+			this.queued = 0;
+			this.drained.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/** --------------- private --------------- */
+
+	/**
+	 * [把数据块交给事件循环](Hand a segment to the event loop)
+	 * @description zh - 把数据块交给事件循环，分块发送时加上块头和换行。排队的字节数达到上限时等待事件循环取走
+	 * @description en - Hand a segment to the event loop with the chunk header and line break when chunked. When the queued bytes reach the limit it waits for the event loop to take them
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:06:00
+	 * @param segment 读模式的ByteBuffer或NioFileRegion
+	 * @param count 字节数
+	 * @throws java.io.IOException
+	 */
+	private void enqueue(Object segment, long count) throws IOException {
+		final boolean wasEmpty;
+		this.lock.lock();
+		try {
+			while (null == this.failure && this.queued >= MAX_QUEUED) {
+				try {
+					this.drained.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException("Interrupted while waiting to send the request body.");
+				}
+			}
+			checkFailure();
+			wasEmpty = this.queue.isEmpty();
+			if (this.chunkSize > 0) {
+				add(ByteBuffer.wrap((Long.toHexString(count) + "\r\n").getBytes(StandardCharsets.ISO_8859_1)));
+			}
+			add(segment);
+			if (this.chunkSize > 0) {
+				add(ByteBuffer.wrap(CRLF));
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		// the event loop only waits once it found the queue empty
+		if (wasEmpty) {
+			notifyExchange();
+		}
+	}
+
+	private void add(Object segment) {
+		this.queue.add(segment);
+		if (segment instanceof ByteBuffer) {
+			this.queued += ((ByteBuffer) segment).remaining();
+		}
+	}
+
+	private void notifyExchange() {
+		final NioExchange exchange = this.exchange;
+		if (null != exchange) {
+			exchange.bodyReady();
+		}
+	}
+
+	private void checkFailure() throws IOException {
+		if (null != this.failure) {
+			throw new IOException("Request body could not be sent.", this.failure);
+		}
+	}
+
+	private void checkOpen(long len) throws IOException {
+		if (this.closed) {
+			throw new IOException("Request body has already been sent.");
+		}
+		if (this.fixedLength >= 0 && this.length + len > this.fixedLength) {
+			throw new IOException("Too many bytes written, expected " + this.fixedLength + " bytes.");
+		}
+	}
+}
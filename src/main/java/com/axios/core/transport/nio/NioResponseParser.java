@@ -0,0 +1,453 @@
+package com.axios.core.transport.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.axios.core.tool.UrlTool;
+
+/**
+ * [HTTP/1.1响应增量解析器](HTTP/1.1 response incremental parser)
+ * @description zh - HTTP/1.1响应增量解析器，支持Content-Length、chunked以及读到连接关闭三种报文体
+ * @description en - HTTP/1.1 response incremental parser, supporting Content-Length, chunked and read-until-close bodies
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 16:21:05
+ */
+final class NioResponseParser {
+
+	/**
+	 * [解析事件监听](Parsing event listener)
+	 * @description zh - 解析事件监听
+	 * @description en - Parsing event listener
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:21:40
+	 */
+	interface Listener {
+
+		/**
+		 * [响应头解析完成](Response header parsing completed)
+		 * @description zh - 响应头解析完成
+		 * @description en - Response header parsing completed
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 16:22:02
+		 * @param status 状态码
+		 * @param headers 响应头
+		 * @throws java.io.IOException
+		 */
+		void onHead(int status, Map<String, List<String>> headers) throws IOException;
+
+		/**
+		 * [收到响应体数据，监听者必须自行复制数据](Response body data received, the listener must copy the data itself)
+		 * @description zh - 收到响应体数据，监听者必须自行复制数据
+		 * @description en - Response body data received, the listener must copy the data itself
+		 * @version V1.0
+		 * @author XiaoXunYao
+		 * @since 2026-10-18 16:22:30
+		 * @param data 数据
+		 * @throws java.io.IOException
+		 */
+		void onBody(ByteBuffer data) throws IOException;
+
+	}
+
+	/** 响应头的最大长度 */
+	private static final int MAX_HEAD_SIZE = 64 * 1024;
+
+	/** 解析状态 */
+	private enum State {
+		HEAD, FIXED, CHUNK_SIZE, CHUNK_DATA, CHUNK_DATA_END, TRAILER, UNTIL_CLOSE, DONE
+	}
+
+	/** 监听者 */
+	private final Listener listener;
+	/** 是否为HEAD请求 */
+	private final boolean headRequest;
+	/** 当前状态 */
+	private State state = State.HEAD;
+	/** 行缓存 */
+	private byte[] line = new byte[256];
+	/** 行缓存长度 */
+	private int lineLength;
+	/** 当前报文体或分块的剩余长度 */
+	private long remaining;
+	/** 连接是否可复用 */
+	private boolean keepAlive;
+
+	NioResponseParser(Listener listener, boolean headRequest) {
+		this.listener = listener;
+		this.headRequest = headRequest;
+	}
+
+	/**
+	 * [解析数据，响应完整结束时返回true](Parse data and return true when the response is complete)
+	 * @description zh - 解析数据，响应完整结束时返回true
+	 * @description en - Parse data and return true when the response is complete
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:23:15
+	 * @param buffer 数据（读模式）
+	 * @return boolean
+	 * @throws java.io.IOException
+	 */
+	boolean feed(ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining() && State.DONE != this.state) {
+			switch (this.state) {
+				case HEAD:
+					if (readLine(buffer, true)) {
+						parseHead();
+					}
+					break;
+				case FIXED:
+				case CHUNK_DATA:
+					readBody(buffer);
+					break;
+				case CHUNK_SIZE:
+					if (readLine(buffer, false)) {
+						parseChunkSize();
+					}
+					break;
+				case CHUNK_DATA_END:
+					if (readLine(buffer, false)) {
+						this.state = State.CHUNK_SIZE;
+					}
+					break;
+				case TRAILER:
+					if (readLine(buffer, false)) {
+						if (0 == trimmedLength()) {
+							this.state = State.DONE;
+						}
+						this.lineLength = 0;
+					}
+					break;
+				case UNTIL_CLOSE:
+					this.listener.onBody(buffer);
+					buffer.position(buffer.limit());
+					break;
+				default:
+					break;
+			}
+		}
+		return State.DONE == this.state;
+	}
+
+	/**
+	 * [连接关闭，响应正常结束时返回true](The connection is closed, and return true when the response ends normally)
+	 * @description zh - 连接关闭，响应正常结束时返回true
+	 * @description en - The connection is closed, and return true when the response ends normally
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:23:50
+	 * @return boolean
+	 */
+	boolean onEof() {
+		if (State.UNTIL_CLOSE == this.state) {
+			this.state = State.DONE;
+		}
+		return State.DONE == this.state;
+	}
+
+	/**
+	 * [响应是否已完整结束](Whether the response has been completed)
+	 * @description zh - 响应是否已完整结束
+	 * @description en - Whether the response has been completed
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:24:11
+	 * @return boolean
+	 */
+	boolean isDone() {
+		return State.DONE == this.state;
+	}
+
+	/**
+	 * [响应头是否已解析完成](Whether the response header has been parsed)
+	 * @description zh - 响应头是否已解析完成
+	 * @description en - Whether the response header has been parsed
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:24:32
+	 * @return boolean
+	 */
+	boolean isHeadDone() {
+		return State.HEAD != this.state;
+	}
+
+	/**
+	 * [连接在响应结束后是否可复用](Whether the connection can be reused after the response ends)
+	 * @description zh - 连接在响应结束后是否可复用
+	 * @description en - Whether the connection can be reused after the response ends
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:24:55
+	 * @return boolean
+	 */
+	boolean isKeepAlive() {
+		return this.keepAlive && State.DONE == this.state;
+	}
+
+	/**
+	 * [读取一行或整个响应头到行缓存](Read a line or the whole response header into the line cache)
+	 * @description zh - 读取一行或整个响应头到行缓存
+	 * @description en - Read a line or the whole response header into the line cache
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:25:20
+	 * @param buffer 数据
+	 * @param head 是否读取整个响应头（以空行结束）
+	 * @return boolean 是否读取完成
+	 * @throws java.io.IOException
+	 */
+	private boolean readLine(ByteBuffer buffer, boolean head) throws IOException {
+		while (buffer.hasRemaining()) {
+			final byte b = buffer.get();
+			if (this.lineLength == this.line.length) {
+				if (this.lineLength >= MAX_HEAD_SIZE) {
+					throw new IOException("HTTP response header is too large.");
+				}
+				final byte[] larger = new byte[this.lineLength << 1];
+				System.arraycopy(this.line, 0, larger, 0, this.lineLength);
+				this.line = larger;
+			}
+			this.line[this.lineLength++] = b;
+			if ('\n' == b) {
+				if (false == head) {
+					return true;
+				}
+				final int n = this.lineLength;
+				if (n >= 2 && '\n' == this.line[n - 2]) {
+					return true;
+				}
+				if (n >= 3 && '\r' == this.line[n - 2] && '\n' == this.line[n - 3]) {
+					return true;
+				}
+				if (n <= 2 && (1 == n || '\r' == this.line[0])) {
+					// stray empty line before the status line
+					this.lineLength = 0;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * [解析响应头](Parse response header)
+	 * @description zh - 解析响应头
+	 * @description en - Parse response header
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:26:01
+	 * @throws java.io.IOException
+	 */
+	private void parseHead() throws IOException {
+		final String text = latin1(this.line, 0, this.lineLength);
+		this.lineLength = 0;
+		final String[] lines = text.split("\r?\n");
+		final String statusLine = lines[0];
+		if (false == statusLine.startsWith("HTTP/")) {
+			throw new IOException("Invalid HTTP status line: " + statusLine);
+		}
+		final int firstSpace = statusLine.indexOf(' ');
+		int secondSpace = firstSpace < 0 ? -1 : statusLine.indexOf(' ', firstSpace + 1);
+		if (secondSpace < 0) {
+			secondSpace = statusLine.length();
+		}
+		final int status;
+		try {
+			status = Integer.parseInt(statusLine.substring(firstSpace + 1, secondSpace).trim());
+		} catch (RuntimeException e) {
+			throw new IOException("Invalid HTTP status line: " + statusLine);
+		}
+		final String version = statusLine.substring(0, firstSpace);
+
+		final Map<String, List<String>> headers = new LinkedHashMap<>();
+		// keep the status line under the null key, like HttpURLConnection
+		final List<String> statusValue = new ArrayList<>(1);
+		statusValue.add(statusLine);
+		headers.put(null, statusValue);
+		String lastName = null;
+		for (int i = 1; i < lines.length; i++) {
+			final String headerLine = lines[i];
+			if (headerLine.isEmpty()) {
+				continue;
+			}
+			if ((' ' == headerLine.charAt(0) || '\t' == headerLine.charAt(0)) && null != lastName) {
+				final List<String> values = headers.get(lastName);
+				final int last = values.size() - 1;
+				values.set(last, values.get(last) + ' ' + headerLine.trim());
+				continue;
+			}
+			final int colon = headerLine.indexOf(':');
+			if (colon <= 0) {
+				continue;
+			}
+			lastName = canonicalKey(headers, headerLine.substring(0, colon).trim());
+			headers.computeIfAbsent(lastName, k -> new ArrayList<>(1)).add(headerLine.substring(colon + 1).trim());
+		}
+
+		if (status >= 100 && status < 200 && 101 != status) {
+			// interim response, wait for the final one
+			return;
+		}
+
+		final String connection = value(headers, "Connection");
+		if ("HTTP/1.0".equalsIgnoreCase(version)) {
+			this.keepAlive = null != connection && connection.toLowerCase().contains("keep-alive");
+		} else {
+			this.keepAlive = null == connection || false == connection.toLowerCase().contains("close");
+		}
+
+		final String transferEncoding = value(headers, "Transfer-Encoding");
+		final String contentLength = value(headers, "Content-Length");
+		if (this.headRequest || 204 == status || 304 == status || 101 == status) {
+			this.state = State.DONE;
+		} else if (null != transferEncoding && transferEncoding.toLowerCase().contains("chunked")) {
+			this.state = State.CHUNK_SIZE;
+		} else if (UrlTool.isNotEmpty(contentLength)) {
+			try {
+				this.remaining = Long.parseLong(contentLength.trim());
+			} catch (NumberFormatException e) {
+				throw new IOException("Invalid Content-Length: " + contentLength);
+			}
+			this.state = this.remaining > 0 ? State.FIXED : State.DONE;
+		} else {
+			this.keepAlive = false;
+			this.state = State.UNTIL_CLOSE;
+		}
+		this.listener.onHead(status, headers);
+	}
+
+	/**
+	 * [解析分块大小](Parse chunk size)
+	 * @description zh - 解析分块大小
+	 * @description en - Parse chunk size
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:26:40
+	 * @throws java.io.IOException
+	 */
+	private void parseChunkSize() throws IOException {
+		String size = latin1(this.line, 0, trimmedLength());
+		this.lineLength = 0;
+		final int extension = size.indexOf(';');
+		if (extension >= 0) {
+			size = size.substring(0, extension);
+		}
+		size = size.trim();
+		if (size.isEmpty()) {
+			return;
+		}
+		try {
+			this.remaining = Long.parseLong(size, 16);
+		} catch (NumberFormatException e) {
+			throw new IOException("Invalid chunk size: " + size);
+		}
+		this.state = 0 == this.remaining ? State.TRAILER : State.CHUNK_DATA;
+	}
+
+	/**
+	 * [读取报文体数据](Read body data)
+	 * @description zh - 读取报文体数据
+	 * @description en - Read body data
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:27:05
+	 * @param buffer 数据
+	 * @throws java.io.IOException
+	 */
+	private void readBody(ByteBuffer buffer) throws IOException {
+		final int length = (int) Math.min(this.remaining, buffer.remaining());
+		final ByteBuffer slice = buffer.duplicate();
+		slice.limit(slice.position() + length);
+		this.listener.onBody(slice);
+		buffer.position(buffer.position() + length);
+		this.remaining -= length;
+		if (0 == this.remaining) {
+			if (State.FIXED == this.state) {
+				this.state = State.DONE;
+			} else {
+				this.lineLength = 0;
+				this.state = State.CHUNK_DATA_END;
+			}
+		}
+	}
+
+	/**
+	 * [去除行尾换行符后的长度](Length after removing the line break at the end of the line)
+	 * @description zh - 去除行尾换行符后的长度
+	 * @description en - Length after removing the line break at the end of the line
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:27:30
+	 * @return int
+	 */
+	private int trimmedLength() {
+		int n = this.lineLength;
+		while (n > 0 && ('\n' == this.line[n - 1] || '\r' == this.line[n - 1])) {
+			n--;
+		}
+		return n;
+	}
+
+	/**
+	 * [忽略大小写获取已存在的头名称](Get the existing header name ignoring case)
+	 * @description zh - 忽略大小写获取已存在的头名称
+	 * @description en - Get the existing header name ignoring case
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:27:55
+	 * @param headers 头信息
+	 * @param name 名称
+	 * @return java.lang.String
+	 */
+	private static String canonicalKey(Map<String, List<String>> headers, String name) {
+		for (String key : headers.keySet()) {
+			if (null != key && key.equalsIgnoreCase(name)) {
+				return key;
+			}
+		}
+		return name;
+	}
+
+	/**
+	 * [忽略大小写获取头的值](Get the value of the header ignoring case)
+	 * @description zh - 忽略大小写获取头的值
+	 * @description en - Get the value of the header ignoring case
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:28:20
+	 * @param headers 头信息
+	 * @param name 名称
+	 * @return java.lang.String
+	 */
+	static String value(Map<String, List<String>> headers, String name) {
+		for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+			if (null != entry.getKey() && entry.getKey().equalsIgnoreCase(name) && false == entry.getValue().isEmpty()) {
+				return entry.getValue().get(entry.getValue().size() - 1);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * [以ISO-8859-1解码](Decode with ISO-8859-1)
+	 * @description zh - 以ISO-8859-1解码
+	 * @description en - Decode with ISO-8859-1
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:28:44
+	 * @param bytes 字节
+	 * @param offset 开始位置
+	 * @param length 长度
+	 * @return java.lang.String
+	 */
+	private static String latin1(byte[] bytes, int offset, int length) {
+		return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+	}
+}
@@ -0,0 +1,361 @@
+package com.axios.core.transport.nio;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLSession;
+
+/**
+ * [基于SSLEngine的非阻塞TLS会话](Non blocking TLS session based on SSLEngine)
+ * @description zh - 基于SSLEngine的非阻塞TLS会话
+ * @description en - Non blocking TLS session based on SSLEngine
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 16:12:44
+ */
+final class NioTlsSession {
+
+	/** 空缓冲区，用于握手时的wrap */
+	private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+	/** SSL引擎 */
+	private final SSLEngine engine;
+	/** 从网络读取的密文（写模式） */
+	private ByteBuffer netIn;
+	/** 待发送到网络的密文（写模式） */
+	private ByteBuffer netOut;
+	/** 解密后的明文（写模式） */
+	private ByteBuffer appIn;
+	/** 握手是否等待可写 */
+	private boolean wantWrite;
+	/** 对端是否已关闭 */
+	private boolean inboundClosed;
+
+	NioTlsSession(SSLEngine engine) throws SSLException {
+		this.engine = engine;
+		final SSLSession session = engine.getSession();
+		this.netIn = ByteBuffer.allocate(session.getPacketBufferSize());
+		this.netOut = ByteBuffer.allocate(session.getPacketBufferSize());
+		this.appIn = ByteBuffer.allocate(session.getApplicationBufferSize());
+		engine.beginHandshake();
+	}
+
+	/**
+	 * [获取SSL会话](Get SSL session)
+	 * @description zh - 获取SSL会话
+	 * @description en - Get SSL session
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:13:20
+	 * @return javax.net.ssl.SSLSession
+	 */
+	SSLSession session() {
+		return this.engine.getSession();
+	}
+
+	/**
+	 * [握手是否在等待通道可写](Whether the handshake is waiting for the channel to be writable)
+	 * @description zh - 握手是否在等待通道可写
+	 * @description en - Whether the handshake is waiting for the channel to be writable
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:13:41
+	 * @return boolean
+	 */
+	boolean wantWrite() {
+		return this.wantWrite;
+	}
+
+	/**
+	 * [推进握手，完成时返回true](Advance the handshake and return true when finished)
+	 * @description zh - 推进握手，完成时返回true
+	 * @description en - Advance the handshake and return true when finished
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:14:02
+	 * @param channel 通道
+	 * @return boolean
+	 * @throws java.io.IOException
+	 */
+	boolean handshake(SocketChannel channel) throws IOException {
+		while (true) {
+			if (false == flush(channel)) {
+				this.wantWrite = true;
+				return false;
+			}
+			this.wantWrite = false;
+			switch (this.engine.getHandshakeStatus()) {
+				case NEED_WRAP:
+					wrap(new ByteBuffer[] { EMPTY });
+					break;
+				case NEED_TASK:
+					runDelegatedTasks();
+					break;
+				case FINISHED:
+				case NOT_HANDSHAKING:
+					return true;
+				default:
+					if (false == unwrap(channel)) {
+						return false;
+					}
+					if (this.inboundClosed) {
+						throw new EOFException("Connection closed by peer during TLS handshake.");
+					}
+			}
+		}
+	}
+
+	/**
+	 * [加密并发送数据，全部发送完成时返回true](Encrypt and send data, and return true when all data is sent)
+	 * @description zh - 加密并发送数据，全部发送完成时返回true
+	 * @description en - Encrypt and send data, and return true when all data is sent
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:14:40
+	 * @param channel 通道
+	 * @param srcs 明文数据
+	 * @return boolean
+	 * @throws java.io.IOException
+	 */
+	boolean write(SocketChannel channel, ByteBuffer[] srcs) throws IOException {
+		while (true) {
+			if (false == flush(channel)) {
+				return false;
+			}
+			if (false == hasRemaining(srcs)) {
+				return true;
+			}
+			final SSLEngineResult result = wrap(srcs);
+			if (0 == result.bytesConsumed() && 0 == result.bytesProduced()) {
+				throw new SSLException("TLS renegotiation is not supported by the NIO transport.");
+			}
+		}
+	}
+
+	/**
+	 * [读取并解密数据](Read and decrypt data)
+	 * @description zh - 读取并解密数据
+	 * @description en - Read and decrypt data
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:15:12
+	 * @param channel 通道
+	 * @param dst 目标缓冲区
+	 * @return int 读取的明文字节数，暂无数据返回0，连接关闭返回-1
+	 * @throws java.io.IOException
+	 */
+	int read(SocketChannel channel, ByteBuffer dst) throws IOException {
+		while (true) {
+			if (this.appIn.position() > 0) {
+				this.appIn.flip();
+				final int length = Math.min(this.appIn.remaining(), dst.remaining());
+				final ByteBuffer slice = this.appIn.duplicate();
+				slice.limit(slice.position() + length);
+				dst.put(slice);
+				this.appIn.position(this.appIn.position() + length);
+				this.appIn.compact();
+				return length;
+			}
+			if (this.inboundClosed) {
+				return -1;
+			}
+			if (false == unwrap(channel)) {
+				return this.inboundClosed ? -1 : 0;
+			}
+			if (HandshakeStatus.NEED_WRAP == this.engine.getHandshakeStatus()) {
+				wrap(new ByteBuffer[] { EMPTY });
+				flush(channel);
+			}
+		}
+	}
+
+	/**
+	 * [是否还有未发送的密文](Whether there is any unsent ciphertext)
+	 * @description zh - 是否还有未发送的密文
+	 * @description en - Whether there is any unsent ciphertext
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:15:40
+	 * @return boolean
+	 */
+	boolean hasPendingOutput() {
+		return this.netOut.position() > 0;
+	}
+
+	/**
+	 * [发送缓冲的密文，全部发送完成时返回true](Send buffered ciphertext and return true when all is sent)
+	 * @description zh - 发送缓冲的密文，全部发送完成时返回true
+	 * @description en - Send buffered ciphertext and return true when all is sent
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:16:02
+	 * @param channel 通道
+	 * @return boolean
+	 * @throws java.io.IOException
+	 */
+	boolean flush(SocketChannel channel) throws IOException {
+		if (0 == this.netOut.position()) {
+			return true;
+		}
+		this.netOut.flip();
+		try {
+			channel.write(this.netOut);
+		} finally {
+			this.netOut.compact();
+		}
+		return 0 == this.netOut.position();
+	}
+
+	/**
+	 * [发送close_notify](Send close_notify)
+	 * @description zh - 发送close_notify
+	 * @description en - Send close_notify
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:16:25
+	 * @param channel 通道
+	 */
+	void closeQuietly(SocketChannel channel) {
+		try {
+			this.engine.closeOutbound();
+			wrap(new ByteBuffer[] { EMPTY });
+			flush(channel);
+		} catch (Exception e) {
+			// ignore
+		}
+	}
+
+	/**
+	 * [加密数据到netOut](Encrypt data to netOut)
+	 * @description zh - 加密数据到netOut
+	 * @description en - Encrypt data to netOut
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:16:50
+	 * @param srcs 明文数据
+	 * @return javax.net.ssl.SSLEngineResult
+	 * @throws javax.net.ssl.SSLException
+	 */
+	private SSLEngineResult wrap(ByteBuffer[] srcs) throws SSLException {
+		while (true) {
+			final SSLEngineResult result = this.engine.wrap(srcs, this.netOut);
+			switch (result.getStatus()) {
+				case BUFFER_OVERFLOW:
+					this.netOut = enlarge(this.netOut, this.engine.getSession().getPacketBufferSize());
+					continue;
+				case CLOSED:
+					if (0 == result.bytesProduced()) {
+						throw new SSLException("SSLEngine has been closed.");
+					}
+					return result;
+				default:
+					if (HandshakeStatus.NEED_TASK == result.getHandshakeStatus()) {
+						runDelegatedTasks();
+					}
+					return result;
+			}
+		}
+	}
+
+	/**
+	 * [解密一次数据，无法继续时返回false](Decrypt data once, and return false when unable to continue)
+	 * @description zh - 解密一次数据，无法继续时返回false
+	 * @description en - Decrypt data once, and return false when unable to continue
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:17:22
+	 * @param channel 通道
+	 * @return boolean
+	 * @throws java.io.IOException
+	 */
+	private boolean unwrap(SocketChannel channel) throws IOException {
+		this.netIn.flip();
+		final SSLEngineResult result;
+		try {
+			result = this.engine.unwrap(this.netIn, this.appIn);
+		} finally {
+			this.netIn.compact();
+		}
+		if (HandshakeStatus.NEED_TASK == result.getHandshakeStatus()) {
+			runDelegatedTasks();
+		}
+		switch (result.getStatus()) {
+			case BUFFER_OVERFLOW:
+				this.appIn = enlarge(this.appIn, this.engine.getSession().getApplicationBufferSize());
+				return true;
+			case BUFFER_UNDERFLOW:
+				if (0 == this.netIn.remaining()) {
+					this.netIn = enlarge(this.netIn, this.engine.getSession().getPacketBufferSize());
+				}
+				final int read = channel.read(this.netIn);
+				if (read < 0) {
+					this.inboundClosed = true;
+					return false;
+				}
+				return read > 0;
+			case CLOSED:
+				this.inboundClosed = true;
+				return true;
+			default:
+				return true;
+		}
+	}
+
+	/**
+	 * [执行委托任务](Execute delegated tasks)
+	 * @description zh - 执行委托任务
+	 * @description en - Execute delegated tasks
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:17:50
+	 */
+	private void runDelegatedTasks() {
+		Runnable task;
+		while (null != (task = this.engine.getDelegatedTask())) {
+			task.run();
+		}
+	}
+
+	/**
+	 * [扩容缓冲区并保留已有数据](Expand the buffer and keep the existing data)
+	 * @description zh - 扩容缓冲区并保留已有数据
+	 * @description en - Expand the buffer and keep the existing data
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:18:11
+	 * @param buffer 缓冲区（写模式）
+	 * @param extra 增加的容量
+	 * @return java.nio.ByteBuffer
+	 */
+	private static ByteBuffer enlarge(ByteBuffer buffer, int extra) {
+		final ByteBuffer larger = ByteBuffer.allocate(buffer.position() + Math.max(extra, buffer.capacity()));
+		buffer.flip();
+		larger.put(buffer);
+		return larger;
+	}
+
+	/**
+	 * [缓冲区数组中是否还有剩余数据](Whether there is any remaining data in the buffer array)
+	 * @description zh - 缓冲区数组中是否还有剩余数据
+	 * @description en - Whether there is any remaining data in the buffer array
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:18:33
+	 * @param buffers 缓冲区数组
+	 * @return boolean
+	 */
+	static boolean hasRemaining(ByteBuffer[] buffers) {
+		for (ByteBuffer buffer : buffers) {
+			if (buffer.hasRemaining()) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
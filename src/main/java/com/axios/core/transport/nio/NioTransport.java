@@ -0,0 +1,250 @@
+package com.axios.core.transport.nio;
+
+import java.io.Closeable;
+import java.net.Proxy;
+import java.net.URL;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.SSLContext;
+
+import com.axios.core.config.global.HttpGlobalConfig;
+import com.axios.core.connection.HttpConnection;
+import com.axios.core.dns.HostResolver;
+import com.axios.core.tool.ssl.SSLContextBuilder;
+import com.axios.core.transport.Transport;
+
+/**
+ * [基于SocketChannel和Selector的非阻塞传输引擎](Non blocking transport engine based on SocketChannel and Selector)
+ * @description zh - 基于SocketChannel和Selector的非阻塞传输引擎，少量事件循环线程即可承载大量并发连接
+ * @description en - Non blocking transport engine based on SocketChannel and Selector, a few event loop threads can carry a large number of concurrent connections
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 16:58:20
+ */
+public class NioTransport implements Transport, Closeable {
+
+	/** 传输引擎序号，用于线程命名 */
+	private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+	/** 事件循环 */
+	private final NioEventLoop[] loops;
+	/** 下一个分配的事件循环 */
+	private final AtomicInteger next = new AtomicInteger();
+	/** 连接池 */
+	private final ConnectionPool pool;
+	/** https使用的SSLContext */
+	private volatile SSLContext sslContext;
+	/** 主机名解析器，null表示使用全局配置 */
+	private volatile HostResolver hostResolver;
+
+	/**
+	 * [创建NIO传输引擎，事件循环数为CPU核数且不超过4](Create NIO transport, the number of event loops is the number of CPU cores and not more than 4)
+	 * @description zh - 创建NIO传输引擎，事件循环数为CPU核数且不超过4
+	 * @description en - Create NIO transport, the number of event loops is the number of CPU cores and not more than 4
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:58:55
+	 * @return com.axios.core.transport.nio.NioTransport
+	 */
+	public static NioTransport create() {
+		return create(Math.min(4, Runtime.getRuntime().availableProcessors()));
+	}
+
+	/**
+	 * [创建NIO传输引擎](Create NIO transport)
+	 * @description zh - 创建NIO传输引擎
+	 * @description en - Create NIO transport
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:59:20
+	 * @param eventLoops 事件循环线程数
+	 * @return com.axios.core.transport.nio.NioTransport
+	 */
+	public static NioTransport create(int eventLoops) {
+		return new NioTransport(eventLoops, new ConnectionPool());
+	}
+
+	/**
+	 * [创建使用指定连接池的NIO传输引擎](Create NIO transport using the specified connection pool)
+	 * @description zh - 创建使用指定连接池的NIO传输引擎
+	 * @description en - Create NIO transport using the specified connection pool
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:43:20
+	 * @param eventLoops 事件循环线程数
+	 * @param pool 连接池
+	 * @return com.axios.core.transport.nio.NioTransport
+	 */
+	public static NioTransport create(int eventLoops, ConnectionPool pool) {
+		return new NioTransport(eventLoops, pool);
+	}
+
+	public NioTransport(int eventLoops, ConnectionPool pool) {
+		if (null == pool) {
+			throw new IllegalArgumentException("Connection pool must not be null.");
+		}
+		this.pool = pool;
+		if (eventLoops <= 0) {
+			throw new IllegalArgumentException("Event loop count must be greater than 0.");
+		}
+		final int id = SEQUENCE.incrementAndGet();
+		this.loops = new NioEventLoop[eventLoops];
+		for (int i = 0; i < eventLoops; i++) {
+			this.loops[i] = new NioEventLoop("axios-nio-" + id + "-" + i);
+		}
+	}
+
+	/**
+	 * [设置https使用的SSLContext，默认信任所有证书，与默认的JDK引擎一致](Set the SSLContext used by HTTPS, trusting all certificates by default, consistent with the default JDK engine)
+	 * @description zh - 设置https使用的SSLContext，默认信任所有证书，与默认的JDK引擎一致
+	 * @description en - Set the SSLContext used by HTTPS, trusting all certificates by default, consistent with the default JDK engine
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 16:59:51
+	 * @param sslContext SSLContext
+	 * @return com.axios.core.transport.nio.NioTransport
+	 */
+	public NioTransport setSslContext(SSLContext sslContext) {
+		this.sslContext = sslContext;
+		return this;
+	}
+
+	/**
+	 * [获取https使用的SSLContext](Get the SSLContext used by HTTPS)
+	 * @description zh - 获取https使用的SSLContext
+	 * @description en - Get the SSLContext used by HTTPS
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:00:15
+	 * @return javax.net.ssl.SSLContext
+	 */
+	public SSLContext getSslContext() {
+		SSLContext context = this.sslContext;
+		if (null == context) {
+			synchronized (this) {
+				context = this.sslContext;
+				if (null == context) {
+					context = SSLContextBuilder.create().buildQuietly();
+					this.sslContext = context;
+				}
+			}
+		}
+		return context;
+	}
+
+	/**
+	 * [设置主机名解析器](Set the host name resolver)
+	 * @description zh - 设置建立新连接时使用的主机名解析器，null表示使用全局配置的解析器。复用空闲连接时不解析
+	 * @description en - Set the host name resolver used when opening new connections, null means the globally configured resolver is used. Nothing is resolved when an idle connection is reused
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:58:00
+	 * @param hostResolver 主机名解析器
+	 * @return com.axios.core.transport.nio.NioTransport
+	 */
+	public NioTransport setHostResolver(HostResolver hostResolver) {
+		this.hostResolver = hostResolver;
+		return this;
+	}
+
+	/**
+	 * [获取主机名解析器](Get the host name resolver)
+	 * @description zh - 获取建立新连接时使用的主机名解析器
+	 * @description en - Get the host name resolver used when opening new connections
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:58:30
+	 * @return com.axios.core.dns.HostResolver
+	 */
+	public HostResolver getHostResolver() {
+		final HostResolver resolver = this.hostResolver;
+		return null == resolver ? HttpGlobalConfig.getHostResolver() : resolver;
+	}
+
+	/**
+	 * [获取连接池](Get connection pool)
+	 * @description zh - 获取连接池
+	 * @description en - Get connection pool
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:43:50
+	 * @return com.axios.core.transport.nio.ConnectionPool
+	 */
+	public ConnectionPool getPool() {
+		return this.pool;
+	}
+
+	@Override
+	public HttpConnection open(URL url, Proxy proxy) {
+		return new NioConnection(this, url, proxy);
+	}
+
+	/**
+	 * [关闭连接池和所有事件循环，未完成的请求将以异常结束](Close the connection pool and all event loops, and outstanding requests will end with an exception)
+	 * @description zh - 关闭连接池和所有事件循环，未完成的请求将以异常结束
+	 * @description en - Close the connection pool and all event loops, and outstanding requests will end with an exception
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:00:40
+	 */
+	@Override
+	public void close() {
+		this.pool.close();
+		for (NioEventLoop loop : this.loops) {
+			loop.shutdown();
+		}
+	}
+
+	/**
+	 * [轮询选择下一个事件循环](Poll to select the next event loop)
+	 * @description zh - 轮询选择下一个事件循环
+	 * @description en - Poll to select the next event loop
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:01:02
+	 * @return com.axios.core.transport.nio.NioEventLoop
+	 */
+	NioEventLoop nextLoop() {
+		return this.loops[(this.next.getAndIncrement() & Integer.MAX_VALUE) % this.loops.length];
+	}
+
+	/**
+	 * [获取解析主机名的执行器](Get the executor resolving host names)
+	 * @description zh - 获取解析主机名的执行器，解析可能阻塞，不能在事件循环中进行
+	 * @description en - Get the executor resolving host names, a lookup may block and must not run in the event loop
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:01:30
+	 * @return java.util.concurrent.Executor
+	 */
+	Executor getResolveExecutor() {
+		return ResolveExecutor.INSTANCE;
+	}
+
+	/**
+	 * [解析主机名的执行器，所有传输引擎共享，首次使用时创建](Executor resolving host names, shared by all transports and created on first use)
+	 * @description zh - 解析主机名的执行器，所有传输引擎共享，首次使用时创建，守护线程空闲时退出
+	 * @description en - Executor resolving host names, shared by all transports and created on first use, its daemon threads exit when idle
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 21:02:00
+	 */
+	private static final class ResolveExecutor {
+
+		private static final AtomicInteger SEQUENCE = new AtomicInteger();
+		private static final ThreadPoolExecutor INSTANCE = new ThreadPoolExecutor(4, 4, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+			final Thread thread = new Thread(runnable, "axios-nio-resolve-" + SEQUENCE.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		static {
+			INSTANCE.allowCoreThreadTimeOut(true);
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.axios.core.transport.nio;
+
+import java.io.Serializable;
+
+/**
+ * [连接池统计信息](Connection pool statistics)
+ * @description zh - 连接池统计信息
+ * @description en - Connection pool statistics
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 17:20:05
+ */
+public final class PoolStats implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/** 已借出的连接数 */
+	private final int leased;
+	/** 空闲的连接数 */
+	private final int idle;
+	/** 等待连接的请求数 */
+	private final int pending;
+	/** 最大连接数 */
+	private final int max;
+
+	public PoolStats(int leased, int idle, int pending, int max) {
+		this.leased = leased;
+		this.idle = idle;
+		this.pending = pending;
+		this.max = max;
+	}
+
+	/**
+	 * [获取已借出的连接数](Get the number of leased connections)
+	 * @description zh - 获取已借出的连接数
+	 * @description en - Get the number of leased connections
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:20:31
+	 * @return int
+	 */
+	public int getLeased() {
+		return this.leased;
+	}
+
+	/**
+	 * [获取空闲的连接数](Get the number of idle connections)
+	 * @description zh - 获取空闲的连接数
+	 * @description en - Get the number of idle connections
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:20:52
+	 * @return int
+	 */
+	public int getIdle() {
+		return this.idle;
+	}
+
+	/**
+	 * [获取等待连接的请求数](Get the number of requests waiting for a connection)
+	 * @description zh - 获取等待连接的请求数
+	 * @description en - Get the number of requests waiting for a connection
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:21:13
+	 * @return int
+	 */
+	public int getPending() {
+		return this.pending;
+	}
+
+	/**
+	 * [获取最大连接数](Get the maximum number of connections)
+	 * @description zh - 获取最大连接数
+	 * @description en - Get the maximum number of connections
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 17:21:34
+	 * @return int
+	 */
+	public int getMax() {
+		return this.max;
+	}
+
+	@Override
+	public String toString() {
+		return "[leased: " + this.leased + "; pending: " + this.pending + "; idle: " + this.idle + "; max: " + this.max + "]";
+	}
+}
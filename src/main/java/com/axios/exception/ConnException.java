@@ -12,4 +12,8 @@ public class ConnException extends RuntimeException {
 		super(message);
 	}
 
+	public ConnException(String message, Throwable e) {
+		super(message, e);
+	}
+
 }
@@ -0,0 +1,18 @@
+package com.axios.exception;
+
+/**
+ * [请求超出限流异常](Request limit exceeded exception)
+ * @description zh - 请求超出限流异常，在最长等待时间内无法获得许可时抛出
+ * @description en - Request limit exceeded exception, thrown when a permit cannot be obtained within the maximum waiting time
+ * @version V1.0
+ * @author XiaoXunYao
+ * @since 2026-10-18 19:05:02
+ */
+public class LimitExceededException extends HttpException {
+	private static final long serialVersionUID = 1L;
+
+	public LimitExceededException(String message) {
+		super(message);
+	}
+
+}
@@ -123,7 +123,55 @@ public enum RequestHeader {
 	/**
 	 * 重定向指示到的URL
 	 */
-	LOCATION("Location");
+	LOCATION("Location"),
+	/**
+	 * 资源最后修改时间
+	 */
+	LAST_MODIFIED("Last-Modified"),
+	/**
+	 * 响应过期时间
+	 */
+	EXPIRES("Expires"),
+	/**
+	 * 响应在缓存中已存在的秒数
+	 */
+	AGE("Age"),
+	/**
+	 * 影响响应内容的请求头
+	 */
+	VARY("Vary"),
+	/**
+	 * 条件请求，ETag不匹配时返回完整响应
+	 */
+	IF_NONE_MATCH("If-None-Match"),
+	/**
+	 * 条件请求，指定时间后有修改时返回完整响应
+	 */
+	IF_MODIFIED_SINCE("If-Modified-Since"),
+	/**
+	 * 请求资源的部分内容
+	 */
+	RANGE("Range"),
+	/**
+	 * 条件范围请求，资源已改变时返回完整响应
+	 */
+	IF_RANGE("If-Range"),
+	/**
+	 * 服务器是否支持范围请求
+	 */
+	ACCEPT_RANGES("Accept-Ranges"),
+	/**
+	 * 部分响应在完整资源中的位置
+	 */
+	CONTENT_RANGE("Content-Range"),
+	/**
+	 * 资源的摘要
+	 */
+	DIGEST("Digest"),
+	/**
+	 * 资源表示的摘要
+	 */
+	REPR_DIGEST("Repr-Digest");
 
 	private final String value;
 
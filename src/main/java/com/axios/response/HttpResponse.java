@@ -9,21 +9,29 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.HttpCookie;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 import com.axios.core.assertion.Assert;
 import com.axios.core.config.global.GlobalCookieManager;
-import com.axios.core.connection.Connection;
+import com.axios.core.config.global.HttpGlobalConfig;
+import com.axios.core.connection.HttpConnection;
 import com.axios.core.http.HttpBase;
+import com.axios.core.map.HeaderMap;
 import com.axios.core.strem.HttpInputStream;
 import com.axios.core.tool.URLEncoder;
 import com.axios.core.tool.UrlTool;
 import com.axios.core.tool.file.FileTool;
 import com.axios.core.tool.http.HttpTool;
+import com.axios.core.tool.io.BufferPool;
 import com.axios.core.tool.io.FastByteArrayOutputStream;
 import com.axios.core.tool.io.IoTool;
 import com.axios.core.tool.regular.RegularTool;
@@ -44,7 +52,7 @@ public class HttpResponse extends HttpBase<HttpResponse> implements Closeable {
 	/**
 	 * 持有连接对象
 	 */
-	public Connection httpConnection;
+	public HttpConnection httpConnection;
 	/**
 	 * Http请求原始流
 	 */
@@ -65,10 +73,21 @@ public class HttpResponse extends HttpBase<HttpResponse> implements Closeable {
 	 * 从响应中获取的编码
 	 */
 	private Charset charsetFromResponse;
+	/**
+	 * 流模式下响应体是否已经交给调用者读取，响应体只能被读取一次
+	 */
+	private volatile boolean consumed;
+	/**
+	 * 响应体输入流，关闭后仍保留读取的字节数
+	 */
+	private HttpInputStream source;
+
+	/** 数组的最大长度 */
+	private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
 
 	/** ---------------- http response ---------------- */
 
-	public HttpResponse(Connection httpConnection, Charset charset, boolean isAsync, boolean isIgnoreBody) {
+	public HttpResponse(HttpConnection httpConnection, Charset charset, boolean isAsync, boolean isIgnoreBody) {
 		this.httpConnection = httpConnection;
 		this.charset = charset;
 		this.isAsync = isAsync;
@@ -112,6 +131,9 @@ public class HttpResponse extends HttpBase<HttpResponse> implements Closeable {
 	 * @return com.axios.response.HttpResponse
 	 */
 	public HttpResponse sync() {
+		if (this.isAsync && this.consumed) {
+			throw new HttpException("Response body has already been consumed as a stream.");
+		}
 		return this.isAsync ? forceSync() : this;
 	}
 
@@ -140,7 +162,15 @@ public class HttpResponse extends HttpBase<HttpResponse> implements Closeable {
 	 * @return long
 	 */
 	public long contentLength() {
-		long contentLength = Long.valueOf(header(RequestHeader.CONTENT_LENGTH));
+		final String value = header(RequestHeader.CONTENT_LENGTH);
+		long contentLength = -1;
+		if (UrlTool.isNotBlank(value)) {
+			try {
+				contentLength = Long.parseLong(value.trim());
+			} catch (NumberFormatException e) {
+				// invalid Content-Length is treated as unknown
+			}
+		}
 		if (contentLength > 0 && (isChunked() || UrlTool.isNotBlank(contentEncoding()))) {
 			contentLength = -1;
 		}
@@ -263,9 +293,89 @@ public class HttpResponse extends HttpBase<HttpResponse> implements Closeable {
 	 * @return java.io.InputStream
 	 */
 	public InputStream bodyStream() {
-		return isAsync ?
-			this.in :
-			new ByteArrayInputStream(this.bodyBytes);
+		if (isAsync) {
+			this.consumed = true;
+			return this.in;
+		}
+		return new ByteArrayInputStream(this.bodyBytes);
+	}
+
+	/**
+	 * [获得服务端响应体通道](Get the server response body channel)
+	 * @description zh - 获得服务端响应体通道，流模式下直接读取连接上的数据，不缓存响应体，只能读取一次
+	 * @description en - Get the server response body channel. In streaming mode the data is read directly from the connection without buffering the body, and it can only be read once
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:22:10
+	 * @return java.nio.channels.ReadableByteChannel
+	 */
+	public ReadableByteChannel bodyChannel() {
+		return Channels.newChannel(bodyStream());
+	}
+
+	/**
+	 * [按块消费响应体](Consume the response body in chunks)
+	 * @description zh - 按块消费响应体，所有块复用同一个缓冲区，回调返回后缓冲区的内容即失效，读取完成后关闭响应
+	 * @description en - Consume the response body in chunks. All chunks reuse the same buffer, the content of the buffer is invalid after the callback returns, and the response is closed after reading
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:22:45
+	 * @param bufferSize 缓冲区大小
+	 * @param consumer 块消费者，参数为可读的缓冲区
+	 * @return long
+	 */
+	public long bodyChunks(int bufferSize, Consumer<ByteBuffer> consumer) {
+		Assert.notNull(consumer, "[consumer] must be not null!");
+		final BufferPool pool = BufferPool.getDefault();
+		final int size = bufferSize > 0 ? bufferSize : pool.getBufferSize();
+		final byte[] array = size <= pool.getBufferSize() ? pool.acquire() : new byte[size];
+		final ByteBuffer buffer = ByteBuffer.wrap(array);
+		final InputStream in = bodyStream();
+		long total = 0;
+		try {
+			int n;
+			while ((n = in.read(array, 0, size)) > -1) {
+				if (n > 0) {
+					buffer.clear().limit(n);
+					consumer.accept(buffer);
+					total += n;
+				}
+			}
+		} catch (IOException e) {
+			if (false == isEof(e)) {
+				throw new IORuntimeException(e);
+			}
+		} finally {
+			pool.release(array);
+			IoTool.close(this);
+		}
+		return total;
+	}
+
+	/**
+	 * [获取从连接上读取的响应体字节数](Get the number of body bytes read from the connection)
+	 * @description zh - 获取从连接上读取的响应体字节数，压缩的响应为解压前的字节数，与 decodedBytes 比较可得压缩率
+	 * @description en - Get the number of body bytes read from the connection, for a compressed response it is the number of bytes before inflating, and comparing it with decodedBytes gives the compression ratio
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:22:30
+	 * @return long
+	 */
+	public long wireBytes() {
+		return null == this.source ? 0 : this.source.getWireBytes();
+	}
+
+	/**
+	 * [获取解压后的响应体字节数](Get the number of body bytes after decoding)
+	 * @description zh - 获取已读取的响应体字节数，压缩的响应为解压后的字节数
+	 * @description en - Get the number of body bytes read, for a compressed response it is the number of bytes after inflating
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:23:00
+	 * @return long
+	 */
+	public long decodedBytes() {
+		return null == this.source ? 0 : this.source.getDecodedBytes();
 	}
 
 	/**
@@ -398,10 +508,23 @@ public class HttpResponse extends HttpBase<HttpResponse> implements Closeable {
 
 	/** ---------------- Override ---------------- */
 
+	/**
+	 * [关闭响应](Close the response)
+	 * @description zh - 关闭响应。响应体已读完或剩余不多时按全局的释放策略读完，连接交还传输层复用，否则断开连接
+	 * @description en - Close the response. When the body has been read or only a little is left it is drained according to the global release policy and the connection is handed back to the transport for reuse, otherwise the connection is disconnected
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 20:14:00
+	 */
 	@Override
 	public void close() {
-		IoTool.close(this.in);
+		final InputStream in = this.in;
 		this.in = null;
+		if (in instanceof HttpInputStream && ((HttpInputStream) in).release(HttpGlobalConfig.getReleasePolicy())) {
+			this.httpConnection.release();
+			return;
+		}
+		IoTool.close(in);
 		// 关闭连接
 		this.httpConnection.disconnectQuietly();
 	}
@@ -484,7 +607,7 @@ public class HttpResponse extends HttpBase<HttpResponse> implements Closeable {
 			}
 		}
 		try {
-			this.headers = httpConnection.headers();
+			this.headers = new HeaderMap(httpConnection.headers());
 		} catch (IllegalArgumentException e) {
 		}
 		GlobalCookieManager.store(httpConnection);
@@ -493,7 +616,8 @@ public class HttpResponse extends HttpBase<HttpResponse> implements Closeable {
 		if (null != charset) {
 			this.charset = charset;
 		}
-		this.in = new HttpInputStream(this);
+		this.source = new HttpInputStream(this);
+		this.in = this.source;
 		return this.isAsync ? this : forceSync();
 	}
 
@@ -538,9 +662,18 @@ public class HttpResponse extends HttpBase<HttpResponse> implements Closeable {
 			return;
 		}
 		final long contentLength = contentLength();
+		if (contentLength > 0 && contentLength <= MAX_ARRAY_LENGTH) {
+			// the length is known, read straight into the result instead of copying it out of a buffer
+			this.bodyBytes = readFixed(in, (int) contentLength);
+			return;
+		}
 		final FastByteArrayOutputStream out = new FastByteArrayOutputStream((int) contentLength);
-		copyBody(in, out, contentLength);
-		this.bodyBytes = out.toByteArray();
+		try {
+			copyBody(in, out, contentLength);
+			this.bodyBytes = out.toByteArray();
+		} finally {
+			out.release();
+		}
 	}
 
 	/**
@@ -573,6 +706,37 @@ public class HttpResponse extends HttpBase<HttpResponse> implements Closeable {
 		return copyLength;
 	}
 
+	/**
+	 * [读取已知长度的响应体](Read the response body with known length)
+	 * @description zh - 读取已知长度的响应体，直接读入结果数组，提前结束时截断
+	 * @description en - Read the response body with known length directly into the result array, truncated when it ends early
+	 * @version V1.0
+	 * @author XiaoXunYao
+	 * @since 2026-10-18 18:23:30
+	 * @param in 输入流
+	 * @param length 长度
+	 * @return byte[]
+	 */
+	private static byte[] readFixed(InputStream in, int length) {
+		final byte[] bytes = new byte[length];
+		int read = 0;
+		try {
+			int n;
+			while (read < length && (n = in.read(bytes, read, length - read)) > -1) {
+				read += n;
+			}
+		} catch (IOException e) {
+			if (false == isEof(e)) {
+				throw new IORuntimeException(e);
+			}
+		}
+		return read == length ? bytes : Arrays.copyOf(bytes, read);
+	}
+
+	private static boolean isEof(IOException e) {
+		return e instanceof EOFException || UrlTool.containsIgnoreCase(e.getMessage(), "Premature EOF");
+	}
+
 	/**
 	 * [从Content-Disposition头中获取文件名](Get the file name from the content disposition header)
 	 * @description zh - 从Content-Disposition头中获取文件名
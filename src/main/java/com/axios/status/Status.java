@@ -100,6 +100,12 @@ public interface Status {
 	/** HTTP Status-Code 415: Unsupported Media Type. */
 	public static final int HTTP_UNSUPPORTED_TYPE = 415;
 
+	/** HTTP Status-Code 416: Range Not Satisfiable. */
+	public static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+
+	/** HTTP Status-Code 429: Too Many Requests. */
+	public static final int HTTP_TOO_MANY_REQUESTS = 429;
+
 	/** HTTP Status-Code 500: Internal Server Error. */
 	public static final int HTTP_INTERNAL_ERROR = 500;
 
@@ -0,0 +1,187 @@
+package com.axios;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.axios.ajax.Ajax;
+import com.axios.core.requestMethod.RequestMethod;
+import com.axios.request.Body;
+import com.axios.response.Response;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class AjaxTest {
+
+	private static final AtomicInteger requests = new AtomicInteger();
+
+	private static HttpServer server;
+	private static String base;
+
+	@BeforeClass
+	public static void start() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/hello", exchange -> {
+			requests.incrementAndGet();
+			exchange.getRequestBody().readAllBytes();
+			final byte[] body = "hello".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+		base = "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	@AfterClass
+	public static void stop() {
+		server.stop(0);
+	}
+
+	@Test
+	public void constructorSendsOnceAndThenReusesTheResponse() throws Exception {
+		final int before = requests.get();
+		final Axios axios = Axios.get(base + "/hello");
+		assertEquals(before + 1, requests.get());
+		axios.then(value -> assertEquals("hello", value.getData()));
+		assertEquals(before + 1, requests.get());
+		// the response is used once, after that the request is sent again
+		assertEquals("hello", axios.body().getData());
+		assertEquals(before + 2, requests.get());
+		assertEquals("hello", axios.ajax().getData());
+		assertEquals(before + 3, requests.get());
+	}
+
+	@Test
+	public void bodyReusesTheResponse() throws Exception {
+		final int before = requests.get();
+		assertEquals("hello", Axios.post(base + "/hello", new Body().add("name", "value")).body().getData());
+		assertEquals(before + 1, requests.get());
+	}
+
+	@Test
+	public void settersDropTheResponse() throws Exception {
+		final Axios axios = Axios.get(base + "/hello");
+		axios.setUrl(closedUrl());
+		try {
+			axios.then(value -> fail("no response expected"));
+			fail();
+		} catch (RuntimeException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void thenRunsOnTheCallingThread() throws Exception {
+		final int before = requests.get();
+		final AtomicReference<Thread> thread = new AtomicReference<>();
+		final AtomicReference<Response> response = new AtomicReference<>();
+		Axios.post(base + "/hello", new Body().add("name", "value")).then(value -> {
+			thread.set(Thread.currentThread());
+			response.set(value);
+		});
+		assertSame(Thread.currentThread(), thread.get());
+		assertEquals(200, response.get().getStatus());
+		assertEquals("hello", response.get().getData());
+		assertEquals(before + 1, requests.get());
+	}
+
+	@Test
+	public void thenThrowsWhatTheCallbackThrows() throws Exception {
+		try {
+			Axios.get(base + "/hello").then(value -> {
+				throw new IllegalStateException("callback failed");
+			});
+			fail();
+		} catch (IllegalStateException e) {
+			assertEquals("callback failed", e.getMessage());
+		}
+	}
+
+	@Test
+	public void thenThrowsWhenTheRequestFails() throws Exception {
+		try {
+			Axios.get(closedUrl()).then(value -> fail("no response expected"));
+			fail();
+		} catch (RuntimeException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void thenAsyncDoesNotBlock() throws Exception {
+		final int before = requests.get();
+		final AtomicReference<Thread> thread = new AtomicReference<>();
+		final AtomicReference<String> data = new AtomicReference<>();
+		final CompletableFuture<Void> future = Axios.get(base + "/hello").thenAsync(value -> {
+			thread.set(Thread.currentThread());
+			data.set(value.getData());
+		});
+		future.get(5, TimeUnit.SECONDS);
+		assertNotSame(Thread.currentThread(), thread.get());
+		assertEquals("hello", data.get());
+		assertEquals(before + 1, requests.get());
+	}
+
+	@Test
+	public void thenAsyncCompletesExceptionally() throws Exception {
+		final Axios axios = new Axios();
+		axios.setMethod(RequestMethod.GET);
+		axios.setUrl(closedUrl());
+		try {
+			axios.thenAsync(value -> fail("no response expected")).get(5, TimeUnit.SECONDS);
+			fail();
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof RuntimeException);
+		}
+		try {
+			Axios.get(base + "/hello").thenAsync(value -> {
+				throw new IllegalStateException("callback failed");
+			}).get(5, TimeUnit.SECONDS);
+			fail();
+		} catch (ExecutionException e) {
+			assertEquals("callback failed", e.getCause().getMessage());
+		}
+	}
+
+	@Test
+	public void defaultAjaxAsyncWrapsCheckedExceptions() throws Exception {
+		final Exception checked = new Exception("checked");
+		final Ajax ajax = () -> {
+			throw checked;
+		};
+		try {
+			ajax.ajaxAsync().join();
+			fail();
+		} catch (CompletionException e) {
+			assertSame(checked, e.getCause());
+		}
+		final Ajax ok = () -> new Response(204, null, "");
+		assertEquals(204, ok.ajaxAsync().get(5, TimeUnit.SECONDS).getStatus());
+	}
+
+	/**
+	 * a port that was just free, so connecting to it is refused
+	 */
+	private static String closedUrl() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0, 1, server.getAddress().getAddress())) {
+			return "http://127.0.0.1:" + socket.getLocalPort() + "/hello";
+		}
+	}
+}
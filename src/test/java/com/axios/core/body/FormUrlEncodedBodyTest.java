@@ -0,0 +1,75 @@
+package com.axios.core.body;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class FormUrlEncodedBodyTest {
+
+	@Test
+	public void encodesPairsInOrder() {
+		final Map<String, Object> form = new LinkedHashMap<>();
+		form.put("name", "a b+c");
+		form.put("city", "中文");
+		form.put("tags", Arrays.asList("x", "y"));
+		form.put("count", 3);
+		form.put("flag", null);
+		form.put("empty", "");
+		assertEncodes(form, StandardCharsets.UTF_8, "name=a+b%2Bc&city=%E4%B8%AD%E6%96%87&tags=x%2Cy&count=3&flag&empty=");
+	}
+
+	@Test
+	public void emptyForm() {
+		assertEncodes(null, null, "");
+		assertEncodes(Collections.emptyMap(), StandardCharsets.UTF_8, "");
+	}
+
+	@Test
+	public void nullNamesAreSkipped() {
+		final Map<String, Object> form = new LinkedHashMap<>();
+		form.put(null, "ignored");
+		form.put("a", "1");
+		assertEncodes(form, StandardCharsets.UTF_8, "a=1");
+	}
+
+	@Test
+	public void usesTheGivenCharset() {
+		final Charset gbk = Charset.forName("GBK");
+		assertEncodes(Collections.singletonMap("q", "中文"), gbk, "q=" + encode("中文", gbk));
+		// no charset means UTF-8
+		assertEncodes(Collections.singletonMap("q", "é"), null, "q=%C3%A9");
+	}
+
+	@Test
+	public void largeFormSpansTheWriteBuffer() {
+		final Map<String, Object> form = new LinkedHashMap<>();
+		final StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 2000; i++) {
+			final String value = "value " + i + " é&=";
+			form.put("key" + i, value);
+			expected.append(0 == i ? "" : "&").append("key").append(i).append('=').append(encode(value, StandardCharsets.UTF_8));
+		}
+		assertEncodes(form, StandardCharsets.UTF_8, expected.toString());
+	}
+
+	private static void assertEncodes(Map<String, Object> form, Charset charset, String expected) {
+		final FormUrlEncodedBody body = FormUrlEncodedBody.create(form, charset);
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		body.write(out);
+		assertEquals(expected, out.toString(StandardCharsets.US_ASCII));
+		assertEquals(expected.length(), body.length());
+	}
+
+	private static String encode(String value, Charset charset) {
+		return URLEncoder.encode(value, charset);
+	}
+}
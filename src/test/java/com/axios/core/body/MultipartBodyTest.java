@@ -0,0 +1,118 @@
+package com.axios.core.body;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.axios.core.resource.BytesResource;
+import com.axios.core.resource.FileResource;
+import com.axios.core.resource.MultiResource;
+import com.axios.core.resource.Resource;
+
+import org.junit.Test;
+
+public class MultipartBodyTest {
+
+	@Test
+	public void framesEveryPart() {
+		final Map<String, Object> form = new LinkedHashMap<>();
+		form.put("name", "中文");
+		form.put("empty", null);
+		form.put("file", new BytesResource("hello".getBytes(StandardCharsets.UTF_8), "a.txt"));
+		form.put("files", new MultiResource(new BytesResource(new byte[] { 1, 2 }, "b.bin"), new BytesResource(new byte[] { 3 })));
+		final MultipartBody body = MultipartBody.create(form, StandardCharsets.UTF_8);
+		final String boundary = body.getBoundary();
+		assertEquals("multipart/form-data; boundary=" + boundary, body.getContentType());
+
+		final String expected = "--" + boundary + "\r\n"
+				+ "Content-Disposition: form-data; name=\"name\"\r\n\r\n"
+				+ "中文\r\n"
+				+ "--" + boundary + "\r\n"
+				+ "Content-Disposition: form-data; name=\"empty\"\r\n\r\n"
+				+ "\r\n"
+				+ "--" + boundary + "\r\n"
+				+ "Content-Disposition: form-data; name=\"file\"; filename=\"a.txt\"\r\n"
+				+ "Content-Type: text/plain\r\n\r\n"
+				+ "hello\r\n"
+				+ "--" + boundary + "\r\n"
+				+ "Content-Disposition: form-data; name=\"files\"; filename=\"b.bin\"\r\n"
+				+ "Content-Type: application/octet-stream\r\n\r\n"
+				+ "\u0001\u0002\r\n"
+				+ "--" + boundary + "\r\n"
+				// a resource without a name takes the field name
+				+ "Content-Disposition: form-data; name=\"files\"; filename=\"files\"\r\n"
+				+ "Content-Type: application/octet-stream\r\n\r\n"
+				+ "\u0003\r\n"
+				+ "--" + boundary + "--\r\n";
+		final byte[] written = write(body);
+		assertEquals(expected, new String(written, StandardCharsets.UTF_8));
+		assertEquals(written.length, body.length());
+	}
+
+	@Test
+	public void emptyFormOnlyCloses() {
+		final MultipartBody body = MultipartBody.create(Collections.emptyMap(), StandardCharsets.UTF_8);
+		assertEquals("--" + body.getBoundary() + "--\r\n", new String(write(body), StandardCharsets.US_ASCII));
+		assertEquals(body.getBoundary().length() + 6, body.length());
+	}
+
+	@Test
+	public void fileIsStreamedAndCounted() throws Exception {
+		final File file = File.createTempFile("axios-multipart", ".json");
+		try {
+			Files.write(file.toPath(), "{\"a\":1}".getBytes(StandardCharsets.UTF_8));
+			final MultipartBody body = MultipartBody.create(Collections.singletonMap("doc", new FileResource(file)), StandardCharsets.UTF_8);
+			final String written = new String(write(body), StandardCharsets.UTF_8);
+			assertTrue(written, written.contains("filename=\"" + file.getName() + "\"\r\nContent-Type: application/json\r\n\r\n{\"a\":1}\r\n"));
+			assertEquals(written.getBytes(StandardCharsets.UTF_8).length, body.length());
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void unknownSizeMakesTheLengthUnknown() {
+		final Resource stream = new Resource() {
+
+			@Override
+			public String getName() {
+				return "s.bin";
+			}
+
+			@Override
+			public URL getUrl() {
+				return null;
+			}
+
+			@Override
+			public InputStream getStream() {
+				return new ByteArrayInputStream(new byte[] { 9 });
+			}
+		};
+		final MultipartBody body = MultipartBody.create(Collections.singletonMap("s", stream), StandardCharsets.UTF_8);
+		assertEquals(-1, body.length());
+		assertTrue(new String(write(body), StandardCharsets.ISO_8859_1).contains("\r\n\r\n\u0009\r\n--"));
+	}
+
+	@Test
+	public void boundaryIsRandom() {
+		assertNotEquals(MultipartBody.create(null, null).getBoundary(), MultipartBody.create(null, null).getBoundary());
+	}
+
+	private static byte[] write(MultipartBody body) {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		body.write(out);
+		return out.toByteArray();
+	}
+}
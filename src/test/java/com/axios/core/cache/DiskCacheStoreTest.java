@@ -0,0 +1,151 @@
+package com.axios.core.cache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.axios.core.http.HttpRequest;
+import com.axios.response.HttpResponse;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DiskCacheStoreTest {
+
+	private File directory;
+
+	@Before
+	public void createDirectory() throws IOException {
+		this.directory = Files.createTempDirectory("axios-cache").toFile();
+	}
+
+	@After
+	public void deleteDirectory() {
+		final File[] files = this.directory.listFiles();
+		if (null != files) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+		this.directory.delete();
+	}
+
+	@Test
+	public void concurrentPutsOfOneKey() throws Exception {
+		final DiskCacheStore store = new DiskCacheStore(this.directory, 10 * 1024 * 1024);
+		final Thread[] threads = new Thread[8];
+		final Throwable[] failure = new Throwable[1];
+		for (int t = 0; t < threads.length; t++) {
+			final int writer = t;
+			threads[t] = new Thread(() -> {
+				try {
+					for (int i = 0; i < 50; i++) {
+						store.put("key", entry(body(writer, 1000 + writer * 5000 + i)));
+					}
+				} catch (Throwable e) {
+					failure[0] = e;
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		if (null != failure[0]) {
+			throw new AssertionError(failure[0]);
+		}
+		// whichever write won, the file holds one whole entry
+		final CacheEntry entry = store.get("key");
+		assertNotNull(entry);
+		final byte[] body = entry.getBody();
+		assertArrayEquals(body(body[0], body.length), body);
+		assertEquals(1, this.directory.listFiles().length);
+		assertEquals(this.directory.listFiles()[0].length(), store.size());
+	}
+
+	@Test
+	public void evictsBeyondMaxBytes() throws Exception {
+		final DiskCacheStore store = new DiskCacheStore(this.directory, 5000);
+		store.put("a", entry(body(1, 2000)));
+		Thread.sleep(20);
+		store.put("b", entry(body(2, 2000)));
+		Thread.sleep(20);
+		store.put("c", entry(body(3, 2000)));
+		assertNull(store.get("a"));
+		assertNotNull(store.get("b"));
+		assertNotNull(store.get("c"));
+		assertTrue(store.size() <= 5000);
+	}
+
+	@Test
+	public void removesLeftoverTempFiles() throws IOException {
+		final File temp = new File(this.directory, "abc.cache.123.tmp");
+		assertTrue(temp.createNewFile());
+		final DiskCacheStore store = new DiskCacheStore(this.directory, 1024);
+		assertFalse(temp.exists());
+		assertEquals(0, store.size());
+	}
+
+	@Test
+	public void setCookieIsNotStored() throws IOException {
+		final AtomicInteger requests = new AtomicInteger();
+		final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/session", exchange -> {
+			requests.incrementAndGet();
+			final byte[] body = "cached".getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Cache-Control", "max-age=60");
+			exchange.getResponseHeaders().add("Set-Cookie", "session=secret");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+		try {
+			final String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/session";
+			final HttpCache cache = HttpCache.disk(this.directory, 1024 * 1024);
+			final HttpResponse first = HttpRequest.get(url).setCache(cache).execute();
+			assertEquals("cached", first.body());
+			assertEquals("session=secret", first.header("Set-Cookie"));
+
+			final CacheEntry entry = cache.getStore().get(url);
+			assertNotNull(entry);
+			assertNull(entry.header("Set-Cookie"));
+			final byte[] file = Files.readAllBytes(this.directory.listFiles()[0].toPath());
+			assertFalse(new String(file, StandardCharsets.ISO_8859_1).contains("secret"));
+
+			final HttpResponse second = HttpRequest.get(url).setCache(cache).execute();
+			assertEquals("cached", second.body());
+			assertNull(second.header("Set-Cookie"));
+			assertEquals(1, requests.get());
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	private static CacheEntry entry(byte[] body) {
+		final Map<String, List<String>> headers = Collections.singletonMap("Content-Type", Arrays.asList("application/octet-stream"));
+		return new CacheEntry("http://example.test/", 200, headers, body, 0, 0, Collections.emptyMap());
+	}
+
+	private static byte[] body(int fill, int size) {
+		final byte[] body = new byte[size];
+		Arrays.fill(body, (byte) fill);
+		return body;
+	}
+}
@@ -0,0 +1,177 @@
+package com.axios.core.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.axios.core.http.HttpRequest;
+import com.axios.response.HttpResponse;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.Test;
+
+public class HttpCacheTest {
+
+	private static final long NOW = 1_800_000_000_000L;
+
+	private final HttpCache cache = HttpCache.memory(1024 * 1024);
+
+	@Test
+	public void maxAgeIsFreshUntilItPasses() {
+		final CacheEntry entry = entry(NOW - 50_000, "Cache-Control", "max-age=60");
+		assertTrue(this.cache.isFresh(entry, headers(), NOW));
+		assertFalse(this.cache.isFresh(entry, headers(), NOW + 10_000));
+	}
+
+	@Test
+	public void ageHeaderCountsAgainstMaxAge() {
+		final CacheEntry entry = entry(NOW, "Cache-Control", "max-age=60", "Age", "59");
+		assertTrue(this.cache.isFresh(entry, headers(), NOW));
+		assertFalse(this.cache.isFresh(entry, headers(), NOW + 1000));
+	}
+
+	@Test
+	public void expiresIsRelativeToDate() {
+		final CacheEntry entry = entry(NOW, "Date", date(NOW), "Expires", date(NOW + 30_000));
+		assertTrue(this.cache.isFresh(entry, headers(), NOW + 29_000));
+		assertFalse(this.cache.isFresh(entry, headers(), NOW + 30_000));
+		// an invalid Expires is already expired
+		assertFalse(this.cache.isFresh(entry(NOW, "Expires", "0"), headers(), NOW));
+	}
+
+	@Test
+	public void lastModifiedGivesATenthAsHeuristic() {
+		final CacheEntry entry = entry(NOW, "Date", date(NOW), "Last-Modified", date(NOW - 100_000));
+		assertTrue(this.cache.isFresh(entry, headers(), NOW + 9_000));
+		assertFalse(this.cache.isFresh(entry, headers(), NOW + 10_000));
+	}
+
+	@Test
+	public void noCacheAlwaysRevalidates() {
+		assertFalse(this.cache.isFresh(entry(NOW, "Cache-Control", "no-cache, max-age=60"), headers(), NOW));
+		final CacheEntry entry = entry(NOW, "Cache-Control", "max-age=60");
+		assertFalse(this.cache.isFresh(entry, headers("Cache-Control", "no-cache"), NOW));
+		assertFalse(this.cache.isFresh(entry, headers("Pragma", "no-cache"), NOW));
+	}
+
+	@Test
+	public void requestDirectivesNarrowOrWidenFreshness() {
+		final CacheEntry entry = entry(NOW, "Cache-Control", "max-age=60");
+		assertFalse(this.cache.isFresh(entry, headers("Cache-Control", "max-age=10"), NOW + 10_000));
+		assertFalse(this.cache.isFresh(entry, headers("Cache-Control", "min-fresh=20"), NOW + 40_000));
+		assertTrue(this.cache.isFresh(entry, headers("Cache-Control", "max-stale=30"), NOW + 80_000));
+		assertTrue(this.cache.isFresh(entry, headers("Cache-Control", "max-stale"), NOW + 1_000_000));
+		// must-revalidate forbids serving it stale
+		final CacheEntry strict = entry(NOW, "Cache-Control", "max-age=60, must-revalidate");
+		assertFalse(this.cache.isFresh(strict, headers("Cache-Control", "max-stale"), NOW + 80_000));
+	}
+
+	@Test
+	public void lookupMatchesVaryHeaders() {
+		final CacheEntry entry = new CacheEntry("http://example.test/", 200, headers("Vary", "Accept"), new byte[0], NOW, NOW,
+				Collections.singletonMap("Accept", "text/plain"));
+		this.cache.getStore().put("http://example.test/", entry);
+		assertNotNull(this.cache.lookup("http://example.test/", headers("accept", "text/plain")));
+		assertNull(this.cache.lookup("http://example.test/", headers("Accept", "text/html")));
+		assertNull(this.cache.lookup("http://example.test/", headers("Cache-Control", "no-store")));
+	}
+
+	@Test
+	public void staleEntryIsRevalidatedWithItsValidators() throws IOException {
+		final AtomicInteger requests = new AtomicInteger();
+		final AtomicReference<String> ifNoneMatch = new AtomicReference<>();
+		final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/etag", exchange -> {
+			requests.incrementAndGet();
+			ifNoneMatch.set(exchange.getRequestHeaders().getFirst("If-None-Match"));
+			exchange.getResponseHeaders().add("Cache-Control", "max-age=0");
+			exchange.getResponseHeaders().add("ETag", "\"v1\"");
+			if ("\"v1\"".equals(ifNoneMatch.get())) {
+				exchange.getResponseHeaders().add("X-Checked", "yes");
+				exchange.sendResponseHeaders(304, -1);
+			} else {
+				final byte[] body = "first".getBytes(StandardCharsets.UTF_8);
+				exchange.sendResponseHeaders(200, body.length);
+				exchange.getResponseBody().write(body);
+			}
+			exchange.close();
+		});
+		server.start();
+		try {
+			final String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/etag";
+			assertEquals("first", HttpRequest.get(url).setCache(this.cache).execute().body());
+			assertNull(ifNoneMatch.get());
+			assertEquals(1, this.cache.getMissCount());
+
+			final HttpResponse second = HttpRequest.get(url).setCache(this.cache).execute();
+			assertEquals(200, second.getStatus());
+			assertEquals("first", second.body());
+			assertEquals("\"v1\"", ifNoneMatch.get());
+			assertEquals(2, requests.get());
+			assertEquals(1, this.cache.getRevalidatedCount());
+			// headers of the 304 update the stored entry
+			assertEquals("yes", this.cache.getStore().get(url).header("X-Checked"));
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	public void freshEntryIsServedWithoutRequest() throws IOException {
+		final AtomicInteger requests = new AtomicInteger();
+		final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/fresh", exchange -> {
+			requests.incrementAndGet();
+			final byte[] body = "fresh".getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Cache-Control", "max-age=60");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+		try {
+			final String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/fresh";
+			assertEquals("fresh", HttpRequest.get(url).setCache(this.cache).execute().body());
+			assertEquals("fresh", HttpRequest.get(url).setCache(this.cache).execute().body());
+			assertEquals(1, requests.get());
+			assertEquals(1, this.cache.getHitCount());
+			// a request refusing the cache goes to the network
+			HttpRequest.get(url).setCache(this.cache).header("Cache-Control", "no-cache", true).execute().body();
+			assertEquals(2, requests.get());
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	private static CacheEntry entry(long responseTime, String... headers) {
+		return new CacheEntry("http://example.test/", 200, headers(headers), new byte[0], responseTime, responseTime, Collections.emptyMap());
+	}
+
+	private static Map<String, List<String>> headers(String... pairs) {
+		final Map<String, List<String>> headers = new LinkedHashMap<>();
+		for (int i = 0; i < pairs.length; i += 2) {
+			headers.put(pairs[i], Arrays.asList(pairs[i + 1]));
+		}
+		return headers;
+	}
+
+	private static String date(long millis) {
+		return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(millis).atZone(ZoneOffset.UTC));
+	}
+}
@@ -0,0 +1,94 @@
+package com.axios.core.config.global;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.axios.core.http.HttpRequest;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.Test;
+
+public class HttpGlobalConfigTest {
+
+	/** virtual threads are final from JDK 21 on */
+	private static final boolean VIRTUAL = Runtime.version().feature() >= 21;
+
+	@Test
+	public void virtualThreadExecutorMatchesTheRuntime() throws Exception {
+		assertEquals(VIRTUAL, HttpGlobalConfig.isVirtualThreadSupported());
+		final Executor defaults = HttpGlobalConfig.getExecutor();
+		final Executor virtual = HttpGlobalConfig.getVirtualThreadExecutor();
+		assertEquals(VIRTUAL, defaults != virtual);
+		assertEquals(VIRTUAL, runsOnVirtualThread(virtual));
+		assertFalse(runsOnVirtualThread(defaults));
+	}
+
+	@Test
+	public void globalVirtualThreadsFallBackBelowJdk21() throws Exception {
+		final Executor defaults = HttpGlobalConfig.getExecutor();
+		HttpGlobalConfig.setVirtualThreads(true);
+		try {
+			assertTrue(HttpGlobalConfig.isVirtualThreads());
+			assertSame(HttpGlobalConfig.getVirtualThreadExecutor(), HttpGlobalConfig.getExecutor());
+			if (false == VIRTUAL) {
+				// the default daemon pool takes over, requests still run
+				assertSame(defaults, HttpGlobalConfig.getExecutor());
+			}
+		} finally {
+			HttpGlobalConfig.setVirtualThreads(false);
+		}
+		assertSame(defaults, HttpGlobalConfig.getExecutor());
+	}
+
+	@Test
+	public void requestVirtualThreadsFallBackBelowJdk21() throws Exception {
+		final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/async", exchange -> {
+			final byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+		try {
+			final String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/async";
+			final String[] thread = new String[1];
+			final CompletableFuture<Boolean> virtual = HttpRequest.get(url).setVirtualThreads(true)
+					.executeAsyncFuture().thenApply(response -> {
+						assertEquals("ok", response.body());
+						thread[0] = Thread.currentThread().getName();
+						return isVirtual(Thread.currentThread());
+					});
+			assertEquals(VIRTUAL, virtual.get(10, TimeUnit.SECONDS));
+			if (false == VIRTUAL) {
+				assertTrue(thread[0], thread[0].startsWith("axios-async-"));
+			}
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	private static boolean runsOnVirtualThread(Executor executor) throws InterruptedException, ExecutionException, TimeoutException {
+		return CompletableFuture.supplyAsync(() -> isVirtual(Thread.currentThread()), executor).get(10, TimeUnit.SECONDS);
+	}
+
+	/** Thread.isVirtual only exists from JDK 21 on */
+	private static boolean isVirtual(Thread thread) {
+		try {
+			return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+		} catch (ReflectiveOperationException e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package com.axios.core.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.Test;
+
+public class ReleasePolicyTest {
+
+	@Test
+	public void drainsASmallRemainder() {
+		final ByteArrayInputStream in = new ByteArrayInputStream(new byte[20000]);
+		assertTrue(ReleasePolicy.create(64 * 1024, 1000).drain(in, 20000));
+		assertEquals(0, in.available());
+		assertTrue(ReleasePolicy.DEFAULT.drain(new ByteArrayInputStream(new byte[0]), 0));
+	}
+
+	@Test
+	public void largeOrUnknownRemainderIsNotRead() {
+		final ReleasePolicy policy = ReleasePolicy.create(1024, 1000);
+		final ByteArrayInputStream in = new ByteArrayInputStream(new byte[4096]);
+		assertFalse(policy.drain(in, 4096));
+		assertEquals(4096, in.available());
+		assertFalse(policy.drain(in, -1));
+		assertEquals(4096, in.available());
+		assertFalse(policy.drain(null, 0));
+	}
+
+	@Test
+	public void stopsWhenTheBodyIsLongerThanAnnounced() {
+		final ReleasePolicy policy = ReleasePolicy.create(1024, 1000);
+		final ByteArrayInputStream in = new ByteArrayInputStream(new byte[100_000]);
+		assertFalse(policy.drain(in, 100));
+		// gave up after the limit instead of reading everything
+		assertTrue(in.available() > 90_000);
+	}
+
+	@Test
+	public void stopsAtTheDeadline() {
+		final InputStream slow = new InputStream() {
+
+			private int left = 100;
+
+			@Override
+			public int read() {
+				return -1;
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) {
+				if (0 == this.left--) {
+					return -1;
+				}
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				b[off] = 1;
+				return 1;
+			}
+		};
+		final long start = System.nanoTime();
+		assertFalse(ReleasePolicy.create(1024, 50).drain(slow, 100));
+		assertTrue((System.nanoTime() - start) / 1_000_000 < 500);
+	}
+
+	@Test
+	public void readFailureIsNotReusable() {
+		final InputStream broken = new InputStream() {
+
+			@Override
+			public int read() throws IOException {
+				throw new IOException("reset");
+			}
+		};
+		assertFalse(ReleasePolicy.DEFAULT.drain(broken, 10));
+	}
+
+	@Test
+	public void rejectsNegativeLimits() {
+		try {
+			ReleasePolicy.create(-1, 0);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			ReleasePolicy.create(0, -1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+}
@@ -0,0 +1,236 @@
+package com.axios.core.dns;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class CachingHostResolverTest {
+
+	/** runs background refreshes inline, so the tests see their result at once */
+	private static final Executor DIRECT = Runnable::run;
+
+	@Test
+	public void cachesWithinTtlAndExpires() throws Exception {
+		final FakeResolver fake = new FakeResolver().answer("a.test", "10.0.0.1");
+		final CachingHostResolver resolver = CachingHostResolver.create(fake).setTtl(100).setMaxStale(0).setExecutor(DIRECT);
+		assertArrayEquals(addresses("10.0.0.1"), resolver.resolve("a.test"));
+		assertArrayEquals(addresses("10.0.0.1"), resolver.resolve("A.TEST"));
+		assertEquals(1, fake.lookups.get());
+
+		Thread.sleep(150);
+		fake.answer("a.test", "10.0.0.2");
+		assertArrayEquals(addresses("10.0.0.2"), resolver.resolve("a.test"));
+		assertEquals(2, fake.lookups.get());
+		assertEquals(1, resolver.getStats().getHits());
+		assertEquals(2, resolver.getStats().getMisses());
+	}
+
+	@Test
+	public void cachesFailuresForTheNegativeTtl() throws Exception {
+		final FakeResolver fake = new FakeResolver();
+		final CachingHostResolver resolver = CachingHostResolver.create(fake).setNegativeTtl(150).setExecutor(DIRECT);
+		assertUnknown(resolver, "missing.test");
+		assertUnknown(resolver, "missing.test");
+		assertEquals(1, fake.lookups.get());
+		assertEquals(1, resolver.getStats().getNegativeHits());
+
+		Thread.sleep(200);
+		fake.answer("missing.test", "10.0.0.3");
+		assertArrayEquals(addresses("10.0.0.3"), resolver.resolve("missing.test"));
+		assertEquals(2, fake.lookups.get());
+	}
+
+	@Test
+	public void servesStaleWhileRefreshing() throws Exception {
+		final FakeResolver fake = new FakeResolver().answer("s.test", "10.0.1.1");
+		final CachingHostResolver resolver = CachingHostResolver.create(fake).setTtl(100).setMaxStale(10_000).setExecutor(DIRECT);
+		resolver.resolve("s.test");
+		Thread.sleep(150);
+		fake.answer("s.test", "10.0.1.2");
+		// expired but still usable: the old addresses come back and the refresh stores the new ones
+		assertArrayEquals(addresses("10.0.1.1"), resolver.resolve("s.test"));
+		assertArrayEquals(addresses("10.0.1.2"), resolver.resolve("s.test"));
+		final ResolverStats stats = resolver.getStats();
+		assertEquals(1, stats.getStaleHits());
+		assertEquals(1, stats.getRefreshes());
+		assertEquals(2, fake.lookups.get());
+	}
+
+	@Test
+	public void keepsStaleAddressesWhenRefreshFails() throws Exception {
+		final FakeResolver fake = new FakeResolver().answer("f.test", "10.0.2.1");
+		final CachingHostResolver resolver = CachingHostResolver.create(fake).setTtl(100).setMaxStale(10_000).setExecutor(DIRECT);
+		resolver.resolve("f.test");
+		Thread.sleep(150);
+		fake.remove("f.test");
+		assertArrayEquals(addresses("10.0.2.1"), resolver.resolve("f.test"));
+		assertArrayEquals(addresses("10.0.2.1"), resolver.resolve("f.test"));
+		assertEquals(1, resolver.getStats().getRefreshFailures());
+	}
+
+	@Test
+	public void refreshesAheadOfExpiry() throws Exception {
+		final FakeResolver fake = new FakeResolver().answer("r.test", "10.0.3.1");
+		final CachingHostResolver resolver = CachingHostResolver.create(fake).setTtl(200).setExecutor(DIRECT);
+		resolver.resolve("r.test");
+		// past three quarters of the time to live the entry is still fresh but refreshed in the background
+		Thread.sleep(170);
+		fake.answer("r.test", "10.0.3.2");
+		assertArrayEquals(addresses("10.0.3.1"), resolver.resolve("r.test"));
+		assertArrayEquals(addresses("10.0.3.2"), resolver.resolve("r.test"));
+		assertEquals(0, resolver.getStats().getStaleHits());
+		assertEquals(1, resolver.getStats().getRefreshes());
+	}
+
+	@Test
+	public void overridesTakePrecedence() throws Exception {
+		final FakeResolver fake = new FakeResolver().answer("o.test", "10.0.4.1");
+		final CachingHostResolver resolver = CachingHostResolver.create(fake).setExecutor(DIRECT);
+		resolver.override("O.test", addresses("127.0.0.1"));
+		assertArrayEquals(addresses("127.0.0.1"), resolver.resolve("o.test"));
+		assertEquals(0, fake.lookups.get());
+
+		resolver.removeOverride("o.test");
+		assertArrayEquals(addresses("10.0.4.1"), resolver.resolve("o.test"));
+		assertEquals(1, fake.lookups.get());
+	}
+
+	@Test
+	public void literalsBypassTheCache() throws Exception {
+		final FakeResolver fake = new FakeResolver().answer("127.0.0.1", "127.0.0.1");
+		final CachingHostResolver resolver = CachingHostResolver.create(fake);
+		resolver.resolve("127.0.0.1");
+		resolver.resolve("127.0.0.1");
+		assertEquals(2, fake.lookups.get());
+		assertEquals(0, resolver.getStats().getSize());
+	}
+
+	@Test
+	public void evictsEarliestExpiringBeyondMaxEntries() throws Exception {
+		final FakeResolver fake = new FakeResolver().answer("1.test", "10.0.5.1").answer("2.test", "10.0.5.2").answer("3.test", "10.0.5.3");
+		final CachingHostResolver resolver = CachingHostResolver.create(fake).setMaxEntries(2).setExecutor(DIRECT);
+		resolver.resolve("1.test");
+		Thread.sleep(5);
+		resolver.resolve("2.test");
+		Thread.sleep(5);
+		resolver.resolve("3.test");
+		assertEquals(2, resolver.getStats().getSize());
+		assertEquals(3, fake.lookups.get());
+		// the oldest one was dropped and is looked up again, the others are still cached
+		resolver.resolve("3.test");
+		resolver.resolve("2.test");
+		assertEquals(3, fake.lookups.get());
+		resolver.resolve("1.test");
+		assertEquals(4, fake.lookups.get());
+	}
+
+	@Test
+	public void asyncHitsCompleteAtOnce() throws Exception {
+		final FakeResolver fake = new FakeResolver().answer("h.test", "10.0.6.1");
+		final CachingHostResolver resolver = CachingHostResolver.create(fake).setExecutor(DIRECT);
+		resolver.resolve("h.test");
+		final CompletableFuture<InetAddress[]> future = resolver.resolveAsync("h.test", command -> fail("a hit must not use the executor"));
+		assertTrue(future.isDone());
+		assertArrayEquals(addresses("10.0.6.1"), future.get());
+	}
+
+	@Test
+	public void asyncMissesAreCoalesced() throws Exception {
+		final CountDownLatch release = new CountDownLatch(1);
+		final FakeResolver fake = new FakeResolver().answer("c.test", "10.0.7.1");
+		fake.gate = release;
+		final CachingHostResolver resolver = CachingHostResolver.create(fake);
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final CompletableFuture<InetAddress[]> first = resolver.resolveAsync("c.test", executor);
+			final CompletableFuture<InetAddress[]> second = resolver.resolveAsync("c.test", executor);
+			assertFalse(first.isDone());
+			release.countDown();
+			assertArrayEquals(addresses("10.0.7.1"), first.get(5, TimeUnit.SECONDS));
+			assertArrayEquals(addresses("10.0.7.1"), second.get(5, TimeUnit.SECONDS));
+			assertEquals(1, fake.lookups.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void asyncFailureIsUnknownHost() throws Exception {
+		final CachingHostResolver resolver = CachingHostResolver.create(new FakeResolver());
+		try {
+			resolver.resolveAsync("nowhere.test", DIRECT).get();
+			fail();
+		} catch (ExecutionException e) {
+			assertSame(UnknownHostException.class, e.getCause().getClass());
+		}
+	}
+
+	private static void assertUnknown(HostResolver resolver, String host) {
+		try {
+			resolver.resolve(host);
+			fail(host + " should not resolve");
+		} catch (UnknownHostException e) {
+			// expected
+		}
+	}
+
+	private static InetAddress[] addresses(String... literals) throws UnknownHostException {
+		final InetAddress[] addresses = new InetAddress[literals.length];
+		for (int i = 0; i < literals.length; i++) {
+			addresses[i] = InetAddress.getByName(literals[i]);
+		}
+		return addresses;
+	}
+
+	private static final class FakeResolver implements HostResolver {
+
+		private final Map<String, InetAddress[]> answers = new ConcurrentHashMap<>();
+		private final AtomicInteger lookups = new AtomicInteger();
+		private volatile CountDownLatch gate;
+
+		FakeResolver answer(String host, String... literals) throws UnknownHostException {
+			this.answers.put(host, addresses(literals));
+			return this;
+		}
+
+		void remove(String host) {
+			this.answers.remove(host);
+		}
+
+		@Override
+		public InetAddress[] resolve(String host) throws UnknownHostException {
+			this.lookups.incrementAndGet();
+			final CountDownLatch gate = this.gate;
+			if (null != gate) {
+				try {
+					gate.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			final InetAddress[] addresses = this.answers.get(host);
+			if (null == addresses) {
+				throw new UnknownHostException(host);
+			}
+			return addresses.clone();
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package com.axios.core.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.axios.core.requestMethod.RequestMethod;
+
+import org.junit.Test;
+
+public class RequestTemplateTest {
+
+	@Test
+	public void joinsBaseAndPath() {
+		assertEquals("http://api.test/users/1", RequestTemplate.builder("api.test").path("users/{id}").build().request(1).getUrl());
+		assertEquals("http://api.test/v1/users/1", RequestTemplate.builder("http://api.test/v1/").path("/users/{id}").build().request(1).getUrl());
+		assertEquals("http://api.test/v1/users/1", RequestTemplate.builder("http://api.test/v1").path("users/{id}").build().request(1).getUrl());
+		assertEquals("http://api.test/users/1", RequestTemplate.builder("http://api.test").path("{/segment,id}").build().request("users", 1).getUrl());
+	}
+
+	@Test
+	public void stampsVariablesByPositionAndName() {
+		final RequestTemplate template = RequestTemplate.builder("http://api.test").path("/repos/{owner}/{repo}/issues").build();
+		assertEquals("http://api.test/repos/a%20b/c/issues", template.request("a b", "c").getUrl());
+		final Map<String, Object> values = new HashMap<>();
+		values.put("owner", "x");
+		values.put("repo", "y");
+		assertEquals("http://api.test/repos/x/y/issues", template.request(values).getUrl());
+	}
+
+	@Test
+	public void operatorExpressionsMayBeLeftOut() {
+		final RequestTemplate template = RequestTemplate.builder("http://api.test").path("/search{?q,page}").build();
+		assertEquals("http://api.test/search", template.request(Collections.emptyMap()).getUrl());
+		assertEquals("http://api.test/search?q=axios", template.request(Collections.singletonMap("q", "axios")).getUrl());
+	}
+
+	@Test
+	public void rejectsMissingOrMiscountedVariables() {
+		final RequestTemplate template = RequestTemplate.builder("http://api.test").path("/users/{id}").build();
+		try {
+			template.request(Collections.emptyMap());
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Path variable [id] is missing.", e.getMessage());
+		}
+		try {
+			template.request(1, 2);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void requestsStartFromTheTemplateDefaults() {
+		final RequestTemplate template = RequestTemplate.builder("http://api.test")
+				.path("/items")
+				.method(RequestMethod.POST)
+				.header("X-Token", "secret")
+				.build();
+		final HttpRequest first = template.request();
+		assertEquals(RequestMethod.POST, first.getMethod());
+		assertEquals("secret", first.header("x-token"));
+
+		// changing one request leaves the template alone
+		first.header("X-Token", "other", true).header("X-Extra", "1", true);
+		final HttpRequest second = template.request();
+		assertEquals(Arrays.asList("secret"), second.headerList("X-Token"));
+		assertNull(second.header("X-Extra"));
+	}
+
+	@Test
+	public void rejectsBlankBaseUrl() {
+		try {
+			RequestTemplate.builder(" ");
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+}
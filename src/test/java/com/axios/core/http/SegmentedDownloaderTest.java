@@ -0,0 +1,229 @@
+package com.axios.core.http;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.axios.exception.HttpException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SegmentedDownloaderTest {
+
+	private static final int LENGTH = 64 * 1024;
+
+	/** ranges requested after the probe, as "start-end" or "full" */
+	private final List<String> ranges = new CopyOnWriteArrayList<>();
+	/** If-Range values received */
+	private final List<String> ifRanges = new CopyOnWriteArrayList<>();
+	/** a range starting here is cut off once, -1 for none */
+	private final AtomicLong cutAt = new AtomicLong(-1);
+
+	private volatile byte[] content = content(1);
+	private volatile String etag = "\"v1\"";
+	private volatile boolean rangeSupport = true;
+
+	private HttpServer server;
+	private String url;
+	private File directory;
+	private File target;
+
+	@Before
+	public void start() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		this.server.createContext("/file.bin", this::serve);
+		this.server.start();
+		this.url = "http://127.0.0.1:" + this.server.getAddress().getPort() + "/file.bin";
+		this.directory = Files.createTempDirectory("axios-download").toFile();
+		this.target = new File(this.directory, "file.bin");
+	}
+
+	@After
+	public void stop() {
+		this.server.stop(0);
+		final File[] files = this.directory.listFiles();
+		if (null != files) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+		this.directory.delete();
+	}
+
+	@Test
+	public void downloadsInSegments() {
+		assertEquals(LENGTH, downloader().download(this.target));
+		assertContent(this.content);
+		assertEquals(4, this.ranges.size());
+		assertTrue(this.ranges.contains("16384-32767"));
+		assertLeavesNothingBehind();
+	}
+
+	@Test
+	public void resumesFromTheJournal() throws IOException {
+		this.cutAt.set(32768);
+		try {
+			downloader().download(this.target);
+			fail();
+		} catch (HttpException e) {
+			// expected
+		}
+		final File temp = new File(this.directory, "file.bin.temp");
+		final File journal = new File(this.directory, "file.bin.temp.journal");
+		assertTrue(temp.isFile());
+		assertTrue(journal.isFile());
+		assertTrue(new String(Files.readAllBytes(journal.toPath()), StandardCharsets.ISO_8859_1).contains("v1"));
+
+		this.ranges.clear();
+		this.ifRanges.clear();
+		assertEquals(LENGTH, downloader().download(this.target));
+		assertContent(this.content);
+		// every segment goes on from where it stopped, the cut one from the middle
+		long fetched = 0;
+		boolean cutResumed = false;
+		for (String range : this.ranges) {
+			final String[] bounds = range.split("-");
+			final long start = Long.parseLong(bounds[0]);
+			fetched += Long.parseLong(bounds[1]) - start + 1;
+			cutResumed |= start > 32768 && start < 49152;
+		}
+		assertTrue(this.ranges.toString(), cutResumed);
+		assertTrue(this.ranges.toString(), fetched <= LENGTH - 8192);
+		assertEquals(this.ranges.size(), this.ifRanges.size());
+		for (String ifRange : this.ifRanges) {
+			assertEquals("\"v1\"", ifRange);
+		}
+		assertLeavesNothingBehind();
+	}
+
+	@Test
+	public void changedResourceStartsOver() {
+		this.cutAt.set(0);
+		try {
+			downloader().download(this.target);
+			fail();
+		} catch (HttpException e) {
+			// expected
+		}
+		this.content = content(2);
+		this.etag = "\"v2\"";
+		this.ranges.clear();
+		assertEquals(LENGTH, downloader().download(this.target));
+		assertContent(this.content);
+		assertEquals(4, this.ranges.size());
+		assertLeavesNothingBehind();
+	}
+
+	@Test
+	public void withoutRangesTheBodyIsTakenWhole() {
+		this.rangeSupport = false;
+		assertEquals(LENGTH, downloader().download(this.target));
+		assertContent(this.content);
+		assertLeavesNothingBehind();
+	}
+
+	@Test
+	public void checksumIsVerified() throws Exception {
+		final String sha256 = hex(MessageDigest.getInstance("SHA-256").digest(this.content));
+		assertEquals(LENGTH, downloader().setChecksum("SHA-256", sha256).download(this.target));
+		this.target.delete();
+		try {
+			downloader().setChecksum("SHA-256", sha256.replace(sha256.charAt(0), sha256.charAt(0) == '0' ? '1' : '0')).download(this.target);
+			fail();
+		} catch (HttpException e) {
+			// expected
+		}
+		// a mismatch is not worth resuming
+		assertFalse(this.target.exists());
+		assertLeavesNothingBehind();
+	}
+
+	private SegmentedDownloader downloader() {
+		return SegmentedDownloader.create(this.url).setSegments(4).setMinSegmentSize(1024).setResumable(true).setTimeout(5000);
+	}
+
+	private void serve(HttpExchange exchange) throws IOException {
+		final byte[] body = this.content;
+		final String range = exchange.getRequestHeaders().getFirst("Range");
+		final String ifRange = exchange.getRequestHeaders().getFirst("If-Range");
+		exchange.getResponseHeaders().add("ETag", this.etag);
+		exchange.getResponseHeaders().add("Accept-Ranges", "bytes");
+		final boolean partial = this.rangeSupport && null != range && (null == ifRange || this.etag.equals(ifRange));
+		if (false == partial) {
+			if (false == "bytes=0-0".equals(range)) {
+				this.ranges.add("full");
+			}
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+			return;
+		}
+		final String[] bounds = range.substring("bytes=".length()).split("-");
+		final int start = Integer.parseInt(bounds[0]);
+		final int end = Integer.parseInt(bounds[1]);
+		if (end > 0) {
+			this.ranges.add(start + "-" + end);
+			if (null != ifRange) {
+				this.ifRanges.add(ifRange);
+			}
+		}
+		final int length = end - start + 1;
+		exchange.getResponseHeaders().add("Content-Range", "bytes " + start + '-' + end + '/' + body.length);
+		exchange.sendResponseHeaders(206, length);
+		final OutputStream out = exchange.getResponseBody();
+		if (end > 0 && this.cutAt.compareAndSet(start, -1)) {
+			// half of the range, then the connection drops
+			out.write(body, start, length / 2);
+			out.flush();
+			exchange.close();
+			return;
+		}
+		out.write(body, start, length);
+		exchange.close();
+	}
+
+	private void assertContent(byte[] expected) {
+		try {
+			assertArrayEquals(expected, Files.readAllBytes(this.target.toPath()));
+		} catch (IOException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private void assertLeavesNothingBehind() {
+		assertFalse(new File(this.directory, "file.bin.temp").exists());
+		assertFalse(new File(this.directory, "file.bin.temp.journal").exists());
+	}
+
+	private static byte[] content(long seed) {
+		final byte[] content = new byte[LENGTH];
+		new Random(seed).nextBytes(content);
+		return content;
+	}
+
+	private static String hex(byte[] bytes) {
+		final StringBuilder builder = new StringBuilder();
+		for (byte b : bytes) {
+			builder.append(String.format("%02x", b & 0xff));
+		}
+		return builder.toString();
+	}
+}
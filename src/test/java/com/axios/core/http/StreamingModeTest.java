@@ -0,0 +1,197 @@
+package com.axios.core.http;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.axios.core.body.StreamingMode;
+import com.axios.core.resource.BytesResource;
+import com.axios.core.resource.FileResource;
+import com.axios.core.resource.Resource;
+import com.axios.core.transport.Transport;
+import com.axios.core.transport.nio.NioTransport;
+import com.axios.response.HttpResponse;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class StreamingModeTest {
+
+	private static final byte[] BODY = new byte[512 * 1024];
+
+	private static HttpServer server;
+	private static String base;
+	private static NioTransport nio;
+	/** counted down when the server has the head of the current request */
+	private static volatile CountDownLatch head = new CountDownLatch(1);
+
+	@BeforeClass
+	public static void start() throws IOException {
+		new Random(16).nextBytes(BODY);
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/upload", exchange -> {
+			head.countDown();
+			final String chunked = exchange.getRequestHeaders().getFirst("Transfer-Encoding");
+			final String length = exchange.getRequestHeaders().getFirst("Content-Length");
+			final byte[] body = readAll(exchange.getRequestBody());
+			exchange.getResponseHeaders().add("X-Framing", null != chunked ? chunked : "length=" + length);
+			exchange.sendResponseHeaders(200, 0 == body.length ? -1 : body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+		base = "http://127.0.0.1:" + server.getAddress().getPort() + "/upload";
+		nio = NioTransport.create(1);
+	}
+
+	@AfterClass
+	public static void stop() {
+		nio.close();
+		server.stop(0);
+	}
+
+	@Test
+	public void autoUsesTheLengthWhenItIsKnown() throws IOException {
+		final File file = File.createTempFile("axios-streaming", ".bin");
+		try {
+			Files.write(file.toPath(), BODY);
+			for (Transport transport : transports()) {
+				assertFraming(transport, "length=" + BODY.length, HttpRequest.post(base).body(BODY));
+				assertFraming(transport, "length=" + BODY.length, HttpRequest.put(base).body(new FileResource(file)));
+				assertFraming(transport, "length=" + BODY.length, HttpRequest.put(base).body(new BytesResource(BODY)));
+				// multipart knows its length before writing
+				final HttpResponse multipart = HttpRequest.post(base).form("file", new FileResource(file)).form("name", "value")
+						.setTransport(transport).execute();
+				assertEquals(String.valueOf(transport), "length=" + multipart.bodyBytes().length, multipart.header("X-Framing"));
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void autoChunksAnUnknownLength() {
+		for (Transport transport : transports()) {
+			assertFraming(transport, "chunked", HttpRequest.put(base).body(unsized(BODY)));
+		}
+	}
+
+	@Test
+	public void explicitModesOverrideTheLength() {
+		for (Transport transport : transports()) {
+			assertFraming(transport, "chunked", HttpRequest.post(base).body(BODY).setChunkedStreamingMode(4096));
+			assertFraming(transport, "chunked", HttpRequest.post(base).body(BODY).setStreamingMode(StreamingMode.CHUNKED));
+			assertFraming(transport, "length=" + BODY.length, HttpRequest.put(base).body(unsized(BODY)).setStreamingMode(StreamingMode.BUFFERED));
+		}
+	}
+
+	@Test
+	public void streamedBodiesLeaveBeforeTheyAreWritten() {
+		for (Transport transport : transports()) {
+			// the head goes out first, so the server has it while the body is still being written
+			assertTrue(String.valueOf(transport), sentWhileWriting(transport, StreamingMode.AUTO, 0));
+			assertTrue(String.valueOf(transport), sentWhileWriting(transport, StreamingMode.CHUNKED, 0));
+			assertFalse(String.valueOf(transport), sentWhileWriting(transport, StreamingMode.BUFFERED, 0));
+		}
+	}
+
+	@Test
+	public void autoBuffersWhenRedirectsAreFollowed() {
+		for (Transport transport : transports()) {
+			// a streamed body cannot be replayed on a redirect, so the whole body is written before anything is sent
+			assertFalse(String.valueOf(transport), sentWhileWriting(transport, StreamingMode.AUTO, 2));
+		}
+	}
+
+	private static Transport[] transports() {
+		return new Transport[] { null, nio };
+	}
+
+	private static void assertFraming(Transport transport, String framing, HttpRequest request) {
+		final HttpResponse response = request.setTransport(transport).execute();
+		assertEquals(String.valueOf(transport), framing, response.header("X-Framing"));
+		assertArrayEquals(String.valueOf(transport), BODY, response.bodyBytes());
+	}
+
+	/**
+	 * sends a body that stops halfway until the server has the request head or a short wait runs out,
+	 * and tells whether the head arrived in that time
+	 */
+	private static boolean sentWhileWriting(Transport transport, StreamingMode mode, int redirects) {
+		final CountDownLatch arrived = new CountDownLatch(1);
+		head = arrived;
+		final boolean[] early = new boolean[1];
+		final Resource gated = new BytesResource(BODY) {
+
+			@Override
+			public InputStream getStream() {
+				final InputStream in = super.getStream();
+				return new InputStream() {
+
+					private int read;
+
+					@Override
+					public int read() throws IOException {
+						final byte[] one = new byte[1];
+						return -1 == read(one, 0, 1) ? -1 : one[0] & 0xff;
+					}
+
+					@Override
+					public int read(byte[] b, int off, int len) throws IOException {
+						if (this.read == BODY.length / 2) {
+							try {
+								early[0] = arrived.await(500, TimeUnit.MILLISECONDS);
+							} catch (InterruptedException e) {
+								Thread.currentThread().interrupt();
+							}
+						}
+						// stop at the middle once, so the wait above happens with half of the body written
+						final int n = in.read(b, off, this.read < BODY.length / 2 ? Math.min(len, BODY.length / 2 - this.read) : len);
+						if (n > 0) {
+							this.read += n;
+						}
+						return n;
+					}
+				};
+			}
+		};
+		final HttpResponse response = HttpRequest.put(base).body(gated).setStreamingMode(mode)
+				.setMaxRedirectCount(redirects).setTransport(transport).execute();
+		assertArrayEquals(BODY, response.bodyBytes());
+		return early[0];
+	}
+
+	/** a body whose length is not known before it is written */
+	private static Resource unsized(byte[] data) {
+		return new BytesResource(data) {
+
+			@Override
+			public long size() {
+				return -1;
+			}
+		};
+	}
+
+	private static byte[] readAll(InputStream in) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final byte[] buffer = new byte[8192];
+		int n;
+		while ((n = in.read(buffer)) > 0) {
+			out.write(buffer, 0, n);
+		}
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,242 @@
+package com.axios.core.http.url;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+public class UriTemplateTest {
+
+	/** the variables of RFC 6570 section 3.2 */
+	private static final Map<String, Object> VARIABLES = new HashMap<>();
+
+	static {
+		VARIABLES.put("count", Arrays.asList("one", "two", "three"));
+		VARIABLES.put("dom", Arrays.asList("example", "com"));
+		VARIABLES.put("dub", "me/too");
+		VARIABLES.put("hello", "Hello World!");
+		VARIABLES.put("half", "50%");
+		VARIABLES.put("var", "value");
+		VARIABLES.put("who", "fred");
+		VARIABLES.put("base", "http://example.com/home/");
+		VARIABLES.put("path", "/foo/bar");
+		VARIABLES.put("list", Arrays.asList("red", "green", "blue"));
+		final Map<String, String> keys = new LinkedHashMap<>();
+		keys.put("semi", ";");
+		keys.put("dot", ".");
+		keys.put("comma", ",");
+		VARIABLES.put("keys", keys);
+		VARIABLES.put("v", "6");
+		VARIABLES.put("x", "1024");
+		VARIABLES.put("y", "768");
+		VARIABLES.put("empty", "");
+		VARIABLES.put("empty_keys", Collections.emptyMap());
+		VARIABLES.put("undef", null);
+	}
+
+	@Test
+	public void simpleExpansion() {
+		assertExpands("{var}", "value");
+		assertExpands("{hello}", "Hello%20World%21");
+		assertExpands("{half}", "50%25");
+		assertExpands("O{empty}X", "OX");
+		assertExpands("O{undef}X", "OX");
+		assertExpands("{x,y}", "1024,768");
+		assertExpands("{x,hello,y}", "1024,Hello%20World%21,768");
+		assertExpands("?{x,empty}", "?1024,");
+		assertExpands("?{x,undef}", "?1024");
+		assertExpands("?{undef,y}", "?768");
+		assertExpands("{var:3}", "val");
+		assertExpands("{var:30}", "value");
+		assertExpands("{list}", "red,green,blue");
+		assertExpands("{list*}", "red,green,blue");
+		assertExpands("{keys}", "semi,%3B,dot,.,comma,%2C");
+		assertExpands("{keys*}", "semi=%3B,dot=.,comma=%2C");
+	}
+
+	@Test
+	public void reservedExpansion() {
+		assertExpands("{+var}", "value");
+		assertExpands("{+hello}", "Hello%20World!");
+		assertExpands("{+half}", "50%25");
+		assertExpands("{base}index", "http%3A%2F%2Fexample.com%2Fhome%2Findex");
+		assertExpands("{+base}index", "http://example.com/home/index");
+		assertExpands("O{+empty}X", "OX");
+		assertExpands("{+path}/here", "/foo/bar/here");
+		assertExpands("here?ref={+path}", "here?ref=/foo/bar");
+		assertExpands("up{+path}{var}/here", "up/foo/barvalue/here");
+		assertExpands("{+x,hello,y}", "1024,Hello%20World!,768");
+		assertExpands("{+path,x}/here", "/foo/bar,1024/here");
+		assertExpands("{+path:6}/here", "/foo/b/here");
+		assertExpands("{+list}", "red,green,blue");
+		assertExpands("{+keys*}", "semi=;,dot=.,comma=,");
+	}
+
+	@Test
+	public void fragmentExpansion() {
+		assertExpands("{#var}", "#value");
+		assertExpands("{#hello}", "#Hello%20World!");
+		assertExpands("{#half}", "#50%25");
+		assertExpands("foo{#empty}", "foo#");
+		assertExpands("foo{#undef}", "foo");
+		assertExpands("{#x,hello,y}", "#1024,Hello%20World!,768");
+		assertExpands("{#path,x}/here", "#/foo/bar,1024/here");
+		assertExpands("{#path:6}/here", "#/foo/b/here");
+		assertExpands("{#list*}", "#red,green,blue");
+		assertExpands("{#keys}", "#semi,;,dot,.,comma,,");
+	}
+
+	@Test
+	public void labelExpansion() {
+		assertExpands("{.who}", ".fred");
+		assertExpands("{.who,who}", ".fred.fred");
+		assertExpands("{.half,who}", ".50%25.fred");
+		assertExpands("www{.dom*}", "www.example.com");
+		assertExpands("X{.var}", "X.value");
+		assertExpands("X{.empty}", "X.");
+		assertExpands("X{.undef}", "X");
+		assertExpands("X{.var:3}", "X.val");
+		assertExpands("X{.list}", "X.red,green,blue");
+		assertExpands("X{.list*}", "X.red.green.blue");
+		assertExpands("X{.keys}", "X.semi,%3B,dot,.,comma,%2C");
+		assertExpands("X{.keys*}", "X.semi=%3B.dot=..comma=%2C");
+		assertExpands("X{.empty_keys}", "X");
+	}
+
+	@Test
+	public void pathSegmentExpansion() {
+		assertExpands("{/who}", "/fred");
+		assertExpands("{/who,who}", "/fred/fred");
+		assertExpands("{/half,who}", "/50%25/fred");
+		assertExpands("{/who,dub}", "/fred/me%2Ftoo");
+		assertExpands("{/var}", "/value");
+		assertExpands("{/var,empty}", "/value/");
+		assertExpands("{/var,undef}", "/value");
+		assertExpands("{/var,x}/here", "/value/1024/here");
+		assertExpands("{/var:1,var}", "/v/value");
+		assertExpands("{/list}", "/red,green,blue");
+		assertExpands("{/list*}", "/red/green/blue");
+		assertExpands("{/list*,path:4}", "/red/green/blue/%2Ffoo");
+		assertExpands("{/keys}", "/semi,%3B,dot,.,comma,%2C");
+		assertExpands("{/keys*}", "/semi=%3B/dot=./comma=%2C");
+	}
+
+	@Test
+	public void pathParameterExpansion() {
+		assertExpands("{;who}", ";who=fred");
+		assertExpands("{;half}", ";half=50%25");
+		assertExpands("{;empty}", ";empty");
+		assertExpands("{;v,empty,who}", ";v=6;empty;who=fred");
+		assertExpands("{;v,bar,who}", ";v=6;who=fred");
+		assertExpands("{;x,y}", ";x=1024;y=768");
+		assertExpands("{;x,y,empty}", ";x=1024;y=768;empty");
+		assertExpands("{;x,y,undef}", ";x=1024;y=768");
+		assertExpands("{;hello:5}", ";hello=Hello");
+		assertExpands("{;list}", ";list=red,green,blue");
+		assertExpands("{;list*}", ";list=red;list=green;list=blue");
+		assertExpands("{;keys}", ";keys=semi,%3B,dot,.,comma,%2C");
+		assertExpands("{;keys*}", ";semi=%3B;dot=.;comma=%2C");
+	}
+
+	@Test
+	public void queryExpansion() {
+		assertExpands("{?who}", "?who=fred");
+		assertExpands("{?half}", "?half=50%25");
+		assertExpands("{?x,y}", "?x=1024&y=768");
+		assertExpands("{?x,y,empty}", "?x=1024&y=768&empty=");
+		assertExpands("{?x,y,undef}", "?x=1024&y=768");
+		assertExpands("{?var:3}", "?var=val");
+		assertExpands("{?list}", "?list=red,green,blue");
+		assertExpands("{?list*}", "?list=red&list=green&list=blue");
+		assertExpands("{?keys}", "?keys=semi,%3B,dot,.,comma,%2C");
+		assertExpands("{?keys*}", "?semi=%3B&dot=.&comma=%2C");
+	}
+
+	@Test
+	public void queryContinuation() {
+		assertExpands("{&who}", "&who=fred");
+		assertExpands("{&half}", "&half=50%25");
+		assertExpands("?fixed=yes{&x}", "?fixed=yes&x=1024");
+		assertExpands("{&x,y,empty}", "&x=1024&y=768&empty=");
+		assertExpands("{&var:3}", "&var=val");
+		assertExpands("{&list}", "&list=red,green,blue");
+		assertExpands("{&list*}", "&list=red&list=green&list=blue");
+		assertExpands("{&keys}", "&keys=semi,%3B,dot,.,comma,%2C");
+		assertExpands("{&keys*}", "&semi=%3B&dot=.&comma=%2C");
+	}
+
+	@Test
+	public void variableNamesAndPositions() {
+		final UriTemplate template = UriTemplate.compile("http://example.com/{owner}/{repo}{?owner,page}");
+		assertEquals(Arrays.asList("owner", "repo", "page"), template.getVariableNames());
+		assertEquals("http://example.com/a/b?owner=a&page=2", template.expand("a", "b", 2));
+		assertSame(template, UriTemplate.compile("http://example.com/{owner}/{repo}{?owner,page}"));
+	}
+
+	@Test
+	public void authorityWithUserInfoOrEmptyPort() {
+		final Map<String, Object> id = Collections.singletonMap("id", "7");
+		for (String authority : new String[] { "u:p@h", "h:", "u:p@h:", "{+host}" }) {
+			final String template = "http://" + authority + "/x/{id}";
+			final Map<String, Object> variables = new HashMap<>(id);
+			variables.put("host", "u:p@h:");
+			final UrlBuilder builder = UriTemplate.compile(template).toUrlBuilder(variables);
+			assertEquals(template, "h", builder.getHost());
+			assertEquals(template, "/x/7", builder.getPathStr());
+		}
+		final UrlBuilder withPort = UriTemplate.compile("http://u:p@[::1]:8080/{id}").toUrlBuilder(id);
+		assertEquals("[::1]", withPort.getHost());
+		assertEquals(8080, withPort.getPort());
+		// the literal authority is expanded as written
+		assertEquals("http://u:p@h:/x/7", UriTemplate.compile("http://u:p@h:/x/{id}").expand(id));
+	}
+
+	@Test
+	public void compilesConcurrently() throws InterruptedException {
+		final Thread[] threads = new Thread[8];
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(() -> {
+				try {
+					for (int i = 0; i < 2000; i++) {
+						final String template = "http://example.com/" + (i % 700) + "/{id}";
+						assertEquals("http://example.com/" + (i % 700) + "/1", UriTemplate.compile(template).expand("1"));
+					}
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		if (null != failure.get()) {
+			throw new AssertionError(failure.get());
+		}
+	}
+
+	@Test
+	public void rejectsMalformedTemplates() {
+		for (String template : new String[] { "{var", "{}", "{var:0}", "{var:abc}", " " }) {
+			try {
+				UriTemplate.compile(template);
+				fail(template);
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+	}
+
+	private static void assertExpands(String template, String expected) {
+		assertEquals(template, expected, UriTemplate.compile(template).expand(VARIABLES));
+	}
+}
@@ -0,0 +1,142 @@
+package com.axios.core.limit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.axios.exception.LimitExceededException;
+
+import org.junit.Test;
+
+public class RequestLimiterTest {
+
+	private static final URL ROUTE = url("http://limit.test/a");
+
+	@Test
+	public void rateSpacesRequests() {
+		final RequestLimiter limiter = RequestLimiter.create().setRate(20, 1);
+		final long start = System.nanoTime();
+		for (int i = 0; i < 5; i++) {
+			limiter.acquire(ROUTE).release(false);
+		}
+		// the first is free, the other four wait 50ms each
+		final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		assertTrue("elapsed " + elapsed, elapsed >= 180);
+		assertTrue("elapsed " + elapsed, elapsed < 2000);
+	}
+
+	@Test
+	public void burstIsNotDelayed() {
+		final RequestLimiter limiter = RequestLimiter.create().setRate(1, 5);
+		final long start = System.nanoTime();
+		for (int i = 0; i < 5; i++) {
+			assertEquals(0, limiter.acquire(ROUTE).getWaitMillis());
+		}
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 500);
+	}
+
+	@Test
+	public void rateRejectsBeyondMaxWait() {
+		final RequestLimiter limiter = RequestLimiter.create().setRate(1, 1).setMaxWait(100);
+		limiter.acquire(ROUTE);
+		final long start = System.nanoTime();
+		assertRejected(limiter);
+		// rejected at once instead of after the wait
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 100);
+		assertEquals(1, limiter.getStats(ROUTE).getRejected());
+	}
+
+	@Test
+	public void concurrencyQueuesUntilRelease() throws Exception {
+		final RequestLimiter limiter = RequestLimiter.create().setConcurrency(1).setMaxWait(5000);
+		final Permit first = limiter.acquire(ROUTE);
+		final CompletableFuture<Permit> second = limiter.acquireAsync(ROUTE);
+		// another route is not affected
+		limiter.acquire(url("http://other.test/")).release(false);
+		assertFalse(second.isDone());
+		assertEquals(1, limiter.getStats(ROUTE).getQueued());
+
+		Thread.sleep(50);
+		first.release(false);
+		final Permit permit = second.get(1, TimeUnit.SECONDS);
+		assertTrue(permit.getWaitMillis() >= 40);
+		assertEquals(1, limiter.getStats(ROUTE).getInFlight());
+		permit.release(false);
+		assertEquals(0, limiter.getStats(ROUTE).getInFlight());
+		assertEquals(2, limiter.getStats(ROUTE).getAcquired());
+	}
+
+	@Test
+	public void concurrencyWaitTimesOut() throws Exception {
+		final RequestLimiter limiter = RequestLimiter.create().setConcurrency(1).setMaxWait(100);
+		limiter.acquire(ROUTE);
+		final long start = System.nanoTime();
+		try {
+			limiter.acquireAsync(ROUTE).get(5, TimeUnit.SECONDS);
+			fail();
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof LimitExceededException);
+		}
+		final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		assertTrue("elapsed " + elapsed, elapsed >= 90);
+		assertEquals(0, limiter.getStats(ROUTE).getQueued());
+	}
+
+	@Test
+	public void cancelledWaiterHandsTheSlotOn() throws Exception {
+		final RequestLimiter limiter = RequestLimiter.create().setConcurrency(1).setMaxWait(5000);
+		final Permit first = limiter.acquire(ROUTE);
+		final CompletableFuture<Permit> cancelled = limiter.acquireAsync(ROUTE);
+		final CompletableFuture<Permit> next = limiter.acquireAsync(ROUTE);
+		cancelled.cancel(false);
+		first.release(false);
+		next.get(1, TimeUnit.SECONDS).release(false);
+		assertEquals(0, limiter.getStats(ROUTE).getInFlight());
+	}
+
+	@Test
+	public void tokenIsRefundedWhenConcurrencyRejectsAtOnce() {
+		final RequestLimiter limiter = RequestLimiter.create().setRate(1, 2).setConcurrency(1).setMaxWait(0);
+		final Permit first = limiter.acquire(ROUTE);
+		// takes the second token, then finds no free slot
+		assertRejected(limiter);
+		first.release(false);
+		// the token of the rejected request is still there
+		limiter.acquire(ROUTE).release(false);
+	}
+
+	@Test
+	public void tokenIsRefundedWhenConcurrencyWaitTimesOut() {
+		final RequestLimiter limiter = RequestLimiter.create().setRate(1, 2).setConcurrency(1).setMaxWait(100);
+		final Permit first = limiter.acquire(ROUTE);
+		assertRejected(limiter);
+		first.release(false);
+		final long start = System.nanoTime();
+		limiter.acquire(ROUTE).release(false);
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 100);
+	}
+
+	private static void assertRejected(RequestLimiter limiter) {
+		try {
+			limiter.acquire(ROUTE);
+			fail("the request should have been rejected");
+		} catch (LimitExceededException e) {
+			// expected
+		}
+	}
+
+	private static URL url(String url) {
+		try {
+			return new URL(url);
+		} catch (MalformedURLException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+}
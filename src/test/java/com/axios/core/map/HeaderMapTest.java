@@ -0,0 +1,133 @@
+package com.axios.core.map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.axios.core.http.HttpRequest;
+import com.axios.header.RequestHeader;
+
+import org.junit.Test;
+
+public class HeaderMapTest {
+
+	@Test
+	public void mergesNamesThatDifferOnlyInCase() {
+		final Map<String, List<String>> source = new LinkedHashMap<>();
+		source.put(null, Arrays.asList("HTTP/1.1 200 OK"));
+		source.put("Set-Cookie", Arrays.asList("a=1"));
+		source.put("set-cookie", Arrays.asList("b=2", "c=3"));
+		source.put("Content-Type", Arrays.asList("text/plain"));
+		final HeaderMap headers = new HeaderMap(source);
+		assertEquals(3, headers.size());
+		assertEquals(Arrays.asList("a=1", "b=2", "c=3"), headers.get("SET-COOKIE"));
+		assertEquals("HTTP/1.1 200 OK", headers.getFirst((String) null));
+		// the first spelling is kept
+		assertEquals(Arrays.asList(null, "Set-Cookie", "Content-Type"), Arrays.asList(headers.keySet().toArray()));
+	}
+
+	@Test
+	public void headerListIsAModifiableCopy() {
+		final HttpRequest request = HttpRequest.get("http://example.test/")
+				.header("Accept", "text/plain", true)
+				.header("Accept", "text/html", false);
+		final List<String> values = request.headerList("accept");
+		values.add("application/json");
+		assertEquals(Arrays.asList("text/plain", "text/html", "application/json"), values);
+		assertEquals(Arrays.asList("text/plain", "text/html"), request.headerList("Accept"));
+		assertNull(request.headerList("Missing"));
+	}
+
+	@Test
+	public void onlyAppendedValuesAreTrimmed() {
+		final HttpRequest request = HttpRequest.get("http://example.test/")
+				.header(" X-First ", " a ", false)
+				.header("X-First", " b ", false)
+				.header("X-Override", " c ", true);
+		assertEquals(Arrays.asList(" a ", "b"), request.headerList("X-First"));
+		assertEquals(Arrays.asList(" c "), request.headerList("X-Override"));
+	}
+
+	@Test
+	public void lookupIgnoresCaseAndKeepsTheFirstSpelling() {
+		final HeaderMap headers = new HeaderMap();
+		headers.put("Content-Type", Arrays.asList("text/plain"));
+		assertEquals(Arrays.asList("text/plain"), headers.get("content-type"));
+		assertEquals("text/plain", headers.getFirst("CONTENT-TYPE"));
+		assertEquals("text/plain", headers.getFirst(RequestHeader.CONTENT_TYPE));
+		assertTrue(headers.containsKey("content-TYPE"));
+		assertFalse(headers.containsKey(1));
+		assertNull(headers.get(1));
+
+		assertEquals(Arrays.asList("text/plain"), headers.put("CONTENT-TYPE", Arrays.asList("text/html")));
+		assertEquals(1, headers.size());
+		assertEquals("Content-Type", headers.keySet().iterator().next());
+		assertEquals("text/html", headers.getFirst("content-type"));
+	}
+
+	@Test
+	public void addAppendsOrOverrides() {
+		final HeaderMap headers = new HeaderMap();
+		headers.add("Accept", "text/plain", false).add("accept", "text/html", false);
+		assertEquals(Arrays.asList("text/plain", "text/html"), headers.get(RequestHeader.ACCEPT));
+		headers.add("ACCEPT", "*/*", true);
+		assertEquals(Arrays.asList("*/*"), headers.get("Accept"));
+	}
+
+	@Test
+	public void keepsInsertionOrderThroughGrowthAndRemoval() {
+		final HeaderMap headers = new HeaderMap(0);
+		final Map<String, List<String>> expected = new LinkedHashMap<>();
+		for (int i = 0; i < 100; i++) {
+			headers.put("X-Header-" + i, Arrays.asList(String.valueOf(i)));
+			expected.put("X-Header-" + i, Arrays.asList(String.valueOf(i)));
+		}
+		assertEquals(expected, headers);
+		assertEquals(Arrays.asList("7"), headers.remove("x-header-7"));
+		assertNull(headers.remove("x-header-7"));
+		expected.remove("X-Header-7");
+		final Iterator<Map.Entry<String, List<String>>> iterator = headers.entrySet().iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().getKey().endsWith("0")) {
+				iterator.remove();
+			}
+		}
+		expected.keySet().removeIf(name -> name.endsWith("0"));
+		assertEquals(expected, headers);
+		assertEquals(Arrays.asList(expected.keySet().toArray()), Arrays.asList(headers.keySet().toArray()));
+		// every remaining name is still found after the index was rebuilt
+		for (String name : expected.keySet()) {
+			assertEquals(expected.get(name), headers.get(name.toUpperCase()));
+		}
+		headers.clear();
+		assertTrue(headers.isEmpty());
+		assertNull(headers.get("X-Header-1"));
+	}
+
+	@Test
+	public void copyIsIndependent() {
+		final HeaderMap headers = new HeaderMap();
+		headers.put("Host", Arrays.asList("example.test"));
+		final HeaderMap copy = HeaderMap.copyOf(headers);
+		copy.put("Accept", Arrays.asList("*/*"));
+		copy.remove("host");
+		assertEquals(Collections.singletonMap("Host", Arrays.asList("example.test")), headers);
+		assertEquals(Collections.singletonMap("Accept", Arrays.asList("*/*")), copy);
+	}
+
+	@Test
+	public void entrySetValueWritesThrough() {
+		final HeaderMap headers = new HeaderMap();
+		headers.put("Accept", Arrays.asList("*/*"));
+		headers.entrySet().iterator().next().setValue(Arrays.asList("text/plain"));
+		assertEquals(Arrays.asList("text/plain"), headers.get("accept"));
+	}
+}
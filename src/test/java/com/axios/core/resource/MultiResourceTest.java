@@ -0,0 +1,86 @@
+package com.axios.core.resource;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+public class MultiResourceTest {
+
+	@Test
+	public void nextAdvancesThroughEveryResource() {
+		final MultiResource resources = new MultiResource(bytes("a"), bytes("bc"));
+		assertTrue(resources.hasNext());
+		assertEquals("a", resources.readUtf8Str());
+		assertEquals(1, resources.size());
+		resources.next();
+		assertEquals("bc", resources.readUtf8Str());
+		resources.next();
+		assertFalse(resources.hasNext());
+		try {
+			resources.next();
+			fail();
+		} catch (ConcurrentModificationException e) {
+			// expected
+		}
+		resources.reset();
+		assertEquals("a", resources.readUtf8Str());
+	}
+
+	@Test
+	public void concurrentNextClaimsEachPositionOnce() throws InterruptedException {
+		final int size = 10_000;
+		final List<Resource> list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			list.add(bytes(String.valueOf(i)));
+		}
+		final MultiResource resources = new MultiResource(list);
+		for (int round = 0; round < 20; round++) {
+			resources.reset();
+			final CountDownLatch start = new CountDownLatch(1);
+			final Thread[] threads = new Thread[8];
+			final int[] counts = new int[threads.length];
+			for (int t = 0; t < threads.length; t++) {
+				final int index = t;
+				threads[t] = new Thread(() -> {
+					try {
+						start.await();
+					} catch (InterruptedException e) {
+						return;
+					}
+					while (true) {
+						try {
+							resources.next();
+						} catch (ConcurrentModificationException e) {
+							// the cursor has passed the last resource
+							return;
+						}
+						counts[index]++;
+					}
+				});
+				threads[t].start();
+			}
+			start.countDown();
+			int total = 0;
+			for (int t = 0; t < threads.length; t++) {
+				threads[t].join();
+				total += counts[t];
+			}
+			// no step is lost or taken twice, and the cursor never runs past the end
+			assertEquals("round " + round, size, total);
+			assertFalse(resources.hasNext());
+		}
+	}
+
+	private static Resource bytes(String value) {
+		return new BytesResource(value.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,108 @@
+package com.axios.core.rfc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class PercentCodecTest {
+
+	/** the characters URLEncoder leaves alone */
+	private static final PercentCodec FORM = PercentCodec.of(RFC3986.UNRESERVED).removeSafe('~').addSafe('*').setEncodeSpaceAsPlus(true);
+
+	@Test
+	public void safeInputIsReturnedAsIs() {
+		final String path = "a-b_c.d~e";
+		assertSame(path, RFC3986.UNRESERVED.encode(path, StandardCharsets.UTF_8));
+		assertEquals("", RFC3986.UNRESERVED.encode("", StandardCharsets.UTF_8));
+		assertNull(RFC3986.UNRESERVED.encode(null, StandardCharsets.UTF_8));
+		// no charset means no encoding
+		assertEquals("a b", RFC3986.UNRESERVED.encode("a b", null));
+	}
+
+	@Test
+	public void encodesUtf8() {
+		assertEquals("a%20b%2Fc", RFC3986.UNRESERVED.encode("a b/c", StandardCharsets.UTF_8));
+		assertEquals("%C3%A9", RFC3986.UNRESERVED.encode("é", StandardCharsets.UTF_8));
+		assertEquals("%E4%B8%AD%E6%96%87", RFC3986.UNRESERVED.encode("中文", StandardCharsets.UTF_8));
+		assertEquals("%F0%9F%98%80", RFC3986.UNRESERVED.encode("😀", StandardCharsets.UTF_8));
+		// a lone surrogate is replaced
+		assertEquals("x%3Fy", RFC3986.UNRESERVED.encode("x\ud83dy", StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void safeSetsFollowRfc3986() {
+		assertEquals("/a/b:c@d", RFC3986.PATH.encode("/a/b:c@d", StandardCharsets.UTF_8));
+		assertEquals("a%3Fb", RFC3986.PATH.encode("a?b", StandardCharsets.UTF_8));
+		assertEquals("a=b%26c", RFC3986.QUERY_PARAM_VALUE.encode("a=b&c", StandardCharsets.UTF_8));
+		assertEquals("a%3Db%26c", RFC3986.QUERY_PARAM_NAME.encode("a=b&c", StandardCharsets.UTF_8));
+		assertEquals("x%3Ay", RFC3986.SEGMENT_NZ_NC.encode("x:y", StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void spaceAsPlus() {
+		assertEquals("a+b%2Bc", FORM.encode("a b+c", StandardCharsets.UTF_8));
+		assertEquals("++", FORM.encode("  ", StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void codecsAreCopiedNotShared() {
+		final PercentCodec codec = PercentCodec.of("ab");
+		final PercentCodec copy = PercentCodec.of(codec).addSafe('c');
+		assertEquals("ab%63", codec.encode("abc", StandardCharsets.UTF_8));
+		assertEquals("abc", copy.encode("abc", StandardCharsets.UTF_8));
+		// the cached table is rebuilt after a change
+		codec.removeSafe('b');
+		assertEquals("a%62", codec.encode("ab", StandardCharsets.UTF_8));
+		assertEquals("abc", codec.orNew(copy).encode("abc", StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void encodesToAppendableAndByteBuffer() {
+		assertEquals("x=a%20b", RFC3986.UNRESERVED.encodeTo("a b", StandardCharsets.UTF_8, new StringBuilder("x=")).toString());
+		final ByteBuffer buffer = RFC3986.UNRESERVED.encodeTo("é ", StandardCharsets.UTF_8, ByteBuffer.allocate(16));
+		buffer.flip();
+		assertEquals("%C3%A9%20", StandardCharsets.US_ASCII.decode(buffer).toString());
+	}
+
+	@Test
+	public void matchesUrlEncoder() throws Exception {
+		final Random random = new Random(42);
+		final Charset[] charsets = { StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1, Charset.forName("GBK") };
+		for (int n = 0; n < 2000; n++) {
+			final String text = randomText(random);
+			for (Charset charset : charsets) {
+				assertEquals(text, URLEncoder.encode(text, charset.name()), FORM.encode(text, charset));
+			}
+		}
+	}
+
+	private static String randomText(Random random) {
+		final StringBuilder builder = new StringBuilder();
+		final int length = random.nextInt(24);
+		for (int i = 0; i < length; i++) {
+			switch (random.nextInt(4)) {
+				case 0:
+					builder.append((char) (0x20 + random.nextInt(0x5f)));
+					break;
+				case 1:
+					builder.append((char) (0xa0 + random.nextInt(0x60)));
+					break;
+				case 2:
+					builder.append((char) (0x4e00 + random.nextInt(0x5000)));
+					break;
+				default:
+					builder.appendCodePoint(0x1f600 + random.nextInt(0x40));
+					break;
+			}
+		}
+		return builder.toString();
+	}
+}
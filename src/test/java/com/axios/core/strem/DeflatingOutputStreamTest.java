@@ -0,0 +1,160 @@
+package com.axios.core.strem;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.axios.core.body.RequestCompression;
+import com.axios.core.tool.io.DeflaterPool;
+import com.axios.core.tool.io.InflaterPool;
+
+import org.junit.Test;
+
+public class DeflatingOutputStreamTest {
+
+	private final DeflaterPool pool = DeflaterPool.create(4);
+
+	@Test
+	public void gzipRoundTripsAtEveryLevel() throws IOException {
+		final byte[] data = data(100_000);
+		for (int level = -1; level <= 9; level++) {
+			final byte[] gzip = deflate(data, true, level);
+			assertArrayEquals("level " + level, data, readAll(new GZIPInputStream(new ByteArrayInputStream(gzip))));
+		}
+	}
+
+	@Test
+	public void zlibRoundTripsAtEveryLevel() throws IOException {
+		final byte[] data = data(100_000);
+		for (int level = -1; level <= 9; level++) {
+			final byte[] zlib = deflate(data, false, level);
+			// a valid RFC 1950 header
+			assertEquals(0x78, zlib[0] & 0xFF);
+			assertEquals(0, ((zlib[0] & 0xFF) << 8 | (zlib[1] & 0xFF)) % 31);
+			assertArrayEquals("level " + level, data, readAll(new InflaterInputStream(new ByteArrayInputStream(zlib))));
+		}
+	}
+
+	@Test
+	public void roundTripsThroughTheInflatingStream() throws IOException {
+		final InflaterPool inflaters = InflaterPool.create(2);
+		for (int size : new int[] { 0, 1, 8192, 300_000 }) {
+			final byte[] data = data(size);
+			for (boolean gzip : new boolean[] { true, false }) {
+				final byte[] body = deflate(data, gzip, Deflater.DEFAULT_COMPRESSION);
+				assertArrayEquals(data, readAll(new InflatingInputStream(new ByteArrayInputStream(body), gzip, inflaters)));
+			}
+		}
+	}
+
+	@Test
+	public void singleByteWritesAndEmptyBodies() throws IOException {
+		final byte[] data = data(5000);
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (DeflatingOutputStream deflating = new DeflatingOutputStream(out, true, 6, this.pool)) {
+			for (byte b : data) {
+				deflating.write(b);
+			}
+			deflating.write(data, 0, 0);
+			assertEquals(data.length, deflating.getSize());
+		}
+		assertArrayEquals(data, readAll(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))));
+
+		// nothing written still makes a complete stream
+		assertArrayEquals(new byte[0], readAll(new GZIPInputStream(new ByteArrayInputStream(deflate(new byte[0], true, 6)))));
+		assertArrayEquals(new byte[0], readAll(new InflaterInputStream(new ByteArrayInputStream(deflate(new byte[0], false, 6)))));
+	}
+
+	@Test
+	public void finishReturnsTheDeflaterAndEndsTheStream() throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final DeflatingOutputStream deflating = new DeflatingOutputStream(out, true, 6, this.pool);
+		deflating.write(data(100));
+		assertEquals(0, this.pool.getIdleCount());
+		deflating.finish();
+		assertEquals(1, this.pool.getIdleCount());
+		final int length = out.size();
+		deflating.finish();
+		deflating.close();
+		assertEquals(length, out.size());
+		try {
+			deflating.write(1);
+			fail();
+		} catch (IOException e) {
+			// expected
+		}
+		// the next stream takes the pooled deflater, reset to its own level
+		deflate(data(100), false, 1);
+		assertEquals(1, this.pool.getHitCount());
+	}
+
+	@Test
+	public void rejectsInvalidLevels() {
+		for (int level : new int[] { -2, 10 }) {
+			try {
+				new DeflatingOutputStream(new ByteArrayOutputStream(), true, level, this.pool);
+				fail();
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void compressionThreshold() {
+		final RequestCompression gzip = RequestCompression.create("GZIP", 1024, 6);
+		assertEquals("gzip", gzip.getEncoding());
+		assertFalse(gzip.accepts(1023));
+		assertTrue(gzip.accepts(1024));
+		// an unknown length is only compressed without a threshold
+		assertFalse(gzip.accepts(-1));
+		assertTrue(RequestCompression.create("deflate", 0, 6).accepts(-1));
+		try {
+			RequestCompression.create("br", 0, 6);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	private byte[] deflate(byte[] data, boolean gzip, int level) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (DeflatingOutputStream deflating = new DeflatingOutputStream(out, gzip, level, this.pool)) {
+			// uneven writes
+			int off = 0;
+			for (int n = 1; off < data.length; n = n * 3 + 1) {
+				final int len = Math.min(n, data.length - off);
+				deflating.write(data, off, len);
+				off += len;
+			}
+		}
+		return out.toByteArray();
+	}
+
+	private static byte[] readAll(InputStream in) throws IOException {
+		try (InputStream input = in) {
+			return input.readAllBytes();
+		}
+	}
+
+	/** half random, half repetitive, so it both compresses and exercises the window */
+	private static byte[] data(int size) {
+		final byte[] data = new byte[size];
+		final Random random = new Random(size);
+		for (int i = 0; i < size; i++) {
+			data[i] = (byte) (i % 2 == 0 ? random.nextInt(256) : i % 64);
+		}
+		return data;
+	}
+}
@@ -0,0 +1,212 @@
+package com.axios.core.strem;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import com.axios.core.tool.io.InflaterPool;
+
+import org.junit.Test;
+
+public class InflatingInputStreamTest {
+
+	private final InflaterPool pool = InflaterPool.create(4);
+
+	@Test
+	public void gzipRoundTrips() throws IOException {
+		for (int size : new int[] { 0, 1, 100, 8191, 8192, 8193, 300_000 }) {
+			final byte[] data = data(size);
+			assertArrayEquals("size " + size, data, readAll(inflating(gzip(data), true), 4096));
+			// one byte at a time from the wire
+			assertArrayEquals("size " + size, data, readAll(new InflatingInputStream(trickle(gzip(data)), true, this.pool), 7));
+		}
+	}
+
+	@Test
+	public void zlibAndRawDeflateRoundTrip() throws IOException {
+		final byte[] data = data(50_000);
+		assertArrayEquals(data, readAll(inflating(zlib(data), false), 1024));
+		assertArrayEquals(data, readAll(inflating(rawDeflate(data), false), 1024));
+		assertArrayEquals(data, readAll(new InflatingInputStream(trickle(zlib(data)), false, this.pool), 1));
+	}
+
+	@Test
+	public void concatenatedGzipMembers() throws IOException {
+		final byte[] first = "first member ".getBytes(StandardCharsets.UTF_8);
+		final byte[] second = data(20_000);
+		final byte[] both = concat(first, second);
+		assertArrayEquals(both, readAll(inflating(concat(gzip(first), gzip(second)), true), 512));
+		// trailing garbage after the last member is ignored
+		assertArrayEquals(first, readAll(inflating(concat(gzip(first), new byte[] { 0, 0, 0 }), true), 512));
+	}
+
+	@Test
+	public void optionalGzipHeaderFieldsAreSkipped() throws IOException {
+		final byte[] data = data(1000);
+		final byte[] plain = gzip(data);
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		// FHCRC | FEXTRA | FNAME | FCOMMENT
+		out.write(new byte[] { 0x1f, (byte) 0x8b, 8, 2 | 4 | 8 | 16, 0, 0, 0, 0, 0, (byte) 0xff });
+		out.write(new byte[] { 3, 0, 'a', 'b', 'c' });
+		out.write("name.txt\0".getBytes(StandardCharsets.ISO_8859_1));
+		out.write("a comment\0".getBytes(StandardCharsets.ISO_8859_1));
+		out.write(new byte[] { 0, 0 });
+		out.write(plain, 10, plain.length - 10);
+		assertArrayEquals(data, readAll(inflating(out.toByteArray(), true), 256));
+	}
+
+	@Test
+	public void uncompressedOrEmptyBodies() throws IOException {
+		final byte[] text = "not compressed at all".getBytes(StandardCharsets.UTF_8);
+		assertArrayEquals(text, readAll(inflating(text, true), 4));
+		assertArrayEquals(new byte[0], readAll(inflating(new byte[0], true), 4));
+		assertArrayEquals(new byte[0], readAll(inflating(new byte[0], false), 4));
+	}
+
+	@Test
+	public void corruptTrailersAreRejected() throws IOException {
+		final byte[] gzip = gzip(data(1000));
+		gzip[gzip.length - 8] ^= 1;
+		assertFails(inflating(gzip, true), ZipException.class);
+
+		final byte[] zlib = zlib(data(1000));
+		zlib[zlib.length - 1] ^= 1;
+		assertFails(inflating(zlib, false), ZipException.class);
+
+		final byte[] truncated = gzip(data(1000));
+		assertFails(inflating(Arrays.copyOf(truncated, truncated.length / 2), true), EOFException.class);
+		assertFails(inflating(Arrays.copyOf(truncated, truncated.length - 3), true), EOFException.class);
+	}
+
+	@Test
+	public void countsWireAndDecodedBytes() throws IOException {
+		final byte[] data = data(100_000);
+		final byte[] gzip = gzip(data);
+		final InflatingInputStream in = inflating(gzip, true);
+		readAll(in, 1000);
+		assertEquals(gzip.length, in.getWireBytes());
+		assertEquals(data.length, in.getDecodedBytes());
+	}
+
+	@Test
+	public void inflaterGoesBackToThePool() throws IOException {
+		final InflaterPool pool = InflaterPool.create(4);
+		readAll(new InflatingInputStream(new ByteArrayInputStream(gzip(data(100))), true, pool), 64);
+		assertEquals(1, pool.getIdleCount());
+
+		// closed before the end
+		final InflatingInputStream partial = new InflatingInputStream(new ByteArrayInputStream(gzip(data(100_000))), true, pool);
+		assertEquals(10, partial.read(new byte[10]));
+		assertEquals(0, pool.getIdleCount());
+		partial.close();
+		assertEquals(1, pool.getIdleCount());
+		partial.close();
+		assertEquals(1, pool.getIdleCount());
+		assertFails(partial, IOException.class);
+	}
+
+	private InflatingInputStream inflating(byte[] body, boolean gzip) {
+		return new InflatingInputStream(new ByteArrayInputStream(body), gzip, this.pool);
+	}
+
+	private static void assertFails(InputStream in, Class<? extends IOException> type) {
+		try {
+			readAll(in, 512);
+			fail("expected " + type.getSimpleName());
+		} catch (IOException e) {
+			if (false == type.isInstance(e)) {
+				throw new AssertionError("expected " + type.getSimpleName() + " but was " + e, e);
+			}
+		}
+	}
+
+	private static byte[] readAll(InputStream in, int chunk) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final byte[] buffer = new byte[chunk];
+		try {
+			int n;
+			while ((n = 1 == chunk ? single(in, buffer) : in.read(buffer)) > -1) {
+				out.write(buffer, 0, n);
+			}
+		} finally {
+			in.close();
+		}
+		return out.toByteArray();
+	}
+
+	private static int single(InputStream in, byte[] buffer) throws IOException {
+		final int b = in.read();
+		if (b < 0) {
+			return -1;
+		}
+		buffer[0] = (byte) b;
+		return 1;
+	}
+
+	private static InputStream trickle(byte[] body) {
+		return new FilterInputStream(new ByteArrayInputStream(body)) {
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				return super.read(b, off, Math.min(1, len));
+			}
+		};
+	}
+
+	/** half random, half repetitive, so it both compresses and exercises the window */
+	private static byte[] data(int size) {
+		final byte[] data = new byte[size];
+		final Random random = new Random(size);
+		for (int i = 0; i < size; i++) {
+			data[i] = (byte) (i % 2 == 0 ? random.nextInt(256) : i % 64);
+		}
+		return data;
+	}
+
+	private static byte[] gzip(byte[] data) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(data);
+		}
+		return out.toByteArray();
+	}
+
+	private static byte[] zlib(byte[] data) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (DeflaterOutputStream deflate = new DeflaterOutputStream(out)) {
+			deflate.write(data);
+		}
+		return out.toByteArray();
+	}
+
+	private static byte[] rawDeflate(byte[] data) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		try (DeflaterOutputStream deflate = new DeflaterOutputStream(out, deflater)) {
+			deflate.write(data);
+		} finally {
+			deflater.end();
+		}
+		return out.toByteArray();
+	}
+
+	private static byte[] concat(byte[] a, byte[] b) {
+		final byte[] both = Arrays.copyOf(a, a.length + b.length);
+		System.arraycopy(b, 0, both, a.length, b.length);
+		return both;
+	}
+}
@@ -0,0 +1,187 @@
+package com.axios.core.strem;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import com.axios.core.body.RequestCompression;
+import com.axios.core.resource.GzipResource;
+import com.axios.core.resource.Resource;
+import com.axios.core.tool.io.DeflaterPool;
+import com.axios.exception.IORuntimeException;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ParallelGzipOutputStreamTest {
+
+	private static final int BLOCK = 32 * 1024;
+
+	private static ForkJoinPool pool;
+
+	@BeforeClass
+	public static void start() {
+		pool = new ForkJoinPool(4);
+	}
+
+	@AfterClass
+	public static void stop() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void roundTripAroundBlockBoundaries() throws IOException {
+		final DeflaterPool deflaters = DeflaterPool.create(8);
+		final int[] sizes = {0, 1, BLOCK - 1, BLOCK, BLOCK + 1, 2 * BLOCK - 1, 2 * BLOCK, 2 * BLOCK + 1, 10 * BLOCK + 1};
+		for (int size : sizes) {
+			final byte[] data = data(size, size);
+			assertArrayEquals("size " + size, data, gunzip(gzip(data, Deflater.DEFAULT_COMPRESSION, deflaters, 1)));
+			assertArrayEquals("size " + size + " in odd writes", data, gunzip(gzip(data, Deflater.DEFAULT_COMPRESSION, deflaters, 7919)));
+		}
+	}
+
+	@Test
+	public void mixedLevelsOnSharedPool() throws IOException {
+		// one idle deflater, so every block reuses one that was last set to another level
+		final DeflaterPool deflaters = DeflaterPool.create(1);
+		final int[] levels = {1, 9, Deflater.NO_COMPRESSION, Deflater.DEFAULT_COMPRESSION, 9, 1, 6};
+		for (int i = 0; i < levels.length; i++) {
+			final byte[] data = data(i, 6 * BLOCK + i);
+			assertArrayEquals("level " + levels[i], data, gunzip(gzip(data, levels[i], deflaters, BLOCK)));
+		}
+		assertTrue(deflaters.getHitCount() > 0);
+	}
+
+	@Test
+	public void mixedLevelsConcurrently() throws Exception {
+		final DeflaterPool deflaters = DeflaterPool.create(2);
+		final Thread[] threads = new Thread[4];
+		final Throwable[] failure = new Throwable[1];
+		for (int t = 0; t < threads.length; t++) {
+			final int level = 0 == t % 2 ? 1 : 9;
+			final int seed = t;
+			threads[t] = new Thread(() -> {
+				try {
+					for (int i = 0; i < 5; i++) {
+						final byte[] data = data(seed * 10 + i, 4 * BLOCK + i);
+						assertArrayEquals(data, gunzip(gzip(data, level, deflaters, 4096)));
+					}
+				} catch (Throwable e) {
+					failure[0] = e;
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		if (null != failure[0]) {
+			throw new AssertionError(failure[0]);
+		}
+	}
+
+	@Test
+	public void crc32Combine() {
+		final byte[] data = data(3, 100_000);
+		final CRC32 first = new CRC32();
+		first.update(data, 0, 40_000);
+		final CRC32 second = new CRC32();
+		second.update(data, 40_000, 60_000);
+		final CRC32 whole = new CRC32();
+		whole.update(data);
+		assertEquals(whole.getValue(), ParallelGzipOutputStream.crc32Combine(first.getValue(), second.getValue(), 60_000));
+	}
+
+	@Test
+	public void gzipResourceFinishesOnFailure() {
+		final DeflaterPool deflaters = DeflaterPool.getDefault();
+		final long missesBefore = deflaters.getMissCount();
+		final int idleBefore = deflaters.getIdleCount();
+		final Resource failing = new Resource() {
+			@Override
+			public String getName() {
+				return "failing";
+			}
+
+			@Override
+			public URL getUrl() {
+				return null;
+			}
+
+			@Override
+			public InputStream getStream() {
+				return null;
+			}
+
+			@Override
+			public long size() {
+				return 2 * RequestCompression.DEFAULT_THRESHOLD;
+			}
+
+			@Override
+			public void writeTo(OutputStream out) {
+				try {
+					out.write(new byte[100]);
+				} catch (IOException e) {
+					throw new IORuntimeException(e);
+				}
+				throw new IORuntimeException("source failed");
+			}
+		};
+		try {
+			new GzipResource(failing, RequestCompression.gzip()).writeTo(new ByteArrayOutputStream());
+			fail();
+		} catch (IORuntimeException e) {
+			assertEquals("source failed", e.getMessage());
+		}
+		// the deflater borrowed for the resource went back to the pool
+		assertEquals(idleBefore + (deflaters.getMissCount() - missesBefore), deflaters.getIdleCount());
+	}
+
+	private static byte[] gzip(byte[] data, int level, DeflaterPool deflaters, int chunk) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ParallelGzipOutputStream gzip = new ParallelGzipOutputStream(out, level, BLOCK, pool, deflaters)) {
+			for (int off = 0; off < data.length; off += chunk) {
+				gzip.write(data, off, Math.min(chunk, data.length - off));
+			}
+			gzip.finish();
+			assertEquals(data.length, gzip.getSize());
+		}
+		return out.toByteArray();
+	}
+
+	private static byte[] gunzip(byte[] gzip) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+			in.transferTo(out);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * half random bytes and half repeated words, so blocks both compress and reference their dictionary
+	 */
+	private static byte[] data(long seed, int size) {
+		final Random random = new Random(seed);
+		final byte[] data = new byte[size];
+		final byte[] word = "the quick brown fox ".getBytes();
+		for (int i = 0; i < size; i++) {
+			data[i] = 0 == (i / 512) % 2 ? (byte) random.nextInt() : word[i % word.length];
+		}
+		return data;
+	}
+}
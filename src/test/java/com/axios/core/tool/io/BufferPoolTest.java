@@ -0,0 +1,93 @@
+package com.axios.core.tool.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+public class BufferPoolTest {
+
+	@Test
+	public void releasedBufferIsReusedOnTheSameThread() {
+		final BufferPool pool = BufferPool.create(16, 4);
+		final byte[] buffer = pool.acquire();
+		assertEquals(16, buffer.length);
+		assertEquals(1, pool.getMissCount());
+		pool.release(buffer);
+		// kept thread locally, not in the shared slab
+		assertEquals(0, pool.getIdleCount());
+		assertSame(buffer, pool.acquire());
+		assertEquals(1, pool.getHitCount());
+	}
+
+	@Test
+	public void secondBufferGoesToTheSlab() throws Exception {
+		final BufferPool pool = BufferPool.create(16, 4);
+		final byte[] first = pool.acquire();
+		final byte[] second = pool.acquire();
+		assertNotSame(first, second);
+		pool.release(first);
+		pool.release(second);
+		assertEquals(1, pool.getIdleCount());
+
+		// another thread has no local buffer and takes it from the slab
+		final AtomicReference<byte[]> taken = new AtomicReference<>();
+		final Thread thread = new Thread(() -> taken.set(pool.acquire()));
+		thread.start();
+		thread.join();
+		assertSame(second, taken.get());
+		assertEquals(0, pool.getIdleCount());
+	}
+
+	@Test
+	public void slabIsBounded() {
+		final BufferPool pool = BufferPool.create(8, 2);
+		final byte[][] buffers = new byte[5][];
+		for (int i = 0; i < buffers.length; i++) {
+			buffers[i] = pool.acquire();
+		}
+		for (byte[] buffer : buffers) {
+			pool.release(buffer);
+		}
+		// one local and two in the slab, the rest is dropped
+		assertEquals(2, pool.getIdleCount());
+		assertEquals(5, pool.getMissCount());
+	}
+
+	@Test
+	public void foreignBuffersAreIgnored() {
+		final BufferPool pool = BufferPool.create(8, 2);
+		pool.release(null);
+		pool.release(new byte[4]);
+		pool.release(new byte[16]);
+		pool.acquire();
+		assertEquals(0, pool.getHitCount());
+		assertEquals(1, pool.getMissCount());
+	}
+
+	@Test
+	public void rejectsInvalidSizes() {
+		try {
+			BufferPool.create(0, 1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			BufferPool.create(1, 0);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void defaultPool() {
+		assertSame(BufferPool.getDefault(), BufferPool.getDefault());
+		assertEquals(BufferPool.DEFAULT_BUFFER_SIZE, BufferPool.getDefault().getBufferSize());
+	}
+}
@@ -0,0 +1,377 @@
+package com.axios.core.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLServerSocket;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.TrustManagerFactory;
+
+import com.axios.core.connection.HttpConnection;
+import com.axios.core.http.HttpBase;
+import com.axios.core.http.HttpRequest;
+import com.axios.core.requestMethod.RequestMethod;
+import com.axios.core.transport.http2.Http2Connection;
+import com.axios.core.transport.http2.Http2Transport;
+import com.axios.exception.ConnException;
+import com.axios.response.HttpResponse;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class Http2TransportTest {
+
+	private static final char[] PASSWORD = "changeit".toCharArray();
+
+	private static HttpServer server;
+	private static String base;
+	private static H2Server h2;
+	private static Http2Transport h2Transport;
+
+	@BeforeClass
+	public static void start() throws Exception {
+		// the JDK server only speaks HTTP/1.1, so these requests exercise the negotiation fallback
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/hello", exchange -> {
+			final byte[] body = "hello".getBytes("UTF-8");
+			exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=UTF-8");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.createContext("/echo", exchange -> {
+			final byte[] body = readAll(exchange.getRequestBody());
+			exchange.sendResponseHeaders(200, 0 == body.length ? -1 : body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.start();
+		base = "http://127.0.0.1:" + server.getAddress().getPort();
+
+		final KeyStore keyStore = selfSigned();
+		final KeyManagerFactory keys = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+		keys.init(keyStore, PASSWORD);
+		final TrustManagerFactory trust = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+		trust.init(keyStore);
+		final SSLContext serverContext = SSLContext.getInstance("TLS");
+		serverContext.init(keys.getKeyManagers(), null, null);
+		final SSLContext clientContext = SSLContext.getInstance("TLS");
+		clientContext.init(null, trust.getTrustManagers(), null);
+		h2 = new H2Server(serverContext);
+		h2Transport = Http2Transport.create().setSslContext(clientContext);
+	}
+
+	@AfterClass
+	public static void stop() throws IOException {
+		server.stop(0);
+		h2.close();
+	}
+
+	@Test
+	public void httpVersionSelectsTransport() {
+		final HttpResponse response = HttpRequest.get(base + "/hello").httpVersion(HttpBase.HTTP_2).execute();
+		assertEquals(200, response.getStatus());
+		assertEquals("text/plain; charset=UTF-8", response.header("content-type"));
+		assertEquals("hello", response.body());
+	}
+
+	@Test
+	public void postBody() {
+		assertEquals("a=1&b=2", HttpRequest.post(base + "/echo").httpVersion(HttpBase.HTTP_2).body("a=1&b=2").execute().body());
+	}
+
+	@Test
+	public void concurrentRequests() {
+		final List<CompletableFuture<HttpResponse>> futures = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			futures.add(HttpRequest.get(base + "/hello").httpVersion(HttpBase.HTTP_2).executeAsyncFuture());
+		}
+		for (CompletableFuture<HttpResponse> future : futures) {
+			assertEquals("hello", future.join().body());
+		}
+	}
+
+	@Test
+	public void negotiatesH2OverAlpn() throws IOException {
+		final Http2Connection connection = (Http2Connection) h2Transport.open(new URL(h2.base() + "/hello"), null);
+		assertEquals(200, connection.responseCode());
+		assertEquals(HttpClient.Version.HTTP_2, connection.version());
+		assertEquals("HTTP/2 200", connection.headers().get(null).get(0));
+		assertEquals("hello h2", new String(readAll(connection.getInputStream()), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void h2RequestsThroughHttpRequest() {
+		final List<CompletableFuture<HttpResponse>> futures = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			futures.add(HttpRequest.get(h2.base() + "/hello").setTransport(h2Transport).executeAsyncFuture());
+		}
+		for (CompletableFuture<HttpResponse> future : futures) {
+			assertEquals("hello h2", future.join().body());
+		}
+		assertEquals("received 7", HttpRequest.post(h2.base() + "/echo").setTransport(h2Transport).body("a=1&b=2").execute().body());
+		// every request was a stream on the one negotiated connection
+		assertEquals(1, h2.connections);
+	}
+
+	@Test
+	public void h2BodyIsSentWhileWriting() throws Exception {
+		final CountDownLatch arrived = new CountDownLatch(1);
+		h2.firstData = arrived;
+		final HttpConnection connection = h2Transport.open(new URL(h2.base() + "/echo"), null)
+				.setMethod(RequestMethod.POST)
+				.setChunkedStreamingMode(4096);
+		final byte[] block = new byte[16 * 1024];
+		try (OutputStream out = connection.getOutputStream()) {
+			out.write(block);
+			out.flush();
+			// the server sees data before the body is complete
+			assertTrue(arrived.await(5, TimeUnit.SECONDS));
+			// well past the initial flow control window and the pipe limit
+			for (int i = 0; i < 64; i++) {
+				out.write(block);
+			}
+		}
+		assertEquals("received " + 65 * block.length, new String(readAll(connection.getInputStream()), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void h2FixedLengthBody() throws IOException {
+		final HttpConnection connection = h2Transport.open(new URL(h2.base() + "/echo"), null)
+				.setMethod(RequestMethod.POST)
+				.setFixedLengthStreamingMode(100_000);
+		try (OutputStream out = connection.getOutputStream()) {
+			out.write(new byte[100_000]);
+		}
+		assertEquals("received 100000", new String(readAll(connection.getInputStream()), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void defaultContextVerifiesCertificates() throws IOException {
+		final HttpConnection connection = Http2Transport.create().open(new URL(h2.base() + "/hello"), null);
+		try {
+			connection.responseCode();
+			fail("a self-signed certificate must not be trusted by default");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void rejectsHostnameVerifierOnHttps() throws IOException {
+		try {
+			h2Transport.open(new URL(h2.base() + "/hello"), null).setHttpsInfo((host, session) -> true, null);
+			fail();
+		} catch (ConnException e) {
+			// expected
+		}
+		// plain http never uses them
+		h2Transport.open(new URL(base + "/hello"), null).setHttpsInfo((host, session) -> true, null);
+	}
+
+	private static KeyStore selfSigned() throws Exception {
+		final File dir = Files.createTempDirectory("h2").toFile();
+		final File file = new File(dir, "h2.p12");
+		final Process keytool = new ProcessBuilder(System.getProperty("java.home") + File.separator + "bin" + File.separator + "keytool",
+				"-genkeypair", "-alias", "h2", "-keyalg", "EC", "-groupname", "secp256r1", "-dname", "CN=127.0.0.1",
+				"-ext", "san=ip:127.0.0.1", "-validity", "2", "-storetype", "PKCS12", "-keystore", file.getPath(),
+				"-storepass", new String(PASSWORD), "-keypass", new String(PASSWORD))
+				.redirectErrorStream(true).start();
+		try {
+			readAll(keytool.getInputStream());
+			if (0 != keytool.waitFor()) {
+				throw new IOException("keytool failed");
+			}
+			final KeyStore keyStore = KeyStore.getInstance("PKCS12");
+			try (InputStream in = new FileInputStream(file)) {
+				keyStore.load(in, PASSWORD);
+			}
+			return keyStore;
+		} finally {
+			file.delete();
+			dir.delete();
+		}
+	}
+
+	private static byte[] readAll(InputStream in) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final byte[] buffer = new byte[4096];
+		int n;
+		while ((n = in.read(buffer)) > 0) {
+			out.write(buffer, 0, n);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * just enough of an HTTP/2 server over TLS with ALPN: GET answers "hello h2", a body is answered with its length
+	 */
+	private static final class H2Server implements Runnable {
+
+		private static final byte[] PREFACE = "PRI * HTTP/2.0\r\n\r\nSM\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1);
+
+		private final SSLServerSocket socket;
+		private volatile int connections;
+		private volatile CountDownLatch firstData;
+
+		H2Server(SSLContext context) throws IOException {
+			this.socket = (SSLServerSocket) context.getServerSocketFactory().createServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+			final SSLParameters parameters = this.socket.getSSLParameters();
+			parameters.setApplicationProtocols(new String[] { "h2" });
+			this.socket.setSSLParameters(parameters);
+			final Thread thread = new Thread(this, "h2-accept");
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		String base() {
+			return "https://127.0.0.1:" + this.socket.getLocalPort();
+		}
+
+		void close() throws IOException {
+			this.socket.close();
+		}
+
+		@Override
+		public void run() {
+			while (false == this.socket.isClosed()) {
+				try {
+					final SSLSocket client = (SSLSocket) this.socket.accept();
+					final Thread thread = new Thread(() -> serve(client), "h2-connection");
+					thread.setDaemon(true);
+					thread.start();
+				} catch (IOException e) {
+					return;
+				}
+			}
+		}
+
+		private void serve(SSLSocket accepted) {
+			try (SSLSocket client = accepted) {
+				client.startHandshake();
+				if (false == "h2".equals(client.getApplicationProtocol())) {
+					return;
+				}
+				this.connections++;
+				final DataInputStream in = new DataInputStream(client.getInputStream());
+				final OutputStream out = client.getOutputStream();
+				final byte[] preface = new byte[PREFACE.length];
+				in.readFully(preface);
+				frame(out, 4, 0, 0, new byte[0]);
+				final Map<Integer, ByteArrayOutputStream> bodies = new HashMap<>();
+				while (true) {
+					final int length = in.readUnsignedShort() << 8 | in.readUnsignedByte();
+					final int type = in.readUnsignedByte();
+					final int flags = in.readUnsignedByte();
+					final int stream = in.readInt() & 0x7fffffff;
+					final byte[] payload = new byte[length];
+					in.readFully(payload);
+					switch (type) {
+						case 0:
+							final int padding = 0 == (flags & 0x8) ? 0 : payload[0] & 0xff;
+							final int offset = 0 == (flags & 0x8) ? 0 : 1;
+							bodies.get(stream).write(payload, offset, length - offset - padding);
+							final CountDownLatch latch = this.firstData;
+							if (null != latch && length > 0) {
+								latch.countDown();
+							}
+							if (length > 0) {
+								frame(out, 8, 0, 0, window(length));
+								if (0 == (flags & 0x1)) {
+									frame(out, 8, 0, stream, window(length));
+								}
+							}
+							if (0 != (flags & 0x1)) {
+								respond(out, stream, bodies.remove(stream));
+							}
+							break;
+						case 1:
+							bodies.put(stream, new ByteArrayOutputStream());
+							if (0 != (flags & 0x1)) {
+								respond(out, stream, bodies.remove(stream));
+							}
+							break;
+						case 4:
+							if (0 == (flags & 0x1)) {
+								frame(out, 4, 0x1, 0, new byte[0]);
+							}
+							break;
+						case 6:
+							if (0 == (flags & 0x1)) {
+								frame(out, 6, 0x1, 0, payload);
+							}
+							break;
+						case 7:
+							return;
+						default:
+							break;
+					}
+				}
+			} catch (IOException e) {
+				// connection closed by the client
+			}
+		}
+
+		private static void respond(OutputStream out, int stream, ByteArrayOutputStream request) throws IOException {
+			final byte[] body = (0 == request.size() ? "hello h2" : "received " + request.size()).getBytes(StandardCharsets.UTF_8);
+			// HPACK: indexed ":status: 200", then content-type as a literal with an indexed name
+			final ByteArrayOutputStream headers = new ByteArrayOutputStream();
+			headers.write(0x88);
+			headers.write(0x0f);
+			headers.write(31 - 15);
+			final byte[] contentType = "text/plain; charset=UTF-8".getBytes(StandardCharsets.ISO_8859_1);
+			headers.write(contentType.length);
+			headers.write(contentType);
+			frame(out, 1, 0x4, stream, headers.toByteArray());
+			frame(out, 0, 0x1, stream, body);
+		}
+
+		private static byte[] window(int increment) {
+			return new byte[] { (byte) (increment >>> 24), (byte) (increment >>> 16), (byte) (increment >>> 8), (byte) increment };
+		}
+
+		private static void frame(OutputStream out, int type, int flags, int stream, byte[] payload) throws IOException {
+			final byte[] frame = new byte[9 + payload.length];
+			frame[0] = (byte) (payload.length >>> 16);
+			frame[1] = (byte) (payload.length >>> 8);
+			frame[2] = (byte) payload.length;
+			frame[3] = (byte) type;
+			frame[4] = (byte) flags;
+			frame[5] = (byte) (stream >>> 24);
+			frame[6] = (byte) (stream >>> 16);
+			frame[7] = (byte) (stream >>> 8);
+			frame[8] = (byte) stream;
+			System.arraycopy(payload, 0, frame, 9, payload.length);
+			out.write(frame);
+			out.flush();
+		}
+	}
+}
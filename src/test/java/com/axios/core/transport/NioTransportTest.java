@@ -0,0 +1,426 @@
+package com.axios.core.transport;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.KeyStore;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+
+import com.axios.core.body.StreamingMode;
+import com.axios.core.connection.HttpConnection;
+import com.axios.core.dns.CachingHostResolver;
+import com.axios.core.http.HttpRequest;
+import com.axios.core.http.RequestTemplate;
+import com.axios.core.requestMethod.RequestMethod;
+import com.axios.core.resource.FileResource;
+import com.axios.core.resource.MappedFileResource;
+import com.axios.core.resource.Resource;
+import com.axios.core.transport.nio.NioTransport;
+import com.axios.exception.ConnException;
+import com.axios.exception.HttpException;
+import com.axios.response.HttpResponse;
+import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class NioTransportTest {
+
+	private static final char[] PASSWORD = "changeit".toCharArray();
+
+	private static HttpServer server;
+	private static HttpsServer tlsServer;
+	private static NioTransport transport;
+	/** trusts the self-signed certificate of tlsServer */
+	private static NioTransport tlsTransport;
+	private static String base;
+	private static String tlsBase;
+	private static final byte[] BIG = new byte[3 * 1024 * 1024];
+	private static final CountDownLatch arrived = new CountDownLatch(1);
+
+	@BeforeClass
+	public static void start() throws Exception {
+		new Random(7).nextBytes(BIG);
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		register(server);
+		server.start();
+		base = "http://127.0.0.1:" + server.getAddress().getPort();
+		transport = NioTransport.create(2);
+
+		final KeyStore keyStore = selfSigned();
+		final KeyManagerFactory keys = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+		keys.init(keyStore, PASSWORD);
+		final TrustManagerFactory trust = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+		trust.init(keyStore);
+		final SSLContext serverContext = SSLContext.getInstance("TLS");
+		serverContext.init(keys.getKeyManagers(), null, null);
+		final SSLContext clientContext = SSLContext.getInstance("TLS");
+		clientContext.init(null, trust.getTrustManagers(), null);
+		tlsServer = HttpsServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		tlsServer.setHttpsConfigurator(new HttpsConfigurator(serverContext));
+		register(tlsServer);
+		tlsServer.start();
+		tlsBase = "https://127.0.0.1:" + tlsServer.getAddress().getPort();
+		tlsTransport = NioTransport.create(1).setSslContext(clientContext);
+	}
+
+	private static void register(HttpServer server) {
+		server.createContext("/hello", exchange -> {
+			final byte[] body = "hello".getBytes("UTF-8");
+			exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=UTF-8");
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.createContext("/chunked", exchange -> {
+			exchange.sendResponseHeaders(200, 0);
+			final OutputStream out = exchange.getResponseBody();
+			for (int i = 0; i < 100; i++) {
+				out.write(("line" + i + "\n").getBytes("UTF-8"));
+			}
+			exchange.close();
+		});
+		server.createContext("/big", exchange -> {
+			exchange.sendResponseHeaders(200, BIG.length);
+			exchange.getResponseBody().write(BIG);
+			exchange.close();
+		});
+		server.createContext("/echo", exchange -> {
+			final byte[] body = readAll(exchange.getRequestBody());
+			exchange.sendResponseHeaders(200, 0 == body.length ? -1 : body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.createContext("/upload", exchange -> {
+			// echoes the body and tells how it was framed on the wire
+			final String chunked = exchange.getRequestHeaders().getFirst("Transfer-Encoding");
+			final String length = exchange.getRequestHeaders().getFirst("Content-Length");
+			final byte[] body = readAll(exchange.getRequestBody());
+			exchange.getResponseHeaders().add("X-Framing", null != chunked ? chunked : "length=" + length);
+			exchange.sendResponseHeaders(200, 0 == body.length ? -1 : body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.createContext("/arrived", exchange -> {
+			// the head is here while the client is still writing the body
+			arrived.countDown();
+			final byte[] body = readAll(exchange.getRequestBody());
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		server.createContext("/redirect", exchange -> {
+			exchange.getResponseHeaders().add("Location", "/hello");
+			exchange.sendResponseHeaders(302, -1);
+			exchange.close();
+		});
+	}
+
+	@AfterClass
+	public static void stop() {
+		transport.close();
+		tlsTransport.close();
+		server.stop(0);
+		tlsServer.stop(0);
+	}
+
+	@Test
+	public void fixedLengthBody() {
+		final HttpResponse response = HttpRequest.get(base + "/hello").setTransport(transport).execute();
+		assertEquals(200, response.getStatus());
+		assertEquals("hello", response.body());
+	}
+
+	@Test
+	public void chunkedBody() {
+		final String body = HttpRequest.get(base + "/chunked").setTransport(transport).execute().body();
+		assertEquals(100, body.split("\n").length);
+	}
+
+	@Test
+	public void largeBody() {
+		assertArrayEquals(BIG, HttpRequest.get(base + "/big").setTransport(transport).execute().bodyBytes());
+	}
+
+	@Test
+	public void streamingBody() {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final HttpResponse response = HttpRequest.get(base + "/big").setTransport(transport).executeAsync();
+		assertEquals(BIG.length, response.bodyChunks(64 * 1024, chunk -> out.write(chunk.array(), chunk.position(), chunk.remaining())));
+		assertArrayEquals(BIG, out.toByteArray());
+	}
+
+	@Test
+	public void postBody() {
+		assertEquals("a=1&b=2", HttpRequest.post(base + "/echo").setTransport(transport).body("a=1&b=2").execute().body());
+	}
+
+	@Test
+	public void streamedFixedLengthBody() {
+		assertArrayEquals(BIG, HttpRequest.post(base + "/echo").setTransport(transport).body(BIG).execute().bodyBytes());
+	}
+
+	@Test
+	public void streamedChunkedBody() {
+		assertArrayEquals(BIG, HttpRequest.post(base + "/echo").setTransport(transport).setChunkedStreamingMode(4096)
+				.body(BIG).execute().bodyBytes());
+	}
+
+	@Test
+	public void fileBodies() throws IOException {
+		// an odd size, so the last transfer and the last mapped buffer are partial
+		final byte[] content = Arrays.copyOf(BIG, BIG.length - 4097);
+		final File file = File.createTempFile("nio-upload", ".bin");
+		try {
+			Files.write(file.toPath(), content);
+			for (boolean tls : new boolean[] { false, true }) {
+				for (Resource resource : new Resource[] { new FileResource(file), new MappedFileResource(file) }) {
+					for (StreamingMode mode : StreamingMode.values()) {
+						final String what = (tls ? "TLS " : "plain ") + resource.getClass().getSimpleName() + ' ' + mode;
+						final HttpResponse response = HttpRequest.put((tls ? tlsBase : base) + "/upload")
+								.setTransport(tls ? tlsTransport : transport).setStreamingMode(mode).body(resource).execute();
+						assertEquals(what, 200, response.getStatus());
+						assertEquals(what, StreamingMode.CHUNKED == mode ? "chunked" : "length=" + content.length, response.header("X-Framing"));
+						assertArrayEquals(what, content, response.bodyBytes());
+					}
+				}
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void bodyIsSentWhileWriting() throws Exception {
+		final HttpConnection connection = transport.open(new URL(base + "/arrived"), null);
+		connection.setMethod(RequestMethod.POST);
+		connection.setFixedLengthStreamingMode(BIG.length);
+		final OutputStream out = connection.getOutputStream();
+		out.write(BIG, 0, 1024);
+		out.flush();
+		assertTrue(arrived.await(5, TimeUnit.SECONDS));
+		out.write(BIG, 1024, BIG.length - 1024);
+		out.close();
+		assertEquals(200, connection.responseCode());
+		assertArrayEquals(BIG, readAll(connection.getInputStream()));
+	}
+
+	@Test
+	public void streamedBodyBackpressure() throws Exception {
+		// the server never reads, so the writer has to stop once the socket buffers and the queue are full
+		try (ServerSocket listener = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"))) {
+			final HttpConnection connection = transport.open(new URL("http://127.0.0.1:" + listener.getLocalPort() + "/"), null);
+			connection.setMethod(RequestMethod.POST);
+			connection.setReadTimeout(1000);
+			connection.setChunkedStreamingMode(8192);
+			final OutputStream out = connection.getOutputStream();
+			final Socket accepted = listener.accept();
+			try {
+				final byte[] chunk = new byte[64 * 1024];
+				long written = 0;
+				try {
+					for (int i = 0; i < 1024; i++) {
+						out.write(chunk);
+						written += chunk.length;
+					}
+					fail("the write should have been stopped and then failed by the timeout");
+				} catch (IOException e) {
+					assertTrue("written " + written, written < 32 * 1024 * 1024);
+				}
+			} finally {
+				accepted.close();
+			}
+		}
+	}
+
+	@Test
+	public void triesEachResolvedAddress() throws Exception {
+		// the server only listens on 127.0.0.1, so the first address refuses and the connection falls through
+		try (NioTransport local = NioTransport.create(1)) {
+			local.setHostResolver(CachingHostResolver.create()
+					.override("multi.test", InetAddress.getByName("127.0.0.2"), InetAddress.getByName("127.0.0.1")));
+			final HttpResponse response = HttpRequest.get("http://multi.test:" + server.getAddress().getPort() + "/hello")
+					.setTransport(local).setConnectionTimeout(2000).execute();
+			assertEquals("hello", response.body());
+		}
+	}
+
+	@Test
+	public void tlsRoundTrip() {
+		final HttpResponse response = HttpRequest.get(tlsBase + "/hello").setTransport(tlsTransport).execute();
+		assertEquals(200, response.getStatus());
+		assertEquals("hello", response.body());
+		assertArrayEquals(BIG, HttpRequest.post(tlsBase + "/echo").setTransport(tlsTransport).body(BIG).execute().bodyBytes());
+		assertArrayEquals(BIG, HttpRequest.get(tlsBase + "/big").setTransport(tlsTransport).execute().bodyBytes());
+	}
+
+	@Test
+	public void tlsHonoursTheContextAndHostnameVerifier() throws Exception {
+		// the JDK default context does not trust the self-signed certificate
+		try (NioTransport strict = NioTransport.create(1).setSslContext(SSLContext.getDefault())) {
+			HttpRequest.get(tlsBase + "/hello").setTransport(strict).execute();
+			fail("a self-signed certificate must not be trusted by the default context");
+		} catch (HttpException e) {
+			// expected
+		}
+		try {
+			RequestTemplate.builder(tlsBase + "/hello").setTransport(tlsTransport).setHostnameVerifier((host, session) -> false)
+					.build().request().execute();
+			fail("the hostname verifier rejects every host");
+		} catch (HttpException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void rejectsSslSocketFactoryOnHttps() throws Exception {
+		try {
+			tlsTransport.open(new URL(tlsBase + "/hello"), null).setHttpsInfo(null, SSLContext.getDefault().getSocketFactory());
+			fail("the NIO engine cannot use an SSLSocketFactory");
+		} catch (ConnException e) {
+			// expected
+		}
+		// plain http never uses it
+		transport.open(new URL(base + "/hello"), null).setHttpsInfo(null, SSLContext.getDefault().getSocketFactory());
+	}
+
+	@Test
+	public void relativeRedirect() {
+		assertEquals("hello", HttpRequest.get(base + "/redirect").setMaxRedirectCount(2).setTransport(transport).execute().body());
+	}
+
+	@Test
+	public void staleConnectionRetry() throws Exception {
+		// every connection answers its first request and drops the second one unanswered, like a keep-alive race
+		final AtomicInteger posts = new AtomicInteger();
+		try (ServerSocket listener = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+				NioTransport local = NioTransport.create(1)) {
+			final Thread acceptor = new Thread(() -> {
+				while (false == listener.isClosed()) {
+					try {
+						final Socket socket = listener.accept();
+						new Thread(() -> serveOnce(socket, posts)).start();
+					} catch (IOException e) {
+						return;
+					}
+				}
+			});
+			acceptor.setDaemon(true);
+			acceptor.start();
+			final String url = "http://127.0.0.1:" + listener.getLocalPort() + "/";
+
+			assertEquals("ok", HttpRequest.get(url).setTransport(local).execute().body());
+			// the idempotent GET goes out again on a new connection
+			assertEquals("ok", HttpRequest.get(url).setTransport(local).execute().body());
+
+			// the POST reuses that connection and is dropped, the server may have acted on it so it is not sent again
+			try {
+				HttpRequest.post(url).body("a=1").setTransport(local).execute();
+				fail("a POST the server may have received must not be sent twice");
+			} catch (HttpException e) {
+				assertEquals(1, posts.get());
+			}
+			assertEquals("ok", HttpRequest.post(url).body("a=2").setTransport(local).execute().body());
+			assertEquals(2, posts.get());
+		}
+	}
+
+	private static void serveOnce(Socket socket, AtomicInteger posts) {
+		try (Socket s = socket) {
+			final InputStream in = s.getInputStream();
+			for (int i = 0; ; i++) {
+				final String head = readHead(in);
+				if (null == head) {
+					return;
+				}
+				if (head.startsWith("POST")) {
+					posts.incrementAndGet();
+				}
+				final int index = head.toLowerCase().indexOf("content-length:");
+				if (index >= 0) {
+					final int length = Integer.parseInt(head.substring(index + 15, head.indexOf('\r', index)).trim());
+					in.readNBytes(length);
+				}
+				if (i > 0) {
+					return;
+				}
+				s.getOutputStream().write("HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\nok".getBytes(StandardCharsets.ISO_8859_1));
+				s.getOutputStream().flush();
+			}
+		} catch (IOException e) {
+			// the client went away
+		}
+	}
+
+	private static String readHead(InputStream in) throws IOException {
+		final StringBuilder head = new StringBuilder();
+		int b;
+		while ((b = in.read()) >= 0) {
+			head.append((char) b);
+			if (head.length() >= 4 && "\r\n\r\n".equals(head.substring(head.length() - 4))) {
+				return head.toString();
+			}
+		}
+		return null;
+	}
+
+	private static KeyStore selfSigned() throws Exception {
+		final File dir = Files.createTempDirectory("nio-tls").toFile();
+		final File file = new File(dir, "nio.p12");
+		final Process keytool = new ProcessBuilder(System.getProperty("java.home") + File.separator + "bin" + File.separator + "keytool",
+				"-genkeypair", "-alias", "nio", "-keyalg", "EC", "-groupname", "secp256r1", "-dname", "CN=127.0.0.1",
+				"-ext", "san=ip:127.0.0.1", "-validity", "2", "-storetype", "PKCS12", "-keystore", file.getPath(),
+				"-storepass", new String(PASSWORD), "-keypass", new String(PASSWORD))
+				.redirectErrorStream(true).start();
+		try {
+			readAll(keytool.getInputStream());
+			if (0 != keytool.waitFor()) {
+				throw new IOException("keytool failed");
+			}
+			final KeyStore keyStore = KeyStore.getInstance("PKCS12");
+			try (InputStream in = new FileInputStream(file)) {
+				keyStore.load(in, PASSWORD);
+			}
+			return keyStore;
+		} finally {
+			file.delete();
+			dir.delete();
+		}
+	}
+
+	private static byte[] readAll(InputStream in) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final byte[] buffer = new byte[4096];
+		int n;
+		while ((n = in.read(buffer)) > 0) {
+			out.write(buffer, 0, n);
+		}
+		return out.toByteArray();
+	}
+}
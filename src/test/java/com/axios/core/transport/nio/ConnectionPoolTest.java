@@ -0,0 +1,101 @@
+package com.axios.core.transport.nio;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.axios.exception.ConnException;
+
+import org.junit.Test;
+
+public class ConnectionPoolTest {
+
+	private static final String A = "http://a.test:80";
+	private static final String B = "http://b.test:80";
+
+	@Test
+	public void waitersAreServedInOrderPerRoute() throws Exception {
+		try (ConnectionPool pool = new ConnectionPool().setMaxPerRoute(1)) {
+			assertNull(pool.acquire(A).get());
+			final CompletableFuture<NioPooledChannel> first = pool.acquire(A);
+			final CompletableFuture<NioPooledChannel> second = pool.acquire(A);
+			// another route has its own limit
+			assertNull(pool.acquire(B).get(1, TimeUnit.SECONDS));
+			assertEquals(2, pool.getRouteStats().get(A).getPending());
+
+			// a failed connect hands the slot to the oldest waiter
+			pool.release(A, null, false);
+			assertTrue(first.isDone());
+			assertFalse(second.isDone());
+			pool.release(A, null, false);
+			assertTrue(second.isDone());
+			assertEquals(0, pool.getStats().getPending());
+		}
+	}
+
+	@Test
+	public void totalLimitServesTheOldestWaiterOfAnyRoute() throws Exception {
+		try (ConnectionPool pool = new ConnectionPool().setMaxTotal(1)) {
+			assertNull(pool.acquire(A).get());
+			final CompletableFuture<NioPooledChannel> b = pool.acquire(B);
+			final CompletableFuture<NioPooledChannel> a = pool.acquire(A);
+			pool.release(A, null, false);
+			assertTrue(b.isDone());
+			assertFalse(a.isDone());
+			pool.release(B, null, false);
+			assertTrue(a.isDone());
+		}
+	}
+
+	@Test
+	public void cancelledWaiterIsSkipped() throws Exception {
+		try (ConnectionPool pool = new ConnectionPool().setMaxPerRoute(1)) {
+			assertNull(pool.acquire(A).get());
+			final CompletableFuture<NioPooledChannel> cancelled = pool.acquire(A);
+			final CompletableFuture<NioPooledChannel> next = pool.acquire(A);
+			cancelled.cancel(false);
+			pool.release(A, null, false);
+			assertTrue(next.isDone());
+			assertEquals(1, pool.getRouteStats().get(A).getLeased());
+		}
+	}
+
+	@Test
+	public void waitTimesOutWithTheAcquireTimeout() throws Exception {
+		try (ConnectionPool pool = new ConnectionPool().setMaxPerRoute(1).setAcquireTimeout(100)) {
+			assertNull(pool.acquire(A).get());
+			final long start = System.nanoTime();
+			try {
+				pool.acquire(A).get(5, TimeUnit.SECONDS);
+				fail();
+			} catch (ExecutionException e) {
+				assertTrue(e.getCause() instanceof ConnException);
+			}
+			final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			assertTrue("elapsed " + elapsed, elapsed >= 90);
+			assertEquals(0, pool.getStats().getPending());
+			// the route is still leased, so it is kept
+			assertEquals(1, pool.getRouteStats().get(A).getLeased());
+		}
+	}
+
+	@Test
+	public void closeFailsWaiters() throws Exception {
+		final ConnectionPool pool = new ConnectionPool().setMaxPerRoute(1);
+		assertNull(pool.acquire(A).get());
+		final CompletableFuture<NioPooledChannel> waiter = pool.acquire(A);
+		pool.close();
+		try {
+			waiter.get(1, TimeUnit.SECONDS);
+			fail();
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof ConnException);
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.axios.core.transport.nio;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.axios.exception.ConnException;
+
+import org.junit.Test;
+
+public class NioEventLoopTest {
+
+	@Test
+	public void everyAcceptedTaskRunsAcrossShutdown() throws InterruptedException {
+		for (int round = 0; round < 300; round++) {
+			final NioEventLoop loop = new NioEventLoop("nio-test-" + round);
+			final AtomicInteger accepted = new AtomicInteger();
+			final AtomicInteger ran = new AtomicInteger();
+			final CountDownLatch ready = new CountDownLatch(4);
+			final Thread[] submitters = new Thread[4];
+			for (int t = 0; t < submitters.length; t++) {
+				submitters[t] = new Thread(() -> {
+					ready.countDown();
+					for (int i = 0; i < 2000; i++) {
+						try {
+							loop.execute(ran::incrementAndGet);
+							accepted.incrementAndGet();
+						} catch (ConnException e) {
+							return;
+						}
+					}
+				});
+				submitters[t].start();
+			}
+			ready.await();
+			loop.shutdown();
+			for (Thread submitter : submitters) {
+				submitter.join();
+			}
+			awaitClosed(loop);
+			// a task is either rejected or run, never dropped
+			assertEquals("round " + round, accepted.get(), ran.get());
+		}
+	}
+
+	@Test
+	public void rejectsTasksAfterShutdown() throws InterruptedException {
+		final NioEventLoop loop = new NioEventLoop("nio-test-closed");
+		loop.shutdown();
+		awaitClosed(loop);
+		try {
+			loop.execute(() -> fail("must not run"));
+			fail();
+		} catch (ConnException e) {
+			// expected
+		}
+	}
+
+	private static void awaitClosed(NioEventLoop loop) throws InterruptedException {
+		final long deadline = System.nanoTime() + 5_000_000_000L;
+		while (loop.selector().isOpen()) {
+			assertTrue("the event loop did not close", System.nanoTime() < deadline);
+			Thread.sleep(1);
+		}
+	}
+}